@@ -923,6 +923,7 @@ INSERT INTO `plugin` VALUES ('42', 'tcp', NULL, 'Proxy', 320, 1, '2023-05-30 18:
 INSERT INTO `plugin` VALUES ('43', 'loggingHuaweiLts', '{\"totalSizeInBytes\":\"104857600\",\"maxBlockMs\":\"0\",\"ioThreadCount\":\"1\",\"batchSizeThresholdInBytes\":\"524288\",\"batchCountThreshold\":\"4096\",\"lingerMs\":\"2000\",\"retries\":\"100\",\"baseRetryBackoffMs\":\"100\",\"maxRetryBackoffMs\":\"100\",\"enableLocalTest\":\"true\",\"setGiveUpExtraLongSingleLog\":\"false\"}', 'Logging', 177, 0, '2023-07-05 14:03:53.686', '2023-07-06 12:42:07.234', NULL);
 INSERT INTO `plugin` VALUES ('44', 'basicAuth', '{\"defaultHandleJson\":\"{\\\"authorization\\\":\\\"test:test123\\\"}\"}', 'Authentication', 150, 0, '2022-07-24 19:00:00', '2022-07-24 19:00:00', null);
 INSERT INTO `plugin` VALUES ('45', 'loggingRabbitMQ', '{\"host\":\"127.0.0.1\",\"port\":5672,\"password\":\"admin\",\"username\":\"admin\",\"exchangeName\":\"exchange.logging.plugin\",\"queueName\":\"queue.logging.plugin\",\"routingKey\":\"topic.logging\",\"virtualHost\":\"/\",\"exchangeType\":\"direct\",\"durable\":\"true\",\"exclusive\":\"false\",\"autoDelete\":\"false\"}', 'Logging', 171, 0, '2023-11-06 15:49:56.454', '2023-11-10 10:40:58.447', NULL);
+INSERT INTO `plugin` VALUES ('46', 'concurrencyLimiter', NULL, 'FaultTolerance', 145, 0, '2026-10-19 10:00:00', '2026-10-19 10:00:00', null);
 
 -- ----------------------------
 -- Table structure for plugin_handle
@@ -1293,6 +1294,15 @@ INSERT INTO `plugin_handle` VALUES ('1722804548510507023', '3', 'rewriteMetaData
 INSERT INTO `plugin_handle` VALUES ('1722804548510507024', '8', 'registerType', 'registerType', 2, 3, 1, NULL, '2024-08-24 09:40:03.293', '2024-08-24 21:52:27.920');
 INSERT INTO `plugin_handle` VALUES ('1722804548510507025', '8', 'serverLists', 'serverLists', 2, 3, 2, NULL, '2024-08-24 21:52:51.179', '2024-08-24 21:53:27.483');
 INSERT INTO `plugin_handle` VALUES ('1722804548510507026', '8', 'props', 'props', 4, 3, 3, NULL, '2024-08-24 21:53:25.764', '2024-08-24 21:53:30.255');
+INSERT INTO `plugin_handle` VALUES ('1722804548510507027', '5', 'retryBodyMaxSize', 'retryBodyMaxSize', 1, 2, 5, '{\"defaultValue\":\"0\",\"rule\":\"\"}', '2026-10-19 10:00:00', '2026-10-19 10:00:00');
+INSERT INTO `plugin_handle` VALUES ('1722804548510507028', '5', 'hedgeDelay', 'hedgeDelay', 1, 2, 6, '{\"defaultValue\":\"0\",\"rule\":\"\"}', '2026-10-19 10:00:00', '2026-10-19 10:00:00');
+INSERT INTO `plugin_handle` VALUES ('1722804548510507029', '5', 'hedgePercentile', 'hedgePercentile', 1, 2, 7, '{\"defaultValue\":\"0\",\"rule\":\"\"}', '2026-10-19 10:00:00', '2026-10-19 10:00:00');
+INSERT INTO `plugin_handle` VALUES ('1722804548510507030', '46', 'algorithm', 'algorithm', 2, 2, 0, '{"required":"0","defaultValue":"gradient2","placeholder":"gradient2 / vegas / aimd","rule":""}', '2026-10-19 10:00:00', '2026-10-19 10:00:00');
+INSERT INTO `plugin_handle` VALUES ('1722804548510507031', '46', 'initialLimit', 'initialLimit', 1, 2, 1, '{"required":"0","defaultValue":"20","rule":""}', '2026-10-19 10:00:00', '2026-10-19 10:00:00');
+INSERT INTO `plugin_handle` VALUES ('1722804548510507032', '46', 'minLimit', 'minLimit', 1, 2, 2, '{"required":"0","defaultValue":"1","rule":""}', '2026-10-19 10:00:00', '2026-10-19 10:00:00');
+INSERT INTO `plugin_handle` VALUES ('1722804548510507033', '46', 'maxLimit', 'maxLimit', 1, 2, 3, '{"required":"0","defaultValue":"1000","rule":""}', '2026-10-19 10:00:00', '2026-10-19 10:00:00');
+INSERT INTO `plugin_handle` VALUES ('1722804548510507034', '46', 'backoffRatio', 'backoffRatio', 1, 2, 4, '{"required":"0","defaultValue":"0.9","rule":""}', '2026-10-19 10:00:00', '2026-10-19 10:00:00');
+INSERT INTO `plugin_handle` VALUES ('1722804548510507035', '46', 'tolerance', 'tolerance', 1, 2, 5, '{"required":"0","defaultValue":"1.5","rule":""}', '2026-10-19 10:00:00', '2026-10-19 10:00:00');
 
 -- ----------------------------
 -- Table structure for resource
@@ -2374,6 +2384,7 @@ INSERT INTO `namespace_plugin_rel` (`id`,`namespace_id`,`plugin_id`, `config`, `
 INSERT INTO `namespace_plugin_rel` (`id`,`namespace_id`,`plugin_id`, `config`, `sort`, `enabled`, `date_created`, `date_updated`) VALUES ('1801816010882822184','649330b6-c2d7-4edc-be8e-8a54df9eb385','6', '{\"register\":\"zookeeper://localhost:2181\",\"multiSelectorHandle\":\"1\",\"threadpool\":\"shared\",\"corethreads\":0,\"threads\":2147483647,\"queues\":0}', 310, 0, '2022-05-25 18:02:53.000', '2022-05-25 18:02:53.000');
 INSERT INTO `namespace_plugin_rel` (`id`,`namespace_id`,`plugin_id`, `config`, `sort`, `enabled`, `date_created`, `date_updated`) VALUES ('1801816010882822185','649330b6-c2d7-4edc-be8e-8a54df9eb385','8', '{\"enabled\":false,\"registerType\":\"eureka\",\"serverLists\":\"http://localhost:8761/eureka\",\"props\": {}}', 200, 0, '2022-05-25 18:02:53.000', '2022-05-25 18:02:53.000');
 INSERT INTO `namespace_plugin_rel` (`id`,`namespace_id`,`plugin_id`, `config`, `sort`, `enabled`, `date_created`, `date_updated`) VALUES ('1801816010882822186','649330b6-c2d7-4edc-be8e-8a54df9eb385','9', NULL, 130, 0, '2022-05-25 18:02:53.000', '2022-05-25 18:02:53.000');
+INSERT INTO `namespace_plugin_rel` (`id`,`namespace_id`,`plugin_id`, `config`, `sort`, `enabled`, `date_created`, `date_updated`) VALUES ('1801816010882822187','649330b6-c2d7-4edc-be8e-8a54df9eb385','46', NULL, 145, 0, '2026-10-19 10:00:00', '2026-10-19 10:00:00');
 
 
 
@@ -17,12 +17,17 @@
 
 package org.apache.shenyu.admin.config;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.apache.shenyu.admin.disruptor.RegisterClientServerDisruptorPublisher;
 import org.apache.shenyu.admin.lock.RegisterExecutionRepository;
 import org.apache.shenyu.admin.lock.impl.PlatformTransactionRegisterExecutionRepository;
 import org.apache.shenyu.admin.mapper.PluginMapper;
 import org.apache.shenyu.admin.service.DiscoveryService;
 import org.apache.shenyu.admin.service.register.ShenyuClientRegisterService;
+import org.apache.shenyu.disruptor.provider.DisruptorMetrics;
+import org.apache.shenyu.disruptor.strategy.WaitStrategyEnum;
 import org.apache.shenyu.register.common.config.ShenyuRegisterCenterConfig;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -57,16 +62,47 @@ public class RegisterCenterConfiguration {
      *
      * @param shenyuClientRegisterService the shenyu client register service
      * @param discoveryService the discovery service
+     * @param shenyuRegisterCenterConfig the shenyu register center config
      * @return the shenyu server register repository
      */
     @Bean
-    public RegisterClientServerDisruptorPublisher registerClientServerDisruptorPublisher(final List<ShenyuClientRegisterService> shenyuClientRegisterService, final DiscoveryService discoveryService) {
+    public RegisterClientServerDisruptorPublisher registerClientServerDisruptorPublisher(final List<ShenyuClientRegisterService> shenyuClientRegisterService,
+                                                                                         final DiscoveryService discoveryService,
+                                                                                         final ShenyuRegisterCenterConfig shenyuRegisterCenterConfig) {
         RegisterClientServerDisruptorPublisher publisher = RegisterClientServerDisruptorPublisher.getInstance();
         Map<String, ShenyuClientRegisterService> registerServiceMap = shenyuClientRegisterService.stream().collect(Collectors.toMap(ShenyuClientRegisterService::rpcType, Function.identity()));
-        publisher.start(registerServiceMap, discoveryService);
+        String waitStrategy = shenyuRegisterCenterConfig.getProps().getProperty("disruptorWaitStrategy", WaitStrategyEnum.BLOCKING.getName());
+        publisher.start(registerServiceMap, discoveryService, WaitStrategyEnum.acquireByName(waitStrategy));
         return publisher;
     }
     
+    /**
+     * Register the ring buffer metrics of the register pipeline.
+     *
+     * @param publisher the register client server disruptor publisher
+     * @return the meter binder
+     */
+    @Bean
+    public MeterBinder registerDisruptorMeterBinder(final RegisterClientServerDisruptorPublisher publisher) {
+        return registry -> {
+            DisruptorMetrics metrics = publisher.getMetrics();
+            Gauge.builder("shenyu_disruptor_remaining_capacity", metrics, DisruptorMetrics::getRemainingCapacity)
+                    .tag("name", metrics.getName())
+                    .description("the free slots left in the ring buffer")
+                    .register(registry);
+            Gauge.builder("shenyu_disruptor_buffer_size", metrics, DisruptorMetrics::getBufferSize)
+                    .tag("name", metrics.getName())
+                    .register(registry);
+            FunctionCounter.builder("shenyu_disruptor_publish_count", metrics, DisruptorMetrics::getPublishCount)
+                    .tag("name", metrics.getName())
+                    .register(registry);
+            FunctionCounter.builder("shenyu_disruptor_publish_nanos", metrics, DisruptorMetrics::getPublishNanos)
+                    .tag("name", metrics.getName())
+                    .description("the time spent publishing, including waiting for a free slot")
+                    .register(registry);
+        };
+    }
+    
     /**
      * Shenyu client server register  server global lock repository.
      *
@@ -26,7 +26,9 @@ import org.apache.shenyu.admin.register.ShenyuClientServerRegisterPublisher;
 import org.apache.shenyu.admin.service.DiscoveryService;
 import org.apache.shenyu.admin.service.register.ShenyuClientRegisterService;
 import org.apache.shenyu.disruptor.DisruptorProviderManage;
+import org.apache.shenyu.disruptor.provider.DisruptorMetrics;
 import org.apache.shenyu.disruptor.provider.DisruptorProvider;
+import org.apache.shenyu.disruptor.strategy.WaitStrategyEnum;
 import org.apache.shenyu.register.common.type.DataTypeParent;
 
 import java.util.Collection;
@@ -59,15 +61,36 @@ public class RegisterClientServerDisruptorPublisher implements ShenyuClientServe
      * @param discoveryService the discovery service
      */
     public void start(final Map<String, ShenyuClientRegisterService> shenyuClientRegisterService, final DiscoveryService discoveryService) {
+        start(shenyuClientRegisterService, discoveryService, WaitStrategyEnum.BLOCKING);
+    }
+    
+    /**
+     * start.
+     *
+     * @param shenyuClientRegisterService the shenyu client register service
+     * @param discoveryService the discovery service
+     * @param waitStrategy the wait strategy of the register consumer
+     */
+    public void start(final Map<String, ShenyuClientRegisterService> shenyuClientRegisterService, final DiscoveryService discoveryService,
+                      final WaitStrategyEnum waitStrategy) {
         RegisterServerExecutorFactory factory = new RegisterServerExecutorFactory();
         factory.addSubscribers(new URIRegisterExecutorSubscriber(shenyuClientRegisterService));
         factory.addSubscribers(new MetadataExecutorSubscriber(shenyuClientRegisterService));
         factory.addSubscribers(new ApiDocExecutorSubscriber(shenyuClientRegisterService));
         factory.addSubscribers(new DiscoveryConfigRegisterExecutorSubscriber(discoveryService));
-        providerManage = new DisruptorProviderManage<>(factory);
+        providerManage = new DisruptorProviderManage<>(factory, waitStrategy);
         providerManage.startup();
     }
     
+    /**
+     * Gets the metrics of the register ring buffer.
+     *
+     * @return the metrics
+     */
+    public DisruptorMetrics getMetrics() {
+        return providerManage.getProvider().getMetrics();
+    }
+    
     @Override
     public void publish(final DataTypeParent data) {
         DisruptorProvider<Collection<DataTypeParent>> provider = providerManage.getProvider();
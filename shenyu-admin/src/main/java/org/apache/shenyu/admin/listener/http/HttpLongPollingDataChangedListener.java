@@ -38,6 +38,10 @@ import org.apache.shenyu.common.dto.SelectorData;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
 import org.apache.shenyu.common.enums.DataEventTypeEnum;
 import org.apache.shenyu.common.exception.ShenyuException;
+import org.apache.shenyu.common.timer.TaskEntity;
+import org.apache.shenyu.common.timer.Timer;
+import org.apache.shenyu.common.timer.TimerTask;
+import org.apache.shenyu.common.timer.WheelTimerFactory;
 import org.apache.shenyu.common.utils.GsonUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -51,17 +55,17 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Iterator;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.apache.shenyu.common.constant.Constants.SYS_DEFAULT_NAMESPACE_ID;
 
@@ -85,12 +89,19 @@ public class HttpLongPollingDataChangedListener extends AbstractDataChangedListe
     private static final String X_FORWARDED_FOR_SPLIT_SYMBOL = ",";
 
     /**
-     * Blocked client.
+     * Blocked client, indexed by namespace and the group it waits for.
      */
-    private final Map<String, BlockingQueue<LongPollingClient>> clientsMap;
+    private final Map<String, Map<ConfigGroupEnum, Set<LongPollingClient>>> clientsMap;
+
+    /**
+     * The version of every group, increased on each change of the group.
+     */
+    private final Map<String, AtomicLong> groupVersions;
 
     private final ScheduledExecutorService scheduler;
 
+    private final Timer timer;
+
     private final HttpSyncProperties httpSyncProperties;
 
     /**
@@ -100,8 +111,10 @@ public class HttpLongPollingDataChangedListener extends AbstractDataChangedListe
      */
     public HttpLongPollingDataChangedListener(final HttpSyncProperties httpSyncProperties) {
         this.clientsMap = new ConcurrentHashMap<>();
+        this.groupVersions = new ConcurrentHashMap<>();
         this.scheduler = new ScheduledThreadPoolExecutor(1,
                 ShenyuThreadFactory.create("long-polling", true));
+        this.timer = WheelTimerFactory.getSharedTimer();
         this.httpSyncProperties = httpSyncProperties;
     }
 
@@ -129,10 +142,12 @@ public class HttpLongPollingDataChangedListener extends AbstractDataChangedListe
      * @param response the response
      */
     public void doLongPolling(final HttpServletRequest request, final HttpServletResponse response) {
+        final String namespaceId = getNamespaceId(request);
+        // the versions before comparing, a change after this is either seen by the comparison or by the check below
+        final Map<ConfigGroupEnum, Long> versions = currentVersions(namespaceId);
         // compare group md5
         List<ConfigGroupEnum> changedGroup = compareChangedGroup(request);
         final String clientIp = getRemoteIp(request);
-        final String namespaceId = getNamespaceId(request);
         // response immediately.
         if (CollectionUtils.isNotEmpty(changedGroup)) {
             this.generateResponse(response, changedGroup);
@@ -145,7 +160,18 @@ public class HttpLongPollingDataChangedListener extends AbstractDataChangedListe
         // AsyncContext.settimeout() does not timeout properly, so you have to control it yourself
         asyncContext.setTimeout(0L);
         // block client's thread.
-        scheduler.execute(new LongPollingClient(asyncContext, clientIp, HttpConstants.SERVER_MAX_HOLD_TIMEOUT, namespaceId));
+        LongPollingClient client = new LongPollingClient(asyncContext, clientIp, HttpConstants.SERVER_MAX_HOLD_TIMEOUT, namespaceId, clientMd5s(request));
+        client.register();
+        // the groups changed while the client was registering have no task left to notify it
+        List<ConfigGroupEnum> missedGroups = new ArrayList<>();
+        versions.forEach((group, version) -> {
+            if (version != versionOf(namespaceId, group).get()) {
+                missedGroups.add(group);
+            }
+        });
+        if (CollectionUtils.isNotEmpty(missedGroups)) {
+            client.sendResponse(missedGroups);
+        }
     }
 
     @Override
@@ -208,6 +234,36 @@ public class HttpLongPollingDataChangedListener extends AbstractDataChangedListe
         return namespaceId + "_" + group;
     }
 
+    private Map<ConfigGroupEnum, String> clientMd5s(final HttpServletRequest request) {
+        Map<ConfigGroupEnum, String> md5s = new EnumMap<>(ConfigGroupEnum.class);
+        for (ConfigGroupEnum group : ConfigGroupEnum.values()) {
+            md5s.put(group, StringUtils.split(request.getParameter(group.name()), ',')[0]);
+        }
+        return md5s;
+    }
+
+    private AtomicLong versionOf(final String namespaceId, final ConfigGroupEnum group) {
+        return groupVersions.computeIfAbsent(buildCacheKey(namespaceId, group.name()), key -> new AtomicLong());
+    }
+
+    private Map<ConfigGroupEnum, Long> currentVersions(final String namespaceId) {
+        Map<ConfigGroupEnum, Long> versions = new EnumMap<>(ConfigGroupEnum.class);
+        for (ConfigGroupEnum group : ConfigGroupEnum.values()) {
+            versions.put(group, versionOf(namespaceId, group).get());
+        }
+        return versions;
+    }
+
+    private Map<ConfigGroupEnum, Set<LongPollingClient>> namespaceClients(final String namespaceId) {
+        return clientsMap.computeIfAbsent(namespaceId, key -> {
+            Map<ConfigGroupEnum, Set<LongPollingClient>> groupClients = new EnumMap<>(ConfigGroupEnum.class);
+            for (ConfigGroupEnum group : ConfigGroupEnum.values()) {
+                groupClients.put(group, ConcurrentHashMap.newKeySet());
+            }
+            return groupClients;
+        });
+    }
+
     /**
      * check whether the client needs to update the cache.
      *
@@ -298,6 +354,8 @@ public class HttpLongPollingDataChangedListener extends AbstractDataChangedListe
 
     /**
      * When a group's data changes, the thread is created to notify the client asynchronously.
+     * Only the clients waiting with an outdated md5 of the group are notified, and a task is
+     * skipped when a later change of the same group has been made, its task notifies the clients instead.
      */
     class DataChangeTask implements Runnable {
 
@@ -316,6 +374,11 @@ public class HttpLongPollingDataChangedListener extends AbstractDataChangedListe
          */
         private final String namespaceId;
 
+        /**
+         * The version of the group after the change.
+         */
+        private final long version;
+
         /**
          * Instantiates a new Data change task.
          *
@@ -324,30 +387,39 @@ public class HttpLongPollingDataChangedListener extends AbstractDataChangedListe
         DataChangeTask(final ConfigGroupEnum groupKey, final String namespaceId) {
             this.groupKey = groupKey;
             this.namespaceId = namespaceId;
+            this.version = versionOf(namespaceId, groupKey).incrementAndGet();
         }
 
         @Override
         public void run() {
-            BlockingQueue<LongPollingClient> namespaceClients = clientsMap.get(namespaceId);
-            if (CollectionUtils.isEmpty(namespaceClients)) {
+            if (version != versionOf(namespaceId, groupKey).get()) {
                 return;
             }
-            if (namespaceClients.size() > httpSyncProperties.getNotifyBatchSize()) {
-                List<LongPollingClient> targetClients = new ArrayList<>(namespaceClients.size());
-                namespaceClients.drainTo(targetClients);
+            Map<ConfigGroupEnum, Set<LongPollingClient>> groupClients = clientsMap.get(namespaceId);
+            if (Objects.isNull(groupClients) || CollectionUtils.isEmpty(groupClients.get(groupKey))) {
+                return;
+            }
+            ConfigDataCache serverCache = CACHE.get(buildCacheKey(namespaceId, groupKey.name()));
+            String serverMd5 = Objects.isNull(serverCache) ? null : serverCache.getMd5();
+            List<LongPollingClient> targetClients = new ArrayList<>(groupClients.get(groupKey).size());
+            for (LongPollingClient client : groupClients.get(groupKey)) {
+                if (!StringUtils.equals(serverMd5, client.md5s.get(groupKey))) {
+                    targetClients.add(client);
+                }
+            }
+            if (targetClients.size() > httpSyncProperties.getNotifyBatchSize()) {
                 List<List<LongPollingClient>> partitionClients = Lists.partition(targetClients, httpSyncProperties.getNotifyBatchSize());
                 partitionClients.forEach(item -> scheduler.execute(() -> doRun(item)));
             } else {
-                doRun(namespaceClients);
+                doRun(targetClients);
             }
         }
 
         private void doRun(final Collection<LongPollingClient> clients) {
-            for (Iterator<LongPollingClient> iter = clients.iterator(); iter.hasNext();) {
-                LongPollingClient client = iter.next();
-                iter.remove();
-                client.sendResponse(Collections.singletonList(groupKey));
-                LOG.info("send response with the changed group,ip={}, group={}, changeTime={}", client.ip, groupKey, changeTime);
+            for (LongPollingClient client : clients) {
+                if (client.sendResponse(Collections.singletonList(groupKey))) {
+                    LOG.info("send response with the changed group,ip={}, group={}, changeTime={}", client.ip, groupKey, changeTime);
+                }
             }
         }
     }
@@ -355,9 +427,9 @@ public class HttpLongPollingDataChangedListener extends AbstractDataChangedListe
     /**
      * If you exceed {@link HttpConstants#SERVER_MAX_HOLD_TIMEOUT} and still have no data change,
      * empty data is returned. If the data changes within this time frame, the DataChangeTask
-     * cancellations the timed task and responds to the changed group data.
+     * cancels the timeout task and responds to the changed group data.
      */
-    class LongPollingClient implements Runnable {
+    class LongPollingClient {
 
         private final Logger log = LoggerFactory.getLogger(LongPollingClient.class);
 
@@ -382,9 +454,19 @@ public class HttpLongPollingDataChangedListener extends AbstractDataChangedListe
         private final String namespaceId;
 
         /**
-         * The Async timeout future.
+         * The md5 of every group the client holds.
+         */
+        private final Map<ConfigGroupEnum, String> md5s;
+
+        /**
+         * Whether the response has been sent.
          */
-        private Future<?> asyncTimeoutFuture;
+        private final AtomicBoolean responded = new AtomicBoolean();
+
+        /**
+         * The Async timeout task.
+         */
+        private TimerTask asyncTimeoutTask;
 
         /**
          * Instantiates a new Long polling client.
@@ -392,43 +474,74 @@ public class HttpLongPollingDataChangedListener extends AbstractDataChangedListe
          * @param ac          the ac
          * @param ip          the ip
          * @param timeoutTime the timeout time
+         * @param namespaceId the namespace id
+         * @param md5s        the md5 of every group
          */
-        LongPollingClient(final AsyncContext ac, final String ip, final long timeoutTime, final String namespaceId) {
+        LongPollingClient(final AsyncContext ac, final String ip, final long timeoutTime, final String namespaceId,
+                          final Map<ConfigGroupEnum, String> md5s) {
             this.asyncContext = ac;
             this.ip = ip;
             this.timeoutTime = timeoutTime;
             this.namespaceId = namespaceId;
+            this.md5s = md5s;
         }
 
-        @Override
-        public void run() {
+        /**
+         * Wait for the changes of every group, and respond when the timeout is reached.
+         */
+        void register() {
             try {
-                BlockingQueue<LongPollingClient> namespaceClients = clientsMap.getOrDefault(namespaceId, new ArrayBlockingQueue<>(1024));
-                this.asyncTimeoutFuture = scheduler.schedule(() -> {
-                    namespaceClients.remove(LongPollingClient.this);
-                    List<ConfigGroupEnum> changedGroups = compareChangedGroup((HttpServletRequest) asyncContext.getRequest());
-                    sendResponse(changedGroups);
-                    log.debug("LongPollingClient {} ", GsonUtils.getInstance().toJson(changedGroups));
-                }, timeoutTime, TimeUnit.MILLISECONDS);
-                namespaceClients.add(this);
-                clientsMap.put(namespaceId, namespaceClients);
+                this.asyncTimeoutTask = new TimerTask(timeoutTime) {
+                    @Override
+                    public void run(final TaskEntity taskEntity) {
+                        // the wheel timer is shared by the whole jvm, do the comparison and the write on our own thread
+                        scheduler.execute(LongPollingClient.this::timeout);
+                    }
+                };
+                // schedule the timeout first, so a response sent once the client is visible always cancels a scheduled task
+                timer.add(asyncTimeoutTask);
+                namespaceClients(namespaceId).values().forEach(clients -> clients.add(this));
             } catch (Exception ex) {
                 log.error("add long polling client error", ex);
             }
         }
 
         /**
-         * Send response.
+         * Respond with the groups changed since the request, once the client waited long enough.
+         */
+        private void timeout() {
+            // the client has been responded to by a change, its async context is completed
+            if (responded.get()) {
+                return;
+            }
+            List<ConfigGroupEnum> changedGroups = Collections.emptyList();
+            try {
+                changedGroups = compareChangedGroup((HttpServletRequest) asyncContext.getRequest());
+            } catch (Exception ex) {
+                log.error("compare changed group of long polling client error", ex);
+            }
+            sendResponse(changedGroups);
+            log.debug("LongPollingClient {} ", GsonUtils.getInstance().toJson(changedGroups));
+        }
+
+        /**
+         * Send response, only the first call responds.
          *
          * @param changedGroups the changed groups
+         * @return whether the response is sent by this call
          */
-        void sendResponse(final List<ConfigGroupEnum> changedGroups) {
-            // cancel scheduler
-            if (Objects.nonNull(asyncTimeoutFuture)) {
-                asyncTimeoutFuture.cancel(false);
+        boolean sendResponse(final List<ConfigGroupEnum> changedGroups) {
+            if (!responded.compareAndSet(false, true)) {
+                return false;
+            }
+            // cancel timeout task
+            if (Objects.nonNull(asyncTimeoutTask)) {
+                asyncTimeoutTask.cancel();
             }
+            namespaceClients(namespaceId).values().forEach(clients -> clients.remove(this));
             generateResponse((HttpServletResponse) asyncContext.getResponse(), changedGroups);
             asyncContext.complete();
+            return true;
         }
     }
 }
@@ -26,6 +26,8 @@ import org.apache.shenyu.admin.mode.cluster.service.ClusterSelectMasterService;
 import org.apache.shenyu.admin.service.SyncDataService;
 import org.apache.shenyu.admin.spring.SpringBeanUtils;
 import org.apache.shenyu.admin.utils.ThreadLocalUtils;
+import org.apache.shenyu.common.codec.SyncDataCodec;
+import org.apache.shenyu.common.codec.SyncDataCodecFactory;
 import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.constant.RunningModeConstants;
 import org.apache.shenyu.common.enums.DataEventTypeEnum;
@@ -43,6 +45,8 @@ import jakarta.websocket.Session;
 import jakarta.websocket.server.ServerEndpoint;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -65,6 +69,11 @@ public class WebsocketCollector {
     
     private static final String SESSION_KEY = "sessionKey";
     
+    /**
+     * messages below this size are sent as json text, encoding them costs more than it saves.
+     */
+    private static final int MIN_ENCODE_SIZE = 1024;
+    
     /**
      * On open.
      *
@@ -99,6 +108,17 @@ public class WebsocketCollector {
                 .orElse(StringUtils.EMPTY);
     }
     
+    private static SyncDataCodec getCodec(final Session session) {
+        Map<String, Object> userProperties = session.getUserProperties();
+        if (MapUtils.isEmpty(userProperties)) {
+            return null;
+        }
+        return Optional.ofNullable(userProperties.get(Constants.SHENYU_SYNC_CODEC))
+                .map(Object::toString)
+                .map(SyncDataCodecFactory::getCodec)
+                .orElse(null);
+    }
+    
     private static String getNamespaceId(final Session session) {
         if (!session.isOpen()) {
             LOG.warn("websocket session is closed, can not get namespaceId");
@@ -215,7 +235,8 @@ public class WebsocketCollector {
                 }
             }
         } else {
-            SESSION_SET.forEach(session -> sendMessageBySession(session, message));
+            Map<String, ByteBuffer> frames = new HashMap<>(2);
+            SESSION_SET.forEach(session -> sendMessageBySession(session, message, frames));
         }
         
     }
@@ -245,15 +266,27 @@ public class WebsocketCollector {
                 }
             }
         } else {
+            Map<String, ByteBuffer> frames = new HashMap<>(2);
             NAMESPACE_SESSION_MAP.getOrDefault(namespaceId, Sets.newConcurrentHashSet())
-                    .forEach(session -> sendMessageBySession(session, message));
+                    .forEach(session -> sendMessageBySession(session, message, frames));
         }
         
     }
     
-    private static synchronized void sendMessageBySession(final Session session, final String message) {
+    private static void sendMessageBySession(final Session session, final String message) {
+        sendMessageBySession(session, message, new HashMap<>(2));
+    }
+    
+    private static synchronized void sendMessageBySession(final Session session, final String message, final Map<String, ByteBuffer> frames) {
         try {
-            session.getBasicRemote().sendText(message);
+            SyncDataCodec codec = getCodec(session);
+            if (SyncDataCodecFactory.isJson(codec) || message.length() < MIN_ENCODE_SIZE) {
+                session.getBasicRemote().sendText(message);
+                return;
+            }
+            // a broadcast encodes the message once per codec rather than once per session
+            ByteBuffer frame = frames.computeIfAbsent(codec.getName(), name -> SyncDataCodecFactory.encodeFrame(codec, message));
+            session.getBasicRemote().sendBinary(frame.duplicate());
         } catch (IOException e) {
             LOG.error("websocket send result is exception: ", e);
         }
@@ -22,9 +22,13 @@ import jakarta.servlet.http.HttpSession;
 import jakarta.websocket.HandshakeResponse;
 import jakarta.websocket.server.HandshakeRequest;
 import jakarta.websocket.server.ServerEndpointConfig;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.admin.config.properties.WebsocketSyncProperties;
 import org.apache.shenyu.admin.spring.SpringBeanUtils;
+import org.apache.shenyu.common.codec.SyncDataCodec;
+import org.apache.shenyu.common.codec.SyncDataCodecFactory;
 import org.apache.shenyu.common.constant.Constants;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,6 +37,9 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.web.servlet.ServletContextInitializer;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.Collections;
+import java.util.List;
+
 import static org.apache.tomcat.websocket.server.Constants.BINARY_BUFFER_SIZE_SERVLET_CONTEXT_INIT_PARAM;
 import static org.apache.tomcat.websocket.server.Constants.TEXT_BUFFER_SIZE_SERVLET_CONTEXT_INIT_PARAM;
 
@@ -55,6 +62,11 @@ public class WebsocketConfigurator extends ServerEndpointConfig.Configurator imp
         HttpSession httpSession = (HttpSession) request.getHttpSession();
         sec.getUserProperties().put(WebsocketListener.CLIENT_IP_NAME, httpSession.getAttribute(WebsocketListener.CLIENT_IP_NAME));
         sec.getUserProperties().put(Constants.SHENYU_NAMESPACE_ID, httpSession.getAttribute(Constants.SHENYU_NAMESPACE_ID));
+        // gateways that offer no codec, or none this admin knows, keep receiving json text frames
+        List<String> offered = MapUtils.emptyIfNull(request.getHeaders()).get(Constants.SHENYU_SYNC_CODEC);
+        SyncDataCodec codec = SyncDataCodecFactory.negotiate(CollectionUtils.isEmpty(offered) ? null : String.join(",", offered));
+        sec.getUserProperties().put(Constants.SHENYU_SYNC_CODEC, codec.getName());
+        response.getHeaders().put(Constants.SHENYU_SYNC_CODEC, Collections.singletonList(codec.getName()));
         super.modifyHandshake(sec, request, response);
     }
 
@@ -17,7 +17,6 @@
 
 package org.apache.shenyu.admin.service.impl;
 
-import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import org.apache.commons.collections4.CollectionUtils;
@@ -51,6 +50,7 @@ import org.apache.shenyu.common.enums.PluginEnum;
 import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.common.utils.MapUtils;
 import org.apache.shenyu.common.utils.UpstreamCheckUtils;
+import org.apache.shenyu.common.utils.UpstreamProber;
 import org.apache.shenyu.register.common.config.ShenyuRegisterCenterConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -61,6 +61,7 @@ import org.springframework.stereotype.Component;
 import jakarta.annotation.PreDestroy;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -78,6 +79,8 @@ import java.util.stream.Collectors;
 
 /**
  * This is the upstream check service.
+ * The upstreams are probed by the non-blocking {@link UpstreamProber}, the results are handled selector by selector
+ * on the invoke executor, and only the selectors whose upstreams changed are published.
  */
 @Component
 public class UpstreamCheckService {
@@ -92,6 +95,8 @@ public class UpstreamCheckService {
 
     private static final String REGISTER_TYPE_HTTP = "http";
 
+    private static final int CHECK_TIMEOUT = 3000;
+
     private static int zombieRemovalTimes;
 
     private final int zombieCheckTimes;
@@ -104,6 +109,8 @@ public class UpstreamCheckService {
 
     private final Integer scheduledThreads;
 
+    private final int checkConcurrency;
+
     private final SelectorMapper selectorMapper;
 
     private final ApplicationEventPublisher eventPublisher;
@@ -122,7 +129,7 @@ public class UpstreamCheckService {
 
     private ScheduledThreadPoolExecutor invokeExecutor;
 
-    private final List<CompletableFuture<Void>> futures = Lists.newArrayList();
+    private UpstreamProber prober;
 
     /**
      * Instantiates a new Upstream check service.
@@ -150,6 +157,7 @@ public class UpstreamCheckService {
         Properties props = shenyuRegisterCenterConfig.getProps();
         this.checked = Boolean.parseBoolean(props.getProperty(Constants.IS_CHECKED, Constants.DEFAULT_CHECK_VALUE));
         this.scheduledThreads = Integer.parseInt(props.getProperty(Constants.ZOMBIE_CHECK_THREADS, Constants.ZOMBIE_CHECK_THREADS_VALUE));
+        this.checkConcurrency = Integer.parseInt(props.getProperty(Constants.ZOMBIE_CHECK_CONCURRENCY, Constants.ZOMBIE_CHECK_CONCURRENCY_VALUE));
         this.zombieCheckTimes = Integer.parseInt(props.getProperty(Constants.ZOMBIE_CHECK_TIMES, Constants.ZOMBIE_CHECK_TIMES_VALUE));
         this.scheduledTime = Integer.parseInt(props.getProperty(Constants.SCHEDULED_TIME, Constants.SCHEDULED_TIME_VALUE));
         this.registerType = shenyuRegisterCenterConfig.getRegisterType();
@@ -168,6 +176,7 @@ public class UpstreamCheckService {
 
             ThreadFactory requestFactory = ShenyuThreadFactory.create("upstream-health-check-request", true);
             invokeExecutor = new ScheduledThreadPoolExecutor(this.scheduledThreads, requestFactory);
+            prober = new UpstreamProber("upstream-health-check-probe", checkConcurrency);
         }
     }
 
@@ -183,6 +192,12 @@ public class UpstreamCheckService {
             if (Objects.nonNull(executor)) {
                 executor.shutdown();
             }
+            if (Objects.nonNull(invokeExecutor)) {
+                invokeExecutor.shutdown();
+            }
+            if (Objects.nonNull(prober)) {
+                prober.close();
+            }
         }
     }
 
@@ -273,97 +288,107 @@ public class UpstreamCheckService {
 
     private void scheduled() {
         try {
-            doCheck();
-            waitFinish();
+            // the probes hold no thread, waiting here only keeps the rounds from overlapping
+            CompletableFuture.allOf(doCheck().toArray(new CompletableFuture[0])).join();
         } catch (Exception e) {
             LOG.error("upstream scheduled check error -------- ", e);
         }
     }
 
-    private void doCheck() {
+    private List<CompletableFuture<Void>> doCheck() {
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
         // check zombie
         if (!ZOMBIE_SET.isEmpty()) {
-            ZOMBIE_SET.forEach(this::checkZombie);
+            ZOMBIE_SET.stream().collect(Collectors.groupingBy(ZombieUpstream::getSelectorId))
+                    .forEach((selectorId, zombies) -> futures.add(checkZombie(selectorId, zombies)));
         }
         // check up
         if (!UPSTREAM_MAP.isEmpty()) {
-            UPSTREAM_MAP.forEach(this::check);
+            UPSTREAM_MAP.forEach((selectorId, upstreamList) -> futures.add(check(selectorId, upstreamList)));
         }
+        return futures;
     }
 
-    private void waitFinish() {
-        // wait all check success
-        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
-        // clear, for next time
-        futures.clear();
+    private CompletableFuture<Boolean> probe(final CommonUpstream commonUpstream) {
+        return prober.probe(commonUpstream.getUpstreamUrl(), CHECK_TIMEOUT);
     }
 
-    private void checkZombie(final ZombieUpstream zombieUpstream) {
-        CompletableFuture<Void> future = CompletableFuture.runAsync(() -> checkZombie0(zombieUpstream), invokeExecutor);
-        futures.add(future);
+    private CompletableFuture<Void> checkZombie(final String selectorId, final List<ZombieUpstream> zombies) {
+        zombies.forEach(ZOMBIE_SET::remove);
+        List<CompletableFuture<Boolean>> probes = zombies.stream().map(zombie -> probe(zombie.getCommonUpstream())).collect(Collectors.toList());
+        return CompletableFuture.allOf(probes.toArray(new CompletableFuture[0]))
+                .thenRunAsync(() -> checkZombie0(selectorId, zombies, probes), invokeExecutor)
+                .exceptionally(ex -> {
+                    LOG.error("An exception occurred during the zombie check of selector {}: ", selectorId, ex);
+                    return null;
+                });
     }
 
-    private void checkZombie0(final ZombieUpstream zombieUpstream) {
-        ZOMBIE_SET.remove(zombieUpstream);
-        String selectorId = zombieUpstream.getSelectorId();
-        CommonUpstream commonUpstream = zombieUpstream.getCommonUpstream();
-        final boolean pass = UpstreamCheckUtils.checkUrl(commonUpstream.getUpstreamUrl());
-        if (pass) {
-            commonUpstream.setTimestamp(System.currentTimeMillis());
-            commonUpstream.setStatus(true);
-            LOG.info("UpstreamCacheManager check zombie upstream success the url: {}, host: {} ", commonUpstream.getUpstreamUrl(), commonUpstream.getUpstreamHost());
-            List<CommonUpstream> old = ListUtils.unmodifiableList(UPSTREAM_MAP.getOrDefault(selectorId, Collections.emptyList()));
-            // fix https://github.com/apache/shenyu/issues/5311
-            this.submitJust(selectorId, commonUpstream);
-            updateHandler(selectorId, old, UPSTREAM_MAP.get(selectorId));
-        } else {
-            LOG.error("check zombie upstream the url={} is fail", commonUpstream.getUpstreamUrl());
-            if (zombieUpstream.getZombieCheckTimes() > NumberUtils.INTEGER_ZERO) {
-                zombieUpstream.setZombieCheckTimes(zombieUpstream.getZombieCheckTimes() - NumberUtils.INTEGER_ONE);
-                ZOMBIE_SET.add(zombieUpstream);
+    private void checkZombie0(final String selectorId, final List<ZombieUpstream> zombies, final List<CompletableFuture<Boolean>> probes) {
+        List<CommonUpstream> revived = new ArrayList<>();
+        for (int i = 0; i < zombies.size(); i++) {
+            ZombieUpstream zombieUpstream = zombies.get(i);
+            CommonUpstream commonUpstream = zombieUpstream.getCommonUpstream();
+            if (probes.get(i).join()) {
+                commonUpstream.setTimestamp(System.currentTimeMillis());
+                commonUpstream.setStatus(true);
+                LOG.info("UpstreamCacheManager check zombie upstream success the url: {}, host: {} ", commonUpstream.getUpstreamUrl(), commonUpstream.getUpstreamHost());
+                revived.add(commonUpstream);
+            } else {
+                LOG.error("check zombie upstream the url={} is fail", commonUpstream.getUpstreamUrl());
+                if (zombieUpstream.getZombieCheckTimes() > NumberUtils.INTEGER_ZERO) {
+                    zombieUpstream.setZombieCheckTimes(zombieUpstream.getZombieCheckTimes() - NumberUtils.INTEGER_ONE);
+                    ZOMBIE_SET.add(zombieUpstream);
+                }
             }
         }
+        if (revived.isEmpty()) {
+            return;
+        }
+        // the revived upstreams of a selector are published together
+        List<CommonUpstream> old = ListUtils.unmodifiableList(UPSTREAM_MAP.getOrDefault(selectorId, Collections.emptyList()));
+        // fix https://github.com/apache/shenyu/issues/5311
+        revived.forEach(commonUpstream -> this.submitJust(selectorId, commonUpstream));
+        updateHandler(selectorId, old, UPSTREAM_MAP.get(selectorId));
     }
 
-    private void check(final String selectorId, final List<CommonUpstream> upstreamList) {
-        final List<CompletableFuture<CommonUpstream>> checkFutures = new ArrayList<>(upstreamList.size());
+    private CompletableFuture<Void> check(final String selectorId, final List<CommonUpstream> upstreamList) {
+        final List<CommonUpstream> upstreams = new ArrayList<>(upstreamList);
+        final List<CompletableFuture<Boolean>> probes = upstreams.stream().map(this::probe).collect(Collectors.toList());
+        return CompletableFuture.allOf(probes.toArray(new CompletableFuture[0]))
+                .thenRunAsync(() -> check0(selectorId, upstreams, probes), invokeExecutor)
+                .exceptionally(ex -> {
+                    LOG.error("An exception occurred during the check of selector {}: ", selectorId, ex);
+                    return null;
+                });
+    }
+
+    private void check0(final String selectorId, final List<CommonUpstream> upstreamList, final List<CompletableFuture<Boolean>> probes) {
+        final List<CommonUpstream> successList = new ArrayList<>(upstreamList.size());
+        Iterator<CompletableFuture<Boolean>> results = probes.iterator();
         for (CommonUpstream commonUpstream : upstreamList) {
-            checkFutures.add(CompletableFuture.supplyAsync(() -> {
-                final boolean pass = UpstreamCheckUtils.checkUrl(commonUpstream.getUpstreamUrl());
-                if (pass) {
-                    if (!commonUpstream.isStatus()) {
-                        commonUpstream.setTimestamp(System.currentTimeMillis());
-                        commonUpstream.setStatus(true);
-                        PENDING_SYNC.add(commonUpstream.hashCode());
-                        LOG.info("UpstreamCacheManager check success the url: {}, host: {} ", commonUpstream.getUpstreamUrl(), commonUpstream.getUpstreamHost());
-                    }
-                    return commonUpstream;
-                } else {
-                    commonUpstream.setStatus(false);
-                    ZOMBIE_SET.add(ZombieUpstream.transform(commonUpstream, zombieCheckTimes, selectorId));
-                    LOG.info("change unlive selectorId={}|url={}", selectorId, commonUpstream.getUpstreamUrl());
-                    discoveryUpstreamService.changeStatusBySelectorIdAndUrl(selectorId, commonUpstream.getUpstreamUrl(), Boolean.FALSE);
-                    LOG.error("check the url={} is fail ", commonUpstream.getUpstreamUrl());
+            if (results.next().join()) {
+                if (!commonUpstream.isStatus()) {
+                    commonUpstream.setTimestamp(System.currentTimeMillis());
+                    commonUpstream.setStatus(true);
+                    PENDING_SYNC.add(commonUpstream.hashCode());
+                    LOG.info("UpstreamCacheManager check success the url: {}, host: {} ", commonUpstream.getUpstreamUrl(), commonUpstream.getUpstreamHost());
                 }
-                return null;
-            }, invokeExecutor).exceptionally(ex -> {
-                LOG.error("An exception occurred during the check of url {}: ", commonUpstream.getUpstreamUrl(), ex);
-                return null;
-            }));
+                successList.add(commonUpstream);
+            } else {
+                commonUpstream.setStatus(false);
+                ZOMBIE_SET.add(ZombieUpstream.transform(commonUpstream, zombieCheckTimes, selectorId));
+                LOG.info("change unlive selectorId={}|url={}", selectorId, commonUpstream.getUpstreamUrl());
+                discoveryUpstreamService.changeStatusBySelectorIdAndUrl(selectorId, commonUpstream.getUpstreamUrl(), Boolean.FALSE);
+                LOG.error("check the url={} is fail ", commonUpstream.getUpstreamUrl());
+            }
         }
-
-        this.futures.add(CompletableFuture.runAsync(() -> {
-            List<CommonUpstream> successList = checkFutures.stream()
-                    .map(CompletableFuture::join)
-                    .filter(Objects::nonNull)
-                    .collect(Collectors.toList());
-            updateHandler(selectorId, upstreamList, successList);
-        }));
+        updateHandler(selectorId, upstreamList, successList);
     }
 
     private void updateHandler(final String selectorId, final List<CommonUpstream> upstreamList, final List<CommonUpstream> successList) {
-        //No node changes, including zombie node resurrection and live node death
-        if (successList.size() == upstreamList.size() && PENDING_SYNC.isEmpty()) {
+        //No node changes of this selector, including zombie node resurrection and live node death
+        if (successList.size() == upstreamList.size() && !isPendingSync(successList)) {
             return;
         }
         removePendingSync(successList);
@@ -376,6 +401,11 @@ public class UpstreamCheckService {
         }
     }
 
+    private boolean isPendingSync(final List<CommonUpstream> successList) {
+        return PENDING_SYNC.contains(NumberUtils.INTEGER_ZERO)
+                || successList.stream().anyMatch(commonUpstream -> PENDING_SYNC.contains(commonUpstream.hashCode()));
+    }
+
     private void removePendingSync(final List<CommonUpstream> successList) {
         PENDING_SYNC.removeIf(NumberUtils.INTEGER_ZERO::equals);
         successList.forEach(commonUpstream -> PENDING_SYNC.remove(commonUpstream.hashCode()));
@@ -17,6 +17,7 @@
 
 package org.apache.shenyu.admin.config;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.apache.shenyu.admin.disruptor.RegisterClientServerDisruptorPublisher;
 import org.apache.shenyu.admin.service.DiscoveryService;
 import org.apache.shenyu.admin.service.register.ShenyuClientRegisterService;
@@ -52,7 +53,18 @@ public class RegisterCenterConfigurationTest {
         DiscoveryService discoveryService = mock(DiscoveryService.class);
         List<ShenyuClientRegisterService> shenyuClientRegisterService = new ArrayList<>();
         RegisterClientServerDisruptorPublisher publisher = registerCenterConfiguration
-                .registerClientServerDisruptorPublisher(shenyuClientRegisterService, discoveryService);
+                .registerClientServerDisruptorPublisher(shenyuClientRegisterService, discoveryService, new ShenyuRegisterCenterConfig());
         assertNotNull(publisher);
     }
+    
+    @Test
+    public void testRegisterDisruptorMeterBinder() {
+        RegisterClientServerDisruptorPublisher publisher = registerCenterConfiguration
+                .registerClientServerDisruptorPublisher(new ArrayList<>(), mock(DiscoveryService.class), new ShenyuRegisterCenterConfig());
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        registerCenterConfiguration.registerDisruptorMeterBinder(publisher).bindTo(registry);
+        double bufferSize = registry.get("shenyu_disruptor_buffer_size").gauge().value();
+        assertEquals(bufferSize, registry.get("shenyu_disruptor_remaining_capacity").gauge().value());
+        assertEquals(0, registry.get("shenyu_disruptor_publish_count").functionCounter().count());
+    }
 }
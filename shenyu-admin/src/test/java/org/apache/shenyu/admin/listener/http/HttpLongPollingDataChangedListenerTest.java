@@ -18,25 +18,37 @@
 package org.apache.shenyu.admin.listener.http;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.admin.config.properties.HttpSyncProperties;
+import org.apache.shenyu.admin.listener.ConfigDataCache;
 import org.apache.shenyu.admin.model.result.ShenyuAdminResult;
 import org.apache.shenyu.admin.utils.ShenyuResultMessage;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
+import org.apache.shenyu.common.enums.DataEventTypeEnum;
 import org.apache.shenyu.common.utils.GsonUtils;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 
+import jakarta.servlet.AsyncContext;
+
 import java.io.UnsupportedEncodingException;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -50,14 +62,110 @@ public final class HttpLongPollingDataChangedListenerTest {
 
     private static final String X_FORWARDED_FOR = "X-Forwarded-For";
 
+    private static final String NAMESPACE_ID = "longPollingTest";
+
     private MockHttpServletRequest httpServletRequest;
 
     private MockHttpServletResponse httpServletResponse;
 
+    private CachedHttpLongPollingDataChangedListener listener;
+
     @BeforeEach
     public void setUp() {
-        this.httpServletRequest = new MockHttpServletRequest();
         this.httpServletResponse = new MockHttpServletResponse();
+        this.httpServletRequest = new MockHttpServletRequest() {
+            @Override
+            public AsyncContext startAsync() {
+                // the mock request starts async without the response
+                return startAsync(this, httpServletResponse);
+            }
+        };
+        this.listener = new CachedHttpLongPollingDataChangedListener();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        listener.clean();
+    }
+
+    @Test
+    public void testNotifyChangedGroup() throws UnsupportedEncodingException {
+        waitForChange();
+        listener.cache(ConfigGroupEnum.PLUGIN, "changed");
+        listener.afterPluginChanged(Collections.emptyList(), DataEventTypeEnum.UPDATE, NAMESPACE_ID);
+        await().atMost(Duration.ofSeconds(5)).until(() -> !httpServletRequest.isAsyncStarted());
+        assertTrue(httpServletResponse.getContentAsString().contains(ConfigGroupEnum.PLUGIN.name()));
+    }
+
+    @Test
+    public void testNotNotifyUpToDateClient() throws UnsupportedEncodingException {
+        waitForChange();
+        // the client already holds the md5 of the changed plugins
+        listener.afterPluginChanged(Collections.emptyList(), DataEventTypeEnum.UPDATE, NAMESPACE_ID);
+        listener.cache(ConfigGroupEnum.RULE, "changed");
+        listener.afterRuleChanged(Collections.emptyList(), DataEventTypeEnum.UPDATE, NAMESPACE_ID);
+        await().atMost(Duration.ofSeconds(5)).until(() -> !httpServletRequest.isAsyncStarted());
+        String content = httpServletResponse.getContentAsString();
+        assertTrue(content.contains(ConfigGroupEnum.RULE.name()));
+        assertFalse(content.contains(ConfigGroupEnum.PLUGIN.name()));
+    }
+
+    @Test
+    public void testNotifyLatestChangeOnly() throws UnsupportedEncodingException {
+        waitForChange();
+        listener.cache(ConfigGroupEnum.SELECTOR, "changed");
+        HttpLongPollingDataChangedListener.DataChangeTask staleTask = listener.new DataChangeTask(ConfigGroupEnum.SELECTOR, NAMESPACE_ID);
+        listener.new DataChangeTask(ConfigGroupEnum.SELECTOR, NAMESPACE_ID);
+        // a later change of the group is made, its task notifies the clients
+        staleTask.run();
+        assertTrue(httpServletRequest.isAsyncStarted());
+        assertEquals("", httpServletResponse.getContentAsString());
+    }
+
+    @Test
+    public void testTimeoutRespondsOnListenerThread() throws UnsupportedEncodingException {
+        Set<String> comparingThreads = ConcurrentHashMap.newKeySet();
+        MockHttpServletRequest request = new MockHttpServletRequest() {
+            @Override
+            public String getParameter(final String name) {
+                comparingThreads.add(Thread.currentThread().getName());
+                return super.getParameter(name);
+            }
+        };
+        for (ConfigGroupEnum group : ConfigGroupEnum.values()) {
+            listener.cache(group, "md5");
+            request.setParameter(group.name(), "md5,1607068125");
+        }
+        request.setParameter("namespaceId", NAMESPACE_ID);
+        request.setAsyncSupported(true);
+        AsyncContext asyncContext = request.startAsync(request, httpServletResponse);
+        listener.new LongPollingClient(asyncContext, "127.0.0.1", 100L, NAMESPACE_ID, Collections.emptyMap()).register();
+        await().atMost(Duration.ofSeconds(5)).until(() -> !request.isAsyncStarted());
+        // the shared wheel timer only hands the timeout off, the comparison runs on the listener's own thread
+        assertFalse(comparingThreads.isEmpty());
+        assertTrue(comparingThreads.stream().allMatch(name -> name.contains("long-polling")));
+        assertTrue(httpServletResponse.getContentAsString().contains("\"data\":[]"));
+    }
+
+    @Test
+    public void testRespondedClientSkipsTimeout() {
+        Set<String> comparingThreads = ConcurrentHashMap.newKeySet();
+        MockHttpServletRequest request = new MockHttpServletRequest() {
+            @Override
+            public String getParameter(final String name) {
+                comparingThreads.add(Thread.currentThread().getName());
+                return super.getParameter(name);
+            }
+        };
+        request.setAsyncSupported(true);
+        AsyncContext asyncContext = request.startAsync(request, httpServletResponse);
+        HttpLongPollingDataChangedListener.LongPollingClient client = listener.new LongPollingClient(asyncContext, "127.0.0.1", 100L, NAMESPACE_ID, Collections.emptyMap());
+        client.register();
+        assertTrue(client.sendResponse(Collections.singletonList(ConfigGroupEnum.PLUGIN)));
+        assertFalse(request.isAsyncStarted());
+        // the timeout task is cancelled, the request of the completed context is never read again
+        await().pollDelay(Duration.ofMillis(300)).atMost(Duration.ofSeconds(1)).until(() -> true);
+        assertTrue(comparingThreads.isEmpty());
     }
 
     /**
@@ -103,6 +211,18 @@ public final class HttpLongPollingDataChangedListenerTest {
         assertEquals("127.0.0.1", httpServletRequest.getHeader(X_REAL_IP));
     }
 
+    private void waitForChange() throws UnsupportedEncodingException {
+        for (ConfigGroupEnum group : ConfigGroupEnum.values()) {
+            listener.cache(group, "md5");
+            httpServletRequest.setParameter(group.name(), "md5,1607068125");
+        }
+        httpServletRequest.setParameter("namespaceId", NAMESPACE_ID);
+        httpServletRequest.setAsyncSupported(true);
+        listener.doLongPolling(httpServletRequest, httpServletResponse);
+        assertTrue(httpServletRequest.isAsyncStarted());
+        assertEquals("", httpServletResponse.getContentAsString());
+    }
+
     /**
      * test CompareChangedGroup.
      */
@@ -128,4 +248,22 @@ public final class HttpLongPollingDataChangedListenerTest {
             assertEquals(2, params.length);
         }
     }
+
+    private static final class CachedHttpLongPollingDataChangedListener extends HttpLongPollingDataChangedListener {
+
+        CachedHttpLongPollingDataChangedListener() {
+            super(new HttpSyncProperties());
+        }
+
+        void cache(final ConfigGroupEnum group, final String md5) {
+            String key = buildCacheKey(NAMESPACE_ID, group.name());
+            CACHE.put(key, new ConfigDataCache(key, "[]", md5, 0L, NAMESPACE_ID));
+        }
+
+        void clean() {
+            for (ConfigGroupEnum group : ConfigGroupEnum.values()) {
+                CACHE.remove(buildCacheKey(NAMESPACE_ID, group.name()));
+            }
+        }
+    }
 }
@@ -19,9 +19,13 @@ package org.apache.shenyu.admin.listener.websocket;
 
 import jakarta.websocket.RemoteEndpoint;
 import jakarta.websocket.Session;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.admin.service.SyncDataService;
 import org.apache.shenyu.admin.spring.SpringBeanUtils;
 import org.apache.shenyu.admin.utils.ThreadLocalUtils;
+import org.apache.shenyu.common.codec.GzipSyncDataCodec;
+import org.apache.shenyu.common.codec.SyncDataCodecFactory;
 import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.enums.DataEventTypeEnum;
 import org.junit.jupiter.api.AfterAll;
@@ -29,6 +33,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -40,6 +45,8 @@ import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -161,6 +168,25 @@ public final class WebsocketCollectorTest {
         ThreadLocalUtils.remove("sessionKey");
     }
 
+    @Test
+    public void testSendEncoded() throws IOException {
+        RemoteEndpoint.Basic basic = mock(RemoteEndpoint.Basic.class);
+        when(session.getBasicRemote()).thenReturn(basic);
+        session.getUserProperties().put(Constants.SHENYU_SYNC_CODEC, GzipSyncDataCodec.NAME);
+        websocketCollector.onOpen(session);
+        WebsocketCollector.send(Constants.SYS_DEFAULT_NAMESPACE_ID, "small", DataEventTypeEnum.CREATE);
+        verify(basic, times(1)).sendText("small");
+        String large = StringUtils.repeat("shenyu", 1024);
+        WebsocketCollector.send(Constants.SYS_DEFAULT_NAMESPACE_ID, large, DataEventTypeEnum.CREATE);
+        ArgumentCaptor<ByteBuffer> frame = ArgumentCaptor.forClass(ByteBuffer.class);
+        verify(basic, times(1)).sendBinary(frame.capture());
+        try (Reader reader = SyncDataCodecFactory.decodeFrame(frame.getValue())) {
+            assertEquals(large, IOUtils.toString(reader));
+        }
+        doNothing().when(loggerSpy).warn(anyString(), anyString());
+        websocketCollector.onClose(session);
+    }
+
     private long getSessionSetSize() {
         Set sessionSet = (Set) ReflectionTestUtils.getField(WebsocketCollector.class, "SESSION_SET");
         return Objects.isNull(sessionSet) ? -1 : sessionSet.size();
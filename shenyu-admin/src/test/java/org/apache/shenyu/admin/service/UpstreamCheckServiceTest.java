@@ -34,6 +34,7 @@ import org.apache.shenyu.common.dto.convert.selector.DivideUpstream;
 import org.apache.shenyu.common.dto.convert.selector.ZombieUpstream;
 import org.apache.shenyu.common.enums.PluginEnum;
 import org.apache.shenyu.common.utils.UpstreamCheckUtils;
+import org.apache.shenyu.common.utils.UpstreamProber;
 import org.apache.shenyu.register.common.config.ShenyuRegisterCenterConfig;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -51,6 +52,9 @@ import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
 import java.sql.Timestamp;
 import java.util.Collections;
 import java.util.HashMap;
@@ -68,7 +72,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -266,6 +272,35 @@ public final class UpstreamCheckServiceTest {
         assertEquals(2, upstreamMap.get(MOCK_SELECTOR_NAME_OTHER).size());
     }
 
+    @Test
+    public void testScheduledOnlyPublishesChangedSelectors() throws IOException {
+        ReflectionTestUtils.setField(upstreamCheckService, "invokeExecutor",
+                new ScheduledThreadPoolExecutor(1, ShenyuThreadFactory.create("upstream-health-check-request", true)));
+        UpstreamProber prober = new UpstreamProber("upstream-health-check-probe", 4);
+        ReflectionTestUtils.setField(upstreamCheckService, "prober", prober);
+        ((Set<Integer>) ReflectionTestUtils.getField(UpstreamCheckService.class, "PENDING_SYNC")).clear();
+        zombieSet.clear();
+        upstreamMap.clear();
+        try (ServerSocket alive = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            int deadPort;
+            try (ServerSocket dead = new ServerSocket(0)) {
+                deadPort = dead.getLocalPort();
+            }
+            upstreamMap.put(MOCK_SELECTOR_NAME, Collections.singletonList(DivideUpstream.builder()
+                    .upstreamUrl("127.0.0.1:" + alive.getLocalPort()).status(true).build()));
+            upstreamMap.put(MOCK_SELECTOR_NAME_OTHER, Collections.singletonList(DivideUpstream.builder()
+                    .upstreamUrl("127.0.0.1:" + deadPort).status(true).build()));
+            ReflectionTestUtils.invokeMethod(upstreamCheckService, "scheduled");
+        } finally {
+            prober.close();
+        }
+        verify(selectorMapper, never()).selectById(MOCK_SELECTOR_NAME);
+        verify(selectorMapper).selectById(MOCK_SELECTOR_NAME_OTHER);
+        assertTrue(upstreamMap.containsKey(MOCK_SELECTOR_NAME));
+        assertFalse(upstreamMap.containsKey(MOCK_SELECTOR_NAME_OTHER));
+        assertThat(zombieSet.size(), is(1));
+    }
+
     @Test
     public void testClose() {
         Properties properties = new Properties();
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.benchmark;
+
+import org.apache.shenyu.common.config.ShenyuConfig;
+import org.apache.shenyu.common.dto.ConditionData;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.enums.MatchModeEnum;
+import org.apache.shenyu.common.enums.OperatorEnum;
+import org.apache.shenyu.common.enums.ParamTypeEnum;
+import org.apache.shenyu.common.enums.SelectorTypeEnum;
+import org.apache.shenyu.common.enums.TrieCacheTypeEnum;
+import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
+import org.apache.shenyu.plugin.base.cache.BaseDataCache;
+import org.apache.shenyu.plugin.base.cache.MatchDataCache;
+import org.apache.shenyu.plugin.base.trie.ShenyuTrie;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The selectors, rules and spring beans the plugin benchmarks run against, kept in memory like the gateway keeps them.
+ */
+public final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Register the shenyu config and the selector and rule tries the plugins look up through {@link SpringBeanUtils}.
+     *
+     * @param shenyuConfig the shenyu config
+     * @return the application context
+     */
+    public static GenericApplicationContext initContext(final ShenyuConfig shenyuConfig) {
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.registerBean(ShenyuConfig.class, () -> shenyuConfig);
+        context.registerBean(TrieCacheTypeEnum.SELECTOR.getTrieType(), ShenyuTrie.class,
+                () -> new ShenyuTrie(shenyuConfig.getSelectorMatchCache().getTrie().getCacheSize(), shenyuConfig.getSelectorMatchCache().getTrie().getMatchMode()));
+        context.registerBean(TrieCacheTypeEnum.RULE.getTrieType(), ShenyuTrie.class,
+                () -> new ShenyuTrie(shenyuConfig.getRuleMatchCache().getTrie().getCacheSize(), shenyuConfig.getRuleMatchCache().getTrie().getMatchMode()));
+        context.refresh();
+        SpringBeanUtils.getInstance().setApplicationContext(context);
+        return context;
+    }
+
+    /**
+     * Cache the given count of selectors for the plugin, each with one rule.
+     * selector i matches /service{i}/**, its rule matches /service{i}/order/**.
+     *
+     * @param pluginName the plugin name
+     * @param count      the count of selectors
+     * @param ruleHandle the handle of every rule
+     * @return the cached rules
+     */
+    public static List<RuleData> cacheSelectors(final String pluginName, final int count, final String ruleHandle) {
+        ShenyuTrie selectorTrie = SpringBeanUtils.getInstance().getBean(TrieCacheTypeEnum.SELECTOR.getTrieType());
+        ShenyuTrie ruleTrie = SpringBeanUtils.getInstance().getBean(TrieCacheTypeEnum.RULE.getTrieType());
+        List<RuleData> rules = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String selectorPath = "/service" + i + "/**";
+            String rulePath = "/service" + i + "/order/**";
+            SelectorData selector = SelectorData.builder()
+                    .id(pluginName + "-selector-" + i)
+                    .pluginName(pluginName)
+                    .name("selector-" + i)
+                    .enabled(true)
+                    .continued(true)
+                    .logged(false)
+                    .matchRestful(false)
+                    .type(SelectorTypeEnum.CUSTOM_FLOW.getCode())
+                    .matchMode(MatchModeEnum.AND.getCode())
+                    .sort(i)
+                    .conditionList(Collections.singletonList(uriCondition(selectorPath)))
+                    .build();
+            RuleData rule = RuleData.builder()
+                    .id(pluginName + "-rule-" + i)
+                    .selectorId(selector.getId())
+                    .pluginName(pluginName)
+                    .name("rule-" + i)
+                    .enabled(true)
+                    .loged(false)
+                    .matchRestful(false)
+                    .matchMode(MatchModeEnum.AND.getCode())
+                    .sort(i)
+                    .handle(ruleHandle)
+                    .conditionDataList(Collections.singletonList(uriCondition(rulePath)))
+                    .build();
+            BaseDataCache.getInstance().cacheSelectData(selector);
+            BaseDataCache.getInstance().cacheRuleData(rule);
+            selectorTrie.putNode(selectorPath, selector, TrieCacheTypeEnum.SELECTOR);
+            ruleTrie.putNode(rulePath, rule, TrieCacheTypeEnum.RULE);
+            rules.add(rule);
+        }
+        return rules;
+    }
+
+    /**
+     * Clean the plugin, selector, rule and match caches.
+     */
+    public static void clean() {
+        BaseDataCache.getInstance().cleanPluginData();
+        BaseDataCache.getInstance().cleanSelectorData();
+        BaseDataCache.getInstance().cleanRuleData();
+        MatchDataCache.getInstance().cleanSelectorData();
+        MatchDataCache.getInstance().cleanRuleDataData();
+    }
+
+    /**
+     * Create an uri match condition.
+     *
+     * @param path the path pattern
+     * @return the condition
+     */
+    public static ConditionData uriCondition(final String path) {
+        ConditionData condition = new ConditionData();
+        condition.setParamType(ParamTypeEnum.URI.getName());
+        condition.setOperator(OperatorEnum.MATCH.getAlias());
+        condition.setParamName("/");
+        condition.setParamValue(path);
+        return condition;
+    }
+}
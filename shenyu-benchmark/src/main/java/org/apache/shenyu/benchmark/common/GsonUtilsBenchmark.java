@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.benchmark.common;
+
+import org.apache.shenyu.benchmark.BenchmarkFixtures;
+import org.apache.shenyu.common.dto.ConditionData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.utils.GsonUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses and writes the request bodies and the synced selectors with {@link GsonUtils}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GsonUtilsBenchmark {
+
+    @Param({"10", "1000"})
+    private int fieldCount;
+
+    private Map<String, Object> body;
+
+    private String bodyJson;
+
+    private String selectorJson;
+
+    /**
+     * Build the request body with the given count of fields, and a selector with as many conditions.
+     */
+    @Setup
+    public void setUp() {
+        body = new LinkedHashMap<>(fieldCount);
+        List<ConditionData> conditions = new ArrayList<>(fieldCount);
+        for (int i = 0; i < fieldCount; i++) {
+            Map<String, Object> item = new LinkedHashMap<>(4);
+            item.put("id", i);
+            item.put("name", "item-" + i);
+            item.put("price", i * 1.5d);
+            item.put("tags", List.of("gray", "order"));
+            body.put("field" + i, item);
+            conditions.add(BenchmarkFixtures.uriCondition("/service" + i + "/**"));
+        }
+        bodyJson = GsonUtils.getInstance().toJson(body);
+        selectorJson = GsonUtils.getInstance().toJson(SelectorData.builder()
+                .id("selector")
+                .pluginName("divide")
+                .name("selector")
+                .enabled(true)
+                .conditionList(conditions)
+                .handle("[{\"upstreamUrl\":\"10.0.0.1:8080\",\"weight\":50,\"status\":true}]")
+                .build());
+    }
+
+    /**
+     * Parse the request body into an object map.
+     *
+     * @return the map
+     */
+    @Benchmark
+    public Map<String, Object> toObjectMap() {
+        return GsonUtils.getInstance().toObjectMap(bodyJson);
+    }
+
+    /**
+     * Parse the request body into a map, converting nested objects as well.
+     *
+     * @return the map
+     */
+    @Benchmark
+    public Map<String, Object> convertToMap() {
+        return GsonUtils.getInstance().convertToMap(bodyJson);
+    }
+
+    /**
+     * Write the request body.
+     *
+     * @return the json
+     */
+    @Benchmark
+    public String toJson() {
+        return GsonUtils.getInstance().toJson(body);
+    }
+
+    /**
+     * Parse a synced selector.
+     *
+     * @return the selector
+     */
+    @Benchmark
+    public SelectorData fromJsonSelector() {
+        return GsonUtils.getInstance().fromJson(selectorJson, SelectorData.class);
+    }
+}
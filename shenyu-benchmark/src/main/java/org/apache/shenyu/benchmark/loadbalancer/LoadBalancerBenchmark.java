@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.benchmark.loadbalancer;
+
+import org.apache.shenyu.loadbalancer.entity.Upstream;
+import org.apache.shenyu.loadbalancer.spi.LoadBalancer;
+import org.apache.shenyu.spi.ExtensionLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Selects an upstream with every {@link LoadBalancer} join, over equally and unequally weighted upstreams.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoadBalancerBenchmark {
+
+    @Param({"random", "roundRobin", "hash", "leastActive", "p2c", "shortestResponse"})
+    private String algorithm;
+
+    @Param({"3", "50"})
+    private int upstreamCount;
+
+    @Param({"true", "false"})
+    private boolean sameWeight;
+
+    private LoadBalancer loadBalancer;
+
+    private List<Upstream> upstreams;
+
+    /**
+     * Load the load balancer join and build the upstreams.
+     */
+    @Setup
+    public void setUp() {
+        loadBalancer = ExtensionLoader.getExtensionLoader(LoadBalancer.class).getJoin(algorithm);
+        upstreams = new ArrayList<>(upstreamCount);
+        // started long enough ago that warmup does not scale the weight
+        long timestamp = System.currentTimeMillis() - TimeUnit.HOURS.toMillis(1);
+        for (int i = 0; i < upstreamCount; i++) {
+            upstreams.add(Upstream.builder()
+                    .url("10.0.0." + i + ":8080")
+                    .weight(sameWeight ? 50 : 10 + i * 10)
+                    .status(true)
+                    .timestamp(timestamp)
+                    .build());
+        }
+    }
+
+    /**
+     * Select an upstream for the client ip.
+     *
+     * @return the selected upstream
+     */
+    @Benchmark
+    public Upstream select() {
+        return loadBalancer.select(upstreams, "192.168.1.100");
+    }
+}
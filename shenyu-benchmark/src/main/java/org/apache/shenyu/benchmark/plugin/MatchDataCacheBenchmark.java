@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.benchmark.plugin;
+
+import org.apache.shenyu.benchmark.BenchmarkFixtures;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.plugin.base.cache.MatchDataCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Looks up the selector and rule of a path in {@link MatchDataCache}, and caches new paths into it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatchDataCacheBenchmark {
+
+    private static final String PLUGIN_NAME = "benchmark";
+
+    private static final int INITIAL_CAPACITY = 10000;
+
+    @Param({"1000", "100000"})
+    private int maximumSize;
+
+    private SelectorData selector;
+
+    private RuleData rule;
+
+    private String[] paths;
+
+    private int index;
+
+    /**
+     * Fill the match cache up to its maximum size.
+     */
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures.clean();
+        selector = SelectorData.builder().id("selector").pluginName(PLUGIN_NAME).build();
+        rule = RuleData.builder().id("rule").selectorId(selector.getId()).pluginName(PLUGIN_NAME).build();
+        paths = new String[maximumSize];
+        for (int i = 0; i < maximumSize; i++) {
+            paths[i] = "/service" + i + "/order/findById";
+            MatchDataCache.getInstance().cacheSelectorData(paths[i], selector, INITIAL_CAPACITY, maximumSize);
+            MatchDataCache.getInstance().cacheRuleData(paths[i], rule, INITIAL_CAPACITY, maximumSize);
+        }
+    }
+
+    /**
+     * Clean the match cache.
+     */
+    @TearDown
+    public void tearDown() {
+        BenchmarkFixtures.clean();
+    }
+
+    /**
+     * Look up the selector of a cached path.
+     *
+     * @return the selector
+     */
+    @Benchmark
+    public SelectorData obtainSelectorHit() {
+        return MatchDataCache.getInstance().obtainSelectorData(PLUGIN_NAME, nextPath());
+    }
+
+    /**
+     * Look up the selector of a path that is not cached.
+     *
+     * @return null
+     */
+    @Benchmark
+    public SelectorData obtainSelectorMiss() {
+        return MatchDataCache.getInstance().obtainSelectorData(PLUGIN_NAME, "/miss/order/findById");
+    }
+
+    /**
+     * Look up the rule of a cached path.
+     *
+     * @return the rule
+     */
+    @Benchmark
+    public RuleData obtainRuleHit() {
+        return MatchDataCache.getInstance().obtainRuleData(PLUGIN_NAME, nextPath());
+    }
+
+    /**
+     * Cache the selector of a path, evicting another one once the cache is full.
+     */
+    @Benchmark
+    public void cacheSelector() {
+        MatchDataCache.getInstance().cacheSelectorData(nextPath(), selector, INITIAL_CAPACITY, maximumSize);
+    }
+
+    private String nextPath() {
+        index = (index + 1) % paths.length;
+        return paths[index];
+    }
+}
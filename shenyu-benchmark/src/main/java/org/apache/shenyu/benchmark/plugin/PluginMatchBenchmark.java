@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.benchmark.plugin;
+
+import org.apache.shenyu.benchmark.BenchmarkFixtures;
+import org.apache.shenyu.common.config.ShenyuConfig;
+import org.apache.shenyu.common.dto.PluginData;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.plugin.api.ShenyuPluginChain;
+import org.apache.shenyu.plugin.base.AbstractShenyuPlugin;
+import org.apache.shenyu.plugin.base.cache.BaseDataCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Matches the selector and rule of a request in {@link AbstractShenyuPlugin#execute}, through
+ * the match cache, through the trie with the match cache disabled, and through the condition
+ * judges with both disabled.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PluginMatchBenchmark {
+
+    private static final String PLUGIN_NAME = "benchmark";
+
+    @Param({"cacheHit", "trieHit", "fallback"})
+    private String match;
+
+    @Param({"10", "200"})
+    private int selectorCount;
+
+    private GenericApplicationContext context;
+
+    private MatchPlugin plugin;
+
+    private ShenyuPluginChain chain;
+
+    private ServerWebExchange exchange;
+
+    /**
+     * Cache the selectors and rules, the request path hits the last selector.
+     */
+    @Setup
+    public void setUp() {
+        ShenyuConfig shenyuConfig = new ShenyuConfig();
+        boolean cacheEnabled = "cacheHit".equals(match);
+        boolean trieEnabled = !"fallback".equals(match);
+        shenyuConfig.getSelectorMatchCache().getCache().setEnabled(cacheEnabled);
+        shenyuConfig.getSelectorMatchCache().getTrie().setEnabled(trieEnabled);
+        shenyuConfig.getRuleMatchCache().getCache().setEnabled(cacheEnabled);
+        shenyuConfig.getRuleMatchCache().getTrie().setEnabled(trieEnabled);
+        context = BenchmarkFixtures.initContext(shenyuConfig);
+        BenchmarkFixtures.clean();
+        PluginData pluginData = new PluginData();
+        pluginData.setName(PLUGIN_NAME);
+        pluginData.setEnabled(true);
+        BaseDataCache.getInstance().cachePluginData(pluginData);
+        BenchmarkFixtures.cacheSelectors(PLUGIN_NAME, selectorCount, "{}");
+        plugin = new MatchPlugin();
+        chain = serverWebExchange -> Mono.empty();
+        exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/service" + (selectorCount - 1) + "/order/findById").build());
+    }
+
+    /**
+     * Clean the caches and close the context.
+     */
+    @TearDown
+    public void tearDown() {
+        BenchmarkFixtures.clean();
+        context.close();
+    }
+
+    /**
+     * Execute the plugin, matching the selector and rule of the request.
+     *
+     * @return the matched rule
+     */
+    @Benchmark
+    public RuleData execute() {
+        plugin.execute(exchange, chain).block();
+        return plugin.matched;
+    }
+
+    private static final class MatchPlugin extends AbstractShenyuPlugin {
+
+        private RuleData matched;
+
+        @Override
+        protected Mono<Void> doExecute(final ServerWebExchange exchange, final ShenyuPluginChain chain,
+                                       final SelectorData selector, final RuleData rule) {
+            matched = rule;
+            return chain.execute(exchange);
+        }
+
+        @Override
+        public int getOrder() {
+            return 0;
+        }
+
+        @Override
+        public String named() {
+            return PLUGIN_NAME;
+        }
+    }
+}
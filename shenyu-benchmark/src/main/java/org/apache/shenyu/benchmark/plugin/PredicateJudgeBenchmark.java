@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.benchmark.plugin;
+
+import org.apache.shenyu.common.dto.ConditionData;
+import org.apache.shenyu.common.enums.ParamTypeEnum;
+import org.apache.shenyu.plugin.base.condition.judge.PredicateJudgeFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Judges a condition with every operator that has a {@code PredicateJudge} join,
+ * the way the selectors and rules are matched when neither the match cache nor the trie hits.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PredicateJudgeBenchmark {
+
+    @Param({"match", "=", "regex", "contains", "startsWith", "endsWith", "TimeBefore", "TimeAfter", "exclude", "pathPattern", "isBlank"})
+    private String operator;
+
+    private ConditionData conditionData;
+
+    private String realData;
+
+    /**
+     * Build the condition and the real data the operator is judged against.
+     */
+    @Setup
+    public void setUp() {
+        conditionData = new ConditionData();
+        conditionData.setOperator(operator);
+        conditionData.setParamType(ParamTypeEnum.HEADER.getName());
+        conditionData.setParamName("X-Request-Tag");
+        switch (operator) {
+            case "match":
+            case "exclude":
+            case "pathPattern":
+                conditionData.setParamType(ParamTypeEnum.URI.getName());
+                conditionData.setParamName("/");
+                conditionData.setParamValue("/http/order/**");
+                realData = "/http/order/findById";
+                break;
+            case "regex":
+                conditionData.setParamValue("^/http/order/\\d+$");
+                realData = "/http/order/1024";
+                break;
+            case "contains":
+            case "startsWith":
+            case "endsWith":
+                conditionData.setParamValue("order");
+                realData = "order-service-order";
+                break;
+            case "TimeBefore":
+            case "TimeAfter":
+                conditionData.setParamValue("2099-12-31 23:59:59");
+                realData = "2024-01-01 00:00:00";
+                break;
+            case "isBlank":
+                conditionData.setParamValue("");
+                realData = "";
+                break;
+            default:
+                conditionData.setParamValue("gray");
+                realData = "gray";
+                break;
+        }
+    }
+
+    /**
+     * Judge the real data with the condition.
+     *
+     * @return whether the real data passes
+     */
+    @Benchmark
+    public Boolean judge() {
+        return PredicateJudgeFactory.judge(conditionData, realData);
+    }
+}
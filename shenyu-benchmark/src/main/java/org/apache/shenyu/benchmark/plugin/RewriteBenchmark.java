@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.benchmark.plugin;
+
+import org.apache.shenyu.common.dto.convert.rule.RewriteHandle;
+import org.apache.shenyu.plugin.rewrite.CompiledRewriteHandle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rewrites a uri with the compiled rewrite handle against {@code String#replaceAll}, which
+ * the rewrite plugin called on every request before the handle was compiled.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RewriteBenchmark {
+
+    @Param({"literal", "capture", "miss"})
+    private String rule;
+
+    private String regex;
+
+    private String replace;
+
+    private String uri;
+
+    private CompiledRewriteHandle compiledHandle;
+
+    /**
+     * Compile the rewrite handle of the rule.
+     */
+    @Setup
+    public void setUp() {
+        switch (rule) {
+            case "literal":
+                regex = "/http";
+                replace = "/order";
+                uri = "/http/findById";
+                break;
+            case "capture":
+                regex = "^/http/(?<path>.*)/(\\d+)$";
+                replace = "/order/${path}?id=$2";
+                uri = "/http/findById/1024";
+                break;
+            default:
+                regex = "^/http/(?<path>.*)/(\\d+)$";
+                replace = "/order/${path}?id=$2";
+                uri = "/dubbo/findById/1024";
+                break;
+        }
+        RewriteHandle rewriteHandle = new RewriteHandle();
+        rewriteHandle.setRegex(regex);
+        rewriteHandle.setReplace(replace);
+        compiledHandle = CompiledRewriteHandle.compile(rewriteHandle);
+    }
+
+    /**
+     * Rewrite with the regex compiled on every call.
+     *
+     * @return the rewritten uri
+     */
+    @Benchmark
+    public String replaceAll() {
+        return uri.replaceAll(regex, replace);
+    }
+
+    /**
+     * Rewrite with the compiled rewrite handle.
+     *
+     * @return the rewritten uri
+     */
+    @Benchmark
+    public String compiled() {
+        return compiledHandle.rewrite(uri);
+    }
+}
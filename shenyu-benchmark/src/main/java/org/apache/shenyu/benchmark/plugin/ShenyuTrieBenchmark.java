@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.benchmark.plugin;
+
+import org.apache.shenyu.benchmark.BenchmarkFixtures;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.enums.TrieCacheTypeEnum;
+import org.apache.shenyu.plugin.base.trie.ShenyuTrie;
+import org.apache.shenyu.plugin.base.trie.ShenyuTrieNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Matches a path in {@link ShenyuTrie} holding exact, wildcard and path variable selectors,
+ * in both trie match modes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShenyuTrieBenchmark {
+
+    private static final String PLUGIN_NAME = "benchmark";
+
+    @Param({"antPathMatch", "pathPattern"})
+    private String matchMode;
+
+    @Param({"exact", "wildcard", "pathVariable", "miss"})
+    private String path;
+
+    @Param({"100", "1000"})
+    private int pathCount;
+
+    private ShenyuTrie trie;
+
+    private String uri;
+
+    /**
+     * Put the exact, wildcard and path variable paths of every service into the trie.
+     */
+    @Setup
+    public void setUp() {
+        trie = new ShenyuTrie((long) pathCount * 4, matchMode);
+        for (int i = 0; i < pathCount; i++) {
+            put("/service" + i + "/order/findById", i);
+            put("/service" + i + "/order/{id}/detail", i);
+            put("/service" + i + "/user/**", i);
+        }
+        int last = pathCount - 1;
+        switch (path) {
+            case "exact":
+                uri = "/service" + last + "/order/findById";
+                break;
+            case "wildcard":
+                uri = "/service" + last + "/user/profile/avatar";
+                break;
+            case "pathVariable":
+                uri = "/service" + last + "/order/1024/detail";
+                break;
+            default:
+                uri = "/service" + pathCount + "/order/findById";
+                break;
+        }
+    }
+
+    /**
+     * Match the path in the trie.
+     *
+     * @return the matched node
+     */
+    @Benchmark
+    public ShenyuTrieNode match() {
+        return trie.match(uri, PLUGIN_NAME);
+    }
+
+    private void put(final String uriPath, final int index) {
+        SelectorData selector = SelectorData.builder()
+                .id(uriPath)
+                .pluginName(PLUGIN_NAME)
+                .sort(index)
+                .conditionList(Collections.singletonList(BenchmarkFixtures.uriCondition(uriPath)))
+                .build();
+        trie.putNode(uriPath, selector, TrieCacheTypeEnum.SELECTOR);
+    }
+}
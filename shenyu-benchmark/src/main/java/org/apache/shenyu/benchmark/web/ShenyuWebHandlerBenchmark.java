@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.benchmark.web;
+
+import org.apache.shenyu.benchmark.BenchmarkFixtures;
+import org.apache.shenyu.common.config.ShenyuConfig;
+import org.apache.shenyu.common.dto.PluginData;
+import org.apache.shenyu.common.enums.PluginEnum;
+import org.apache.shenyu.common.enums.RpcTypeEnum;
+import org.apache.shenyu.plugin.api.ShenyuPlugin;
+import org.apache.shenyu.plugin.api.ShenyuPluginChain;
+import org.apache.shenyu.plugin.base.cache.BaseDataCache;
+import org.apache.shenyu.plugin.global.DefaultShenyuContextBuilder;
+import org.apache.shenyu.plugin.global.GlobalPlugin;
+import org.apache.shenyu.plugin.rewrite.RewritePlugin;
+import org.apache.shenyu.plugin.rewrite.handler.RewritePluginDataHandler;
+import org.apache.shenyu.web.handler.ShenyuWebHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Handles a request with {@link ShenyuWebHandler} through the global plugin, the rewrite plugin
+ * and a plugin completing the response in place of the http client, all in memory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShenyuWebHandlerBenchmark {
+
+    private static final String REWRITE_HANDLE = "{\"regex\":\"^/service(\\\\d+)/order/(?<path>.*)$\",\"replace\":\"/order/${path}\",\"percentage\":100}";
+
+    @Param({"10", "200"})
+    private int selectorCount;
+
+    private GenericApplicationContext context;
+
+    private ShenyuWebHandler webHandler;
+
+    private String path;
+
+    /**
+     * Cache the rewrite selectors and rules, and build the plugin chain.
+     */
+    @Setup
+    public void setUp() {
+        context = BenchmarkFixtures.initContext(new ShenyuConfig());
+        BenchmarkFixtures.clean();
+        PluginData pluginData = new PluginData();
+        pluginData.setName(PluginEnum.REWRITE.getName());
+        pluginData.setEnabled(true);
+        BaseDataCache.getInstance().cachePluginData(pluginData);
+        RewritePluginDataHandler handler = new RewritePluginDataHandler();
+        BenchmarkFixtures.cacheSelectors(PluginEnum.REWRITE.getName(), selectorCount, REWRITE_HANDLE).forEach(handler::handlerRule);
+        GlobalPlugin globalPlugin = new GlobalPlugin(new DefaultShenyuContextBuilder(
+                Collections.singletonMap(RpcTypeEnum.HTTP.getName(), (shenyuContext, metaData) -> shenyuContext)));
+        webHandler = new ShenyuWebHandler(Arrays.asList(globalPlugin, new RewritePlugin(), new ResponsePlugin()), null, new ShenyuConfig());
+        path = "/service" + (selectorCount - 1) + "/order/findById";
+    }
+
+    /**
+     * Clean the caches and close the context.
+     */
+    @TearDown
+    public void tearDown() {
+        BenchmarkFixtures.clean();
+        context.close();
+    }
+
+    /**
+     * Handle a new exchange through the plugin chain.
+     *
+     * @return the exchange
+     */
+    @Benchmark
+    public ServerWebExchange handle() {
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(path).build());
+        webHandler.handle(exchange).block();
+        return exchange;
+    }
+
+    private static final class ResponsePlugin implements ShenyuPlugin {
+
+        @Override
+        public Mono<Void> execute(final ServerWebExchange exchange, final ShenyuPluginChain chain) {
+            return exchange.getResponse().setComplete();
+        }
+
+        @Override
+        public int getOrder() {
+            return PluginEnum.RESPONSE.getCode();
+        }
+
+        @Override
+        public String named() {
+            return PluginEnum.RESPONSE.getName();
+        }
+    }
+}
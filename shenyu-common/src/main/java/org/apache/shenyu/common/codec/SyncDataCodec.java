@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.common.codec;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * The codec of the sync data frames sent from the admin to the gateway.
+ * The payload is always the json of the sync data, a codec only changes how it is framed on the wire.
+ */
+public interface SyncDataCodec {
+
+    /**
+     * Gets the name the codec is negotiated by.
+     *
+     * @return the name
+     */
+    String getName();
+
+    /**
+     * Encode the json payload.
+     *
+     * @param json the json
+     * @return the encoded bytes
+     * @throws IOException the io exception
+     */
+    byte[] encode(String json) throws IOException;
+
+    /**
+     * Decode the encoded payload as a stream, so that the json can be parsed without materializing it.
+     *
+     * @param in the encoded payload
+     * @return the json stream
+     * @throws IOException the io exception
+     */
+    InputStream decode(InputStream in) throws IOException;
+}
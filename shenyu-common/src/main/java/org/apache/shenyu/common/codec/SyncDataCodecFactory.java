@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.common.codec;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.exception.ShenyuException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The registry of the sync data codecs.
+ * A binary frame starts with the length and the name of its codec, so that it can always be decoded by the receiver.
+ */
+public final class SyncDataCodecFactory {
+
+    private static final SyncDataCodec JSON = new JsonSyncDataCodec();
+
+    private static final Map<String, SyncDataCodec> CODECS = new ConcurrentHashMap<>();
+
+    static {
+        register(JSON);
+        register(new GzipSyncDataCodec());
+    }
+
+    private SyncDataCodecFactory() {
+    }
+
+    /**
+     * Register a codec.
+     *
+     * @param codec the codec
+     */
+    public static void register(final SyncDataCodec codec) {
+        CODECS.put(codec.getName(), codec);
+    }
+
+    /**
+     * Gets the codec by name.
+     *
+     * @param name the name
+     * @return the codec, or null when it is not registered
+     */
+    public static SyncDataCodec getCodec(final String name) {
+        return StringUtils.isBlank(name) ? null : CODECS.get(name.trim());
+    }
+
+    /**
+     * Negotiate the codec of a connection, the first offered codec that is registered wins.
+     *
+     * @param offered the codec names offered by the peer, separated by comma
+     * @return the codec, json when none of the offered is registered
+     */
+    public static SyncDataCodec negotiate(final String offered) {
+        for (String name : StringUtils.split(StringUtils.defaultString(offered), ',')) {
+            SyncDataCodec codec = getCodec(name);
+            if (Objects.nonNull(codec)) {
+                return codec;
+            }
+        }
+        return JSON;
+    }
+
+    /**
+     * Whether the codec is the plain json one, which is sent as text frames.
+     *
+     * @param codec the codec
+     * @return true when it is json
+     */
+    public static boolean isJson(final SyncDataCodec codec) {
+        return Objects.isNull(codec) || JsonSyncDataCodec.NAME.equals(codec.getName());
+    }
+
+    /**
+     * Encode the json into a binary frame.
+     *
+     * @param codec the codec
+     * @param json the json
+     * @return the frame
+     */
+    public static ByteBuffer encodeFrame(final SyncDataCodec codec, final String json) {
+        byte[] name = codec.getName().getBytes(StandardCharsets.US_ASCII);
+        try {
+            byte[] payload = codec.encode(json);
+            ByteBuffer frame = ByteBuffer.allocate(1 + name.length + payload.length);
+            frame.put((byte) name.length).put(name).put(payload).flip();
+            return frame;
+        } catch (IOException e) {
+            throw new ShenyuException(e);
+        }
+    }
+
+    /**
+     * Decode a binary frame into a json reader.
+     *
+     * @param frame the frame
+     * @return the json reader
+     */
+    public static Reader decodeFrame(final ByteBuffer frame) {
+        ByteBuffer buffer = frame.duplicate();
+        byte[] name = new byte[buffer.get() & 0xFF];
+        buffer.get(name);
+        SyncDataCodec codec = CODECS.get(new String(name, StandardCharsets.US_ASCII));
+        if (Objects.isNull(codec)) {
+            throw new ShenyuException("unknown sync data codec: " + new String(name, StandardCharsets.US_ASCII));
+        }
+        byte[] payload;
+        int offset;
+        if (buffer.hasArray()) {
+            payload = buffer.array();
+            offset = buffer.arrayOffset() + buffer.position();
+        } else {
+            payload = new byte[buffer.remaining()];
+            buffer.duplicate().get(payload);
+            offset = 0;
+        }
+        try {
+            return new InputStreamReader(codec.decode(new ByteArrayInputStream(payload, offset, buffer.remaining())), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new ShenyuException(e);
+        }
+    }
+}
@@ -50,6 +50,10 @@ public class ShenyuConfig {
     private Scheduler scheduler = new Scheduler();
     
     private UpstreamCheck upstreamCheck = new UpstreamCheck();
+    
+    private OutlierDetection outlierDetection = new OutlierDetection();
+    
+    private SyncSnapshot syncSnapshot = new SyncSnapshot();
 
     private CrossFilterConfig cross = new CrossFilterConfig();
 
@@ -307,6 +311,42 @@ public class ShenyuConfig {
         this.upstreamCheck = upstreamCheck;
     }
     
+    /**
+     * Gets outlier detection.
+     *
+     * @return the outlier detection
+     */
+    public OutlierDetection getOutlierDetection() {
+        return outlierDetection;
+    }
+    
+    /**
+     * Sets outlier detection.
+     *
+     * @param outlierDetection the outlier detection
+     */
+    public void setOutlierDetection(final OutlierDetection outlierDetection) {
+        this.outlierDetection = outlierDetection;
+    }
+    
+    /**
+     * Gets sync snapshot.
+     *
+     * @return the sync snapshot
+     */
+    public SyncSnapshot getSyncSnapshot() {
+        return syncSnapshot;
+    }
+    
+    /**
+     * Sets sync snapshot.
+     *
+     * @param syncSnapshot the sync snapshot
+     */
+    public void setSyncSnapshot(final SyncSnapshot syncSnapshot) {
+        this.syncSnapshot = syncSnapshot;
+    }
+    
     /**
      * Gets cross.
      *
@@ -1000,6 +1040,10 @@ public class ShenyuConfig {
         private boolean printEnabled;
         
         private Integer printInterval = 60000;
+
+        private Integer maxConcurrency = 1024;
+
+        private String checkPath;
     
         /**
          * Gets enabled.
@@ -1144,6 +1188,276 @@ public class ShenyuConfig {
         public void setPrintInterval(final Integer printInterval) {
             this.printInterval = printInterval;
         }
+
+        /**
+         * Gets max concurrency.
+         *
+         * @return the max probes in flight
+         */
+        public Integer getMaxConcurrency() {
+            return maxConcurrency;
+        }
+
+        /**
+         * Sets max concurrency.
+         *
+         * @param maxConcurrency the max probes in flight
+         */
+        public void setMaxConcurrency(final Integer maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+        }
+
+        /**
+         * Gets check path.
+         *
+         * @return the http check path, the upstream is probed with a tcp connect when it is blank
+         */
+        public String getCheckPath() {
+            return checkPath;
+        }
+
+        /**
+         * Sets check path.
+         *
+         * @param checkPath the http check path
+         */
+        public void setCheckPath(final String checkPath) {
+            this.checkPath = checkPath;
+        }
+    }
+    
+    /**
+     * The passive outlier detection of the upstream, fed by the results of the real traffic.
+     */
+    public static class OutlierDetection {
+    
+        private boolean enabled;
+
+        private Integer consecutiveErrors = 5;
+
+        private Integer errorRateThreshold = 50;
+
+        private Integer errorRateMinRequests = 20;
+
+        private Integer interval = 10000;
+
+        private Integer baseEjectionTime = 30000;
+
+        private Integer maxEjectionTime = 300000;
+
+        private Integer maxEjectionPercent = 50;
+    
+        /**
+         * Gets enabled.
+         *
+         * @return the enabled
+         */
+        public boolean getEnabled() {
+            return enabled;
+        }
+    
+        /**
+         * Sets enabled.
+         *
+         * @param enabled the enabled
+         */
+        public void setEnabled(final boolean enabled) {
+            this.enabled = enabled;
+        }
+    
+        /**
+         * Gets consecutive errors.
+         *
+         * @return the consecutive errors
+         */
+        public Integer getConsecutiveErrors() {
+            return consecutiveErrors;
+        }
+    
+        /**
+         * Sets consecutive errors.
+         *
+         * @param consecutiveErrors the consecutive errors
+         */
+        public void setConsecutiveErrors(final Integer consecutiveErrors) {
+            this.consecutiveErrors = consecutiveErrors;
+        }
+    
+        /**
+         * Gets error rate threshold in percent.
+         *
+         * @return the error rate threshold in percent
+         */
+        public Integer getErrorRateThreshold() {
+            return errorRateThreshold;
+        }
+    
+        /**
+         * Sets error rate threshold in percent.
+         *
+         * @param errorRateThreshold the error rate threshold in percent
+         */
+        public void setErrorRateThreshold(final Integer errorRateThreshold) {
+            this.errorRateThreshold = errorRateThreshold;
+        }
+    
+        /**
+         * Gets error rate min requests.
+         *
+         * @return the error rate min requests
+         */
+        public Integer getErrorRateMinRequests() {
+            return errorRateMinRequests;
+        }
+    
+        /**
+         * Sets error rate min requests.
+         *
+         * @param errorRateMinRequests the error rate min requests
+         */
+        public void setErrorRateMinRequests(final Integer errorRateMinRequests) {
+            this.errorRateMinRequests = errorRateMinRequests;
+        }
+    
+        /**
+         * Gets interval.
+         *
+         * @return the interval
+         */
+        public Integer getInterval() {
+            return interval;
+        }
+    
+        /**
+         * Sets interval.
+         *
+         * @param interval the interval
+         */
+        public void setInterval(final Integer interval) {
+            this.interval = interval;
+        }
+    
+        /**
+         * Gets base ejection time.
+         *
+         * @return the base ejection time
+         */
+        public Integer getBaseEjectionTime() {
+            return baseEjectionTime;
+        }
+    
+        /**
+         * Sets base ejection time.
+         *
+         * @param baseEjectionTime the base ejection time
+         */
+        public void setBaseEjectionTime(final Integer baseEjectionTime) {
+            this.baseEjectionTime = baseEjectionTime;
+        }
+    
+        /**
+         * Gets max ejection time.
+         *
+         * @return the max ejection time
+         */
+        public Integer getMaxEjectionTime() {
+            return maxEjectionTime;
+        }
+    
+        /**
+         * Sets max ejection time.
+         *
+         * @param maxEjectionTime the max ejection time
+         */
+        public void setMaxEjectionTime(final Integer maxEjectionTime) {
+            this.maxEjectionTime = maxEjectionTime;
+        }
+    
+        /**
+         * Gets max ejection percent.
+         *
+         * @return the max ejection percent
+         */
+        public Integer getMaxEjectionPercent() {
+            return maxEjectionPercent;
+        }
+    
+        /**
+         * Sets max ejection percent.
+         *
+         * @param maxEjectionPercent the max ejection percent
+         */
+        public void setMaxEjectionPercent(final Integer maxEjectionPercent) {
+            this.maxEjectionPercent = maxEjectionPercent;
+        }
+    }
+    
+    /**
+     * The local disk snapshot of the sync data, the gateway serves from it on startup before the sync with admin completes.
+     * The snapshot holds the app secrets of the auth data in plain text, the file is created readable by its owner only
+     * where the file system supports posix permissions, keep it in a directory only the gateway user can access otherwise.
+     */
+    public static class SyncSnapshot {
+    
+        private boolean enabled;
+    
+        private String path = "snapshot/shenyu-sync-data.snapshot";
+    
+        private Integer flushInterval = 30000;
+    
+        /**
+         * Gets enabled.
+         *
+         * @return the enabled
+         */
+        public boolean getEnabled() {
+            return enabled;
+        }
+    
+        /**
+         * Sets enabled.
+         *
+         * @param enabled the enabled
+         */
+        public void setEnabled(final boolean enabled) {
+            this.enabled = enabled;
+        }
+    
+        /**
+         * Gets path of the snapshot file.
+         *
+         * @return the path of the snapshot file
+         */
+        public String getPath() {
+            return path;
+        }
+    
+        /**
+         * Sets path of the snapshot file.
+         *
+         * @param path the path of the snapshot file
+         */
+        public void setPath(final String path) {
+            this.path = path;
+        }
+    
+        /**
+         * Gets flush interval in millis.
+         *
+         * @return the flush interval in millis
+         */
+        public Integer getFlushInterval() {
+            return flushInterval;
+        }
+    
+        /**
+         * Sets flush interval in millis.
+         *
+         * @param flushInterval the flush interval in millis
+         */
+        public void setFlushInterval(final Integer flushInterval) {
+            this.flushInterval = flushInterval;
+        }
     }
     
     /**
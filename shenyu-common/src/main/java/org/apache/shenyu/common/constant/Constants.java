@@ -117,6 +117,26 @@ public interface Constants {
      */
     String HTTP_RETRY = "httpRetry";
     
+    /**
+     * The constant HTTP_RETRY_BODY_MAX_SIZE.
+     */
+    String HTTP_RETRY_BODY_MAX_SIZE = "httpRetryBodyMaxSize";
+    
+    /**
+     * The constant HTTP_HEDGE_DELAY.
+     */
+    String HTTP_HEDGE_DELAY = "httpHedgeDelay";
+    
+    /**
+     * The constant HTTP_HEDGE_PERCENTILE.
+     */
+    String HTTP_HEDGE_PERCENTILE = "httpHedgePercentile";
+    
+    /**
+     * The constant HTTP_HEDGE_CLAIMED, marks that one of the hedged requests has written the response.
+     */
+    String HTTP_HEDGE_CLAIMED = "httpHedgeClaimed";
+    
     /**
      * The constant RETRY_STRATEGY.
      */
@@ -378,6 +398,36 @@ public interface Constants {
      */
     int PERMITTED_NUMBER_OF_CALLS_IN_HALF_OPEN_STATE = 10;
     
+    /**
+     * concurrency limiter algorithm.
+     */
+    String CONCURRENCY_LIMIT_ALGORITHM = "gradient2";
+    
+    /**
+     * concurrency limiter initialLimit.
+     */
+    int CONCURRENCY_INITIAL_LIMIT = 20;
+    
+    /**
+     * concurrency limiter minLimit.
+     */
+    int CONCURRENCY_MIN_LIMIT = 1;
+    
+    /**
+     * concurrency limiter maxLimit.
+     */
+    int CONCURRENCY_MAX_LIMIT = 1000;
+    
+    /**
+     * concurrency limiter backoffRatio.
+     */
+    double CONCURRENCY_BACKOFF_RATIO = 0.9;
+    
+    /**
+     * concurrency limiter tolerance.
+     */
+    double CONCURRENCY_TOLERANCE = 1.5;
+    
     /**
      * circuitBreaker failureRateThreshold.
      */
@@ -498,6 +548,16 @@ public interface Constants {
      */
     String ZOMBIE_CHECK_THREADS_VALUE = "10";
     
+    /**
+     * zombie check concurrency, the max probes in flight.
+     */
+    String ZOMBIE_CHECK_CONCURRENCY = "zombieCheckConcurrency";
+    
+    /**
+     * default zombie check concurrency value.
+     */
+    String ZOMBIE_CHECK_CONCURRENCY_VALUE = "256";
+    
     /**
      * zombie check times.
      */
@@ -851,6 +911,11 @@ public interface Constants {
      */
     String SHENYU_NAMESPACE_ID = "namespaceId";
     
+    /**
+     * The constant of the header the gateway offers its sync data codecs by.
+     */
+    String SHENYU_SYNC_CODEC = "shenyuSyncCodec";
+    
     /**
      * The constant SYS_DEFAULT_NAMESPACE_ID.
      */
@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.common.dto.convert.rule;
+
+import org.apache.shenyu.common.constant.Constants;
+
+import java.util.Objects;
+
+/**
+ * this is concurrencyLimiter plugin handle.
+ */
+public class ConcurrencyLimiterHandle {
+
+    /**
+     * limit algorithm, aimd, vegas or gradient2.
+     */
+    private String algorithm = Constants.CONCURRENCY_LIMIT_ALGORITHM;
+
+    /**
+     * initial concurrency limit.
+     */
+    private int initialLimit = Constants.CONCURRENCY_INITIAL_LIMIT;
+
+    /**
+     * min concurrency limit.
+     */
+    private int minLimit = Constants.CONCURRENCY_MIN_LIMIT;
+
+    /**
+     * max concurrency limit.
+     */
+    private int maxLimit = Constants.CONCURRENCY_MAX_LIMIT;
+
+    /**
+     * the ratio the aimd limit is multiplied by on a dropped request.
+     */
+    private double backoffRatio = Constants.CONCURRENCY_BACKOFF_RATIO;
+
+    /**
+     * the rtt increase the gradient2 limit tolerates before it shrinks.
+     */
+    private double tolerance = Constants.CONCURRENCY_TOLERANCE;
+
+    /**
+     * New default instance concurrency limiter handle.
+     *
+     * @return the concurrency limiter handle
+     */
+    public static ConcurrencyLimiterHandle newDefaultInstance() {
+        return new ConcurrencyLimiterHandle();
+    }
+
+    /**
+     * get algorithm.
+     *
+     * @return algorithm
+     */
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * set algorithm.
+     *
+     * @param algorithm algorithm
+     */
+    public void setAlgorithm(final String algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    /**
+     * get initialLimit.
+     *
+     * @return initialLimit
+     */
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    /**
+     * set initialLimit.
+     *
+     * @param initialLimit initialLimit
+     */
+    public void setInitialLimit(final int initialLimit) {
+        this.initialLimit = initialLimit;
+    }
+
+    /**
+     * get minLimit.
+     *
+     * @return minLimit
+     */
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    /**
+     * set minLimit.
+     *
+     * @param minLimit minLimit
+     */
+    public void setMinLimit(final int minLimit) {
+        this.minLimit = minLimit;
+    }
+
+    /**
+     * get maxLimit.
+     *
+     * @return maxLimit
+     */
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    /**
+     * set maxLimit.
+     *
+     * @param maxLimit maxLimit
+     */
+    public void setMaxLimit(final int maxLimit) {
+        this.maxLimit = maxLimit;
+    }
+
+    /**
+     * get backoffRatio.
+     *
+     * @return backoffRatio
+     */
+    public double getBackoffRatio() {
+        return backoffRatio;
+    }
+
+    /**
+     * set backoffRatio.
+     *
+     * @param backoffRatio backoffRatio
+     */
+    public void setBackoffRatio(final double backoffRatio) {
+        this.backoffRatio = backoffRatio;
+    }
+
+    /**
+     * get tolerance.
+     *
+     * @return tolerance
+     */
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    /**
+     * set tolerance.
+     *
+     * @param tolerance tolerance
+     */
+    public void setTolerance(final double tolerance) {
+        this.tolerance = tolerance;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ConcurrencyLimiterHandle that = (ConcurrencyLimiterHandle) o;
+        return initialLimit == that.initialLimit && minLimit == that.minLimit && maxLimit == that.maxLimit
+                && Double.compare(that.backoffRatio, backoffRatio) == 0 && Double.compare(that.tolerance, tolerance) == 0
+                && Objects.equals(algorithm, that.algorithm);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(algorithm, initialLimit, minLimit, maxLimit, backoffRatio, tolerance);
+    }
+
+    @Override
+    public String toString() {
+        return "ConcurrencyLimiterHandle{"
+                + "algorithm='"
+                + algorithm
+                + '\''
+                + ", initialLimit="
+                + initialLimit
+                + ", minLimit="
+                + minLimit
+                + ", maxLimit="
+                + maxLimit
+                + ", backoffRatio="
+                + backoffRatio
+                + ", tolerance="
+                + tolerance
+                + '}';
+    }
+}
@@ -60,6 +60,21 @@ public class DivideRuleHandle implements RuleHandle {
      * requestMaxSize.
      */
     private long requestMaxSize;
+
+    /**
+     * the max request body size in bytes buffered for replaying on retry, 0 means disabled.
+     */
+    private long retryBodyMaxSize;
+
+    /**
+     * the delay in millis before a hedged request is sent for idempotent requests, 0 means disabled.
+     */
+    private long hedgeDelay;
+
+    /**
+     * the observed latency percentile used as hedge delay, 0 means use the fixed hedgeDelay.
+     */
+    private int hedgePercentile;
     
     /**
      * New instance divide rule handle.
@@ -177,6 +192,60 @@ public class DivideRuleHandle implements RuleHandle {
     public void setRequestMaxSize(final long requestMaxSize) {
         this.requestMaxSize = requestMaxSize;
     }
+    
+    /**
+     * get retryBodyMaxSize.
+     *
+     * @return retryBodyMaxSize retry body max size
+     */
+    public long getRetryBodyMaxSize() {
+        return retryBodyMaxSize;
+    }
+    
+    /**
+     * set retryBodyMaxSize.
+     *
+     * @param retryBodyMaxSize retryBodyMaxSize
+     */
+    public void setRetryBodyMaxSize(final long retryBodyMaxSize) {
+        this.retryBodyMaxSize = retryBodyMaxSize;
+    }
+    
+    /**
+     * get hedgeDelay.
+     *
+     * @return hedgeDelay hedge delay
+     */
+    public long getHedgeDelay() {
+        return hedgeDelay;
+    }
+    
+    /**
+     * set hedgeDelay.
+     *
+     * @param hedgeDelay hedgeDelay
+     */
+    public void setHedgeDelay(final long hedgeDelay) {
+        this.hedgeDelay = hedgeDelay;
+    }
+    
+    /**
+     * get hedgePercentile.
+     *
+     * @return hedgePercentile hedge percentile
+     */
+    public int getHedgePercentile() {
+        return hedgePercentile;
+    }
+    
+    /**
+     * set hedgePercentile.
+     *
+     * @param hedgePercentile hedgePercentile
+     */
+    public void setHedgePercentile(final int hedgePercentile) {
+        this.hedgePercentile = hedgePercentile;
+    }
 
     @Override
     public boolean equals(final Object o) {
@@ -188,13 +257,14 @@ public class DivideRuleHandle implements RuleHandle {
         }
         DivideRuleHandle that = (DivideRuleHandle) o;
         return retry == that.retry && timeout == that.timeout && headerMaxSize == that.headerMaxSize
-                && requestMaxSize == that.requestMaxSize && Objects.equals(loadBalance, that.loadBalance)
+                && requestMaxSize == that.requestMaxSize && retryBodyMaxSize == that.retryBodyMaxSize
+                && hedgeDelay == that.hedgeDelay && hedgePercentile == that.hedgePercentile && Objects.equals(loadBalance, that.loadBalance)
                 && Objects.equals(retryStrategy, that.retryStrategy);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(loadBalance, retryStrategy, retry, timeout, headerMaxSize, requestMaxSize);
+        return Objects.hash(loadBalance, retryStrategy, retry, timeout, headerMaxSize, requestMaxSize, retryBodyMaxSize, hedgeDelay, hedgePercentile);
     }
 
     @Override
@@ -214,6 +284,12 @@ public class DivideRuleHandle implements RuleHandle {
                 + headerMaxSize
                 + ", requestMaxSize="
                 + requestMaxSize
+                + ", retryBodyMaxSize="
+                + retryBodyMaxSize
+                + ", hedgeDelay="
+                + hedgeDelay
+                + ", hedgePercentile="
+                + hedgePercentile
                 + '}';
     }
 }
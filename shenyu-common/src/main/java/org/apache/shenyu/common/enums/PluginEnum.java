@@ -132,6 +132,11 @@ public enum PluginEnum {
      */
     SENTINEL(140, 0, "sentinel"),
     
+    /**
+     * Concurrency limiter plugin enum.
+     */
+    CONCURRENCY_LIMITER(145, 0, "concurrencyLimiter"),
+    
     /**
      * Resilence4J plugin enum.
      */
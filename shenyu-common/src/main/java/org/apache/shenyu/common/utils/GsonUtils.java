@@ -168,6 +168,18 @@ public class GsonUtils {
         return GSON.fromJson(json, TypeToken.getParameterized(List.class, clazz).getType());
     }
     
+    /**
+     * From a parsed json array, the same as {@link #fromList(String, Class)} without serializing it again.
+     *
+     * @param <T> the type parameter
+     * @param json the json array
+     * @param clazz the clazz
+     * @return the list
+     */
+    public <T> List<T> fromJsonArray(final JsonArray json, final Class<T> clazz) {
+        return GSON.fromJson(json, TypeToken.getParameterized(List.class, clazz).getType());
+    }
+    
     /**
      * From current list.
      *
@@ -284,7 +296,22 @@ public class GsonUtils {
     public Map<String, Object> convertToMap(final String json) {
         Map<String, Object> map = GSON_MAP.fromJson(json, new TypeToken<Map<String, Object>>() {
         }.getType());
-        
+        return convertNestedValues(map);
+    }
+    
+    /**
+     * Convert a parsed json object to map, the same as {@link #convertToMap(String)} without serializing it again.
+     *
+     * @param json the json object
+     * @return the map
+     */
+    public Map<String, Object> convertJsonObjectToMap(final JsonObject json) {
+        Map<String, Object> map = GSON_MAP.fromJson(json, new TypeToken<Map<String, Object>>() {
+        }.getType());
+        return convertNestedValues(map);
+    }
+    
+    private Map<String, Object> convertNestedValues(final Map<String, Object> map) {
         if (MapUtils.isEmpty(map)) {
             return map;
         }
@@ -299,7 +326,7 @@ public class GsonUtils {
                     map.put(key, mv);
                 }
             } else if (value instanceof JsonObject) {
-                map.put(key, convertToMap(value.toString()));
+                map.put(key, convertJsonObjectToMap((JsonObject) value));
             } else if (value instanceof JsonArray) {
                 JsonArray jsonArray = (JsonArray) value;
                 map.put(key, jsonArrayToListInConvertToMap(jsonArray));
@@ -324,13 +351,11 @@ public class GsonUtils {
                 list.add(null);
                 continue;
             }
-            String objStr;
             if (jsonElement instanceof JsonObject) {
-                JsonObject asJsonObject = jsonElement.getAsJsonObject();
-                objStr = toJson(asJsonObject);
-            } else {
-                objStr = jsonElement.getAsString();
+                list.add(convertJsonObjectToMap(jsonElement.getAsJsonObject()));
+                continue;
             }
+            String objStr = jsonElement.getAsString();
             if (objStr.startsWith(LEFT_ANGLE_BRACKETS) && objStr.endsWith(RIGHT_ANGLE_BRACKETS)) {
                 list.add(convertToMap(jsonElement.toString()));
             } else {
@@ -17,14 +17,28 @@
 
 package org.apache.shenyu.common.utils;
 
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.binary.StringUtils;
 import org.apache.commons.codec.digest.HmacAlgorithms;
 import org.apache.commons.codec.digest.HmacUtils;
 
+import javax.crypto.Mac;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * HmacUtils.
  */
 public class HmacHexUtils {
 
+    private static final int MAX_CACHED_KEYS = 256;
+
+    /**
+     * the initialized macs of each thread, by algorithm and key, a mac resets itself after doFinal.
+     */
+    private static final ThreadLocal<Map<HmacAlgorithms, Map<String, Mac>>> MACS = ThreadLocal.withInitial(() -> new EnumMap<>(HmacAlgorithms.class));
+
     /**
      * Returns a HmacMd5 Message Authentication Code (MAC) as hex string (lowercase).
      *
@@ -60,7 +74,13 @@ public class HmacHexUtils {
     }
 
     private static String getHmacHex(final HmacAlgorithms algorithm, final String key, final String valueToDigest) {
-        return new HmacUtils(algorithm, key).hmacHex(valueToDigest);
+        Mac mac = MACS.get().computeIfAbsent(algorithm, k -> new LinkedHashMap<String, Mac>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Mac> eldest) {
+                return size() > MAX_CACHED_KEYS;
+            }
+        }).computeIfAbsent(key, k -> HmacUtils.getInitializedMac(algorithm, StringUtils.getBytesUtf8(k)));
+        return Hex.encodeHexString(mac.doFinal(StringUtils.getBytesUtf8(valueToDigest)));
     }
 
 }
@@ -0,0 +1,291 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.common.utils;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.HttpClientCodec;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpObject;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
+import io.netty.util.concurrent.ScheduledFuture;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.concurrent.ShenyuThreadFactory;
+import org.apache.shenyu.common.constant.Constants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.net.ssl.SSLException;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Non-blocking upstream prober, all the probes run on a single netty event loop instead of a thread each.
+ * A probe is a tcp connect, or a http GET of the check path when one is given, which passes on a 2xx or 3xx status.
+ * At most max concurrency probes are in flight, the others wait in a queue.
+ * The returned futures are completed on the event loop, so the callbacks should be short.
+ */
+public final class UpstreamProber {
+
+    private static final Logger LOG = LoggerFactory.getLogger(UpstreamProber.class);
+
+    private static final String HTTPS = "https://";
+
+    private static final String SCHEME_SEPARATOR = "://";
+
+    private static volatile SslContext sslContext;
+
+    private final EventLoopGroup group;
+
+    private final Bootstrap bootstrap;
+
+    private final int maxConcurrency;
+
+    /**
+     * the queue and the counter are only accessed on the event loop.
+     */
+    private final Queue<Probe> pending = new ArrayDeque<>();
+
+    private int inflight;
+
+    /**
+     * Instantiates a new Upstream prober.
+     *
+     * @param name           the name of the event loop thread
+     * @param maxConcurrency the max probes in flight
+     */
+    public UpstreamProber(final String name, final int maxConcurrency) {
+        this.maxConcurrency = Math.max(maxConcurrency, 1);
+        this.group = new NioEventLoopGroup(1, ShenyuThreadFactory.create(name, true));
+        this.bootstrap = new Bootstrap().group(group)
+                .channel(NioSocketChannel.class)
+                .option(ChannelOption.TCP_NODELAY, true)
+                .handler(new ChannelInitializer<Channel>() {
+                    @Override
+                    protected void initChannel(final Channel channel) {
+                        // the http handlers are added after the connect when the probe needs them
+                    }
+                });
+    }
+
+    /**
+     * Probe the upstream with a tcp connect.
+     *
+     * @param url     the upstream url
+     * @param timeout the timeout in millis
+     * @return whether the upstream is reachable
+     */
+    public CompletableFuture<Boolean> probe(final String url, final int timeout) {
+        return probe(url, null, timeout, 0);
+    }
+
+    /**
+     * Probe the upstream after a delay, with a http GET of the check path, or a tcp connect when the path is blank.
+     *
+     * @param url       the upstream url
+     * @param checkPath the check path
+     * @param timeout   the timeout in millis
+     * @param delay     the delay in millis before the probe starts
+     * @return whether the upstream is healthy
+     */
+    public CompletableFuture<Boolean> probe(final String url, final String checkPath, final int timeout, final long delay) {
+        CompletableFuture<Boolean> result = new CompletableFuture<>();
+        if (StringUtils.isBlank(url)) {
+            result.complete(false);
+            return result;
+        }
+        final Probe probe;
+        try {
+            probe = new Probe(url, checkPath, timeout, result);
+        } catch (IllegalArgumentException e) {
+            LOG.error("the upstream url {} is illegal", url, e);
+            result.complete(false);
+            return result;
+        }
+        if (delay > 0) {
+            group.schedule(() -> submit(probe), delay, TimeUnit.MILLISECONDS);
+        } else {
+            group.execute(() -> submit(probe));
+        }
+        return result;
+    }
+
+    /**
+     * Close the prober.
+     */
+    public void close() {
+        group.shutdownGracefully();
+    }
+
+    private void submit(final Probe probe) {
+        if (inflight >= maxConcurrency) {
+            pending.add(probe);
+            return;
+        }
+        inflight++;
+        start(probe);
+    }
+
+    private void start(final Probe probe) {
+        ChannelFuture connectFuture = bootstrap.connect(probe.host, probe.port);
+        Channel channel = connectFuture.channel();
+        probe.deadline = group.schedule(() -> finish(probe, channel, false), probe.timeout, TimeUnit.MILLISECONDS);
+        connectFuture.addListener(future -> {
+            if (!future.isSuccess()) {
+                LOG.debug("probe connect failed. host:{} port:{}", probe.host, probe.port, future.cause());
+                finish(probe, channel, false);
+            } else if (Objects.isNull(probe.path)) {
+                finish(probe, channel, true);
+            } else {
+                request(probe, channel);
+            }
+        });
+    }
+
+    private void request(final Probe probe, final Channel channel) {
+        ChannelPipeline pipeline = channel.pipeline();
+        if (probe.ssl) {
+            pipeline.addLast(getSslContext().newHandler(channel.alloc(), probe.host, probe.port));
+        }
+        pipeline.addLast(new HttpClientCodec(), new SimpleChannelInboundHandler<HttpObject>() {
+            @Override
+            protected void channelRead0(final ChannelHandlerContext ctx, final HttpObject msg) {
+                if (msg instanceof HttpResponse) {
+                    int status = ((HttpResponse) msg).status().code();
+                    finish(probe, ctx.channel(), status >= 200 && status < 400);
+                }
+            }
+
+            @Override
+            public void channelInactive(final ChannelHandlerContext ctx) {
+                finish(probe, ctx.channel(), false);
+            }
+
+            @Override
+            public void exceptionCaught(final ChannelHandlerContext ctx, final Throwable cause) {
+                LOG.debug("probe request failed. host:{} port:{}", probe.host, probe.port, cause);
+                finish(probe, ctx.channel(), false);
+            }
+        });
+        DefaultFullHttpRequest httpRequest = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, probe.path);
+        httpRequest.headers().set(HttpHeaderNames.HOST, probe.host + Constants.COLONS + probe.port)
+                .set(HttpHeaderNames.CONNECTION, HttpHeaderValues.CLOSE);
+        channel.writeAndFlush(httpRequest).addListener(future -> {
+            if (!future.isSuccess()) {
+                finish(probe, channel, false);
+            }
+        });
+    }
+
+    private void finish(final Probe probe, final Channel channel, final boolean healthy) {
+        if (probe.finished) {
+            return;
+        }
+        probe.finished = true;
+        if (Objects.nonNull(probe.deadline)) {
+            probe.deadline.cancel(false);
+        }
+        // a channel failed to register is closed already
+        if (channel.isRegistered()) {
+            channel.close();
+        }
+        Probe next = pending.poll();
+        if (Objects.nonNull(next)) {
+            // not started inline, a long queue of fast failures must not grow the stack
+            group.execute(() -> start(next));
+        } else {
+            inflight--;
+        }
+        probe.result.complete(healthy);
+    }
+
+    private static SslContext getSslContext() {
+        if (Objects.isNull(sslContext)) {
+            synchronized (UpstreamProber.class) {
+                if (Objects.isNull(sslContext)) {
+                    try {
+                        // the probe only cares whether the upstream answers, not who it is
+                        sslContext = SslContextBuilder.forClient().trustManager(InsecureTrustManagerFactory.INSTANCE).build();
+                    } catch (SSLException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            }
+        }
+        return sslContext;
+    }
+
+    private static final class Probe {
+
+        private final String host;
+
+        private final int port;
+
+        private final boolean ssl;
+
+        private final String path;
+
+        private final int timeout;
+
+        private final CompletableFuture<Boolean> result;
+
+        private ScheduledFuture<?> deadline;
+
+        private boolean finished;
+
+        Probe(final String url, final String checkPath, final int timeout, final CompletableFuture<Boolean> result) {
+            this.ssl = url.startsWith(HTTPS);
+            int start = url.indexOf(SCHEME_SEPARATOR);
+            String authority = start < 0 ? url : url.substring(start + SCHEME_SEPARATOR.length());
+            authority = StringUtils.substringBefore(authority, "/");
+            int colon = authority.lastIndexOf(Constants.COLONS);
+            if (colon < 0) {
+                this.host = authority.trim();
+                this.port = ssl ? 443 : 80;
+            } else {
+                this.host = authority.substring(0, colon).trim();
+                this.port = Integer.parseInt(authority.substring(colon + 1).trim());
+            }
+            if (StringUtils.isBlank(host)) {
+                throw new IllegalArgumentException("the host is blank");
+            }
+            this.path = StringUtils.isBlank(checkPath) ? null : StringUtils.prependIfMissing(checkPath, "/");
+            this.timeout = timeout;
+            this.result = result;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.common.codec;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.exception.ShenyuException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test case for {@link SyncDataCodecFactory}.
+ */
+public final class SyncDataCodecFactoryTest {
+
+    private static final String JSON = "{\"groupType\":\"PLUGIN\",\"eventType\":\"MYSELF\",\"data\":[" + StringUtils.repeat("{\"name\":\"divide\"},", 100) + "{}]}";
+
+    @Test
+    public void testNegotiate() {
+        assertEquals(GzipSyncDataCodec.NAME, SyncDataCodecFactory.negotiate("zstd, gzip,json").getName());
+        assertEquals(JsonSyncDataCodec.NAME, SyncDataCodecFactory.negotiate("zstd").getName());
+        assertEquals(JsonSyncDataCodec.NAME, SyncDataCodecFactory.negotiate(null).getName());
+        assertTrue(SyncDataCodecFactory.isJson(SyncDataCodecFactory.negotiate("")));
+    }
+
+    @Test
+    public void testGzipFrame() throws IOException {
+        ByteBuffer frame = SyncDataCodecFactory.encodeFrame(SyncDataCodecFactory.getCodec(GzipSyncDataCodec.NAME), JSON);
+        assertTrue(frame.remaining() < JSON.length());
+        try (Reader reader = SyncDataCodecFactory.decodeFrame(frame)) {
+            assertEquals(JSON, read(reader));
+        }
+    }
+
+    @Test
+    public void testJsonFrame() throws IOException {
+        ByteBuffer frame = SyncDataCodecFactory.encodeFrame(SyncDataCodecFactory.getCodec(JsonSyncDataCodec.NAME), JSON);
+        ByteBuffer direct = ByteBuffer.allocateDirect(frame.remaining()).put(frame).flip();
+        try (Reader reader = SyncDataCodecFactory.decodeFrame(direct)) {
+            assertEquals(JSON, read(reader));
+        }
+    }
+
+    @Test
+    public void testUnknownCodec() {
+        byte[] name = "zstd".getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer frame = ByteBuffer.allocate(1 + name.length).put((byte) name.length).put(name).flip();
+        assertThrows(ShenyuException.class, () -> SyncDataCodecFactory.decodeFrame(frame));
+    }
+
+    private static String read(final Reader reader) throws IOException {
+        StringBuilder builder = new StringBuilder();
+        char[] buffer = new char[1024];
+        int read;
+        while ((read = reader.read(buffer)) != -1) {
+            builder.append(buffer, 0, read);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.common.dto.convert.rule;
+
+import org.apache.shenyu.common.utils.GsonUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+/**
+ * Test case for ConcurrencyLimiterHandle.
+ */
+public class ConcurrencyLimiterHandleTest {
+    
+    @Test
+    public void testPartialHandle() {
+        ConcurrencyLimiterHandle handle = GsonUtils.getInstance().fromJson("{\"algorithm\":\"aimd\"}", ConcurrencyLimiterHandle.class);
+        ConcurrencyLimiterHandle defaultHandle = ConcurrencyLimiterHandle.newDefaultInstance();
+        
+        assertThat(handle.getAlgorithm(), is("aimd"));
+        assertThat(handle.getInitialLimit(), is(defaultHandle.getInitialLimit()));
+        assertThat(handle.getMinLimit(), is(defaultHandle.getMinLimit()));
+        assertThat(handle.getMaxLimit(), is(defaultHandle.getMaxLimit()));
+        assertThat(handle.getBackoffRatio(), is(defaultHandle.getBackoffRatio()));
+        assertThat(handle.getTolerance(), is(defaultHandle.getTolerance()));
+    }
+    
+    @Test
+    public void testDefaultInstance() {
+        ConcurrencyLimiterHandle handle = ConcurrencyLimiterHandle.newDefaultInstance();
+        
+        assertThat(handle.getAlgorithm(), is("gradient2"));
+        assertThat(handle.getInitialLimit(), is(20));
+        assertThat(handle.getMinLimit(), is(1));
+        assertThat(handle.getMaxLimit(), is(1000));
+        assertThat(handle, is(new ConcurrencyLimiterHandle()));
+    }
+}
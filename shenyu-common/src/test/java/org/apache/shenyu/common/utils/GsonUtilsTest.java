@@ -21,6 +21,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
@@ -271,6 +272,18 @@ public class GsonUtilsTest {
         assertNull(GsonUtils.getInstance().convertToMap(null));
     }
 
+    /**
+     * test method {@link GsonUtils#convertJsonObjectToMap(JsonObject)} and {@link GsonUtils#fromJsonArray(JsonArray, Class)}.
+     */
+    @Test
+    public void testConvertParsedJson() {
+        String testJson = "{\"code\":200,\"data\":{\"id\":123,\"tags\":[{\"name\":\"shenyu\"},\"gateway\"]},\"list\":[1,2,3]}";
+        JsonObject jsonObject = JsonParser.parseString(testJson).getAsJsonObject();
+        assertEquals(GsonUtils.getInstance().convertToMap(testJson), GsonUtils.getInstance().convertJsonObjectToMap(jsonObject));
+        assertEquals(GsonUtils.getInstance().fromList("[1,2,3]", Object.class),
+                GsonUtils.getInstance().fromJsonArray(jsonObject.getAsJsonArray("list"), Object.class));
+    }
+
     @Test
     public void testPairGson() {
         Pair<String, String> testPair = Pair.of("1", "2");
@@ -17,6 +17,8 @@
 
 package org.apache.shenyu.common.utils;
 
+import org.apache.commons.codec.digest.HmacAlgorithms;
+import org.apache.commons.codec.digest.HmacUtils;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -42,4 +44,14 @@ public class HmacHexUtilsTest {
         assertEquals(HmacHexUtils.hmacSha512Hex("testKey", "testValue"),
             "99997ffdee76da2f016fe4ee9256c3361c7dc9f1588be5cabeca9e541f8224db00b10260f4885eaaf29edab66574237058d43f5644b47e0fc13e66b89dbcde68");
     }
+
+    @Test
+    public void testReuseMacForKeys() {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(HmacHexUtils.hmacSha256Hex("testKey", "testValue"),
+                "c52d1ebe5e779f5b337dc8f515bf594bd44a7007cb3f4ab1f6c5a15149bed793");
+            assertEquals(HmacHexUtils.hmacSha256Hex("otherKey", "testValue"),
+                new HmacUtils(HmacAlgorithms.HMAC_SHA_256, "otherKey").hmacHex("testValue"));
+        }
+    }
 }
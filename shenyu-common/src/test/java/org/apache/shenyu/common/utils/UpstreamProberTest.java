@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.common.utils;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test cases for UpstreamProber.
+ */
+public final class UpstreamProberTest {
+
+    private UpstreamProber prober;
+
+    private HttpServer server;
+
+    private int port;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        prober = new UpstreamProber("upstream-prober-test", 4);
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/health", exchange -> {
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.createContext("/down", exchange -> {
+            exchange.sendResponseHeaders(503, -1);
+            exchange.close();
+        });
+        server.start();
+        port = server.getAddress().getPort();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop(0);
+        prober.close();
+    }
+
+    @Test
+    public void testBlank() {
+        assertFalse(prober.probe("", 3000).join());
+        assertFalse(prober.probe("http://:8080", 3000).join());
+    }
+
+    @Test
+    public void testTcpProbe() throws IOException {
+        assertTrue(prober.probe("127.0.0.1:" + port, 3000).join());
+        assertTrue(prober.probe("http://127.0.0.1:" + port, 3000).join());
+        int closedPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            closedPort = socket.getLocalPort();
+        }
+        assertFalse(prober.probe("127.0.0.1:" + closedPort, 3000).join());
+    }
+
+    @Test
+    public void testHttpProbe() {
+        assertTrue(prober.probe("http://127.0.0.1:" + port, "/health", 3000, 0).join());
+        assertTrue(prober.probe("127.0.0.1:" + port, "health", 3000, 10).join());
+        assertFalse(prober.probe("http://127.0.0.1:" + port, "/down", 3000, 0).join());
+    }
+
+    @Test
+    public void testQueuedBeyondMaxConcurrency() {
+        List<CompletableFuture<Boolean>> futures = IntStream.range(0, 20)
+                .mapToObj(i -> prober.probe("http://127.0.0.1:" + port, "/health", 3000, 0))
+                .collect(Collectors.toList());
+        assertTrue(futures.stream().allMatch(CompletableFuture::join));
+    }
+}
@@ -17,18 +17,18 @@
 
 package org.apache.shenyu.disruptor;
 
-import com.lmax.disruptor.BlockingWaitStrategy;
 import com.lmax.disruptor.EventFactory;
 import com.lmax.disruptor.IgnoreExceptionHandler;
 import com.lmax.disruptor.RingBuffer;
 import com.lmax.disruptor.dsl.Disruptor;
 import com.lmax.disruptor.dsl.ProducerType;
-import org.apache.shenyu.disruptor.consumer.QueueConsumer;
+import org.apache.shenyu.disruptor.consumer.QueueBatchConsumer;
 import org.apache.shenyu.disruptor.consumer.QueueConsumerFactory;
 import org.apache.shenyu.disruptor.event.DataEvent;
 import org.apache.shenyu.disruptor.event.DisruptorEventFactory;
 import org.apache.shenyu.disruptor.event.OrderlyDisruptorEventFactory;
 import org.apache.shenyu.disruptor.provider.DisruptorProvider;
+import org.apache.shenyu.disruptor.strategy.WaitStrategyEnum;
 import org.apache.shenyu.disruptor.thread.DisruptorThreadFactory;
 import org.apache.shenyu.disruptor.thread.OrderlyExecutor;
 
@@ -54,6 +54,8 @@ public class DisruptorProviderManage<T> {
     
     private final QueueConsumerFactory<T> consumerFactory;
     
+    private final WaitStrategyEnum waitStrategy;
+    
     private DisruptorProvider<T> provider;
     
     /**
@@ -77,6 +79,16 @@ public class DisruptorProviderManage<T> {
         this(consumerFactory, DEFAULT_CONSUMER_SIZE, DEFAULT_SIZE);
     }
     
+    /**
+     * Instantiates a new Disruptor provider manage.
+     *
+     * @param consumerFactory the consumer factory
+     * @param waitStrategy    the wait strategy of the consumer
+     */
+    public DisruptorProviderManage(final QueueConsumerFactory<T> consumerFactory, final WaitStrategyEnum waitStrategy) {
+        this(consumerFactory, DEFAULT_CONSUMER_SIZE, DEFAULT_SIZE, waitStrategy);
+    }
+    
     /**
      * Instantiates a new Disruptor provider manage.
      *
@@ -87,9 +99,25 @@ public class DisruptorProviderManage<T> {
     public DisruptorProviderManage(final QueueConsumerFactory<T> consumerFactory,
                                    final int consumerSize,
                                    final int ringBufferSize) {
+        this(consumerFactory, consumerSize, ringBufferSize, WaitStrategyEnum.BLOCKING);
+    }
+    
+    /**
+     * Instantiates a new Disruptor provider manage.
+     *
+     * @param consumerFactory the consumer factory
+     * @param consumerSize    the consumer size
+     * @param ringBufferSize  the ringBuffer size
+     * @param waitStrategy    the wait strategy of the consumer
+     */
+    public DisruptorProviderManage(final QueueConsumerFactory<T> consumerFactory,
+                                   final int consumerSize,
+                                   final int ringBufferSize,
+                                   final WaitStrategyEnum waitStrategy) {
         this.consumerFactory = consumerFactory;
         this.size = ringBufferSize;
         this.consumerSize = consumerSize;
+        this.waitStrategy = waitStrategy;
     }
     
     /**
@@ -108,10 +136,8 @@ public class DisruptorProviderManage<T> {
         OrderlyExecutor executor = new OrderlyExecutor(isOrderly, consumerSize, consumerSize, 0, TimeUnit.MILLISECONDS,
                 new LinkedBlockingQueue<>(),
                 DisruptorThreadFactory.create("shenyu_disruptor_consumer_", false), new ThreadPoolExecutor.AbortPolicy());
-        int newConsumerSize = this.consumerSize;
         EventFactory<DataEvent<T>> eventFactory;
         if (isOrderly) {
-            newConsumerSize = 1;
             eventFactory = new OrderlyDisruptorEventFactory<>();
         } else {
             eventFactory = new DisruptorEventFactory<>();
@@ -120,17 +146,13 @@ public class DisruptorProviderManage<T> {
                 size,
                 DisruptorThreadFactory.create("shenyu_disruptor_provider_" + consumerFactory.fixName(), false),
                 ProducerType.MULTI,
-                new BlockingWaitStrategy());
-        @SuppressWarnings("all")
-        QueueConsumer<T>[] consumers = new QueueConsumer[newConsumerSize];
-        for (int i = 0; i < newConsumerSize; i++) {
-            consumers[i] = new QueueConsumer<>(executor, consumerFactory);
-        }
-        disruptor.handleEventsWithWorkerPool(consumers);
+                waitStrategy.create());
+        // a single batch consumer hands each batch to the executor, the executor provides the parallelism
+        disruptor.handleEventsWith(new QueueBatchConsumer<>(executor, consumerFactory));
         disruptor.setDefaultExceptionHandler(new IgnoreExceptionHandler());
         disruptor.start();
         RingBuffer<DataEvent<T>> ringBuffer = disruptor.getRingBuffer();
-        provider = new DisruptorProvider<>(ringBuffer, disruptor, isOrderly);
+        provider = new DisruptorProvider<>(ringBuffer, disruptor, isOrderly, consumerFactory.fixName());
     }
     
     /**
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.disruptor.consumer;
+
+import com.lmax.disruptor.EventHandler;
+import org.apache.shenyu.disruptor.event.DataEvent;
+import org.apache.shenyu.disruptor.event.OrderlyDataEvent;
+import org.apache.shenyu.disruptor.thread.OrderlyExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * The batch aware queue consumer.
+ * It collects the events of one disruptor batch and hands them to the executor in groups when the batch ends,
+ * instead of submitting every event on its own.
+ *
+ * @param <T> the type parameter
+ */
+public class QueueBatchConsumer<T> implements EventHandler<DataEvent<T>> {
+    
+    private static final Logger LOG = LoggerFactory.getLogger(QueueBatchConsumer.class);
+    
+    private final OrderlyExecutor executor;
+    
+    private final QueueConsumerFactory<T> factory;
+    
+    private final Map<ThreadPoolExecutor, List<QueueConsumerExecutor<T>>> pending = new LinkedHashMap<>();
+    
+    /**
+     * Instantiates a new Queue batch consumer.
+     *
+     * @param executor the executor
+     * @param factory  the factory
+     */
+    public QueueBatchConsumer(final OrderlyExecutor executor, final QueueConsumerFactory<T> factory) {
+        this.executor = executor;
+        this.factory = factory;
+    }
+    
+    @Override
+    public void onEvent(final DataEvent<T> t, final long sequence, final boolean endOfBatch) {
+        if (Objects.nonNull(t)) {
+            QueueConsumerExecutor<T> queueConsumerExecutor = factory.create();
+            queueConsumerExecutor.setData(t.getData());
+            // help gc
+            t.setData(null);
+            pending.computeIfAbsent(orderly(t), key -> new ArrayList<>()).add(queueConsumerExecutor);
+        }
+        if (endOfBatch) {
+            flush();
+        }
+    }
+    
+    private void flush() {
+        pending.forEach((target, tasks) -> {
+            if (target == executor) {
+                // the shared pool runs the batch in as many chunks as it has threads
+                int chunks = Math.min(tasks.size(), Math.max(executor.getCorePoolSize(), 1));
+                int chunkSize = (tasks.size() + chunks - 1) / chunks;
+                for (int from = 0; from < tasks.size(); from += chunkSize) {
+                    submit(target, tasks.subList(from, Math.min(from + chunkSize, tasks.size())));
+                }
+            } else {
+                // an orderly executor has a single thread, run its events in publish order
+                submit(target, tasks);
+            }
+        });
+        pending.clear();
+    }
+    
+    private void submit(final ThreadPoolExecutor target, final List<QueueConsumerExecutor<T>> tasks) {
+        if (tasks.size() == 1) {
+            target.execute(tasks.get(0));
+            return;
+        }
+        List<QueueConsumerExecutor<T>> batch = new ArrayList<>(tasks);
+        target.execute(() -> batch.forEach(this::runQuietly));
+    }
+    
+    private void runQuietly(final QueueConsumerExecutor<T> task) {
+        try {
+            task.run();
+        } catch (Exception e) {
+            // one failed event must not drop the rest of its batch
+            LOG.error("queue consumer executor run failed", e);
+        }
+    }
+    
+    private ThreadPoolExecutor orderly(final DataEvent<T> t) {
+        if (t instanceof OrderlyDataEvent && !isEmpty(((OrderlyDataEvent<T>) t).getHash())) {
+            return executor.select(((OrderlyDataEvent<T>) t).getHash());
+        } else {
+            return executor;
+        }
+    }
+    
+    private boolean isEmpty(final String t) {
+        return t == null || t.isEmpty();
+    }
+}
@@ -29,7 +29,9 @@ import java.util.concurrent.ThreadPoolExecutor;
  * The type Queue consumer.
  *
  * @param <T> the type parameter
+ * @deprecated the disruptor no longer starts a worker pool, use {@link QueueBatchConsumer} instead.
  */
+@Deprecated
 public class QueueConsumer<T> implements WorkHandler<DataEvent<T>> {
     
     private final OrderlyExecutor executor;
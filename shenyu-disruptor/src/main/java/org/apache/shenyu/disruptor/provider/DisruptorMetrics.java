@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.disruptor.provider;
+
+import com.lmax.disruptor.RingBuffer;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The metrics of one disruptor ring buffer.
+ */
+public final class DisruptorMetrics {
+    
+    private final String name;
+    
+    private final RingBuffer<?> ringBuffer;
+    
+    private final LongAdder publishCount = new LongAdder();
+    
+    private final LongAdder publishNanos = new LongAdder();
+    
+    /**
+     * Instantiates a new Disruptor metrics.
+     *
+     * @param name       the name
+     * @param ringBuffer the ring buffer
+     */
+    public DisruptorMetrics(final String name, final RingBuffer<?> ringBuffer) {
+        this.name = name;
+        this.ringBuffer = ringBuffer;
+    }
+    
+    /**
+     * Record the time a publish took, including the time waiting for a free slot.
+     *
+     * @param nanos the publish latency in nanoseconds
+     */
+    public void recordPublish(final long nanos) {
+        publishCount.increment();
+        publishNanos.add(nanos);
+    }
+    
+    /**
+     * Gets name.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+    
+    /**
+     * Gets the ring buffer size.
+     *
+     * @return the buffer size
+     */
+    public long getBufferSize() {
+        return ringBuffer.getBufferSize();
+    }
+    
+    /**
+     * Gets the free slots left in the ring buffer.
+     *
+     * @return the remaining capacity
+     */
+    public long getRemainingCapacity() {
+        return ringBuffer.remainingCapacity();
+    }
+    
+    /**
+     * Gets the count of published events.
+     *
+     * @return the publish count
+     */
+    public long getPublishCount() {
+        return publishCount.sum();
+    }
+    
+    /**
+     * Gets the total time spent publishing.
+     *
+     * @return the publish time in nanoseconds
+     */
+    public long getPublishNanos() {
+        return publishNanos.sum();
+    }
+}
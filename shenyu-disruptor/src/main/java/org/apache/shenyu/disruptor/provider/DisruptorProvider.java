@@ -40,6 +40,8 @@ public class DisruptorProvider<T> {
     
     private final boolean isOrderly;
     
+    private final DisruptorMetrics metrics;
+    
     private final EventTranslatorOneArg<DataEvent<T>, T> translatorOneArg = (event, sequence, t) -> event.setData(t);
     
     private final EventTranslatorTwoArg<DataEvent<T>, T, String> orderlyArg = (event, sequence, t, orderly) -> {
@@ -62,9 +64,23 @@ public class DisruptorProvider<T> {
      * @param isOrderly  the orderly Whether to execute sequentially.
      */
     public DisruptorProvider(final RingBuffer<DataEvent<T>> ringBuffer, final Disruptor<DataEvent<T>> disruptor, final boolean isOrderly) {
+        this(ringBuffer, disruptor, isOrderly, "default");
+    }
+    
+    /**
+     * Instantiates a new Disruptor provider.
+     *
+     * @param ringBuffer the ring buffer
+     * @param disruptor  the disruptor
+     * @param isOrderly  the orderly Whether to execute sequentially.
+     * @param name       the name the ring buffer metrics are reported with
+     */
+    public DisruptorProvider(final RingBuffer<DataEvent<T>> ringBuffer, final Disruptor<DataEvent<T>> disruptor,
+                             final boolean isOrderly, final String name) {
         this.ringBuffer = ringBuffer;
         this.disruptor = disruptor;
         this.isOrderly = isOrderly;
+        this.metrics = new DisruptorMetrics(name, ringBuffer);
     }
 
     /**
@@ -77,7 +93,9 @@ public class DisruptorProvider<T> {
             throw new IllegalArgumentException("The current provider is  of orderly type. Please use onOrderlyData() method.");
         }
         try {
+            long start = System.nanoTime();
             ringBuffer.publishEvent(translatorOneArg, data);
+            metrics.recordPublish(System.nanoTime() - start);
         } catch (Exception ex) {
             logger.error("ex", ex);
         }
@@ -95,12 +113,23 @@ public class DisruptorProvider<T> {
         }
         try {
             String hash = String.join(":", hashArray);
+            long start = System.nanoTime();
             ringBuffer.publishEvent(orderlyArg, data, hash);
+            metrics.recordPublish(System.nanoTime() - start);
         } catch (Exception ex) {
             logger.error("ex", ex);
         }
     }
     
+    /**
+     * Gets the ring buffer metrics.
+     *
+     * @return the metrics
+     */
+    public DisruptorMetrics getMetrics() {
+        return metrics;
+    }
+    
     /**
      * Shutdown.
      */
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.disruptor.strategy;
+
+import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.BusySpinWaitStrategy;
+import com.lmax.disruptor.SleepingWaitStrategy;
+import com.lmax.disruptor.WaitStrategy;
+import com.lmax.disruptor.YieldingWaitStrategy;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * The wait strategies the disruptor consumers can be started with.
+ */
+public enum WaitStrategyEnum {
+    
+    /**
+     * Park on a lock until an event is published, the lowest cpu usage and the highest latency.
+     */
+    BLOCKING("blocking", BlockingWaitStrategy::new),
+    
+    /**
+     * Spin, then yield, then park for a short while, a compromise between cpu usage and latency.
+     */
+    SLEEPING("sleeping", SleepingWaitStrategy::new),
+    
+    /**
+     * Spin, then yield the cpu, low latency while keeping a core mostly busy.
+     */
+    YIELDING("yielding", YieldingWaitStrategy::new),
+    
+    /**
+     * Busy spin, the lowest latency, only for consumers pinned to their own core.
+     */
+    BUSY_SPIN("busySpin", BusySpinWaitStrategy::new);
+    
+    private final String name;
+    
+    private final Supplier<WaitStrategy> supplier;
+    
+    WaitStrategyEnum(final String name, final Supplier<WaitStrategy> supplier) {
+        this.name = name;
+        this.supplier = supplier;
+    }
+    
+    /**
+     * Gets name.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+    
+    /**
+     * Create a new wait strategy instance.
+     *
+     * @return the wait strategy
+     */
+    public WaitStrategy create() {
+        return supplier.get();
+    }
+    
+    /**
+     * Acquire the wait strategy by name, fall back to {@link #BLOCKING} when the name is unknown.
+     *
+     * @param name the name
+     * @return the wait strategy enum
+     */
+    public static WaitStrategyEnum acquireByName(final String name) {
+        return Arrays.stream(values())
+                .filter(strategy -> strategy.name.equalsIgnoreCase(name) || strategy.name().equalsIgnoreCase(name))
+                .findFirst()
+                .orElse(BLOCKING);
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.disruptor.consumer;
+
+import org.apache.shenyu.disruptor.event.DataEvent;
+import org.apache.shenyu.disruptor.event.OrderlyDataEvent;
+import org.apache.shenyu.disruptor.thread.DisruptorThreadFactory;
+import org.apache.shenyu.disruptor.thread.OrderlyExecutor;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * The test case for {@link QueueBatchConsumer}.
+ */
+public final class QueueBatchConsumerTest {
+
+    @Test
+    public void testOrderlyEventsKeepPublishOrderPerKey() {
+        OrderlyExecutor executor = new OrderlyExecutor(true, 4, 4, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                DisruptorThreadFactory.create("queue_batch_consumer_test", true), new ThreadPoolExecutor.AbortPolicy());
+        Map<String, List<Integer>> consumed = new ConcurrentHashMap<>();
+        AtomicInteger count = new AtomicInteger();
+        QueueBatchConsumer<String> consumer = new QueueBatchConsumer<>(executor, new RecordingFactory(data -> {
+            String[] keyAndIndex = data.split(":");
+            consumed.computeIfAbsent(keyAndIndex[0], key -> Collections.synchronizedList(new ArrayList<>())).add(Integer.parseInt(keyAndIndex[1]));
+            count.incrementAndGet();
+        }));
+        List<String> keys = Arrays.asList("a", "b", "c", "d");
+        int total = 200;
+        for (int index = 0; index < total; index++) {
+            OrderlyDataEvent<String> event = new OrderlyDataEvent<>();
+            String key = keys.get(index % keys.size());
+            event.setHash(key);
+            event.setData(key + ":" + index);
+            consumer.onEvent(event, index, index % 7 == 6 || index == total - 1);
+        }
+        await().atMost(5, TimeUnit.SECONDS).until(() -> count.get() == total);
+        keys.forEach(key -> {
+            List<Integer> expected = IntStream.range(0, total).filter(index -> keys.get(index % keys.size()).equals(key)).boxed().collect(Collectors.toList());
+            assertEquals(expected, consumed.get(key));
+        });
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testSharedEventsAreChunkedByCorePoolSize() {
+        OrderlyExecutor executor = mock(OrderlyExecutor.class);
+        when(executor.getCorePoolSize()).thenReturn(2);
+        List<String> consumed = new ArrayList<>();
+        QueueBatchConsumer<String> consumer = new QueueBatchConsumer<>(executor, new RecordingFactory(consumed::add));
+        for (int index = 0; index < 5; index++) {
+            DataEvent<String> event = new DataEvent<>();
+            event.setData(String.valueOf(index));
+            consumer.onEvent(event, index, index == 4);
+            if (index < 4) {
+                verify(executor, never()).execute(any());
+            }
+        }
+        ArgumentCaptor<Runnable> chunks = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor, times(2)).execute(chunks.capture());
+        chunks.getAllValues().forEach(Runnable::run);
+        assertEquals(Arrays.asList("0", "1", "2", "3", "4"), consumed);
+    }
+
+    @Test
+    public void testSingleEventIsSubmittedAsIs() {
+        OrderlyExecutor executor = mock(OrderlyExecutor.class);
+        when(executor.getCorePoolSize()).thenReturn(2);
+        RecordingFactory factory = new RecordingFactory(data -> {
+        });
+        QueueBatchConsumer<String> consumer = new QueueBatchConsumer<>(executor, factory);
+        DataEvent<String> event = new DataEvent<>();
+        event.setData("0");
+        consumer.onEvent(event, 0, true);
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor).execute(task.capture());
+        assertSame(factory.last, task.getValue());
+    }
+
+    private static final class RecordingFactory implements QueueConsumerFactory<String> {
+
+        private final Consumer<String> sink;
+
+        private QueueConsumerExecutor<String> last;
+
+        RecordingFactory(final Consumer<String> sink) {
+            this.sink = sink;
+        }
+
+        @Override
+        public QueueConsumerExecutor<String> create() {
+            last = new QueueConsumerExecutor<String>() {
+                @Override
+                public void run() {
+                    sink.accept(getData());
+                }
+            };
+            return last;
+        }
+
+        @Override
+        public String fixName() {
+            return "recording";
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.disruptor.strategy;
+
+import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.BusySpinWaitStrategy;
+import com.lmax.disruptor.SleepingWaitStrategy;
+import com.lmax.disruptor.YieldingWaitStrategy;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+/**
+ * The test case for {@link WaitStrategyEnum}.
+ */
+public final class WaitStrategyEnumTest {
+
+    @Test
+    public void testAcquireByName() {
+        assertEquals(WaitStrategyEnum.SLEEPING, WaitStrategyEnum.acquireByName("sleeping"));
+        assertEquals(WaitStrategyEnum.BUSY_SPIN, WaitStrategyEnum.acquireByName("busySpin"));
+        assertEquals(WaitStrategyEnum.BUSY_SPIN, WaitStrategyEnum.acquireByName("BUSY_SPIN"));
+        assertEquals(WaitStrategyEnum.YIELDING, WaitStrategyEnum.acquireByName("Yielding"));
+    }
+
+    @Test
+    public void testAcquireByNameFallsBackToBlocking() {
+        assertEquals(WaitStrategyEnum.BLOCKING, WaitStrategyEnum.acquireByName("unknown"));
+        assertEquals(WaitStrategyEnum.BLOCKING, WaitStrategyEnum.acquireByName(""));
+        assertEquals(WaitStrategyEnum.BLOCKING, WaitStrategyEnum.acquireByName(null));
+    }
+
+    @Test
+    public void testCreate() {
+        assertInstanceOf(BlockingWaitStrategy.class, WaitStrategyEnum.BLOCKING.create());
+        assertInstanceOf(SleepingWaitStrategy.class, WaitStrategyEnum.SLEEPING.create());
+        assertInstanceOf(YieldingWaitStrategy.class, WaitStrategyEnum.YIELDING.create());
+        assertInstanceOf(BusySpinWaitStrategy.class, WaitStrategyEnum.BUSY_SPIN.create());
+    }
+}
@@ -24,11 +24,15 @@ import org.apache.shenyu.common.config.ShenyuConfig;
 import org.apache.shenyu.common.config.ShenyuConfig.UpstreamCheck;
 import org.apache.shenyu.common.utils.MapUtils;
 import org.apache.shenyu.common.utils.Singleton;
+import org.apache.shenyu.loadbalancer.entity.LatencyWindow;
 import org.apache.shenyu.loadbalancer.entity.Upstream;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
@@ -43,6 +47,15 @@ public final class UpstreamCacheManager {
 
     private static final Map<String, List<Upstream>> UPSTREAM_MAP = Maps.newConcurrentMap();
 
+    private static final Map<String, LatencyWindow> LATENCY_MAP = Maps.newConcurrentMap();
+
+    private static final int LATENCY_MIN_SAMPLES = 20;
+
+    /**
+     * The time in millis it takes for a latency sample to decay by e in the average.
+     */
+    private static final double LATENCY_DECAY_TIME = 600;
+
     private UpstreamCheckTask task;
 
     /**
@@ -50,8 +63,6 @@ public final class UpstreamCacheManager {
      */
     private Boolean checkEnable;
 
-    private int poolSize;
-
     private int checkTimeout;
 
     private int checkInterval;
@@ -60,6 +71,10 @@ public final class UpstreamCacheManager {
 
     private int unhealthyThreshold;
 
+    private int maxConcurrency;
+
+    private String checkPath;
+
     /**
      * healthy upstream print parameters.
      */
@@ -75,23 +90,25 @@ public final class UpstreamCacheManager {
         ShenyuConfig shenyuConfig = Optional.ofNullable(Singleton.INST.get(ShenyuConfig.class)).orElse(new ShenyuConfig());
         UpstreamCheck upstreamCheck = shenyuConfig.getUpstreamCheck();
         checkEnable = upstreamCheck.getEnabled();
-        poolSize = upstreamCheck.getPoolSize();
         checkTimeout = upstreamCheck.getTimeout();
         healthyThreshold = upstreamCheck.getHealthyThreshold();
         unhealthyThreshold = upstreamCheck.getUnhealthyThreshold();
         checkInterval = upstreamCheck.getInterval();
         printEnable = upstreamCheck.getPrintEnabled();
         printInterval = upstreamCheck.getPrintInterval();
+        maxConcurrency = upstreamCheck.getMaxConcurrency();
+        checkPath = upstreamCheck.getCheckPath();
         createTask();
         scheduleHealthCheck();
     }
 
     private void createTask() {
         task = new UpstreamCheckTask(checkInterval);
-        task.setPoolSize(poolSize);
         task.setCheckTimeout(checkTimeout);
         task.setHealthyThreshold(healthyThreshold);
         task.setUnhealthyThreshold(unhealthyThreshold);
+        task.setMaxConcurrency(maxConcurrency);
+        task.setCheckPath(checkPath);
     }
 
     private void scheduleHealthCheck() {
@@ -131,8 +148,89 @@ public final class UpstreamCacheManager {
      * @param key the key
      */
     public void removeByKey(final String key) {
-        UPSTREAM_MAP.remove(key);
+        List<Upstream> removed = UPSTREAM_MAP.remove(key);
+        LATENCY_MAP.remove(key);
         task.triggerRemoveAll(key);
+        if (Objects.nonNull(removed)) {
+            removeOutlierStats(removed);
+        }
+    }
+
+    /**
+     * Record the response latency of the selector.
+     *
+     * @param selectorId the selector id
+     * @param latency    the latency in millis
+     */
+    public void recordLatency(final String selectorId, final long latency) {
+        MapUtils.computeIfAbsent(LATENCY_MAP, selectorId, k -> new LatencyWindow()).record(latency);
+    }
+
+    /**
+     * Find the observed response latency percentile of the selector.
+     *
+     * @param selectorId the selector id
+     * @param percentile the percentile, between 1 and 100
+     * @return the latency in millis, or -1 when there are not enough samples
+     */
+    public long findLatencyPercentile(final String selectorId, final int percentile) {
+        LatencyWindow window = LATENCY_MAP.get(selectorId);
+        return Objects.isNull(window) ? -1 : window.percentile(percentile, LATENCY_MIN_SAMPLES);
+    }
+
+    /**
+     * Track a request to the upstream, it is counted in flight until it completes,
+     * and the latency of a successful response is folded into the upstream's average.
+     *
+     * @param upstream the upstream
+     * @param request  the request
+     * @param <T>      the response type
+     * @return the tracked request
+     */
+    public <T> Mono<T> track(final Upstream upstream, final Mono<T> request) {
+        return Mono.defer(() -> {
+            requestStarted(upstream);
+            final long start = System.currentTimeMillis();
+            return request.doOnSuccess(r -> recordResponse(upstream, System.currentTimeMillis() - start))
+                    .doFinally(signal -> requestFinished(upstream));
+        });
+    }
+
+    /**
+     * Count a request to the upstream in flight.
+     *
+     * @param upstream the upstream
+     */
+    public void requestStarted(final Upstream upstream) {
+        upstream.getInflight().incrementAndGet();
+    }
+
+    /**
+     * Stop counting a request to the upstream in flight.
+     *
+     * @param upstream the upstream
+     */
+    public void requestFinished(final Upstream upstream) {
+        upstream.getInflight().decrementAndGet();
+    }
+
+    /**
+     * Record the latency of a successful response of the upstream, into an exponentially
+     * weighted moving average whose older samples decay with the time since the last response.
+     *
+     * @param upstream the upstream
+     * @param latency  the latency in millis
+     */
+    public void recordResponse(final Upstream upstream, final long latency) {
+        upstream.getSucceeded().incrementAndGet();
+        upstream.getSucceededElapsed().addAndGet(latency);
+        synchronized (upstream) {
+            long now = System.currentTimeMillis();
+            long stamp = upstream.getResponseStamp();
+            double weight = stamp == 0 ? 0 : Math.exp(-Math.max(now - stamp, 0) / LATENCY_DECAY_TIME);
+            upstream.setLag(Math.round(upstream.getLag() * weight + Math.max(latency, 0) * (1 - weight)));
+            upstream.setResponseStamp(now);
+        }
     }
 
     /**
@@ -144,10 +242,28 @@ public final class UpstreamCacheManager {
     public void submit(final String selectorId, final List<Upstream> upstreamList) {
         List<Upstream> validUpstreamList = upstreamList.stream().filter(Upstream::isStatus).collect(Collectors.toList());
         List<Upstream> existUpstream = MapUtils.computeIfAbsent(UPSTREAM_MAP, selectorId, k -> Lists.newArrayList());
-        existUpstream.stream().filter(upstream -> !validUpstreamList.contains(upstream))
-                .forEach(upstream -> task.triggerRemoveOne(selectorId, upstream));
+        List<Upstream> removed = existUpstream.stream().filter(upstream -> !validUpstreamList.contains(upstream))
+                .collect(Collectors.toList());
+        removed.forEach(upstream -> task.triggerRemoveOne(selectorId, upstream));
         validUpstreamList.stream().filter(upstream -> !existUpstream.contains(upstream))
                 .forEach(upstream -> task.triggerAddOne(selectorId, upstream));
         UPSTREAM_MAP.put(selectorId, validUpstreamList);
+        removeOutlierStats(removed);
+    }
+
+    /**
+     * Drop the outlier stats of the removed upstream no selector refers to any more,
+     * so an upstream added back later starts over instead of coming back ejected.
+     *
+     * @param removed the removed upstream
+     */
+    private void removeOutlierStats(final List<Upstream> removed) {
+        if (removed.isEmpty()) {
+            return;
+        }
+        Set<String> inUse = UPSTREAM_MAP.values().stream().flatMap(List::stream)
+                .map(Upstream::getUrl).filter(Objects::nonNull).collect(Collectors.toSet());
+        removed.stream().map(Upstream::getUrl).filter(url -> Objects.nonNull(url) && !inUse.contains(url))
+                .forEach(UpstreamOutlierDetector.getInstance()::remove);
     }
 }
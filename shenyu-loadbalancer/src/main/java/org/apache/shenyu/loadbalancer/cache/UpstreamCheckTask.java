@@ -20,10 +20,11 @@ package org.apache.shenyu.loadbalancer.cache;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.common.concurrent.ShenyuThreadFactory;
 import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.common.utils.MapUtils;
-import org.apache.shenyu.common.utils.UpstreamCheckUtils;
+import org.apache.shenyu.common.utils.UpstreamProber;
 import org.apache.shenyu.loadbalancer.entity.Upstream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,17 +32,20 @@ import org.slf4j.LoggerFactory;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 /**
  * Health check manager for upstream servers.
+ * The probes run on the non-blocking {@link UpstreamProber}, every probe starts after its own random jitter
+ * and its result is applied as soon as it completes, a slow upstream never holds back the others.
  */
 public final class UpstreamCheckTask implements Runnable {
 
@@ -58,16 +62,25 @@ public final class UpstreamCheckTask implements Runnable {
 
     private final AtomicBoolean checkStarted = new AtomicBoolean(false);
 
-    private final List<CompletableFuture<UpstreamWithSelectorId>> futures = Lists.newArrayList();
+    /**
+     * the upstream being probed, an upstream is not probed again before its last probe completes.
+     */
+    private final Set<UpstreamWithSelectorId> probing = ConcurrentHashMap.newKeySet();
 
     private final int checkInterval;
 
-    private ExecutorService executor;
+    private UpstreamProber prober;
 
     private int poolSize;
 
+    private int maxConcurrency = 1024;
+
     private int checkTimeout = 3000;
 
+    private long jitter;
+
+    private String checkPath;
+
     private int healthyThreshold = 1;
 
     private int unhealthyThreshold = 1;
@@ -79,10 +92,11 @@ public final class UpstreamCheckTask implements Runnable {
      */
     public UpstreamCheckTask(final int checkInterval) {
         this.checkInterval = checkInterval;
+        this.jitter = checkInterval / 10;
     }
     
     /**
-     * get checkStarted.
+     * get checkStarted, true while any probe is in flight.
      *
      * @return checkStarted check started
      */
@@ -98,10 +112,6 @@ public final class UpstreamCheckTask implements Runnable {
         ThreadFactory healthCheckFactory = ShenyuThreadFactory.create("upstream-health-check", true);
         new ScheduledThreadPoolExecutor(1, healthCheckFactory)
                 .scheduleWithFixedDelay(this, 3000, checkInterval, TimeUnit.MILLISECONDS);
-
-        // executor for async request, avoid request block health check thread
-        ThreadFactory requestFactory = ShenyuThreadFactory.create("upstream-health-check-request", true);
-        executor = new ScheduledThreadPoolExecutor(poolSize, requestFactory);
     }
     
     /**
@@ -117,7 +127,9 @@ public final class UpstreamCheckTask implements Runnable {
      * get checkThreadPoolSize.
      *
      * @return checkThreadPoolSize
+     * @deprecated the probes no longer run on a thread pool, see {@link #getMaxConcurrency()}
      */
+    @Deprecated
     public int getPoolSize() {
         return poolSize;
     }
@@ -126,11 +138,49 @@ public final class UpstreamCheckTask implements Runnable {
      * set checkThreadPoolSize.
      *
      * @param poolSize checkThreadPoolSize
+     * @deprecated the probes no longer run on a thread pool, see {@link #setMaxConcurrency(int)}
      */
+    @Deprecated
     public void setPoolSize(final int poolSize) {
         this.poolSize = poolSize;
     }
 
+    /**
+     * get the max probes in flight.
+     *
+     * @return maxConcurrency
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * set the max probes in flight.
+     *
+     * @param maxConcurrency maxConcurrency
+     */
+    public void setMaxConcurrency(final int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Set the max random delay of a probe in a round, spreads the probes over the interval.
+     *
+     * @param jitter milliseconds
+     */
+    public void setJitter(final long jitter) {
+        this.jitter = jitter;
+    }
+
+    /**
+     * Set the http check path, the upstream is probed with a tcp connect when it is blank.
+     *
+     * @param checkPath the check path
+     */
+    public void setCheckPath(final String checkPath) {
+        this.checkPath = checkPath;
+    }
+
     /**
      * Set healthy threshold.
      *
@@ -156,20 +206,14 @@ public final class UpstreamCheckTask implements Runnable {
 
     private void healthCheck() {
         try {
-            /*
-             * If there is no synchronized. when check is done and all upstream check result is in the futures list.
-             * In the same time, triggerRemoveAll() called before waitFinish(), there will be dirty data stay in map.
-             */
             synchronized (lock) {
-                if (tryStartHealthCheck()) {
-                    doHealthCheck();
-                    waitFinish();
+                if (Objects.isNull(prober)) {
+                    prober = new UpstreamProber("upstream-health-check-probe", maxConcurrency);
                 }
+                doHealthCheck();
             }
         } catch (Exception e) {
             LOG.error("[Health Check] Meet problem: ", e);
-        } finally {
-            finishHealthCheck();
         }
     }
 
@@ -181,16 +225,53 @@ public final class UpstreamCheckTask implements Runnable {
     private void check(final Map<String, List<Upstream>> map) {
         for (Map.Entry<String, List<Upstream>> entry : map.entrySet()) {
             String key = entry.getKey();
-            List<Upstream> value = entry.getValue();
+            // a probe may complete inline and move the upstream to the other map
+            List<Upstream> value = Lists.newArrayList(entry.getValue());
             for (Upstream upstream : value) {
-                CompletableFuture<UpstreamWithSelectorId> future = CompletableFuture.supplyAsync(() -> check(key, upstream), executor);
-                futures.add(future);
+                probe(key, upstream);
+            }
+        }
+    }
+
+    private void probe(final String selectorId, final Upstream upstream) {
+        UpstreamWithSelectorId entity = new UpstreamWithSelectorId(selectorId, upstream);
+        if (!probing.add(entity)) {
+            return;
+        }
+        checkStarted.set(true);
+        long delay = jitter > 0 ? ThreadLocalRandom.current().nextLong(jitter) : 0;
+        prober.probe(getProbeUrl(upstream), checkPath, checkTimeout, delay)
+                .whenComplete((pass, throwable) -> onProbed(entity, Boolean.TRUE.equals(pass)));
+    }
+
+    private String getProbeUrl(final Upstream upstream) {
+        String url = upstream.getUrl();
+        if (StringUtils.isBlank(checkPath) || StringUtils.isBlank(url) || url.contains("://")) {
+            return url;
+        }
+        return Optional.ofNullable(upstream.getProtocol()).filter(StringUtils::isNotBlank).orElse("http://") + url;
+    }
+
+    private void onProbed(final UpstreamWithSelectorId entity, final boolean pass) {
+        applyResult(entity.getSelectorId(), entity.getUpstream(), pass);
+        synchronized (lock) {
+            probing.remove(entity);
+            // the upstream may be removed while it is probed, it must not be put back
+            if (contains(healthyUpstream, entity) || contains(unhealthyUpstream, entity)) {
+                putEntityToMap(entity);
+            }
+            if (probing.isEmpty()) {
+                checkStarted.set(false);
             }
         }
     }
 
-    private UpstreamWithSelectorId check(final String selectorId, final Upstream upstream) {
-        boolean pass = UpstreamCheckUtils.checkUrl(upstream.getUrl(), checkTimeout);
+    private boolean contains(final Map<String, List<Upstream>> map, final UpstreamWithSelectorId entity) {
+        List<Upstream> list = map.get(entity.getSelectorId());
+        return Objects.nonNull(list) && list.contains(entity.getUpstream());
+    }
+
+    private void applyResult(final String selectorId, final Upstream upstream, final boolean pass) {
         if (pass) {
             if (upstream.isHealthy()) {
                 upstream.setLastHealthTimestamp(System.currentTimeMillis());
@@ -218,20 +299,6 @@ public final class UpstreamCheckTask implements Runnable {
                 }
             }
         }
-        return new UpstreamWithSelectorId(selectorId, upstream);
-    }
-
-    private boolean tryStartHealthCheck() {
-        return checkStarted.compareAndSet(false, true);
-    }
-
-    private void waitFinish() throws ExecutionException, InterruptedException {
-        for (CompletableFuture<UpstreamWithSelectorId> future : futures) {
-            UpstreamWithSelectorId entity = future.get();
-            putEntityToMap(entity);
-        }
-
-        futures.clear();
     }
 
     private void putEntityToMap(final UpstreamWithSelectorId entity) {
@@ -245,10 +312,6 @@ public final class UpstreamCheckTask implements Runnable {
         }
     }
 
-    private void finishHealthCheck() {
-        checkStarted.set(false);
-    }
-    
     /**
      * Add one upstream via selectorData.
      *
@@ -0,0 +1,228 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.loadbalancer.cache;
+
+import com.google.common.collect.Maps;
+import org.apache.shenyu.common.config.ShenyuConfig;
+import org.apache.shenyu.common.config.ShenyuConfig.OutlierDetection;
+import org.apache.shenyu.common.utils.MapUtils;
+import org.apache.shenyu.common.utils.Singleton;
+import org.apache.shenyu.loadbalancer.entity.Upstream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Passive outlier detection of the upstream. The proxy plugins report the result of every request,
+ * an upstream is ejected for a while after too many consecutive errors or a too high error rate,
+ * the ejection time grows exponentially while the upstream keeps failing.
+ */
+public final class UpstreamOutlierDetector {
+
+    private static final Logger LOG = LoggerFactory.getLogger(UpstreamOutlierDetector.class);
+
+    private static final UpstreamOutlierDetector INSTANCE = new UpstreamOutlierDetector();
+
+    private final Map<String, OutlierStats> stats = Maps.newConcurrentMap();
+
+    private final boolean enabled;
+
+    private final int consecutiveErrors;
+
+    private final int errorRateThreshold;
+
+    private final int errorRateMinRequests;
+
+    private final long interval;
+
+    private final long baseEjectionTime;
+
+    private final long maxEjectionTime;
+
+    private final int maxEjectionPercent;
+
+    /**
+     * the time the last ejection ends, nothing is ejected after it.
+     */
+    private volatile long ejectedUntil;
+
+    private UpstreamOutlierDetector() {
+        this(Optional.ofNullable(Singleton.INST.get(ShenyuConfig.class)).orElse(new ShenyuConfig()).getOutlierDetection());
+    }
+
+    UpstreamOutlierDetector(final OutlierDetection config) {
+        this.enabled = config.getEnabled();
+        this.consecutiveErrors = config.getConsecutiveErrors();
+        this.errorRateThreshold = config.getErrorRateThreshold();
+        this.errorRateMinRequests = config.getErrorRateMinRequests();
+        this.interval = config.getInterval();
+        this.baseEjectionTime = config.getBaseEjectionTime();
+        this.maxEjectionTime = config.getMaxEjectionTime();
+        this.maxEjectionPercent = config.getMaxEjectionPercent();
+    }
+
+    /**
+     * Gets instance.
+     *
+     * @return the instance
+     */
+    public static UpstreamOutlierDetector getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Record the result of a request sent to the upstream.
+     *
+     * @param url     the upstream url, host:port
+     * @param success whether the request succeeded
+     */
+    public void record(final String url, final boolean success) {
+        if (!enabled || Objects.isNull(url)) {
+            return;
+        }
+        OutlierStats outlierStats = MapUtils.computeIfAbsent(stats, url, k -> new OutlierStats());
+        synchronized (outlierStats) {
+            long now = System.currentTimeMillis();
+            if (now - outlierStats.windowStart >= interval) {
+                outlierStats.roll(now);
+            }
+            outlierStats.requests++;
+            if (success) {
+                outlierStats.consecutiveErrors = 0;
+                return;
+            }
+            outlierStats.errors++;
+            outlierStats.consecutiveErrors++;
+            if (outlierStats.ejectedUntil > now) {
+                return;
+            }
+            boolean tooManyConsecutiveErrors = consecutiveErrors > 0 && outlierStats.consecutiveErrors >= consecutiveErrors;
+            boolean errorRateTooHigh = errorRateThreshold > 0 && outlierStats.requests >= errorRateMinRequests
+                    && outlierStats.errors * 100L >= (long) errorRateThreshold * outlierStats.requests;
+            if (tooManyConsecutiveErrors || errorRateTooHigh) {
+                eject(url, outlierStats, now);
+            }
+        }
+    }
+
+    /**
+     * Filter the ejected upstream out of the list. At most max ejection percent of the list is
+     * filtered out, the upstream whose ejection ends first is kept when more are ejected.
+     *
+     * @param upstreamList the upstream list
+     * @return the upstream list without the ejected upstream
+     */
+    public List<Upstream> filter(final List<Upstream> upstreamList) {
+        if (!enabled || Objects.isNull(upstreamList) || upstreamList.size() <= 1) {
+            return upstreamList;
+        }
+        long now = System.currentTimeMillis();
+        if (now >= ejectedUntil) {
+            return upstreamList;
+        }
+        List<Upstream> available = new ArrayList<>(upstreamList.size());
+        List<Upstream> ejected = new ArrayList<>();
+        for (Upstream upstream : upstreamList) {
+            if (isEjected(upstream.getUrl(), now)) {
+                ejected.add(upstream);
+            } else {
+                available.add(upstream);
+            }
+        }
+        if (ejected.isEmpty()) {
+            return upstreamList;
+        }
+        int maxEjected = upstreamList.size() * maxEjectionPercent / 100;
+        if (ejected.size() > maxEjected) {
+            ejected.sort(Comparator.comparingLong(upstream -> ejectionEnd(upstream.getUrl())));
+            available.addAll(ejected.subList(0, ejected.size() - maxEjected));
+        }
+        return available.isEmpty() ? upstreamList : available;
+    }
+
+    /**
+     * Whether the upstream is ejected now.
+     *
+     * @param url the upstream url
+     * @return true if ejected
+     */
+    public boolean isEjected(final String url) {
+        return enabled && isEjected(url, System.currentTimeMillis());
+    }
+
+    private boolean isEjected(final String url, final long now) {
+        return ejectionEnd(url) > now;
+    }
+
+    /**
+     * Remove the stats of the upstream.
+     *
+     * @param url the upstream url
+     */
+    public void remove(final String url) {
+        stats.remove(url);
+    }
+
+    private long ejectionEnd(final String url) {
+        OutlierStats outlierStats = Objects.isNull(url) ? null : stats.get(url);
+        return Objects.isNull(outlierStats) ? 0 : outlierStats.ejectedUntil;
+    }
+
+    private void eject(final String url, final OutlierStats outlierStats, final long now) {
+        outlierStats.ejections++;
+        long ejectionTime = Math.min(maxEjectionTime, baseEjectionTime << Math.min(outlierStats.ejections - 1, 20));
+        outlierStats.ejectedUntil = now + ejectionTime;
+        outlierStats.consecutiveErrors = 0;
+        outlierStats.roll(now);
+        synchronized (this) {
+            ejectedUntil = Math.max(ejectedUntil, outlierStats.ejectedUntil);
+        }
+        LOG.warn("upstream {} is ejected for {}ms as an outlier, ejected {} times", url, ejectionTime, outlierStats.ejections);
+    }
+
+    private static final class OutlierStats {
+
+        private long windowStart = System.currentTimeMillis();
+
+        private int requests;
+
+        private int errors;
+
+        private int consecutiveErrors;
+
+        private int ejections;
+
+        private volatile long ejectedUntil;
+
+        private void roll(final long now) {
+            // a window passed without ejection, the backoff starts to shrink
+            if (ejectedUntil <= now && errors * 2 < requests && ejections > 0) {
+                ejections--;
+            }
+            windowStart = now;
+            requests = 0;
+            errors = 0;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.loadbalancer.entity;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A sliding window of the most recent response latencies, used to derive latency percentiles.
+ */
+public final class LatencyWindow {
+
+    private static final int DEFAULT_SIZE = 256;
+
+    private final AtomicLongArray samples;
+
+    private final AtomicInteger count = new AtomicInteger();
+
+    public LatencyWindow() {
+        this(DEFAULT_SIZE);
+    }
+
+    public LatencyWindow(final int size) {
+        this.samples = new AtomicLongArray(size);
+    }
+
+    /**
+     * Record a latency sample.
+     *
+     * @param latency the latency in millis
+     */
+    public void record(final long latency) {
+        int index = count.getAndIncrement();
+        samples.set(Math.floorMod(index, samples.length()), Math.max(latency, 0));
+    }
+
+    /**
+     * Get the latency percentile of the recorded samples.
+     *
+     * @param percentile the percentile, between 1 and 100
+     * @param minSamples the min samples needed to compute the percentile
+     * @return the latency in millis, or -1 when there are not enough samples
+     */
+    public long percentile(final int percentile, final int minSamples) {
+        int recorded = count.get();
+        // the counter may overflow after a long time, the window is full by then
+        int size = recorded < 0 ? samples.length() : Math.min(recorded, samples.length());
+        if (size == 0 || size < minSamples) {
+            return -1;
+        }
+        long[] sorted = new long[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = samples.get(i);
+        }
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(Math.min(Math.max(percentile, 1), 100) / 100.0d * size) - 1;
+        return sorted[Math.max(rank, 0)];
+    }
+}
@@ -84,14 +84,14 @@ public final class Upstream {
     private String version;
 
     /**
-     * ewma value.
+     * ewma value of the response latency.
      */
-    private long lag;
+    private volatile long lag;
 
     /**
      * response stamp.
      */
-    private long responseStamp;
+    private volatile long responseStamp;
 
     /**
      * Last selected timestamp.
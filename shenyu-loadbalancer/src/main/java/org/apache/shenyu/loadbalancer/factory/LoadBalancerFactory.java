@@ -18,6 +18,7 @@
 package org.apache.shenyu.loadbalancer.factory;
 
 import java.util.List;
+import org.apache.shenyu.loadbalancer.cache.UpstreamOutlierDetector;
 import org.apache.shenyu.loadbalancer.entity.Upstream;
 import org.apache.shenyu.loadbalancer.spi.LoadBalancer;
 import org.apache.shenyu.spi.ExtensionLoader;
@@ -31,7 +32,7 @@ public final class LoadBalancerFactory {
     }
 
     /**
-     * Selector upstream.
+     * Selector upstream, the upstream ejected by the outlier detection is skipped.
      *
      * @param upstreamList the upstream list
      * @param algorithm    the loadBalance algorithm
@@ -40,6 +41,6 @@ public final class LoadBalancerFactory {
      */
     public static Upstream selector(final List<Upstream> upstreamList, final String algorithm, final String ip) {
         LoadBalancer loadBalance = ExtensionLoader.getExtensionLoader(LoadBalancer.class).getJoin(algorithm);
-        return loadBalance.select(upstreamList, ip);
+        return loadBalance.select(UpstreamOutlierDetector.getInstance().filter(upstreamList), ip);
     }
 }
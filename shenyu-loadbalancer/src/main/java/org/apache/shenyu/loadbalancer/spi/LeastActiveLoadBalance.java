@@ -47,7 +47,9 @@ public class LeastActiveLoadBalance extends AbstractLoadBalancer {
         final String domain = countMap.entrySet().stream()
                 // Ensure that the filtered domain is included in the domainMap.
                 .filter(entry -> domainMap.containsKey(entry.getKey()))
-                .min(Comparator.comparingLong(Map.Entry::getValue))
+                // prefer the upstream with the least requests in flight, then the least picked one
+                .min(Comparator.<Map.Entry<String, Long>>comparingLong(entry -> domainMap.get(entry.getKey()).getInflight().get())
+                        .thenComparingLong(Map.Entry::getValue))
                 .map(Map.Entry::getKey)
                 .orElse(upstreamList.get(0).buildDomain());
 
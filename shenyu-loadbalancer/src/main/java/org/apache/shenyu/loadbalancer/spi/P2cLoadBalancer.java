@@ -76,7 +76,6 @@ public class P2cLoadBalancer extends AbstractLoadBalancer {
         if (picked != unpicked) {
             picked.setLastPicked(start);
         }
-        picked.getInflight().incrementAndGet();
         return picked;
     }
 
@@ -44,8 +44,10 @@ public class ShortestResponseLoadBalancer extends AbstractLoadBalancer {
         for (int i = 0; i < upstreamList.size(); i++) {
             Upstream upstream = upstreamList.get(i);
             AtomicLong inflight = upstream.getInflight();
-            // Calculate the estimated response time from the product of active connections and succeeded average elapsed time.
-            long estimateResponse = upstream.getSucceededAverageElapsed() * inflight.get();
+            // Calculate the estimated response time from the product of active connections and the decaying average latency,
+            // or the succeeded average elapsed time while no response was tracked.
+            long latency = upstream.getResponseStamp() > 0 ? upstream.getLag() : upstream.getSucceededAverageElapsed();
+            long estimateResponse = latency * inflight.get();
             int afterWarmup = getWeight(upstream);
             weights[i] = afterWarmup;
             if (estimateResponse < shortestResponse) {
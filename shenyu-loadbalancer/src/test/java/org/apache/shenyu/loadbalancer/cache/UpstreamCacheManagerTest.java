@@ -18,6 +18,7 @@
 package org.apache.shenyu.loadbalancer.cache;
 
 import org.apache.shenyu.common.config.ShenyuConfig;
+import org.apache.shenyu.common.config.ShenyuConfig.OutlierDetection;
 import org.apache.shenyu.common.utils.Singleton;
 import org.apache.shenyu.loadbalancer.entity.Upstream;
 import org.junit.jupiter.api.TestMethodOrder;
@@ -25,10 +26,19 @@ import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Assertions;
+import org.mockito.MockedStatic;
 
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mockStatic;
+
 
 /**
  * The type UpstreamCacheManager check task test.
@@ -79,4 +89,70 @@ public class UpstreamCacheManagerTest {
         final UpstreamCacheManager upstreamCacheManager = UpstreamCacheManager.getInstance();
         Assertions.assertNull(upstreamCacheManager.findUpstreamListBySelectorId(SELECTOR_ID));
     }
+
+    @Test
+    @Order(5)
+    public void trackTest() {
+        final UpstreamCacheManager upstreamCacheManager = UpstreamCacheManager.getInstance();
+        final Upstream upstream = Upstream.builder().url("url").status(true).build();
+        final Mono<String> request = upstreamCacheManager.track(upstream, Mono.fromSupplier(() -> {
+            Assertions.assertEquals(2, upstream.getInflight().get());
+            return "ok";
+        }).delayElement(Duration.ofMillis(20)));
+        Assertions.assertEquals(1, upstream.getInflight().get());
+        Assertions.assertEquals("ok", request.block());
+        // the in-flight slot is released after the response is delivered
+        await().atMost(Duration.ofSeconds(1)).until(() -> upstream.getInflight().get() == 1);
+        Assertions.assertEquals(1, upstream.getSucceeded().get());
+        Assertions.assertTrue(upstream.getLag() >= 20);
+        Assertions.assertTrue(upstream.getResponseStamp() > 0);
+        upstreamCacheManager.track(upstream, Mono.error(new IllegalStateException())).onErrorResume(e -> Mono.empty()).block();
+        Assertions.assertEquals(1, upstream.getInflight().get());
+        Assertions.assertEquals(1, upstream.getSucceeded().get());
+    }
+
+    @Test
+    @Order(6)
+    public void recordResponseTest() {
+        final UpstreamCacheManager upstreamCacheManager = UpstreamCacheManager.getInstance();
+        final Upstream upstream = Upstream.builder().url("url").status(true).build();
+        upstreamCacheManager.recordResponse(upstream, 100);
+        Assertions.assertEquals(100, upstream.getLag());
+        // the older sample barely decays for a response right after it
+        upstreamCacheManager.recordResponse(upstream, 0);
+        Assertions.assertTrue(upstream.getLag() > 90);
+        upstream.setResponseStamp(System.currentTimeMillis() - 60000);
+        upstreamCacheManager.recordResponse(upstream, 10);
+        Assertions.assertEquals(10, upstream.getLag());
+    }
+
+    @Test
+    @Order(7)
+    public void removeOutlierStatsTest() {
+        final OutlierDetection config = new OutlierDetection();
+        config.setEnabled(true);
+        config.setConsecutiveErrors(1);
+        final UpstreamOutlierDetector detector = new UpstreamOutlierDetector(config);
+        try (MockedStatic<UpstreamOutlierDetector> detectorMockedStatic = mockStatic(UpstreamOutlierDetector.class)) {
+            detectorMockedStatic.when(UpstreamOutlierDetector::getInstance).thenReturn(detector);
+            final UpstreamCacheManager upstreamCacheManager = UpstreamCacheManager.getInstance();
+            final Upstream upstream = Upstream.builder().url("outlier:8080").status(true).build();
+            final Upstream shared = Upstream.builder().url("outlier:8081").status(true).build();
+            upstreamCacheManager.submit("OUTLIER_SELECTOR_1", Arrays.asList(upstream, shared));
+            upstreamCacheManager.submit("OUTLIER_SELECTOR_2", Collections.singletonList(shared));
+            detector.record(upstream.getUrl(), false);
+            detector.record(shared.getUrl(), false);
+            Assertions.assertTrue(detector.isEjected(upstream.getUrl()));
+            // the upstream removed from the selector is added back without being ejected
+            upstreamCacheManager.submit("OUTLIER_SELECTOR_1", Collections.singletonList(shared));
+            Assertions.assertFalse(detector.isEjected(upstream.getUrl()));
+            upstreamCacheManager.submit("OUTLIER_SELECTOR_1", Arrays.asList(upstream, shared));
+            Assertions.assertFalse(detector.isEjected(upstream.getUrl()));
+            // the upstream still referred to by another selector keeps its stats
+            upstreamCacheManager.removeByKey("OUTLIER_SELECTOR_1");
+            Assertions.assertTrue(detector.isEjected(shared.getUrl()));
+            upstreamCacheManager.removeByKey("OUTLIER_SELECTOR_2");
+            Assertions.assertFalse(detector.isEjected(shared.getUrl()));
+        }
+    }
 }
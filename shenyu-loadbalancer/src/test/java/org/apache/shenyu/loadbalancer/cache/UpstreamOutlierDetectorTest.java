@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.loadbalancer.cache;
+
+import org.apache.shenyu.common.config.ShenyuConfig.OutlierDetection;
+import org.apache.shenyu.loadbalancer.entity.Upstream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The type Upstream outlier detector test.
+ */
+public final class UpstreamOutlierDetectorTest {
+
+    private UpstreamOutlierDetector detector;
+
+    private List<Upstream> upstreamList;
+
+    @BeforeEach
+    public void setUp() {
+        OutlierDetection config = new OutlierDetection();
+        config.setEnabled(true);
+        config.setConsecutiveErrors(3);
+        config.setErrorRateThreshold(50);
+        config.setErrorRateMinRequests(10);
+        config.setMaxEjectionPercent(50);
+        detector = new UpstreamOutlierDetector(config);
+        upstreamList = Arrays.asList(buildUpstream("127.0.0.1:8080"), buildUpstream("127.0.0.1:8081"),
+                buildUpstream("127.0.0.1:8082"), buildUpstream("127.0.0.1:8083"));
+    }
+
+    @Test
+    public void testEjectOnConsecutiveErrors() {
+        detector.record("127.0.0.1:8080", false);
+        detector.record("127.0.0.1:8080", false);
+        assertFalse(detector.isEjected("127.0.0.1:8080"));
+        assertSame(upstreamList, detector.filter(upstreamList));
+        detector.record("127.0.0.1:8080", false);
+        assertTrue(detector.isEjected("127.0.0.1:8080"));
+        List<String> urls = detector.filter(upstreamList).stream().map(Upstream::getUrl).collect(Collectors.toList());
+        assertEquals(Arrays.asList("127.0.0.1:8081", "127.0.0.1:8082", "127.0.0.1:8083"), urls);
+    }
+
+    @Test
+    public void testSuccessResetsConsecutiveErrors() {
+        for (int i = 0; i < 5; i++) {
+            detector.record("127.0.0.1:8080", false);
+            detector.record("127.0.0.1:8080", true);
+        }
+        assertFalse(detector.isEjected("127.0.0.1:8080"));
+    }
+
+    @Test
+    public void testEjectOnErrorRate() {
+        for (int i = 0; i < 5; i++) {
+            detector.record("127.0.0.1:8081", true);
+            detector.record("127.0.0.1:8081", false);
+        }
+        assertTrue(detector.isEjected("127.0.0.1:8081"));
+    }
+
+    @Test
+    public void testMaxEjectionPercent() {
+        for (String url : Arrays.asList("127.0.0.1:8080", "127.0.0.1:8081", "127.0.0.1:8082")) {
+            for (int i = 0; i < 3; i++) {
+                detector.record(url, false);
+            }
+        }
+        List<Upstream> result = detector.filter(upstreamList);
+        assertEquals(2, result.size());
+        assertTrue(result.contains(upstreamList.get(3)));
+    }
+
+    @Test
+    public void testNeverEjectSingleUpstream() {
+        for (int i = 0; i < 3; i++) {
+            detector.record("127.0.0.1:8080", false);
+        }
+        List<Upstream> single = Collections.singletonList(upstreamList.get(0));
+        assertSame(single, detector.filter(single));
+    }
+
+    @Test
+    public void testDisabled() {
+        UpstreamOutlierDetector disabled = new UpstreamOutlierDetector(new OutlierDetection());
+        for (int i = 0; i < 10; i++) {
+            disabled.record("127.0.0.1:8080", false);
+        }
+        assertFalse(disabled.isEjected("127.0.0.1:8080"));
+        assertSame(upstreamList, disabled.filter(upstreamList));
+    }
+
+    private Upstream buildUpstream(final String url) {
+        return Upstream.builder().url(url).status(true).build();
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.loadbalancer.entity;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The type Latency window test.
+ */
+public class LatencyWindowTest {
+
+    @Test
+    public void testPercentile() {
+        LatencyWindow window = new LatencyWindow(100);
+        assertEquals(-1, window.percentile(50, 1));
+        for (int i = 1; i <= 100; i++) {
+            window.record(i);
+        }
+        assertEquals(50, window.percentile(50, 1));
+        assertEquals(99, window.percentile(99, 1));
+        assertEquals(100, window.percentile(100, 1));
+        assertEquals(-1, window.percentile(50, 101));
+    }
+
+    @Test
+    public void testSlidingWindow() {
+        LatencyWindow window = new LatencyWindow(10);
+        for (int i = 0; i < 10; i++) {
+            window.record(1000);
+        }
+        for (int i = 0; i < 10; i++) {
+            window.record(10);
+        }
+        assertEquals(10, window.percentile(100, 1));
+    }
+}
@@ -52,6 +52,11 @@ public enum ShenyuResultEnum {
      */
     TOO_MANY_REQUESTS(429, "You have been restricted, please try again later!"),
     
+    /**
+     * The concurrency limit of the service is exceeded.
+     */
+    SERVICE_OVERLOADED(503, "The service is overloaded, please try again later!"),
+    
     /**
      * Hystrix plugin fallback, due to a circuit break.
      */
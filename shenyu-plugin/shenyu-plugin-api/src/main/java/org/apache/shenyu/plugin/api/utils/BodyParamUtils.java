@@ -29,8 +29,10 @@ import org.springframework.util.LinkedMultiValueMap;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -92,35 +94,56 @@ public final class BodyParamUtils {
      * @return the parameters.
      */
     public static Pair<String[], Object[]> buildParameters(final String body, final String parameterTypes) {
-        List<String> paramNameList = new ArrayList<>();
-        List<String> paramTypeList = new ArrayList<>();
-
-        if (isNameMapping(parameterTypes)) {
-            Map<String, String> paramNameMap = GsonUtils.getInstance().toObjectMap(parameterTypes, String.class);
-            paramNameList.addAll(paramNameMap.keySet());
-            paramTypeList.addAll(paramNameMap.values());
-        } else {
-            Map<String, Object> paramMap = GsonUtils.getInstance().toObjectMap(body);
-            paramNameList.addAll(paramMap.keySet());
-            paramTypeList.addAll(Arrays.asList(StringUtils.split(parameterTypes, ",")));
-        }
+        return buildParameters(body, parseParameterTypes(parameterTypes));
+    }
 
-        if (paramTypeList.size() == 1 && !isBaseType(paramTypeList.get(0))) {
-            return buildSingleParameter(body, parameterTypes);
+    /**
+     * build multi parameters with the parameter types parsed by {@link #parseParameterTypes(String)}.
+     *
+     * @param body           the parameter body.
+     * @param parameterTypes the parsed parameter types.
+     * @return the parameters, the types array is shared by every call.
+     */
+    public static Pair<String[], Object[]> buildParameters(final String body, final ParameterTypes parameterTypes) {
+        if (parameterTypes.isSingle()) {
+            return buildSingleParameter(body, parameterTypes.getParameterTypes());
         }
         Map<String, Object> paramMap = GsonUtils.getInstance().toObjectMap(body);
-        Object[] objects = paramNameList.stream().map(key -> {
+        Collection<String> paramNames = Objects.nonNull(parameterTypes.getNames()) ? parameterTypes.getNames() : paramMap.keySet();
+        Object[] objects = new Object[paramNames.size()];
+        int index = 0;
+        for (String key : paramNames) {
             Object obj = paramMap.get(key);
             if (obj instanceof JsonObject) {
-                return GsonUtils.getInstance().convertToMap(obj.toString());
+                objects[index++] = GsonUtils.getInstance().convertJsonObjectToMap((JsonObject) obj);
             } else if (obj instanceof JsonArray) {
-                return GsonUtils.getInstance().fromList(obj.toString(), Object.class);
+                objects[index++] = GsonUtils.getInstance().fromJsonArray((JsonArray) obj, Object.class);
             } else {
-                return obj;
+                objects[index++] = obj;
             }
-        }).toArray();
-        String[] paramTypes = paramTypeList.toArray(new String[0]);
-        return new ImmutablePair<>(paramTypes, objects);
+        }
+        return new ImmutablePair<>(parameterTypes.getTypes(), objects);
+    }
+
+    /**
+     * parse the parameter types of a method, so that they are parsed once rather than on every call.
+     *
+     * @param parameterTypes the parameter types, separated by comma or mapped by the parameter names.
+     * @return the parsed parameter types.
+     */
+    public static ParameterTypes parseParameterTypes(final String parameterTypes) {
+        List<String> paramNames = null;
+        List<String> paramTypeList = new ArrayList<>();
+        if (isNameMapping(parameterTypes)) {
+            Map<String, String> paramNameMap = GsonUtils.getInstance().toObjectMap(parameterTypes, String.class);
+            paramNames = new ArrayList<>(paramNameMap.keySet());
+            paramTypeList.addAll(paramNameMap.values());
+        } else {
+            // the parameter names are the keys of the body
+            paramTypeList.addAll(Arrays.asList(StringUtils.split(parameterTypes, ",")));
+        }
+        boolean single = paramTypeList.size() == 1 && !isBaseType(paramTypeList.get(0));
+        return new ParameterTypes(parameterTypes, paramNames, paramTypeList.toArray(new String[0]), single);
     }
 
     private static boolean isNameMapping(final String parameterTypes) {
@@ -140,4 +163,61 @@ public final class BodyParamUtils {
             return false;
         }
     }
+
+    /**
+     * The parameter types of a method.
+     */
+    public static final class ParameterTypes {
+
+        private final String parameterTypes;
+
+        private final List<String> names;
+
+        private final String[] types;
+
+        private final boolean single;
+
+        private ParameterTypes(final String parameterTypes, final List<String> names, final String[] types, final boolean single) {
+            this.parameterTypes = parameterTypes;
+            this.names = names;
+            this.types = types;
+            this.single = single;
+        }
+
+        /**
+         * get the parameter types as configured.
+         *
+         * @return the parameter types
+         */
+        public String getParameterTypes() {
+            return parameterTypes;
+        }
+
+        /**
+         * get the parameter names, null when the names are the keys of the body.
+         *
+         * @return the parameter names
+         */
+        public List<String> getNames() {
+            return names;
+        }
+
+        /**
+         * get the parameter types.
+         *
+         * @return the parameter types
+         */
+        public String[] getTypes() {
+            return types;
+        }
+
+        /**
+         * whether the method takes a single object, which the whole body is built into.
+         *
+         * @return whether the method takes a single object
+         */
+        public boolean isSingle() {
+            return single;
+        }
+    }
 }
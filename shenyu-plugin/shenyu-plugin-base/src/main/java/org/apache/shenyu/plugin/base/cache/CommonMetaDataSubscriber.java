@@ -50,6 +50,7 @@ public class CommonMetaDataSubscriber implements MetaDataSubscriber {
 
     @Override
     public void onSubscribe(final MetaData metaData) {
+        RpcExtCache.getInstance().remove(metaData);
         Optional.ofNullable(handlerMap.get(metaData.getRpcType()))
                 .ifPresent(handler -> {
                     LOG.info("subscribe metaData: {}", JsonUtils.toJson(metaData));
@@ -59,6 +60,7 @@ public class CommonMetaDataSubscriber implements MetaDataSubscriber {
 
     @Override
     public void unSubscribe(final MetaData metaData) {
+        RpcExtCache.getInstance().remove(metaData);
         Optional.ofNullable(handlerMap.get(metaData.getRpcType()))
                 .ifPresent(handler -> {
                     LOG.info("unSubscribe metaData: {}", JsonUtils.toJson(metaData));
@@ -68,6 +70,7 @@ public class CommonMetaDataSubscriber implements MetaDataSubscriber {
 
     @Override
     public void refresh() {
+        RpcExtCache.getInstance().clean();
         if (MapUtils.isEmpty(handlerMap)) {
             return;
         }
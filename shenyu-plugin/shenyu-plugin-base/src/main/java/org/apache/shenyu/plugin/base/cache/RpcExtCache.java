@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.cache;
+
+import com.google.common.collect.Maps;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.dto.MetaData;
+import org.apache.shenyu.common.utils.GsonUtils;
+import org.apache.shenyu.common.utils.MapUtils;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The parsed rpc ext of the meta data, the rpc plugins share it instead of parsing the json again.
+ * An entry is dropped when its meta data is updated or removed, and it never outlives its rpc ext.
+ */
+public final class RpcExtCache {
+
+    private static final RpcExtCache INSTANCE = new RpcExtCache();
+
+    /**
+     * path -> parsed rpc ext.
+     */
+    private final ConcurrentMap<String, ParsedRpcExt> cache = Maps.newConcurrentMap();
+
+    private RpcExtCache() {
+    }
+
+    /**
+     * Gets instance.
+     *
+     * @return the instance
+     */
+    public static RpcExtCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Obtain the rpc ext of the meta data parsed as the given type.
+     *
+     * @param metaData the meta data
+     * @param clazz    the type of the rpc ext
+     * @param <T>      the type of the rpc ext
+     * @return the parsed rpc ext, it is shared and must not be modified, null when the rpc ext is empty
+     */
+    public <T> T obtain(final MetaData metaData, final Class<T> clazz) {
+        final String rpcExt = metaData.getRpcExt();
+        if (StringUtils.isBlank(rpcExt) || Objects.isNull(metaData.getPath())) {
+            return GsonUtils.getInstance().fromJson(rpcExt, clazz);
+        }
+        ParsedRpcExt parsed = cache.get(metaData.getPath());
+        if (Objects.isNull(parsed) || !parsed.isParsedFrom(rpcExt)) {
+            parsed = new ParsedRpcExt(rpcExt);
+            cache.put(metaData.getPath(), parsed);
+        }
+        return clazz.cast(MapUtils.computeIfAbsent(parsed.values, clazz, type -> GsonUtils.getInstance().fromJson(rpcExt, type)));
+    }
+
+    /**
+     * Remove the parsed rpc ext of the meta data.
+     *
+     * @param metaData the meta data
+     */
+    public void remove(final MetaData metaData) {
+        if (Objects.nonNull(metaData.getPath())) {
+            cache.remove(metaData.getPath());
+        }
+    }
+
+    /**
+     * Clean all the parsed rpc ext.
+     */
+    public void clean() {
+        cache.clear();
+    }
+
+    private static final class ParsedRpcExt {
+
+        private final String rpcExt;
+
+        private final Map<Class<?>, Object> values = Maps.newConcurrentMap();
+
+        ParsedRpcExt(final String rpcExt) {
+            this.rpcExt = rpcExt;
+        }
+
+        boolean isParsedFrom(final String rpcExt) {
+            return this.rpcExt.equals(rpcExt);
+        }
+    }
+}
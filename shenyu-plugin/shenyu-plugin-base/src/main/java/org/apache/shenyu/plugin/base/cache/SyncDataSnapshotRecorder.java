@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.cache;
+
+import com.google.common.collect.Maps;
+import org.apache.shenyu.common.concurrent.ShenyuThreadFactory;
+import org.apache.shenyu.common.config.ShenyuConfig;
+import org.apache.shenyu.common.dto.AppAuthData;
+import org.apache.shenyu.common.dto.DiscoverySyncData;
+import org.apache.shenyu.common.dto.ProxySelectorData;
+import org.apache.shenyu.sync.data.api.AuthDataSubscriber;
+import org.apache.shenyu.sync.data.api.DiscoveryUpstreamDataSubscriber;
+import org.apache.shenyu.sync.data.api.ProxySelectorDataSubscriber;
+import org.apache.shenyu.sync.data.core.SyncDataSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the sync data of the gateway into the local disk snapshot, the snapshot is written
+ * in the background and only when the data changed.
+ * The plugins, selectors, rules and meta data are read from {@link BaseDataCache} and {@link MetaDataCache},
+ * the auth, proxy selector and discovery upstream data have no common cache, so they are recorded by the subscribers of this.
+ */
+public class SyncDataSnapshotRecorder implements AutoCloseable {
+    
+    private static final Logger LOG = LoggerFactory.getLogger(SyncDataSnapshotRecorder.class);
+    
+    /**
+     * appKey -> AppAuthData.
+     */
+    private final ConcurrentMap<String, AppAuthData> appAuthDataMap = Maps.newConcurrentMap();
+    
+    /**
+     * id -> ProxySelectorData.
+     */
+    private final ConcurrentMap<String, ProxySelectorData> proxySelectorDataMap = Maps.newConcurrentMap();
+    
+    /**
+     * selectorId -> DiscoverySyncData.
+     */
+    private final ConcurrentMap<String, DiscoverySyncData> discoverySyncDataMap = Maps.newConcurrentMap();
+    
+    private final Path path;
+    
+    private final ScheduledExecutorService executor;
+    
+    private long lastChecksum;
+    
+    public SyncDataSnapshotRecorder(final ShenyuConfig.SyncSnapshot config) {
+        this.path = Paths.get(config.getPath());
+        this.executor = Executors.newSingleThreadScheduledExecutor(ShenyuThreadFactory.create("shenyu-sync-data-snapshot", true));
+        final long interval = Math.max(config.getFlushInterval(), 1000);
+        this.executor.scheduleWithFixedDelay(this::flushQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * the auth data subscriber recording into the snapshot.
+     *
+     * @return the auth data subscriber
+     */
+    public AuthDataSubscriber authDataSubscriber() {
+        return new AuthDataSubscriber() {
+            @Override
+            public void onSubscribe(final AppAuthData appAuthData) {
+                appAuthDataMap.put(appAuthData.getAppKey(), appAuthData);
+            }
+            
+            @Override
+            public void unSubscribe(final AppAuthData appAuthData) {
+                appAuthDataMap.remove(appAuthData.getAppKey());
+            }
+            
+            @Override
+            public void refresh() {
+                appAuthDataMap.clear();
+            }
+        };
+    }
+    
+    /**
+     * the proxy selector data subscriber recording into the snapshot.
+     *
+     * @return the proxy selector data subscriber
+     */
+    public ProxySelectorDataSubscriber proxySelectorDataSubscriber() {
+        return new ProxySelectorDataSubscriber() {
+            @Override
+            public void onSubscribe(final ProxySelectorData proxySelectorData) {
+                proxySelectorDataMap.put(proxySelectorData.getId(), proxySelectorData);
+            }
+            
+            @Override
+            public void unSubscribe(final ProxySelectorData proxySelectorData) {
+                proxySelectorDataMap.remove(proxySelectorData.getId());
+            }
+            
+            @Override
+            public void refresh() {
+                proxySelectorDataMap.clear();
+            }
+        };
+    }
+    
+    /**
+     * the discovery upstream data subscriber recording into the snapshot.
+     *
+     * @return the discovery upstream data subscriber
+     */
+    public DiscoveryUpstreamDataSubscriber discoveryUpstreamDataSubscriber() {
+        return new DiscoveryUpstreamDataSubscriber() {
+            @Override
+            public void onSubscribe(final DiscoverySyncData discoverySyncData) {
+                discoverySyncDataMap.put(discoverySyncData.getSelectorId(), discoverySyncData);
+            }
+            
+            @Override
+            public void unSubscribe(final DiscoverySyncData discoverySyncData) {
+                discoverySyncDataMap.remove(discoverySyncData.getSelectorId());
+            }
+            
+            @Override
+            public void refresh() {
+                discoverySyncDataMap.clear();
+            }
+        };
+    }
+    
+    /**
+     * take a snapshot of the current sync data.
+     *
+     * @return the snapshot
+     */
+    public SyncDataSnapshot snapshot() {
+        SyncDataSnapshot snapshot = new SyncDataSnapshot();
+        snapshot.getPluginDataList().addAll(BaseDataCache.getInstance().getPluginMap().values());
+        BaseDataCache.getInstance().getSelectorMap().values().forEach(snapshot.getSelectorDataList()::addAll);
+        BaseDataCache.getInstance().getRuleMap().values().forEach(snapshot.getRuleDataList()::addAll);
+        snapshot.getMetaDataList().addAll(MetaDataCache.getInstance().getMetaDataMap().values());
+        snapshot.getAppAuthDataList().addAll(appAuthDataMap.values());
+        snapshot.getProxySelectorDataList().addAll(proxySelectorDataMap.values());
+        snapshot.getDiscoverySyncDataList().addAll(discoverySyncDataMap.values());
+        return snapshot;
+    }
+    
+    /**
+     * write the snapshot to the disk if the sync data changed since the last write.
+     *
+     * @throws IOException the io exception
+     */
+    public synchronized void flush() throws IOException {
+        SyncDataSnapshot snapshot = snapshot();
+        if (snapshot.getPluginDataList().isEmpty() && snapshot.getSelectorDataList().isEmpty()) {
+            // nothing synced yet, keep the previous snapshot
+            return;
+        }
+        long checksum = snapshot.checksum();
+        if (checksum == lastChecksum) {
+            return;
+        }
+        SyncDataSnapshot.write(path, snapshot.encode());
+        lastChecksum = checksum;
+        LOG.info("wrote the sync data snapshot [{}]", path);
+    }
+    
+    @Override
+    public void close() {
+        executor.shutdown();
+        flushQuietly();
+    }
+    
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("write the sync data snapshot [{}] failed", path, e);
+        }
+    }
+}
@@ -325,8 +325,8 @@ public class ShenyuTrie {
                 // fail to match, reset the node to failToNode
                 ShenyuTrieNode preParentNode = currentNode.getParentNode();
                 ShenyuTrieNode newCurrentNode = currentNode.getFailToNode();
-                // search failToNode's parentNode
-                ShenyuTrieNode parentNode = newCurrentNode.getParentNode();
+                // search failToNode's parentNode, the root node has no failToNode
+                ShenyuTrieNode parentNode = Objects.isNull(newCurrentNode) ? null : newCurrentNode.getParentNode();
                 if (Objects.isNull(parentNode) || Objects.nonNull(parentNode.getFailToNode()) && Objects.nonNull(newCurrentNode.getFailToNode())
                         && completeResolveConflict(parentNode, wildcard, matchAll, pathVariable, startIndex)
                         && parentNode.getFailToNode().equals(newCurrentNode.getFailToNode()) && "/".equals(parentNode.getParentNode().getMatchStr())) {
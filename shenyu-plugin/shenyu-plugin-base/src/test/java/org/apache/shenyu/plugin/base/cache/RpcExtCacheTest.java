@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.cache;
+
+import org.apache.shenyu.common.dto.MetaData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * The test case for {@link RpcExtCache}.
+ */
+public final class RpcExtCacheTest {
+
+    @AfterEach
+    public void tearDown() {
+        RpcExtCache.getInstance().clean();
+    }
+
+    @Test
+    public void testObtainParsesOnce() {
+        MetaData metaData = buildMetaData("{\"timeout\":3000}");
+        TestExtInfo first = RpcExtCache.getInstance().obtain(metaData, TestExtInfo.class);
+        assertEquals(3000, first.timeout);
+        assertSame(first, RpcExtCache.getInstance().obtain(metaData, TestExtInfo.class));
+    }
+
+    @Test
+    public void testObtainAfterRpcExtChanged() {
+        MetaData metaData = buildMetaData("{\"timeout\":3000}");
+        TestExtInfo first = RpcExtCache.getInstance().obtain(metaData, TestExtInfo.class);
+        metaData.setRpcExt("{\"timeout\":1000}");
+        TestExtInfo second = RpcExtCache.getInstance().obtain(metaData, TestExtInfo.class);
+        assertNotSame(first, second);
+        assertEquals(1000, second.timeout);
+    }
+
+    @Test
+    public void testRemove() {
+        MetaData metaData = buildMetaData("{\"timeout\":3000}");
+        TestExtInfo first = RpcExtCache.getInstance().obtain(metaData, TestExtInfo.class);
+        RpcExtCache.getInstance().remove(metaData);
+        assertNotSame(first, RpcExtCache.getInstance().obtain(metaData, TestExtInfo.class));
+    }
+
+    @Test
+    public void testObtainEmptyRpcExt() {
+        assertNull(RpcExtCache.getInstance().obtain(buildMetaData(null), TestExtInfo.class));
+    }
+
+    private MetaData buildMetaData(final String rpcExt) {
+        return MetaData.builder().id("1").path("/test/rpcExt").rpcExt(rpcExt).build();
+    }
+
+    static class TestExtInfo {
+
+        private int timeout;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.cache;
+
+import org.apache.shenyu.common.config.ShenyuConfig;
+import org.apache.shenyu.common.dto.AppAuthData;
+import org.apache.shenyu.common.dto.MetaData;
+import org.apache.shenyu.common.dto.PluginData;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.sync.data.api.AuthDataSubscriber;
+import org.apache.shenyu.sync.data.api.MetaDataSubscriber;
+import org.apache.shenyu.sync.data.api.PluginDataSubscriber;
+import org.apache.shenyu.sync.data.core.SyncDataSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * The test case for {@link SyncDataSnapshotRecorder}.
+ */
+public final class SyncDataSnapshotRecorderTest {
+
+    @TempDir
+    private Path tempDir;
+
+    private Path snapshotPath;
+
+    private SyncDataSnapshotRecorder recorder;
+
+    @BeforeEach
+    public void setUp() {
+        snapshotPath = tempDir.resolve("sync-data.snapshot");
+        ShenyuConfig.SyncSnapshot config = new ShenyuConfig.SyncSnapshot();
+        config.setEnabled(true);
+        config.setPath(snapshotPath.toString());
+        config.setFlushInterval(Integer.MAX_VALUE);
+        recorder = new SyncDataSnapshotRecorder(config);
+        BaseDataCache.getInstance().cachePluginData(PluginData.builder().id("1").name("divide").enabled(true).build());
+        BaseDataCache.getInstance().cacheSelectData(SelectorData.builder().id("10").pluginName("divide").sort(1).build());
+        BaseDataCache.getInstance().cacheRuleData(RuleData.builder().id("100").selectorId("10").pluginName("divide").sort(1).build());
+        MetaDataCache.getInstance().cache(MetaData.builder().id("1000").path("/snapshot/meta").enabled(true).build());
+        recorder.authDataSubscriber().onSubscribe(AppAuthData.builder().appKey("appKey").appSecret("appSecret").build());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        recorder.close();
+        BaseDataCache.getInstance().cleanPluginData();
+        BaseDataCache.getInstance().cleanSelectorData();
+        BaseDataCache.getInstance().cleanRuleData();
+        MetaDataCache.getInstance().remove(MetaData.builder().id("1000").path("/snapshot/meta").build());
+    }
+
+    @Test
+    public void testFlushAndRead() throws Exception {
+        recorder.flush();
+        Optional<SyncDataSnapshot> snapshot = SyncDataSnapshot.read(snapshotPath);
+        assertTrue(snapshot.isPresent());
+        assertTrue(snapshot.get().getPluginDataList().stream().anyMatch(plugin -> "divide".equals(plugin.getName())));
+        assertTrue(snapshot.get().getSelectorDataList().stream().anyMatch(selector -> "10".equals(selector.getId())));
+        assertTrue(snapshot.get().getRuleDataList().stream().anyMatch(rule -> "100".equals(rule.getId())));
+        assertTrue(snapshot.get().getMetaDataList().stream().anyMatch(meta -> "/snapshot/meta".equals(meta.getPath())));
+        assertEquals("appSecret", snapshot.get().getAppAuthDataList().get(0).getAppSecret());
+    }
+
+    @Test
+    public void testFlushOnlyWhenChanged() throws Exception {
+        recorder.flush();
+        Files.delete(snapshotPath);
+        recorder.flush();
+        assertFalse(Files.exists(snapshotPath));
+        recorder.authDataSubscriber().unSubscribe(AppAuthData.builder().appKey("appKey").build());
+        recorder.flush();
+        assertTrue(SyncDataSnapshot.read(snapshotPath).map(snapshot -> snapshot.getAppAuthDataList().isEmpty()).orElse(false));
+    }
+
+    @Test
+    public void testReplay() throws Exception {
+        recorder.flush();
+        ShenyuConfig.SyncSnapshot config = new ShenyuConfig.SyncSnapshot();
+        config.setEnabled(true);
+        config.setPath(snapshotPath.toString());
+        PluginDataSubscriber pluginDataSubscriber = mock(PluginDataSubscriber.class);
+        MetaDataSubscriber metaDataSubscriber = mock(MetaDataSubscriber.class);
+        AuthDataSubscriber authDataSubscriber = mock(AuthDataSubscriber.class);
+        assertTrue(SyncDataSnapshot.replayIfPresent(config, pluginDataSubscriber, Collections.singletonList(metaDataSubscriber),
+                Collections.singletonList(authDataSubscriber), Collections.emptyList(), Collections.emptyList()));
+        verify(pluginDataSubscriber, atLeastOnce()).onSubscribe(any(PluginData.class));
+        verify(pluginDataSubscriber, atLeastOnce()).onSelectorSubscribe(any(SelectorData.class));
+        verify(pluginDataSubscriber, atLeastOnce()).onRuleSubscribe(any(RuleData.class));
+        verify(metaDataSubscriber, atLeastOnce()).onSubscribe(any(MetaData.class));
+        verify(authDataSubscriber, atLeastOnce()).onSubscribe(any(AppAuthData.class));
+    }
+
+    @Test
+    public void testIgnoreBrokenSnapshot() throws Exception {
+        recorder.flush();
+        byte[] bytes = Files.readAllBytes(snapshotPath);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(snapshotPath, bytes);
+        assertFalse(SyncDataSnapshot.read(snapshotPath).isPresent());
+        ShenyuConfig.SyncSnapshot config = new ShenyuConfig.SyncSnapshot();
+        config.setEnabled(true);
+        config.setPath(snapshotPath.toString());
+        PluginDataSubscriber pluginDataSubscriber = mock(PluginDataSubscriber.class);
+        assertFalse(SyncDataSnapshot.replayIfPresent(config, pluginDataSubscriber, null, null, null, null));
+        verify(pluginDataSubscriber, never()).onSubscribe(any(PluginData.class));
+    }
+}
@@ -250,6 +250,7 @@ public class ShenyuRuleTrieTest {
         shenyuAntPathTrie.putNode("/aa/**/*.html", ruleData, TrieCacheTypeEnum.RULE);
         shenyuAntPathTrie.putNode("/a/b/c/**", ruleData, TrieCacheTypeEnum.RULE);
         Assertions.assertNotNull(shenyuAntPathTrie.match("/a/b/c/d/e/f", "1"));
+        Assertions.assertNull(shenyuAntPathTrie.match("/miss/b/c", "1"));
 
         shenyuAntPathTrie.putNode("/a/b/**/c", ruleData, TrieCacheTypeEnum.RULE);
     
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.concurrency.limiter;
+
+import org.apache.shenyu.plugin.concurrency.limiter.algorithm.LimitAlgorithm;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The concurrency limiter of a selector or rule, admits a request only while the inflight requests
+ * are below the limit estimated by the {@link LimitAlgorithm}.
+ */
+public final class ConcurrencyLimiter {
+
+    private final LimitAlgorithm algorithm;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    public ConcurrencyLimiter(final LimitAlgorithm algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    /**
+     * Try to acquire a permit.
+     *
+     * @return false when the limit is reached and the request should be shed
+     */
+    public boolean tryAcquire() {
+        final int limit = algorithm.getLimit();
+        int current = inflight.get();
+        while (current < limit) {
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+            current = inflight.get();
+        }
+        return false;
+    }
+
+    /**
+     * Release the permit and feed the round trip time of the request to the algorithm.
+     *
+     * @param startNanos the nano time the permit was acquired
+     * @param dropped    whether the request failed
+     */
+    public void release(final long startNanos, final boolean dropped) {
+        final int current = inflight.getAndDecrement();
+        algorithm.onSample(System.nanoTime() - startNanos, current, dropped);
+    }
+
+    /**
+     * Release the permit without a sample, used when the request is cancelled.
+     */
+    public void ignore() {
+        inflight.decrementAndGet();
+    }
+
+    /**
+     * Gets inflight.
+     *
+     * @return the inflight
+     */
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    /**
+     * Gets limit.
+     *
+     * @return the limit
+     */
+    public int getLimit() {
+        return algorithm.getLimit();
+    }
+}
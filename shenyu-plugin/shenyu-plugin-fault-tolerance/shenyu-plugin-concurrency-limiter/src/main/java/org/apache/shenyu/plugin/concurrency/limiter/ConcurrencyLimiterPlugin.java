@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.concurrency.limiter;
+
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.enums.PluginEnum;
+import org.apache.shenyu.plugin.api.ShenyuPluginChain;
+import org.apache.shenyu.plugin.api.result.ShenyuResultEnum;
+import org.apache.shenyu.plugin.api.result.ShenyuResultWrap;
+import org.apache.shenyu.plugin.api.utils.WebFluxResultUtils;
+import org.apache.shenyu.plugin.base.AbstractShenyuPlugin;
+import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
+import org.apache.shenyu.plugin.concurrency.limiter.handler.ConcurrencyLimiterPluginDataHandler;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.Objects;
+
+/**
+ * Concurrency limiter plugin, sheds requests with 503 once the inflight requests of a rule
+ * exceed the limit adapted from the measured round trip time.
+ */
+public class ConcurrencyLimiterPlugin extends AbstractShenyuPlugin {
+
+    @Override
+    public String named() {
+        return PluginEnum.CONCURRENCY_LIMITER.getName();
+    }
+
+    @Override
+    public int getOrder() {
+        return PluginEnum.CONCURRENCY_LIMITER.getCode();
+    }
+
+    @Override
+    protected Mono<Void> doExecute(final ServerWebExchange exchange, final ShenyuPluginChain chain, final SelectorData selector, final RuleData rule) {
+        ConcurrencyLimiter limiter = ConcurrencyLimiterPluginDataHandler.CACHED_LIMITER.get().obtainHandle(CacheKeyUtils.INST.getKey(rule));
+        if (Objects.isNull(limiter)) {
+            return chain.execute(exchange);
+        }
+        if (!limiter.tryAcquire()) {
+            exchange.getResponse().setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+            Object error = ShenyuResultWrap.error(exchange, ShenyuResultEnum.SERVICE_OVERLOADED);
+            return WebFluxResultUtils.result(exchange, error);
+        }
+        final long startNanos = System.nanoTime();
+        return chain.execute(exchange).doFinally(signalType -> {
+            if (signalType == SignalType.CANCEL) {
+                limiter.ignore();
+                return;
+            }
+            limiter.release(startNanos, signalType == SignalType.ON_ERROR || isServerError(exchange));
+        });
+    }
+
+    private boolean isServerError(final ServerWebExchange exchange) {
+        HttpStatusCode status = exchange.getResponse().getStatusCode();
+        return Objects.nonNull(status) && status.is5xxServerError();
+    }
+}
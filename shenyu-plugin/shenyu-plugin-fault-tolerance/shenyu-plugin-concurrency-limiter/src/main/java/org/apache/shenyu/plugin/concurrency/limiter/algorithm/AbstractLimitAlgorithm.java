@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.concurrency.limiter.algorithm;
+
+/**
+ * The limit algorithm base class, keeps the estimated limit between min and max limit.
+ */
+public abstract class AbstractLimitAlgorithm implements LimitAlgorithm {
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    private double estimatedLimit;
+
+    private volatile int limit;
+
+    protected AbstractLimitAlgorithm(final int initialLimit, final int minLimit, final int maxLimit) {
+        this.minLimit = Math.max(minLimit, 1);
+        this.maxLimit = Math.max(maxLimit, this.minLimit);
+        this.estimatedLimit = clamp(initialLimit);
+        this.limit = (int) estimatedLimit;
+    }
+
+    @Override
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public synchronized void onSample(final long rtt, final int inflight, final boolean dropped) {
+        if (rtt <= 0) {
+            return;
+        }
+        estimatedLimit = clamp(update(estimatedLimit, rtt, inflight, dropped));
+        limit = (int) estimatedLimit;
+    }
+
+    /**
+     * Compute the new limit, the caller holds the lock of this algorithm.
+     *
+     * @param estimatedLimit the current estimated limit
+     * @param rtt            the round trip time in nanos
+     * @param inflight       the inflight requests
+     * @param dropped        whether the request was dropped
+     * @return the new estimated limit
+     */
+    protected abstract double update(double estimatedLimit, long rtt, int inflight, boolean dropped);
+
+    private double clamp(final double value) {
+        return Math.min(maxLimit, Math.max(minLimit, value));
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.concurrency.limiter.algorithm;
+
+/**
+ * Additive increase multiplicative decrease, grows the limit by one while the limit is in use
+ * and multiplies it by the backoff ratio when a request is dropped.
+ */
+public class AimdLimitAlgorithm extends AbstractLimitAlgorithm {
+
+    private final double backoffRatio;
+
+    public AimdLimitAlgorithm(final int initialLimit, final int minLimit, final int maxLimit, final double backoffRatio) {
+        super(initialLimit, minLimit, maxLimit);
+        this.backoffRatio = backoffRatio > 0 && backoffRatio < 1 ? backoffRatio : 0.9;
+    }
+
+    @Override
+    protected double update(final double estimatedLimit, final long rtt, final int inflight, final boolean dropped) {
+        if (dropped) {
+            return estimatedLimit * backoffRatio;
+        }
+        if (inflight * 2 >= estimatedLimit) {
+            return estimatedLimit + 1;
+        }
+        return estimatedLimit;
+    }
+}
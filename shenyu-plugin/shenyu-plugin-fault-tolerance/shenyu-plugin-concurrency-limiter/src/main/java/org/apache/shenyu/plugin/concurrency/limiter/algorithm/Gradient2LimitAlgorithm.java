@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.concurrency.limiter.algorithm;
+
+/**
+ * Gradient2 limit, compares the current rtt with an exponential average of the long term rtt,
+ * the limit shrinks by the gradient when the rtt grows beyond the tolerance and grows by the square root
+ * of the limit otherwise.
+ */
+public class Gradient2LimitAlgorithm extends AbstractLimitAlgorithm {
+
+    private static final int LONG_WINDOW = 600;
+
+    private static final double SMOOTHING = 0.2;
+
+    private final double tolerance;
+
+    private double longRtt;
+
+    public Gradient2LimitAlgorithm(final int initialLimit, final int minLimit, final int maxLimit, final double tolerance) {
+        super(initialLimit, minLimit, maxLimit);
+        this.tolerance = Math.max(tolerance, 1);
+    }
+
+    @Override
+    protected double update(final double estimatedLimit, final long rtt, final int inflight, final boolean dropped) {
+        if (longRtt == 0) {
+            longRtt = rtt;
+        } else {
+            longRtt = longRtt + (rtt - longRtt) / LONG_WINDOW;
+        }
+        // recover quickly once a load spike is over instead of waiting for the long window to catch up
+        if (longRtt / rtt > 2) {
+            longRtt = longRtt * 0.95;
+        }
+        if (!dropped && inflight * 2 < estimatedLimit) {
+            return estimatedLimit;
+        }
+        final double gradient = dropped ? 0.5 : Math.max(0.5, Math.min(1.0, tolerance * longRtt / rtt));
+        final double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        return estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+    }
+}
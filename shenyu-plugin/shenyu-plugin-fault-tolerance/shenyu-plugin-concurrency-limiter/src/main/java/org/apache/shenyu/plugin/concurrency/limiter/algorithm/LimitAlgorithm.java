@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.concurrency.limiter.algorithm;
+
+/**
+ * The interface Limit algorithm, estimates the concurrency limit from the measured round trip time.
+ */
+public interface LimitAlgorithm {
+
+    /**
+     * Gets the current concurrency limit.
+     *
+     * @return the limit
+     */
+    int getLimit();
+
+    /**
+     * Update the limit with a finished request.
+     *
+     * @param rtt      the round trip time in nanos
+     * @param inflight the inflight requests when the request was finished
+     * @param dropped  whether the request failed or was rejected by the upstream
+     */
+    void onSample(long rtt, int inflight, boolean dropped);
+}
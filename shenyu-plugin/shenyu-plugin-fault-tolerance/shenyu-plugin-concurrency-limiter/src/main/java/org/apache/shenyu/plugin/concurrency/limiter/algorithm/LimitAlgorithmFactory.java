@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.concurrency.limiter.algorithm;
+
+import org.apache.shenyu.common.constant.Constants;
+import org.apache.shenyu.common.dto.convert.rule.ConcurrencyLimiterHandle;
+
+/**
+ * The limit algorithm factory.
+ */
+public final class LimitAlgorithmFactory {
+
+    private LimitAlgorithmFactory() {
+    }
+
+    /**
+     * New limit algorithm by the handle, gradient2 is used when the algorithm is unknown,
+     * and the default is used for a limit, ratio or tolerance which is not positive.
+     *
+     * @param handle the concurrency limiter handle
+     * @return the limit algorithm
+     */
+    public static LimitAlgorithm newInstance(final ConcurrencyLimiterHandle handle) {
+        final String algorithm = String.valueOf(handle.getAlgorithm());
+        final int initialLimit = positiveOrDefault(handle.getInitialLimit(), Constants.CONCURRENCY_INITIAL_LIMIT);
+        final int minLimit = positiveOrDefault(handle.getMinLimit(), Constants.CONCURRENCY_MIN_LIMIT);
+        final int maxLimit = positiveOrDefault(handle.getMaxLimit(), Constants.CONCURRENCY_MAX_LIMIT);
+        switch (algorithm) {
+            case "aimd":
+                return new AimdLimitAlgorithm(initialLimit, minLimit, maxLimit, positiveOrDefault(handle.getBackoffRatio(), Constants.CONCURRENCY_BACKOFF_RATIO));
+            case "vegas":
+                return new VegasLimitAlgorithm(initialLimit, minLimit, maxLimit);
+            default:
+                return new Gradient2LimitAlgorithm(initialLimit, minLimit, maxLimit, positiveOrDefault(handle.getTolerance(), Constants.CONCURRENCY_TOLERANCE));
+        }
+    }
+
+    private static int positiveOrDefault(final int value, final int defaultValue) {
+        return value > 0 ? value : defaultValue;
+    }
+
+    private static double positiveOrDefault(final double value, final double defaultValue) {
+        return value > 0 ? value : defaultValue;
+    }
+}
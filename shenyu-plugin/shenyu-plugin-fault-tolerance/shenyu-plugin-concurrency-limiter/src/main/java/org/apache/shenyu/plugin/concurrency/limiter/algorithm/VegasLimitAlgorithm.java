@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.concurrency.limiter.algorithm;
+
+/**
+ * TCP Vegas style limit, estimates the queue size from the min rtt seen without load,
+ * grows the limit while the queue is shorter than alpha and shrinks it once the queue is longer than beta.
+ */
+public class VegasLimitAlgorithm extends AbstractLimitAlgorithm {
+
+    private static final int PROBE_MULTIPLIER = 30;
+
+    private long rttNoLoad;
+
+    private long probeCount;
+
+    public VegasLimitAlgorithm(final int initialLimit, final int minLimit, final int maxLimit) {
+        super(initialLimit, minLimit, maxLimit);
+    }
+
+    @Override
+    protected double update(final double estimatedLimit, final long rtt, final int inflight, final boolean dropped) {
+        // probe the rtt without load again from time to time, the upstream may have been scaled
+        if (++probeCount > PROBE_MULTIPLIER * (long) estimatedLimit) {
+            probeCount = 0;
+            rttNoLoad = rtt;
+            return estimatedLimit;
+        }
+        if (rttNoLoad == 0 || rtt < rttNoLoad) {
+            rttNoLoad = rtt;
+            return estimatedLimit;
+        }
+        final double log = Math.max(1, Math.log10(estimatedLimit));
+        if (dropped) {
+            return estimatedLimit - log;
+        }
+        // the limit is not in use, a short queue proves nothing
+        if (inflight * 2 < estimatedLimit) {
+            return estimatedLimit;
+        }
+        final double queueSize = Math.ceil(estimatedLimit * (1 - (double) rttNoLoad / rtt));
+        if (queueSize <= 3 * log) {
+            return estimatedLimit + log;
+        }
+        if (queueSize >= 6 * log) {
+            return estimatedLimit - log;
+        }
+        return estimatedLimit;
+    }
+}
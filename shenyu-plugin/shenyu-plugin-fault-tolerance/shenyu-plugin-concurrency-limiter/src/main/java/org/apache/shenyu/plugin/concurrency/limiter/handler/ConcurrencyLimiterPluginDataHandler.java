@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.concurrency.limiter.handler;
+
+import org.apache.shenyu.common.constant.Constants;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.dto.convert.rule.ConcurrencyLimiterHandle;
+import org.apache.shenyu.common.enums.PluginEnum;
+import org.apache.shenyu.common.utils.GsonUtils;
+import org.apache.shenyu.plugin.base.cache.CommonHandleCache;
+import org.apache.shenyu.plugin.base.handler.PluginDataHandler;
+import org.apache.shenyu.plugin.base.utils.BeanHolder;
+import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
+import org.apache.shenyu.plugin.concurrency.limiter.ConcurrencyLimiter;
+import org.apache.shenyu.plugin.concurrency.limiter.algorithm.LimitAlgorithmFactory;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * The type Concurrency limiter plugin data handler.
+ */
+public class ConcurrencyLimiterPluginDataHandler implements PluginDataHandler {
+
+    public static final Supplier<CommonHandleCache<String, ConcurrencyLimiterHandle>> CACHED_HANDLE = new BeanHolder<>(CommonHandleCache::new);
+
+    public static final Supplier<CommonHandleCache<String, ConcurrencyLimiter>> CACHED_LIMITER = new BeanHolder<>(CommonHandleCache::new);
+
+    @Override
+    public void handlerSelector(final SelectorData selectorData) {
+        if (!selectorData.getContinued()) {
+            cached(CacheKeyUtils.INST.getKey(selectorData.getId(), Constants.DEFAULT_RULE), ConcurrencyLimiterHandle.newDefaultInstance());
+        }
+    }
+
+    @Override
+    public void removeSelector(final SelectorData selectorData) {
+        remove(CacheKeyUtils.INST.getKey(selectorData.getId(), Constants.DEFAULT_RULE));
+    }
+
+    @Override
+    public void handlerRule(final RuleData ruleData) {
+        Optional.ofNullable(ruleData.getHandle()).ifPresent(s -> {
+            final ConcurrencyLimiterHandle handle = GsonUtils.getInstance().fromJson(s, ConcurrencyLimiterHandle.class);
+            cached(CacheKeyUtils.INST.getKey(ruleData), handle);
+        });
+    }
+
+    @Override
+    public void removeRule(final RuleData ruleData) {
+        Optional.ofNullable(ruleData.getHandle()).ifPresent(s -> remove(CacheKeyUtils.INST.getKey(ruleData)));
+    }
+
+    @Override
+    public String pluginNamed() {
+        return PluginEnum.CONCURRENCY_LIMITER.getName();
+    }
+
+    private void cached(final String key, final ConcurrencyLimiterHandle handle) {
+        // keep the learned limit when the same handle is published again
+        if (Objects.equals(handle, CACHED_HANDLE.get().obtainHandle(key))
+                && Objects.nonNull(CACHED_LIMITER.get().obtainHandle(key))) {
+            return;
+        }
+        CACHED_HANDLE.get().cachedHandle(key, handle);
+        CACHED_LIMITER.get().cachedHandle(key, new ConcurrencyLimiter(LimitAlgorithmFactory.newInstance(handle)));
+    }
+
+    private void remove(final String key) {
+        CACHED_HANDLE.get().removeHandle(key);
+        CACHED_LIMITER.get().removeHandle(key);
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.concurrency.limiter;
+
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.dto.convert.rule.ConcurrencyLimiterHandle;
+import org.apache.shenyu.common.enums.PluginEnum;
+import org.apache.shenyu.common.utils.GsonUtils;
+import org.apache.shenyu.plugin.api.ShenyuPluginChain;
+import org.apache.shenyu.plugin.api.result.DefaultShenyuResult;
+import org.apache.shenyu.plugin.api.result.ShenyuResult;
+import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
+import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
+import org.apache.shenyu.plugin.concurrency.limiter.handler.ConcurrencyLimiterPluginDataHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * ConcurrencyLimiterPlugin test.
+ */
+public final class ConcurrencyLimiterPluginTest {
+
+    private final ConcurrencyLimiterPlugin concurrencyLimiterPlugin = new ConcurrencyLimiterPlugin();
+
+    private final ConcurrencyLimiterPluginDataHandler handler = new ConcurrencyLimiterPluginDataHandler();
+
+    private ShenyuPluginChain chain;
+
+    private RuleData ruleData;
+
+    private SelectorData selectorData;
+
+    @BeforeEach
+    public void setUp() {
+        this.chain = mock(ShenyuPluginChain.class);
+        this.selectorData = mock(SelectorData.class);
+        this.ruleData = new RuleData();
+        ruleData.setId("concurrencyLimiterRule");
+        ruleData.setSelectorId("concurrencyLimiterSelector");
+        ConcurrencyLimiterHandle handle = ConcurrencyLimiterHandle.newDefaultInstance();
+        handle.setAlgorithm("aimd");
+        handle.setInitialLimit(1);
+        ruleData.setHandle(GsonUtils.getInstance().toJson(handle));
+        handler.handlerRule(ruleData);
+        ConfigurableApplicationContext context = mock(ConfigurableApplicationContext.class);
+        when(context.getBean(ShenyuResult.class)).thenReturn(new DefaultShenyuResult());
+        SpringBeanUtils.getInstance().setApplicationContext(context);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        handler.removeRule(ruleData);
+    }
+
+    @Test
+    public void doExecuteAllowedTest() {
+        when(chain.execute(any())).thenReturn(Mono.empty());
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("localhost").build());
+        StepVerifier.create(concurrencyLimiterPlugin.doExecute(exchange, chain, selectorData, ruleData)).expectSubscription().verifyComplete();
+        assertEquals(0, limiter().getInflight());
+    }
+
+    @Test
+    public void doExecuteOverLimitTest() {
+        Sinks.Empty<Void> pending = Sinks.empty();
+        when(chain.execute(any())).thenReturn(pending.asMono());
+        ServerWebExchange first = MockServerWebExchange.from(MockServerHttpRequest.get("localhost").build());
+        StepVerifier.create(concurrencyLimiterPlugin.doExecute(first, chain, selectorData, ruleData))
+                .expectSubscription()
+                .then(() -> {
+                    ServerWebExchange second = MockServerWebExchange.from(MockServerHttpRequest.get("localhost").build());
+                    StepVerifier.create(concurrencyLimiterPlugin.doExecute(second, chain, selectorData, ruleData)).expectSubscription().verifyComplete();
+                    assertEquals(HttpStatus.SERVICE_UNAVAILABLE, second.getResponse().getStatusCode());
+                    pending.tryEmitEmpty();
+                })
+                .verifyComplete();
+        assertEquals(0, limiter().getInflight());
+        assertEquals(2, limiter().getLimit());
+    }
+
+    @Test
+    public void handlerRuleKeepLimiterTest() {
+        ConcurrencyLimiter limiter = limiter();
+        handler.handlerRule(ruleData);
+        assertSame(limiter, limiter());
+        ruleData.setHandle(GsonUtils.getInstance().toJson(ConcurrencyLimiterHandle.newDefaultInstance()));
+        handler.handlerRule(ruleData);
+        assertNotSame(limiter, limiter());
+    }
+
+    @Test
+    public void namedTest() {
+        assertEquals(PluginEnum.CONCURRENCY_LIMITER.getName(), concurrencyLimiterPlugin.named());
+    }
+
+    @Test
+    public void getOrderTest() {
+        assertEquals(PluginEnum.CONCURRENCY_LIMITER.getCode(), concurrencyLimiterPlugin.getOrder());
+    }
+
+    private ConcurrencyLimiter limiter() {
+        return ConcurrencyLimiterPluginDataHandler.CACHED_LIMITER.get().obtainHandle(CacheKeyUtils.INST.getKey(ruleData));
+    }
+}
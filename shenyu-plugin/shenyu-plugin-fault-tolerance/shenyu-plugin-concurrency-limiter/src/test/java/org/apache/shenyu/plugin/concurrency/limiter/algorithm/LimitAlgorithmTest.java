@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.concurrency.limiter.algorithm;
+
+import org.apache.shenyu.common.dto.convert.rule.ConcurrencyLimiterHandle;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The test case for the limit algorithms.
+ */
+public final class LimitAlgorithmTest {
+
+    private static final long RTT = TimeUnit.MILLISECONDS.toNanos(10);
+
+    @Test
+    public void testAimd() {
+        AimdLimitAlgorithm algorithm = new AimdLimitAlgorithm(10, 1, 20, 0.5);
+        algorithm.onSample(RTT, 10, false);
+        assertEquals(11, algorithm.getLimit());
+        algorithm.onSample(RTT, 1, false);
+        assertEquals(11, algorithm.getLimit());
+        algorithm.onSample(RTT, 10, true);
+        assertEquals(5, algorithm.getLimit());
+        for (int i = 0; i < 100; i++) {
+            algorithm.onSample(RTT, 20, false);
+        }
+        assertEquals(20, algorithm.getLimit());
+    }
+
+    @Test
+    public void testVegas() {
+        VegasLimitAlgorithm algorithm = new VegasLimitAlgorithm(10, 1, 100);
+        algorithm.onSample(RTT, 10, false);
+        algorithm.onSample(RTT, 10, false);
+        assertEquals(11, algorithm.getLimit());
+        // rtt grows fourfold, most of the limit is queueing
+        algorithm.onSample(RTT * 4, 11, false);
+        assertEquals(9, algorithm.getLimit());
+    }
+
+    @Test
+    public void testGradient2() {
+        Gradient2LimitAlgorithm algorithm = new Gradient2LimitAlgorithm(20, 1, 100, 1.5);
+        for (int i = 0; i < 20; i++) {
+            algorithm.onSample(RTT, 20, false);
+        }
+        int grown = algorithm.getLimit();
+        assertTrue(grown > 20);
+        for (int i = 0; i < 20; i++) {
+            algorithm.onSample(RTT * 5, grown, false);
+        }
+        assertTrue(algorithm.getLimit() < grown);
+    }
+
+    @Test
+    public void testMinLimit() {
+        AimdLimitAlgorithm algorithm = new AimdLimitAlgorithm(2, 2, 10, 0.5);
+        algorithm.onSample(RTT, 2, true);
+        assertEquals(2, algorithm.getLimit());
+    }
+
+    @Test
+    public void testFactoryIgnoreUnsetLimits() {
+        ConcurrencyLimiterHandle handle = new ConcurrencyLimiterHandle();
+        handle.setAlgorithm("aimd");
+        handle.setInitialLimit(0);
+        handle.setMinLimit(0);
+        handle.setMaxLimit(0);
+        handle.setBackoffRatio(0);
+        LimitAlgorithm algorithm = LimitAlgorithmFactory.newInstance(handle);
+        assertTrue(algorithm instanceof AimdLimitAlgorithm);
+        assertEquals(ConcurrencyLimiterHandle.newDefaultInstance().getInitialLimit(), algorithm.getLimit());
+    }
+}
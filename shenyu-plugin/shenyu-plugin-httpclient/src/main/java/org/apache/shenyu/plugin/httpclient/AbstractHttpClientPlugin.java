@@ -26,6 +26,7 @@ import org.apache.shenyu.common.enums.RetryEnum;
 import org.apache.shenyu.common.exception.ShenyuException;
 import org.apache.shenyu.common.utils.LogUtils;
 import org.apache.shenyu.loadbalancer.cache.UpstreamCacheManager;
+import org.apache.shenyu.loadbalancer.cache.UpstreamOutlierDetector;
 import org.apache.shenyu.loadbalancer.entity.Upstream;
 import org.apache.shenyu.loadbalancer.factory.LoadBalancerFactory;
 import org.apache.shenyu.plugin.api.ShenyuPlugin;
@@ -40,25 +41,33 @@ import org.apache.shenyu.plugin.httpclient.exception.ShenyuTimeoutException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.Exceptions;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
 import reactor.util.retry.Retry;
 import reactor.util.retry.RetryBackoffSpec;
 
 import java.net.URI;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -82,9 +91,45 @@ public abstract class AbstractHttpClientPlugin<R> implements ShenyuPlugin {
         final int retryTimes = (int) Optional.ofNullable(exchange.getAttribute(Constants.HTTP_RETRY)).orElse(0);
         final String retryStrategy = (String) Optional.ofNullable(exchange.getAttribute(Constants.RETRY_STRATEGY)).orElseGet(RetryEnum.CURRENT::getName);
         LogUtils.debug(LOG, () -> String.format("The request urlPath is: %s, retryTimes is : %s, retryStrategy is : %s", uri, retryTimes, retryStrategy));
-        final Mono<R> response = doRequest(exchange, exchange.getRequest().getMethod().name(), uri, exchange.getRequest().getBody())
-                .timeout(duration, Mono.error(() -> new TimeoutException("Response took longer than timeout: " + duration)))
-                .doOnError(e -> LOG.error(e.getMessage(), e));
+        final long retryBodyMaxSize = (long) Optional.ofNullable(exchange.getAttribute(Constants.HTTP_RETRY_BODY_MAX_SIZE)).orElse(0L);
+        if (retryTimes <= 0 || retryBodyMaxSize <= 0) {
+            return executeWithRetry(exchange, chain, uri, duration, retryTimes, retryStrategy, () -> exchange.getRequest().getBody());
+        }
+        final HttpHeaders requestHeaders = exchange.getRequest().getHeaders();
+        final long contentLength = requestHeaders.getContentLength();
+        // a body without content length, e.g. a chunked or http2 request, cannot be buffered ahead
+        final boolean unknownLength = contentLength < 0 && mayHaveBody(exchange.getRequest().getMethod(), requestHeaders);
+        if (unknownLength || contentLength > retryBodyMaxSize) {
+            // the body is too large or of unknown size, stream it without retry
+            LogUtils.debug(LOG, () -> String.format("The request body of %s exceeds retryBodyMaxSize %s, retry is disabled", uri, retryBodyMaxSize));
+            return executeWithRetry(exchange, chain, uri, duration, 0, retryStrategy, () -> exchange.getRequest().getBody());
+        }
+        if (contentLength <= 0) {
+            return executeWithRetry(exchange, chain, uri, duration, retryTimes, retryStrategy, () -> exchange.getRequest().getBody());
+        }
+        return ReplayableRequestBody.buffer(exchange.getRequest().getBody(), (int) Math.min(retryBodyMaxSize, Integer.MAX_VALUE))
+                .onErrorMap(DataBufferLimitException.class, th -> new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, th.getMessage(), th))
+                .flatMap(body -> executeWithRetry(exchange, chain, uri, duration, retryTimes, retryStrategy, body::replay)
+                        .doFinally(signalType -> body.release()));
+    }
+
+    private boolean mayHaveBody(final HttpMethod method, final HttpHeaders requestHeaders) {
+        if (requestHeaders.containsKey(HttpHeaders.TRANSFER_ENCODING)) {
+            return true;
+        }
+        return !HttpMethod.GET.equals(method) && !HttpMethod.HEAD.equals(method)
+                && !HttpMethod.OPTIONS.equals(method) && !HttpMethod.TRACE.equals(method);
+    }
+
+    private Mono<Void> executeWithRetry(final ServerWebExchange exchange,
+                                        final ShenyuPluginChain chain,
+                                        final URI uri,
+                                        final Duration duration,
+                                        final int retryTimes,
+                                        final String retryStrategy,
+                                        final Supplier<Flux<DataBuffer>> body) {
+        final long hedgeDelay = hedgeDelay(exchange);
+        final Mono<R> response = hedgeDelay > 0 ? hedge(exchange, uri, duration, body, hedgeDelay) : request(exchange, uri, duration, body);
         if (RetryEnum.CURRENT.getName().equals(retryStrategy)) {
             //old version of DividePlugin and SpringCloudPlugin will run on this
             RetryBackoffSpec retryBackoffSpec = Retry.backoff(retryTimes, Duration.ofMillis(20L))
@@ -102,7 +147,7 @@ public abstract class AbstractHttpClientPlugin<R> implements ShenyuPlugin {
                     .flatMap((Function<Object, Mono<? extends Void>>) o -> chain.execute(exchange));
         }
         final Set<URI> exclude = Sets.newHashSet(uri);
-        return resend(response, exchange, duration, exclude, retryTimes)
+        return resend(response, exchange, duration, exclude, retryTimes, body)
                 .onErrorMap(ShenyuException.class, th -> new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
                         ShenyuResultEnum.CANNOT_FIND_HEALTHY_UPSTREAM_URL_AFTER_FAILOVER.getMsg(), th))
                 .onErrorMap(TimeoutException.class, th -> new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT, th.getMessage(), th))
@@ -113,10 +158,11 @@ public abstract class AbstractHttpClientPlugin<R> implements ShenyuPlugin {
                            final ServerWebExchange exchange,
                            final Duration duration,
                            final Set<URI> exclude,
-                           final int retryTimes) {
+                           final int retryTimes,
+                           final Supplier<Flux<DataBuffer>> body) {
         Mono<R> result = clientResponse;
         for (int i = 0; i < retryTimes; i++) {
-            result = resend(result, exchange, duration, exclude);
+            result = resend(result, exchange, duration, exclude, body);
         }
         return result;
     }
@@ -124,42 +170,140 @@ public abstract class AbstractHttpClientPlugin<R> implements ShenyuPlugin {
     private Mono<R> resend(final Mono<R> response,
                            final ServerWebExchange exchange,
                            final Duration duration,
-                           final Set<URI> exclude) {
+                           final Set<URI> exclude,
+                           final Supplier<Flux<DataBuffer>> body) {
         // does it necessary to add backoff interval time ?
         return response.onErrorResume(th -> {
-            final String selectorId = exchange.getAttribute(Constants.DIVIDE_SELECTOR_ID);
-            final String loadBalance = exchange.getAttribute(Constants.LOAD_BALANCE);
-            //always query the latest available list
-            final List<Upstream> upstreamList = UpstreamCacheManager.getInstance().findUpstreamListBySelectorId(selectorId)
-                    .stream().filter(data -> {
-                        final String trimUri = data.getUrl().trim();
-                        for (URI needToExclude : exclude) {
-                            // exclude already called
-                            if ((needToExclude.getHost() + ":" + needToExclude.getPort()).equals(trimUri)) {
-                                return false;
-                            }
-                        }
-                        return true;
-                    }).collect(Collectors.toList());
-            if (CollectionUtils.isEmpty(upstreamList)) {
+            final URI newUri = selectUpstreamUri(exchange, exclude);
+            if (Objects.isNull(newUri)) {
                 // no need to retry anymore
                 return Mono.error(new ShenyuException(ShenyuResultEnum.CANNOT_FIND_HEALTHY_UPSTREAM_URL_AFTER_FAILOVER.getMsg()));
             }
-            final String ip = Objects.requireNonNull(exchange.getRequest().getRemoteAddress()).getAddress().getHostAddress();
-            final Upstream upstream = LoadBalancerFactory.selector(upstreamList, loadBalance, ip);
-            if (Objects.isNull(upstream)) {
-                // no need to retry anymore
-                return Mono.error(new ShenyuException(ShenyuResultEnum.CANNOT_FIND_HEALTHY_UPSTREAM_URL_AFTER_FAILOVER.getMsg()));
-            }
-            final URI newUri = RequestUrlUtils.buildRequestUri(exchange, upstream.buildDomain());
             // in order not to affect the next retry call, newUri needs to be excluded
             exclude.add(newUri);
-            return doRequest(exchange, exchange.getRequest().getMethod().name(), newUri, exchange.getRequest().getBody())
-                    .timeout(duration, Mono.error(() -> new TimeoutException("Response took longer than timeout: " + duration)))
-                    .doOnError(e -> LOG.error(e.getMessage(), e));
+            return request(exchange, newUri, duration, body);
         });
     }
 
+    private Mono<R> request(final ServerWebExchange exchange,
+                            final URI uri,
+                            final Duration duration,
+                            final Supplier<Flux<DataBuffer>> body) {
+        final String upstreamUrl = uri.getRawAuthority();
+        final Mono<R> response = doRequest(exchange, exchange.getRequest().getMethod().name(), uri, body.get())
+                .timeout(duration, Mono.error(() -> new TimeoutException("Response took longer than timeout: " + duration)))
+                .doOnSuccess(r -> Optional.ofNullable(r).ifPresent(res -> UpstreamOutlierDetector.getInstance().record(upstreamUrl, !isServerError(res))))
+                .doOnError(e -> {
+                    UpstreamOutlierDetector.getInstance().record(upstreamUrl, false);
+                    LOG.error(e.getMessage(), e);
+                });
+        final int hedgePercentile = (int) Optional.ofNullable(exchange.getAttribute(Constants.HTTP_HEDGE_PERCENTILE)).orElse(0);
+        final String selectorId = exchange.getAttribute(Constants.DIVIDE_SELECTOR_ID);
+        if (hedgePercentile <= 0 || Objects.isNull(selectorId)) {
+            return response;
+        }
+        // observe the latency so that the hedge delay follows the upstream, an attempt cancelled by
+        // the hedge or timed out is sampled with its elapsed time as the lower bound of its latency
+        return Mono.defer(() -> {
+            final long start = System.currentTimeMillis();
+            return response
+                    .doOnError(TimeoutException.class, e -> UpstreamCacheManager.getInstance().recordLatency(selectorId, System.currentTimeMillis() - start))
+                    .doFinally(signalType -> {
+                        if (SignalType.ON_ERROR != signalType) {
+                            UpstreamCacheManager.getInstance().recordLatency(selectorId, System.currentTimeMillis() - start);
+                        }
+                    });
+        });
+    }
+
+    private Mono<R> hedge(final ServerWebExchange exchange,
+                          final URI uri,
+                          final Duration duration,
+                          final Supplier<Flux<DataBuffer>> body,
+                          final long hedgeDelay) {
+        return Mono.defer(() -> {
+            // only the first response is written to the exchange, the other one is dropped
+            exchange.getAttributes().put(Constants.HTTP_HEDGE_CLAIMED, new AtomicBoolean(false));
+            final Mono<R> hedged = Mono.delay(Duration.ofMillis(hedgeDelay))
+                    .flatMap(tick -> {
+                        final URI hedgeUri = selectUpstreamUri(exchange, Sets.newHashSet(uri));
+                        if (Objects.isNull(hedgeUri)) {
+                            return Mono.empty();
+                        }
+                        LogUtils.debug(LOG, () -> String.format("The request %s is slower than %sms, hedge it to %s", uri, hedgeDelay, hedgeUri));
+                        return request(exchange, hedgeUri, duration, body);
+                    });
+            return Mono.firstWithValue(request(exchange, uri, duration, body), hedged);
+        }).onErrorMap(NoSuchElementException.class, th -> Optional.ofNullable(th.getCause())
+                .map(cause -> Exceptions.unwrapMultiple(cause).get(0)).orElse(th));
+    }
+
+    private long hedgeDelay(final ServerWebExchange exchange) {
+        final HttpMethod method = exchange.getRequest().getMethod();
+        if (!HttpMethod.GET.equals(method) && !HttpMethod.HEAD.equals(method) && !HttpMethod.OPTIONS.equals(method)) {
+            // only idempotent requests are hedged
+            return 0;
+        }
+        final long hedgeDelay = (long) Optional.ofNullable(exchange.getAttribute(Constants.HTTP_HEDGE_DELAY)).orElse(0L);
+        final int hedgePercentile = (int) Optional.ofNullable(exchange.getAttribute(Constants.HTTP_HEDGE_PERCENTILE)).orElse(0);
+        final String selectorId = exchange.getAttribute(Constants.DIVIDE_SELECTOR_ID);
+        if (hedgePercentile <= 0 || Objects.isNull(selectorId)) {
+            return hedgeDelay;
+        }
+        final long observed = UpstreamCacheManager.getInstance().findLatencyPercentile(selectorId, hedgePercentile);
+        // fall back to the fixed delay until enough latency is observed
+        return observed > 0 ? observed : hedgeDelay;
+    }
+
+    private URI selectUpstreamUri(final ServerWebExchange exchange, final Set<URI> exclude) {
+        final String selectorId = exchange.getAttribute(Constants.DIVIDE_SELECTOR_ID);
+        final String loadBalance = exchange.getAttribute(Constants.LOAD_BALANCE);
+        //always query the latest available list
+        final List<Upstream> upstreamList = Optional.ofNullable(UpstreamCacheManager.getInstance().findUpstreamListBySelectorId(selectorId))
+                .orElse(Collections.emptyList())
+                .stream().filter(data -> {
+                    final String trimUri = data.getUrl().trim();
+                    for (URI needToExclude : exclude) {
+                        // exclude already called
+                        if ((needToExclude.getHost() + ":" + needToExclude.getPort()).equals(trimUri)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }).collect(Collectors.toList());
+        if (CollectionUtils.isEmpty(upstreamList)) {
+            return null;
+        }
+        final String ip = Objects.requireNonNull(exchange.getRequest().getRemoteAddress()).getAddress().getHostAddress();
+        final Upstream upstream = LoadBalancerFactory.selector(upstreamList, loadBalance, ip);
+        if (Objects.isNull(upstream)) {
+            return null;
+        }
+        return RequestUrlUtils.buildRequestUri(exchange, upstream.buildDomain());
+    }
+
+    /**
+     * Claim the response of the exchange. When the request is hedged, only the first
+     * response may be written to the exchange and the others must be dropped.
+     *
+     * @param exchange the current server exchange
+     * @return true if the response can be written to the exchange
+     */
+    protected boolean claimResponse(final ServerWebExchange exchange) {
+        final AtomicBoolean claimed = exchange.getAttribute(Constants.HTTP_HEDGE_CLAIMED);
+        return Objects.isNull(claimed) || claimed.compareAndSet(false, true);
+    }
+
+    /**
+     * Whether the upstream answered with a server error, the error is reported to the outlier detection.
+     *
+     * @param response the response of the upstream
+     * @return true if the response is a server error
+     */
+    protected boolean isServerError(final R response) {
+        return false;
+    }
+
     /**
      * Process the Web request.
      *
@@ -25,7 +25,7 @@ import org.apache.shenyu.common.enums.PluginEnum;
 import org.apache.shenyu.plugin.httpclient.config.DuplicateResponseHeaderProperties;
 import org.apache.shenyu.plugin.httpclient.config.DuplicateResponseHeaderProperties.DuplicateResponseHeaderStrategy;
 import org.springframework.core.io.buffer.DataBuffer;
-import org.springframework.core.io.buffer.NettyDataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.server.reactive.AbstractServerHttpResponse;
@@ -63,12 +63,19 @@ public class NettyHttpClientPlugin extends AbstractHttpClientPlugin<HttpClientRe
     @Override
     protected Mono<HttpClientResponse> doRequest(final ServerWebExchange exchange, final String httpMethod,
                                                  final URI uri, final Flux<DataBuffer> body) {
-        return Mono.from(httpClient.headers(headers -> {
-            exchange.getRequest().getHeaders().forEach(headers::add);
-            headers.remove(HttpHeaders.HOST);
-        }).request(HttpMethod.valueOf(httpMethod)).uri(uri.toASCIIString())
-                .send((req, nettyOutbound) -> nettyOutbound.send(body.map(dataBuffer -> ((NettyDataBuffer) dataBuffer).getNativeBuffer())))
+        return Mono.from(httpClient.headers(headers -> exchange.getRequest().getHeaders().forEach((name, values) -> {
+            // the host header is built from the upstream uri
+            if (!HttpHeaders.HOST.equalsIgnoreCase(name)) {
+                headers.add(name, values);
+            }
+        })).request(HttpMethod.valueOf(httpMethod)).uri(uri.toASCIIString())
+                .send((req, nettyOutbound) -> nettyOutbound.send(body.map(NettyDataBufferFactory::toByteBuf)))
                 .responseConnection((res, connection) -> {
+                    if (!claimResponse(exchange)) {
+                        // the hedged request has already responded
+                        connection.dispose();
+                        return Mono.empty();
+                    }
                     exchange.getAttributes().put(Constants.CLIENT_RESPONSE_ATTR, res);
                     exchange.getAttributes().put(Constants.CLIENT_RESPONSE_CONN_ATTR, connection);
                     final ServerHttpResponse response = exchange.getResponse();
@@ -103,6 +110,11 @@ public class NettyHttpClientPlugin extends AbstractHttpClientPlugin<HttpClientRe
         }
     }
 
+    @Override
+    protected boolean isServerError(final HttpClientResponse response) {
+        return response.status().code() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+    }
+
     @Override
     public int getOrder() {
         return PluginEnum.NETTY_HTTP_CLIENT.getCode();
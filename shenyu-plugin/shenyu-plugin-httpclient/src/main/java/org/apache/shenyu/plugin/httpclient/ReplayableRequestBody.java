@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.httpclient;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.core.io.buffer.NettyDataBuffer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+/**
+ * The request body buffered once so that it can be replayed on retry and failover.
+ * Netty buffers stay pooled and every replay is a retained duplicate of the same memory,
+ * other buffers are copied once into a byte array which is wrapped on every replay.
+ */
+public final class ReplayableRequestBody {
+
+    private final NettyDataBuffer nettyBuffer;
+
+    private final byte[] bytes;
+
+    private ReplayableRequestBody(final DataBuffer buffer) {
+        if (buffer instanceof NettyDataBuffer) {
+            this.nettyBuffer = (NettyDataBuffer) buffer;
+            this.bytes = null;
+        } else {
+            this.nettyBuffer = null;
+            this.bytes = new byte[buffer.readableByteCount()];
+            buffer.read(this.bytes);
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    /**
+     * Buffer the body, fails with {@link org.springframework.core.io.buffer.DataBufferLimitException}
+     * when the body is larger than max size.
+     *
+     * @param body    the request body
+     * @param maxSize the max body size in bytes
+     * @return the replayable request body
+     */
+    public static Mono<ReplayableRequestBody> buffer(final Flux<DataBuffer> body, final int maxSize) {
+        return DataBufferUtils.join(body, maxSize)
+                .defaultIfEmpty(DefaultDataBufferFactory.sharedInstance.allocateBuffer(0))
+                .map(ReplayableRequestBody::new);
+    }
+
+    /**
+     * Replay the body, every subscription gets its own view of the buffered bytes.
+     *
+     * @return the request body
+     */
+    public Flux<DataBuffer> replay() {
+        return Flux.defer(() -> Flux.just(duplicate()))
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+    }
+
+    /**
+     * Release the buffered body, must be called once when all attempts are finished.
+     */
+    public void release() {
+        if (Objects.nonNull(nettyBuffer)) {
+            DataBufferUtils.release(nettyBuffer);
+        }
+    }
+
+    private DataBuffer duplicate() {
+        if (Objects.nonNull(nettyBuffer)) {
+            return nettyBuffer.factory().wrap(nettyBuffer.getNativeBuffer().retainedDuplicate());
+        }
+        return DefaultDataBufferFactory.sharedInstance.wrap(bytes);
+    }
+}
@@ -37,6 +37,7 @@ import reactor.core.publisher.Mono;
 
 import java.net.URI;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * The type Web client plugin.
@@ -82,6 +83,12 @@ public class WebClientPlugin extends AbstractHttpClientPlugin<ResponseEntity<Flu
                 .onRawStatus(httpStatus -> httpStatus >= 400, clientResponse -> Mono.empty());
         return responseSpec.toEntityFlux(DataBuffer.class)
                 .flatMap(fluxResponseEntity -> {
+                    if (!claimResponse(exchange)) {
+                        // the hedged request has already responded, release the body
+                        return Flux.from(Objects.requireNonNull(fluxResponseEntity.getBody()))
+                                .doOnNext(DataBufferUtils::release)
+                                .then(Mono.empty());
+                    }
                     if (fluxResponseEntity.getStatusCode().is2xxSuccessful()) {
                         exchange.getAttributes().put(Constants.CLIENT_RESPONSE_RESULT_TYPE, ResultEnum.SUCCESS.getName());
                     } else {
@@ -108,6 +115,11 @@ public class WebClientPlugin extends AbstractHttpClientPlugin<ResponseEntity<Flu
         }
     }
 
+    @Override
+    protected boolean isServerError(final ResponseEntity<Flux<DataBuffer>> response) {
+        return response.getStatusCode().is5xxServerError();
+    }
+
     @Override
     public int getOrder() {
         return PluginEnum.WEB_CLIENT.getCode();
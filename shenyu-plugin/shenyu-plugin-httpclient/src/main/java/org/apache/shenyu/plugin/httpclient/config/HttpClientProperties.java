@@ -22,6 +22,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.common.exception.ShenyuException;
 import org.springframework.util.ResourceUtils;
 import reactor.netty.ReactorNetty;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.resources.ConnectionProvider;
 import reactor.netty.resources.LoopResources;
 
@@ -121,6 +122,12 @@ public class HttpClientProperties {
      */
     private Integer maxInMemorySize = 1;
 
+    /**
+     * The http protocols used to the upstreams, eg. HTTP11, H2, H2C.
+     * When it is empty, H2 is enabled together with server.http2.enabled.
+     */
+    private List<HttpProtocol> protocols = new ArrayList<>();
+
     /**
      * Gets strategy.
      *
@@ -390,6 +397,24 @@ public class HttpClientProperties {
         this.maxInMemorySize = maxInMemorySize;
     }
 
+    /**
+     * Gets protocols.
+     *
+     * @return the protocols
+     */
+    public List<HttpProtocol> getProtocols() {
+        return protocols;
+    }
+
+    /**
+     * Sets protocols.
+     *
+     * @param protocols the protocols
+     */
+    public void setProtocols(final List<HttpProtocol> protocols) {
+        this.protocols = protocols;
+    }
+
     /**
      * The type Pool.
      */
@@ -437,6 +462,11 @@ public class HttpClientProperties {
          */
         private Boolean metrics = Boolean.FALSE;
 
+        /**
+         * The pool configuration of specific upstreams, which overrides the default one.
+         */
+        private List<UpstreamPool> upstreams = new ArrayList<>();
+
         /**
          * Gets type.
          *
@@ -581,6 +611,24 @@ public class HttpClientProperties {
             return metrics;
         }
         
+        /**
+         * Gets upstreams.
+         *
+         * @return the upstreams
+         */
+        public List<UpstreamPool> getUpstreams() {
+            return upstreams;
+        }
+        
+        /**
+         * Sets upstreams.
+         *
+         * @param upstreams the upstreams
+         */
+        public void setUpstreams(final List<UpstreamPool> upstreams) {
+            this.upstreams = upstreams;
+        }
+        
         /**
          * The enum Pool type.
          */
@@ -603,6 +651,196 @@ public class HttpClientProperties {
         }
     }
 
+    /**
+     * The connection pool of a specific upstream host.
+     */
+    public static class UpstreamPool {
+
+        /**
+         * The upstream host.
+         */
+        private String host;
+
+        /**
+         * The upstream port.
+         */
+        private Integer port = 80;
+
+        /**
+         * The maximum number of connections to the upstream.
+         */
+        private Integer maxConnections;
+
+        /**
+         * The maximum number of pending acquire requests, -1 means no limit.
+         */
+        private Integer pendingAcquireMaxCount;
+
+        /**
+         * The maximum time in millis to wait for acquiring a connection.
+         */
+        private Long pendingAcquireTimeout;
+
+        /**
+         * Time in millis after which the idle channel will be closed.
+         */
+        private Long maxIdleTime;
+
+        /**
+         * Perform regular eviction checks in the background at a specified interval.
+         */
+        private Long evictionInterval;
+
+        /**
+         * Enables the pool metrics of the upstream.
+         */
+        private Boolean metrics = Boolean.FALSE;
+
+        /**
+         * Gets host.
+         *
+         * @return the host
+         */
+        public String getHost() {
+            return host;
+        }
+
+        /**
+         * Sets host.
+         *
+         * @param host the host
+         */
+        public void setHost(final String host) {
+            this.host = host;
+        }
+
+        /**
+         * Gets port.
+         *
+         * @return the port
+         */
+        public Integer getPort() {
+            return port;
+        }
+
+        /**
+         * Sets port.
+         *
+         * @param port the port
+         */
+        public void setPort(final Integer port) {
+            this.port = port;
+        }
+
+        /**
+         * Gets max connections.
+         *
+         * @return the max connections
+         */
+        public Integer getMaxConnections() {
+            return maxConnections;
+        }
+
+        /**
+         * Sets max connections.
+         *
+         * @param maxConnections the max connections
+         */
+        public void setMaxConnections(final Integer maxConnections) {
+            this.maxConnections = maxConnections;
+        }
+
+        /**
+         * Gets pending acquire max count.
+         *
+         * @return the pending acquire max count
+         */
+        public Integer getPendingAcquireMaxCount() {
+            return pendingAcquireMaxCount;
+        }
+
+        /**
+         * Sets pending acquire max count.
+         *
+         * @param pendingAcquireMaxCount the pending acquire max count
+         */
+        public void setPendingAcquireMaxCount(final Integer pendingAcquireMaxCount) {
+            this.pendingAcquireMaxCount = pendingAcquireMaxCount;
+        }
+
+        /**
+         * Gets pending acquire timeout.
+         *
+         * @return the pending acquire timeout
+         */
+        public Long getPendingAcquireTimeout() {
+            return pendingAcquireTimeout;
+        }
+
+        /**
+         * Sets pending acquire timeout.
+         *
+         * @param pendingAcquireTimeout the pending acquire timeout
+         */
+        public void setPendingAcquireTimeout(final Long pendingAcquireTimeout) {
+            this.pendingAcquireTimeout = pendingAcquireTimeout;
+        }
+
+        /**
+         * Gets max idle time.
+         *
+         * @return the max idle time
+         */
+        public Long getMaxIdleTime() {
+            return maxIdleTime;
+        }
+
+        /**
+         * Sets max idle time.
+         *
+         * @param maxIdleTime the max idle time
+         */
+        public void setMaxIdleTime(final Long maxIdleTime) {
+            this.maxIdleTime = maxIdleTime;
+        }
+
+        /**
+         * Gets eviction interval.
+         *
+         * @return the eviction interval
+         */
+        public Long getEvictionInterval() {
+            return evictionInterval;
+        }
+
+        /**
+         * Sets eviction interval.
+         *
+         * @param evictionInterval the eviction interval
+         */
+        public void setEvictionInterval(final Long evictionInterval) {
+            this.evictionInterval = evictionInterval;
+        }
+
+        /**
+         * Gets metrics.
+         *
+         * @return the metrics
+         */
+        public Boolean getMetrics() {
+            return metrics;
+        }
+
+        /**
+         * Sets metrics.
+         *
+         * @param metrics the metrics
+         */
+        public void setMetrics(final Boolean metrics) {
+            this.metrics = metrics;
+        }
+    }
+
     /**
      * The type Thread Pool.
      */
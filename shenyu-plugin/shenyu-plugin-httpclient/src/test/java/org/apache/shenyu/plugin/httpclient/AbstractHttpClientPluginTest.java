@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.httpclient;
+
+import org.apache.shenyu.common.constant.Constants;
+import org.apache.shenyu.common.enums.LoadBalanceEnum;
+import org.apache.shenyu.common.enums.PluginEnum;
+import org.apache.shenyu.common.enums.RetryEnum;
+import org.apache.shenyu.loadbalancer.cache.UpstreamCacheManager;
+import org.apache.shenyu.loadbalancer.entity.Upstream;
+import org.apache.shenyu.loadbalancer.factory.LoadBalancerFactory;
+import org.apache.shenyu.plugin.api.ShenyuPluginChain;
+import org.apache.shenyu.plugin.api.context.ShenyuContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * The test case for {@link AbstractHttpClientPlugin}.
+ */
+public final class AbstractHttpClientPluginTest {
+
+    private static final String SELECTOR_ID = "hedgeSelector";
+
+    private final List<String> responded = new CopyOnWriteArrayList<>();
+
+    private ShenyuPluginChain chain;
+
+    @BeforeAll
+    public static void warmUp() {
+        // load the load balancers and the timer ahead, so that they do not slow down the hedge of the first test
+        LoadBalancerFactory.selector(Collections.singletonList(Upstream.builder().url("fast:8080").status(true).build()),
+                LoadBalanceEnum.RANDOM.getName(), "127.0.0.1");
+        Mono.delay(Duration.ofMillis(1)).block();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        chain = mock(ShenyuPluginChain.class);
+        when(chain.execute(any())).thenReturn(Mono.empty());
+        UpstreamCacheManager.getInstance().submit(SELECTOR_ID, Collections.singletonList(
+                Upstream.builder().url("fast:8080").status(true).build()));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        UpstreamCacheManager.getInstance().removeByKey(SELECTOR_ID);
+    }
+
+    @Test
+    public void testHedgeSlowRequest() {
+        ServerWebExchange exchange = generateServerWebExchange(MockServerHttpRequest.get("/test"));
+        exchange.getAttributes().put(Constants.HTTP_HEDGE_DELAY, 50L);
+        StepVerifier.create(new StubHttpClientPlugin().execute(exchange, chain)).expectSubscription().verifyComplete();
+        assertEquals(Collections.singletonList("fast"), responded);
+    }
+
+    @Test
+    public void testNotHedgeWriteRequest() {
+        ServerWebExchange exchange = generateServerWebExchange(MockServerHttpRequest.post("/test"));
+        exchange.getAttributes().put(Constants.HTTP_HEDGE_DELAY, 50L);
+        StepVerifier.create(new StubHttpClientPlugin().execute(exchange, chain)).expectSubscription().verifyComplete();
+        assertEquals(Collections.singletonList("slow"), responded);
+    }
+
+    @Test
+    public void testHedgeByObservedPercentile() {
+        for (int i = 0; i < 100; i++) {
+            UpstreamCacheManager.getInstance().recordLatency(SELECTOR_ID, 20L);
+        }
+        ServerWebExchange exchange = generateServerWebExchange(MockServerHttpRequest.get("/test"));
+        exchange.getAttributes().put(Constants.HTTP_HEDGE_PERCENTILE, 90);
+        StepVerifier.create(new StubHttpClientPlugin().execute(exchange, chain)).expectSubscription().verifyComplete();
+        assertEquals(Collections.singletonList("fast"), responded);
+    }
+
+    @Test
+    public void testHedgeDelayNotCollapse() {
+        for (int i = 0; i < 20; i++) {
+            UpstreamCacheManager.getInstance().recordLatency(SELECTOR_ID, 100L);
+        }
+        for (int i = 0; i < 20; i++) {
+            ServerWebExchange exchange = generateServerWebExchange(MockServerHttpRequest.get("/test"));
+            exchange.getAttributes().put(Constants.HTTP_HEDGE_PERCENTILE, 50);
+            StepVerifier.create(new StubHttpClientPlugin().execute(exchange, chain)).expectSubscription().verifyComplete();
+        }
+        // the slow attempts cancelled by the hedge are sampled as well, so the fast hedges do not shrink the delay
+        assertTrue(UpstreamCacheManager.getInstance().findLatencyPercentile(SELECTOR_ID, 50) >= 100L);
+    }
+
+    @Test
+    public void testRetryResendSameBody() {
+        ServerWebExchange exchange = generateServerWebExchange(MockServerHttpRequest.post("/test").contentLength(5), "hello");
+        exchange.getAttributes().put(Constants.HTTP_RETRY, 1);
+        exchange.getAttributes().put(Constants.HTTP_RETRY_BODY_MAX_SIZE, 1024L);
+        StepVerifier.create(new FailingHttpClientPlugin().execute(exchange, chain)).expectSubscription().verifyComplete();
+        assertEquals(Arrays.asList("slow:hello", "fast:hello"), responded);
+    }
+
+    @Test
+    public void testNotRetryBodyOfUnknownLength() {
+        // a http2 request has no content length nor transfer encoding
+        ServerWebExchange exchange = generateServerWebExchange(MockServerHttpRequest.post("/test"), "hello");
+        exchange.getAttributes().put(Constants.HTTP_RETRY, 1);
+        exchange.getAttributes().put(Constants.HTTP_RETRY_BODY_MAX_SIZE, 1024L);
+        StepVerifier.create(new FailingHttpClientPlugin().execute(exchange, chain)).expectError().verify();
+        assertEquals(Collections.singletonList("slow:hello"), responded);
+    }
+
+    private ServerWebExchange generateServerWebExchange(final MockServerHttpRequest.BaseBuilder<?> builder) {
+        return initExchange(MockServerWebExchange.from(builder.remoteAddress(new InetSocketAddress("127.0.0.1", 8080)).build()));
+    }
+
+    private ServerWebExchange generateServerWebExchange(final MockServerHttpRequest.BodyBuilder builder, final String body) {
+        return initExchange(MockServerWebExchange.from(builder.remoteAddress(new InetSocketAddress("127.0.0.1", 8080)).body(body)));
+    }
+
+    private ServerWebExchange initExchange(final ServerWebExchange exchange) {
+        exchange.getAttributes().put(Constants.CONTEXT, mock(ShenyuContext.class));
+        exchange.getAttributes().put(Constants.HTTP_URI, URI.create("http://slow:8080/test"));
+        exchange.getAttributes().put(Constants.HTTP_TIME_OUT, 3000L);
+        exchange.getAttributes().put(Constants.RETRY_STRATEGY, RetryEnum.FAILOVER.getName());
+        exchange.getAttributes().put(Constants.DIVIDE_SELECTOR_ID, SELECTOR_ID);
+        exchange.getAttributes().put(Constants.LOAD_BALANCE, LoadBalanceEnum.RANDOM.getName());
+        return exchange;
+    }
+
+    private final class StubHttpClientPlugin extends AbstractHttpClientPlugin<String> {
+
+        @Override
+        protected Mono<String> doRequest(final ServerWebExchange exchange, final String httpMethod,
+                                         final URI uri, final Flux<DataBuffer> body) {
+            Duration delay = "slow".equals(uri.getHost()) ? Duration.ofMillis(500) : Duration.ZERO;
+            return Mono.delay(delay).flatMap(tick -> {
+                if (!claimResponse(exchange)) {
+                    return Mono.empty();
+                }
+                responded.add(uri.getHost());
+                return Mono.just(uri.getHost());
+            });
+        }
+
+        @Override
+        public int getOrder() {
+            return PluginEnum.NETTY_HTTP_CLIENT.getCode();
+        }
+    }
+
+    private final class FailingHttpClientPlugin extends AbstractHttpClientPlugin<String> {
+
+        @Override
+        protected Mono<String> doRequest(final ServerWebExchange exchange, final String httpMethod,
+                                         final URI uri, final Flux<DataBuffer> body) {
+            return DataBufferUtils.join(body).map(buffer -> {
+                String content = buffer.toString(StandardCharsets.UTF_8);
+                DataBufferUtils.release(buffer);
+                return content;
+            }).defaultIfEmpty("").flatMap(content -> {
+                responded.add(uri.getHost() + ":" + content);
+                if ("slow".equals(uri.getHost())) {
+                    return Mono.error(new IllegalStateException("slow upstream is down"));
+                }
+                return Mono.just(uri.getHost());
+            });
+        }
+
+        @Override
+        public int getOrder() {
+            return PluginEnum.NETTY_HTTP_CLIENT.getCode();
+        }
+    }
+}
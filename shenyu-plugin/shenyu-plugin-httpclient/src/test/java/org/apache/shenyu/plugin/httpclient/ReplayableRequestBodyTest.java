@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.httpclient;
+
+import io.netty.buffer.PooledByteBufAllocator;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.core.io.buffer.NettyDataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * The test case for {@link ReplayableRequestBody}.
+ */
+public final class ReplayableRequestBodyTest {
+
+    @Test
+    public void testReplayNettyBuffer() {
+        NettyDataBufferFactory factory = new NettyDataBufferFactory(PooledByteBufAllocator.DEFAULT);
+        NettyDataBuffer first = (NettyDataBuffer) factory.wrap("hello ".getBytes(StandardCharsets.UTF_8));
+        NettyDataBuffer second = (NettyDataBuffer) factory.wrap("shenyu".getBytes(StandardCharsets.UTF_8));
+        ReplayableRequestBody body = ReplayableRequestBody.buffer(Flux.just(first, second), 1024).block();
+        assertNotNull(body);
+        assertEquals("hello shenyu", read(body));
+        assertEquals("hello shenyu", read(body));
+        body.release();
+        assertEquals(0, first.getNativeBuffer().refCnt());
+        assertEquals(0, second.getNativeBuffer().refCnt());
+    }
+
+    @Test
+    public void testReplayDefaultBuffer() {
+        DataBuffer buffer = DefaultDataBufferFactory.sharedInstance.wrap("shenyu".getBytes(StandardCharsets.UTF_8));
+        ReplayableRequestBody body = ReplayableRequestBody.buffer(Flux.just(buffer), 1024).block();
+        assertNotNull(body);
+        assertEquals("shenyu", read(body));
+        assertEquals("shenyu", read(body));
+        body.release();
+    }
+
+    @Test
+    public void testEmptyBody() {
+        ReplayableRequestBody body = ReplayableRequestBody.buffer(Flux.empty(), 1024).block();
+        assertNotNull(body);
+        assertEquals("", read(body));
+    }
+
+    @Test
+    public void testExceedMaxSize() {
+        DataBuffer buffer = DefaultDataBufferFactory.sharedInstance.wrap("shenyu".getBytes(StandardCharsets.UTF_8));
+        StepVerifier.create(ReplayableRequestBody.buffer(Flux.just(buffer), 3))
+                .expectError(DataBufferLimitException.class)
+                .verify();
+    }
+
+    private String read(final ReplayableRequestBody body) {
+        DataBuffer buffer = DataBufferUtils.join(body.replay()).block();
+        assertNotNull(buffer);
+        String result = buffer.toString(StandardCharsets.UTF_8);
+        DataBufferUtils.release(buffer);
+        return result;
+    }
+}
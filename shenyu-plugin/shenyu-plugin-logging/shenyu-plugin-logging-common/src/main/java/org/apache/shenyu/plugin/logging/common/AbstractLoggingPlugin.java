@@ -33,6 +33,7 @@ import org.apache.shenyu.plugin.logging.common.constant.GenericLoggingConstant;
 import org.apache.shenyu.plugin.logging.common.entity.CommonLoggingRuleHandle;
 import org.apache.shenyu.plugin.logging.common.entity.ShenyuRequestLog;
 import org.apache.shenyu.plugin.logging.common.handler.AbstractLogPluginDataHandler;
+import org.apache.shenyu.plugin.logging.common.sampler.Sampler;
 import org.apache.shenyu.plugin.logging.common.utils.LogCollectConfigUtils;
 import org.apache.shenyu.plugin.logging.common.utils.LogCollectUtils;
 import org.apache.shenyu.plugin.logging.desensitize.api.enums.DataDesensitizeEnum;
@@ -95,8 +96,9 @@ public abstract class AbstractLoggingPlugin<L extends ShenyuRequestLog> extends
             }
         }
         ServerHttpRequest request = exchange.getRequest();
-        // control sampling
-        if (!LogCollectConfigUtils.isSampled(exchange, selector)) {
+        // control sampling, tail samplers pass every request here and decide once the response completed
+        Sampler sampler = LogCollectConfigUtils.getSampler(selector);
+        if (!sampler.isSampled(exchange, selector)) {
             return chain.execute(exchange);
         }
 
@@ -119,6 +121,8 @@ public abstract class AbstractLoggingPlugin<L extends ShenyuRequestLog> extends
         ServerWebExchange webExchange = exchange.mutate().request(loggingServerHttpRequest)
                 .response(loggingServerHttpResponse).build();
         loggingServerHttpResponse.setExchange(webExchange);
+        loggingServerHttpResponse.setSampler(sampler, selector);
+        loggingServerHttpResponse.setLoggingRequest(loggingServerHttpRequest);
         return chain.execute(webExchange).doOnError(loggingServerHttpResponse::logError);
     }
 
@@ -33,6 +33,10 @@ public class LoggingServerHttpRequest<L extends ShenyuRequestLog> extends Server
 
     private final L logInfo;
 
+    private BodyWriter bodyWriter;
+
+    private boolean kept;
+
     public LoggingServerHttpRequest(final ServerHttpRequest delegate, final L logInfo) {
         super(delegate);
         this.logInfo = logInfo;
@@ -54,14 +58,32 @@ public class LoggingServerHttpRequest<L extends ShenyuRequestLog> extends Server
                 }
 
             }
-        }).doFinally(signal -> {
-            int size = writer.size();
-            String body = writer.output();
-            boolean requestBodyTooLarge = LogCollectConfigUtils.isRequestBodyTooLarge(size);
-            if (size == 0 || requestBodyTooLarge) {
-                return;
-            }
-            logInfo.setRequestBody(body);
-        });
+        }).doFinally(signal -> bodyRead(writer));
+    }
+
+    /**
+     * record the request body into the log once the log is kept, the body is only decoded for kept logs.
+     */
+    public synchronized void keep() {
+        kept = true;
+        if (bodyWriter != null) {
+            logBody(bodyWriter);
+        }
+    }
+
+    private synchronized void bodyRead(final BodyWriter writer) {
+        bodyWriter = writer;
+        // the request is usually read before the response completes, but not always
+        if (kept) {
+            logBody(writer);
+        }
+    }
+
+    private void logBody(final BodyWriter writer) {
+        int size = writer.size();
+        if (size == 0 || LogCollectConfigUtils.isRequestBodyTooLarge(size)) {
+            return;
+        }
+        logInfo.setRequestBody(writer.output());
     }
 }
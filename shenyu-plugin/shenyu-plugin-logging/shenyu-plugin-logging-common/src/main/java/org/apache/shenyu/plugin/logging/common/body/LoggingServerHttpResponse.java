@@ -19,6 +19,7 @@ package org.apache.shenyu.plugin.logging.common.body;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.common.constant.Constants;
+import org.apache.shenyu.common.dto.SelectorData;
 import org.apache.shenyu.common.enums.RpcTypeEnum;
 import org.apache.shenyu.common.utils.DateUtils;
 import org.apache.shenyu.plugin.api.context.ShenyuContext;
@@ -28,6 +29,7 @@ import org.apache.shenyu.plugin.base.utils.MediaTypeUtils;
 import org.apache.shenyu.plugin.logging.common.collector.LogCollector;
 import org.apache.shenyu.plugin.logging.common.constant.GenericLoggingConstant;
 import org.apache.shenyu.plugin.logging.common.entity.ShenyuRequestLog;
+import org.apache.shenyu.plugin.logging.common.sampler.Sampler;
 import org.apache.shenyu.plugin.logging.common.utils.LogCollectConfigUtils;
 import org.apache.shenyu.plugin.logging.common.utils.LogCollectUtils;
 import org.apache.shenyu.plugin.logging.desensitize.api.matcher.KeyWordMatch;
@@ -76,6 +78,12 @@ public class LoggingServerHttpResponse<L extends ShenyuRequestLog> extends Serve
 
     private final KeyWordMatch keyWordMatch;
 
+    private Sampler sampler;
+
+    private SelectorData selectorData;
+
+    private LoggingServerHttpRequest<L> loggingRequest;
+
     /**
      * Constructor LoggingServerHttpResponse.
      *
@@ -106,6 +114,26 @@ public class LoggingServerHttpResponse<L extends ShenyuRequestLog> extends Serve
         this.exchange = exchange;
     }
 
+    /**
+     * set the sampler deciding whether the completed request is kept.
+     *
+     * @param sampler      the sampler
+     * @param selectorData the selector
+     */
+    public void setSampler(final Sampler sampler, final SelectorData selectorData) {
+        this.sampler = sampler;
+        this.selectorData = selectorData;
+    }
+
+    /**
+     * set the relevant request, its body is recorded once the log is kept.
+     *
+     * @param loggingRequest the logging request
+     */
+    public void setLoggingRequest(final LoggingServerHttpRequest<L> loggingRequest) {
+        this.loggingRequest = loggingRequest;
+    }
+
     /**
      * write with a publisher.
      *
@@ -169,6 +197,9 @@ public class LoggingServerHttpResponse<L extends ShenyuRequestLog> extends Serve
         if (StringUtils.isNotBlank(shenyuContext.getRpcType())) {
             logInfo.setUpstreamIp(getUpstreamIp());
         }
+        if (!keep()) {
+            return;
+        }
         if (Objects.nonNull(writer)) {
             int size = writer.size();
             String body = writer.output();
@@ -259,6 +290,9 @@ public class LoggingServerHttpResponse<L extends ShenyuRequestLog> extends Serve
         if (StringUtils.isNotBlank(shenyuContext.getRpcType())) {
             logInfo.setUpstreamIp(getUpstreamIp());
         }
+        if (!keep()) {
+            return;
+        }
 
         int size = bytes.length;
         String body = new String(bytes, StandardCharsets.UTF_8);
@@ -275,6 +309,21 @@ public class LoggingServerHttpResponse<L extends ShenyuRequestLog> extends Serve
         }
     }
 
+    /**
+     * decide whether the completed request is kept, the bodies are only recorded for kept requests.
+     *
+     * @return whether keep the log
+     */
+    private boolean keep() {
+        if (Objects.nonNull(sampler) && !sampler.isKept(exchange, selectorData, logInfo)) {
+            return false;
+        }
+        if (Objects.nonNull(loggingRequest)) {
+            loggingRequest.keep();
+        }
+        return true;
+    }
+
     private String getUpstreamIpFromHttpDomain() {
         String domain = (String) exchange.getAttributes().get(Constants.HTTP_DOMAIN);
         try {
@@ -29,6 +29,11 @@ public class GenericApiConfig {
      */
     private String sampleRate;
 
+    /**
+     * like status:5xx;latency:500;rateLimit:100, replaces sampleRate when set.
+     */
+    private String samplePolicy;
+
     /**
      * This sampler is useful if you configure sampleRate.
      */
@@ -57,6 +62,24 @@ public class GenericApiConfig {
         this.sampleRate = sampleRate;
     }
 
+    /**
+     * get sample policy.
+     *
+     * @return sample policy
+     */
+    public String getSamplePolicy() {
+        return samplePolicy;
+    }
+
+    /**
+     * set sample policy.
+     *
+     * @param samplePolicy sample policy
+     */
+    public void setSamplePolicy(final String samplePolicy) {
+        this.samplePolicy = samplePolicy;
+    }
+
     /**
      * get mq topic.
      *
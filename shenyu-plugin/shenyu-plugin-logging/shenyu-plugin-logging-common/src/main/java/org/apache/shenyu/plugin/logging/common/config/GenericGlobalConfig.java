@@ -26,6 +26,11 @@ public class GenericGlobalConfig {
 
     private String sampleRate = "1";
 
+    /**
+     * like status:5xx;latency:500;rateLimit:100, replaces sampleRate when set.
+     */
+    private String samplePolicy;
+
     private Sampler sampler;
 
     /**
@@ -79,6 +84,24 @@ public class GenericGlobalConfig {
         this.sampleRate = sampleRate;
     }
 
+    /**
+     * get sample policy.
+     *
+     * @return sample policy
+     */
+    public String getSamplePolicy() {
+        return samplePolicy;
+    }
+
+    /**
+     * set sample policy.
+     *
+     * @param samplePolicy sample policy
+     */
+    public void setSamplePolicy(final String samplePolicy) {
+        this.samplePolicy = samplePolicy;
+    }
+
     /**
      * get max response body.
      *
@@ -108,7 +108,7 @@ public abstract class AbstractLogPluginDataHandler<T extends GenericGlobalConfig
                 logCollector().start();
             }
             Singleton.INST.single(globalLogConfigClass, globalLogConfig);
-            globalLogConfig.setSampler(LogCollectConfigUtils.setSampler(globalLogConfig.getSampleRate()));
+            globalLogConfig.setSampler(LogCollectConfigUtils.setSampler(globalLogConfig.getSampleRate(), globalLogConfig.getSamplePolicy()));
             PLUGIN_GLOBAL_CONFIG_MAP.put(pluginData.getId(), globalLogConfig);
         } else {
             try {
@@ -131,7 +131,9 @@ public abstract class AbstractLogPluginDataHandler<T extends GenericGlobalConfig
             return;
         }
         GenericApiConfig logApiConfig = GsonUtils.getInstance().fromJson(handleJson, genericApiConfigClass);
-        if (StringUtils.isNotEmpty(logApiConfig.getSampleRate())) {
+        if (StringUtils.isNotEmpty(logApiConfig.getSamplePolicy())) {
+            logApiConfig.setSampler(LogCollectConfigUtils.setSampler(logApiConfig.getSampleRate(), logApiConfig.getSamplePolicy()));
+        } else if (StringUtils.isNotEmpty(logApiConfig.getSampleRate())) {
             logApiConfig.setSampler(LogCollectConfigUtils.setSampler(logApiConfig.getSampleRate()));
         }
         SELECT_API_CONFIG_MAP.put(selectorData.getId(), logApiConfig);
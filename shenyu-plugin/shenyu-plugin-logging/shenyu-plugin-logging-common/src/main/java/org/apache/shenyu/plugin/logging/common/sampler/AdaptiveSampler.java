@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.logging.common.sampler;
+
+import org.apache.shenyu.common.dto.SelectorData;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * samples about the given count of requests per second on every route, whatever the traffic of the route is.
+ * the sample probability of a route follows the request rate the route had in the previous second,
+ * so quiet routes are fully logged while busy routes are thinned out evenly over the second.
+ */
+public class AdaptiveSampler implements Sampler {
+
+    private final int targetPerSecond;
+
+    private final Map<String, RouteWindow> windows = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiates a new adaptive sampler.
+     *
+     * @param targetPerSecond the sampled requests per second wanted on every route
+     */
+    public AdaptiveSampler(final int targetPerSecond) {
+        this.targetPerSecond = targetPerSecond;
+    }
+
+    @Override
+    public boolean isSampled(final ServerWebExchange exchange, final SelectorData selectorData) {
+        RouteWindow window = windows.computeIfAbsent(selectorData.getId(), id -> new RouteWindow());
+        return window.sample(System.currentTimeMillis() / 1000, targetPerSecond);
+    }
+
+    private static final class RouteWindow {
+
+        private long second;
+
+        private int seen;
+
+        private int sampled;
+
+        private double probability = 1.0d;
+
+        synchronized boolean sample(final long now, final int target) {
+            if (now != second) {
+                // only the previous second tells the current rate, a longer gap means the route went quiet
+                probability = now == second + 1 && seen > target ? (double) target / seen : 1.0d;
+                second = now;
+                seen = 0;
+                sampled = 0;
+            }
+            seen++;
+            if (sampled >= target || ThreadLocalRandom.current().nextDouble() >= probability) {
+                return false;
+            }
+            sampled++;
+            return true;
+        }
+    }
+}
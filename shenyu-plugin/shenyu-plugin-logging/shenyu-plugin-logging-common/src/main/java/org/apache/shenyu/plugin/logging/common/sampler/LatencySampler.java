@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.logging.common.sampler;
+
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.plugin.logging.common.entity.ShenyuRequestLog;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.Objects;
+
+/**
+ * keeps the requests slower than the threshold, the decision is made once the response completed.
+ */
+public class LatencySampler implements Sampler {
+
+    private final long thresholdMillis;
+
+    /**
+     * Instantiates a new latency sampler.
+     *
+     * @param thresholdMillis the response time in millis from which requests are kept
+     */
+    public LatencySampler(final long thresholdMillis) {
+        this.thresholdMillis = thresholdMillis;
+    }
+
+    @Override
+    public boolean isSampled(final ServerWebExchange exchange, final SelectorData selectorData) {
+        return true;
+    }
+
+    @Override
+    public boolean isKept(final ServerWebExchange exchange, final SelectorData selectorData, final ShenyuRequestLog requestLog) {
+        Long responseTime = requestLog.getUpstreamResponseTime();
+        return Objects.nonNull(responseTime) && responseTime >= thresholdMillis;
+    }
+}
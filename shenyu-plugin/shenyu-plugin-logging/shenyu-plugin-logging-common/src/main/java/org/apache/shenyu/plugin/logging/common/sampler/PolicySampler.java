@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.logging.common.sampler;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.plugin.logging.common.entity.ShenyuRequestLog;
+import org.apache.shenyu.plugin.logging.common.sampler.spi.SamplerFactory;
+import org.apache.shenyu.spi.ExtensionLoader;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * the sampler of a sample policy, like status:5xx;latency:500;rateLimit:100.
+ * every request is recorded, once it completed it is kept when one of the tail samplers keeps it,
+ * otherwise the base sampler decides, so the base sampler budget is not spent on requests kept anyway.
+ */
+public class PolicySampler implements Sampler {
+
+    private final List<Sampler> tailSamplers;
+
+    private final Sampler baseSampler;
+
+    /**
+     * Instantiates a new policy sampler.
+     *
+     * @param tailSamplers the samplers deciding on the completed response
+     * @param baseSampler  the sampler deciding for the requests no tail sampler keeps
+     */
+    public PolicySampler(final List<Sampler> tailSamplers, final Sampler baseSampler) {
+        this.tailSamplers = tailSamplers;
+        this.baseSampler = baseSampler;
+    }
+
+    @Override
+    public boolean isSampled(final ServerWebExchange exchange, final SelectorData selectorData) {
+        return true;
+    }
+
+    @Override
+    public boolean isKept(final ServerWebExchange exchange, final SelectorData selectorData, final ShenyuRequestLog requestLog) {
+        for (Sampler tailSampler : tailSamplers) {
+            if (tailSampler.isKept(exchange, selectorData, requestLog)) {
+                return true;
+            }
+        }
+        return baseSampler.isSampled(exchange, selectorData) && baseSampler.isKept(exchange, selectorData, requestLog);
+    }
+
+    /**
+     * create the sampler of a sample policy.
+     * the policy is a list of type:config entries separated by ';', the types are the joins of {@link SamplerFactory}.
+     * without any base sampler only the requests kept by the tail samplers are logged.
+     *
+     * @param policy the sample policy
+     * @return sampler instance
+     */
+    public static Sampler create(final String policy) {
+        List<Sampler> tailSamplers = new ArrayList<>();
+        Sampler baseSampler = NEVER_SAMPLE;
+        for (String entry : StringUtils.split(policy, ';')) {
+            if (StringUtils.isBlank(entry)) {
+                continue;
+            }
+            SamplerFactory factory = ExtensionLoader.getExtensionLoader(SamplerFactory.class)
+                    .getJoin(StringUtils.substringBefore(entry, ":").trim());
+            Sampler sampler = factory.create(StringUtils.substringAfter(entry, ":"));
+            if (factory.isTail()) {
+                tailSamplers.add(sampler);
+            } else {
+                baseSampler = sampler;
+            }
+        }
+        return tailSamplers.isEmpty() ? baseSampler : new PolicySampler(tailSamplers, baseSampler);
+    }
+}
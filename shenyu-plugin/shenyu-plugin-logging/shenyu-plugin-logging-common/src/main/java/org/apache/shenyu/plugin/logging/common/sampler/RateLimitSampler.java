@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.logging.common.sampler;
+
+import org.apache.shenyu.common.dto.SelectorData;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * samples at most the given count of requests per second.
+ */
+public class RateLimitSampler implements Sampler {
+
+    private final int permitsPerSecond;
+
+    private final AtomicLong currentSecond = new AtomicLong();
+
+    private final AtomicInteger sampled = new AtomicInteger();
+
+    /**
+     * Instantiates a new rate limit sampler.
+     *
+     * @param permitsPerSecond the max sampled requests per second
+     */
+    public RateLimitSampler(final int permitsPerSecond) {
+        this.permitsPerSecond = permitsPerSecond;
+    }
+
+    @Override
+    public boolean isSampled(final ServerWebExchange exchange, final SelectorData selectorData) {
+        long second = System.currentTimeMillis() / 1000;
+        long current = currentSecond.get();
+        if (second != current && currentSecond.compareAndSet(current, second)) {
+            sampled.set(0);
+        }
+        return sampled.incrementAndGet() <= permitsPerSecond;
+    }
+}
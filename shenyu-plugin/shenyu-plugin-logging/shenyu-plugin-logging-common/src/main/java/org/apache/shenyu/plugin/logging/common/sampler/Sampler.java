@@ -18,6 +18,7 @@
 package org.apache.shenyu.plugin.logging.common.sampler;
 
 import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.plugin.logging.common.entity.ShenyuRequestLog;
 import org.springframework.web.server.ServerWebExchange;
 
 /**
@@ -37,4 +38,16 @@ public interface Sampler {
      */
     boolean isSampled(ServerWebExchange exchange, SelectorData selectorData);
 
+    /**
+     * judge a completed request should be kept, only called for requests passing {@link #isSampled}.
+     * the status and the response time of the log are known by now, the bodies are not recorded yet.
+     *
+     * @param exchange     exchange
+     * @param selectorData selectorData
+     * @param requestLog   the request log
+     * @return whether keep the log
+     */
+    default boolean isKept(ServerWebExchange exchange, SelectorData selectorData, ShenyuRequestLog requestLog) {
+        return true;
+    }
 }
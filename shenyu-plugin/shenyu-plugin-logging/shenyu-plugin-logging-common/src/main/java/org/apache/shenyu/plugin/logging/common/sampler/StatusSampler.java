@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.logging.common.sampler;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.plugin.logging.common.entity.ShenyuRequestLog;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.BitSet;
+import java.util.Objects;
+
+/**
+ * keeps the requests answered with one of the given statuses, the decision is made once the response completed.
+ * the statuses are separated by ',' and are either exact codes like 503 or classes like 5xx.
+ */
+public class StatusSampler implements Sampler {
+
+    private static final int MAX_STATUS = 600;
+
+    private final BitSet statuses = new BitSet(MAX_STATUS);
+
+    /**
+     * Instantiates a new status sampler.
+     *
+     * @param statuses the statuses, for example 4xx,5xx or 429,503
+     */
+    public StatusSampler(final String statuses) {
+        for (String status : StringUtils.split(statuses, ',')) {
+            String trimmed = status.trim().toLowerCase();
+            if (trimmed.length() == 3 && trimmed.endsWith("xx") && Character.isDigit(trimmed.charAt(0))) {
+                int from = Character.digit(trimmed.charAt(0), 10) * 100;
+                this.statuses.set(from, Math.min(from + 100, MAX_STATUS));
+            } else {
+                int code = Integer.parseInt(trimmed);
+                if (code < 0 || code >= MAX_STATUS) {
+                    throw new IllegalArgumentException("status should be between 0 and 599: was " + trimmed);
+                }
+                this.statuses.set(code);
+            }
+        }
+    }
+
+    @Override
+    public boolean isSampled(final ServerWebExchange exchange, final SelectorData selectorData) {
+        return true;
+    }
+
+    @Override
+    public boolean isKept(final ServerWebExchange exchange, final SelectorData selectorData, final ShenyuRequestLog requestLog) {
+        Integer status = requestLog.getStatus();
+        return Objects.nonNull(status) && status >= 0 && status < MAX_STATUS && statuses.get(status);
+    }
+}
@@ -23,6 +23,7 @@ import org.apache.shenyu.plugin.logging.common.config.GenericApiConfig;
 import org.apache.shenyu.plugin.logging.common.config.GenericGlobalConfig;
 import org.apache.shenyu.plugin.logging.common.handler.AbstractLogPluginDataHandler;
 import org.apache.shenyu.plugin.logging.common.sampler.CountSampler;
+import org.apache.shenyu.plugin.logging.common.sampler.PolicySampler;
 import org.apache.shenyu.plugin.logging.common.sampler.Sampler;
 import org.springframework.web.server.ServerWebExchange;
 
@@ -55,6 +56,20 @@ public final class LogCollectConfigUtils {
         }
     }
 
+    /**
+     * set api sample, the sample policy replaces the sample rate when set.
+     *
+     * @param sampleRate   sample rate
+     * @param samplePolicy sample policy
+     * @return Sampler
+     */
+    public static Sampler setSampler(final String sampleRate, final String samplePolicy) {
+        if (StringUtils.isBlank(samplePolicy)) {
+            return setSampler(sampleRate);
+        }
+        return PolicySampler.create(samplePolicy);
+    }
+
     /**
      * set global Sampler.
      *
@@ -104,12 +119,20 @@ public final class LogCollectConfigUtils {
      * @return whether sample
      */
     public static boolean isSampled(final ServerWebExchange exchange, final SelectorData selectorData) {
+        return getSampler(selectorData).isSampled(exchange, selectorData);
+    }
+
+    /**
+     * get the sampler of the selector, fall back to the plugin sampler.
+     *
+     * @param selectorData selectorData
+     * @return the sampler
+     */
+    public static Sampler getSampler(final SelectorData selectorData) {
         return Optional.ofNullable(AbstractLogPluginDataHandler.getSelectApiConfigMap().get(selectorData.getId()))
                 .map(GenericApiConfig::getSampler)
-                .map(sampler -> sampler.isSampled(exchange, selectorData))
                 .orElseGet(() -> Optional.ofNullable(AbstractLogPluginDataHandler.getPluginGlobalConfigMap().get(selectorData.getPluginId()))
                         .map(GenericGlobalConfig::getSampler)
-                        .map(sampler -> sampler.isSampled(exchange, selectorData))
-                        .orElse(true));
+                        .orElse(Sampler.ALWAYS_SAMPLE));
     }
 }
@@ -18,6 +18,7 @@
 package org.apache.shenyu.plugin.logging.common.body;
 
 import org.apache.shenyu.common.constant.Constants;
+import org.apache.shenyu.common.dto.SelectorData;
 import org.apache.shenyu.plugin.api.RemoteAddressResolver;
 import org.apache.shenyu.plugin.api.context.ShenyuContext;
 import org.apache.shenyu.plugin.api.result.ShenyuResult;
@@ -26,6 +27,7 @@ import org.apache.shenyu.plugin.base.utils.HostAddressUtils;
 import org.apache.shenyu.plugin.logging.common.collector.LogCollector;
 import org.apache.shenyu.plugin.logging.common.constant.GenericLoggingConstant;
 import org.apache.shenyu.plugin.logging.common.entity.ShenyuRequestLog;
+import org.apache.shenyu.plugin.logging.common.sampler.PolicySampler;
 import org.apache.shenyu.plugin.logging.common.utils.LogCollectUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -47,7 +49,10 @@ import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 /**
  * The Test Case For LoggingServerHttpResponse.
@@ -211,4 +216,22 @@ public class LoggingServerHttpResponseTest {
         ShenyuRequestLog log2 = (ShenyuRequestLog) field2.get(loggingServerHttpResponse);
         Assertions.assertEquals(log2.getUpstreamIp(), "localhost");
     }
+
+    @Test
+    public void testLogResponseNotKept() throws Exception {
+        loggingServerHttpResponse.setExchange(exchange);
+        loggingServerHttpResponse.setSampler(PolicySampler.create("status:5xx"), new SelectorData());
+        requestInfo.setStatus(200);
+        BodyWriter writer = new BodyWriter();
+        writer.write(ByteBuffer.wrap("hello, shenyu".getBytes(StandardCharsets.UTF_8)));
+        Method method = loggingServerHttpResponse.getClass().getDeclaredMethod("logResponse", ShenyuContext.class, BodyWriter.class);
+        method.setAccessible(true);
+        method.invoke(loggingServerHttpResponse, exchange.getAttribute(Constants.CONTEXT), writer);
+        Assertions.assertNull(requestInfo.getResponseBody());
+        verify(logCollector, never()).collect(any());
+        requestInfo.setStatus(503);
+        method.invoke(loggingServerHttpResponse, exchange.getAttribute(Constants.CONTEXT), writer);
+        Assertions.assertEquals("hello, shenyu", requestInfo.getResponseBody());
+        verify(logCollector).collect(requestInfo);
+    }
 }
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.logging.common.sampler;
+
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.plugin.logging.common.entity.ShenyuRequestLog;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.stream.IntStream;
+
+/**
+ * The Test Case For PolicySampler.
+ */
+public class PolicySamplerTest {
+
+    private ServerWebExchange exchange;
+
+    private SelectorData selectorData;
+
+    @BeforeEach
+    public void setUp() {
+        exchange = MockServerWebExchange.from(MockServerHttpRequest.get("localhost").build());
+        selectorData = new SelectorData();
+        selectorData.setId("selector");
+    }
+
+    @Test
+    public void testCreate() {
+        Assertions.assertEquals(PolicySampler.create("rateLimit:10").getClass(), RateLimitSampler.class);
+        Assertions.assertEquals(PolicySampler.create("adaptive:10").getClass(), AdaptiveSampler.class);
+        Assertions.assertEquals(PolicySampler.create("count:0.5").getClass(), CountSampler.class);
+        Assertions.assertEquals(PolicySampler.create("status:5xx;rateLimit:10").getClass(), PolicySampler.class);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PolicySampler.create("unknown:1"));
+    }
+
+    @Test
+    public void testKeepErrorsAndSlowRequests() {
+        Sampler sampler = PolicySampler.create("status:5xx,429;latency:500");
+        Assertions.assertTrue(sampler.isSampled(exchange, selectorData));
+        Assertions.assertTrue(sampler.isKept(exchange, selectorData, log(503, 10L)));
+        Assertions.assertTrue(sampler.isKept(exchange, selectorData, log(429, 10L)));
+        Assertions.assertTrue(sampler.isKept(exchange, selectorData, log(200, 800L)));
+        Assertions.assertFalse(sampler.isKept(exchange, selectorData, log(200, 10L)));
+        Assertions.assertFalse(sampler.isKept(exchange, selectorData, log(404, 10L)));
+    }
+
+    @Test
+    public void testBaseSamplerOnlyDecidesTheRest() {
+        Sampler sampler = PolicySampler.create("status:5xx;rateLimit:1");
+        Assertions.assertTrue(sampler.isKept(exchange, selectorData, log(500, 10L)));
+        Assertions.assertTrue(sampler.isKept(exchange, selectorData, log(500, 10L)));
+        long kept = IntStream.range(0, 10).filter(i -> sampler.isKept(exchange, selectorData, log(200, 10L))).count();
+        Assertions.assertTrue(kept <= 2);
+    }
+
+    @Test
+    public void testRateLimit() {
+        Sampler sampler = new RateLimitSampler(5);
+        long sampled = IntStream.range(0, 100).filter(i -> sampler.isSampled(exchange, selectorData)).count();
+        Assertions.assertTrue(sampled >= 5 && sampled <= 10);
+    }
+
+    @Test
+    public void testAdaptivePerRoute() {
+        Sampler sampler = new AdaptiveSampler(3);
+        SelectorData other = new SelectorData();
+        other.setId("other");
+        long sampled = IntStream.range(0, 100).filter(i -> sampler.isSampled(exchange, selectorData)).count();
+        Assertions.assertTrue(sampled <= 6);
+        Assertions.assertTrue(sampler.isSampled(exchange, other));
+    }
+
+    private ShenyuRequestLog log(final int status, final long responseTime) {
+        ShenyuRequestLog requestLog = new ShenyuRequestLog();
+        requestLog.setStatus(status);
+        requestLog.setUpstreamResponseTime(responseTime);
+        return requestLog;
+    }
+}
@@ -26,6 +26,7 @@ import org.apache.shenyu.plugin.base.AbstractShenyuPlugin;
 import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
 import org.apache.shenyu.plugin.mock.api.MockRequest;
 import org.apache.shenyu.plugin.mock.generator.GeneratorFactory;
+import org.apache.shenyu.plugin.mock.generator.MockTemplate;
 import org.apache.shenyu.plugin.mock.handler.MockPluginHandler;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferUtils;
@@ -38,6 +39,7 @@ import reactor.core.publisher.Mono;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * MockPlugin.
@@ -48,16 +50,19 @@ public class MockPlugin extends AbstractShenyuPlugin {
     protected Mono<Void> doExecute(final ServerWebExchange exchange, final ShenyuPluginChain chain,
                                    final SelectorData selector, final RuleData rule) {
         
-        MockHandle mockHandle = MockPluginHandler.CACHED_HANDLE.get().obtainHandle(CacheKeyUtils.INST.getKey(rule));
+        String key = CacheKeyUtils.INST.getKey(rule);
+        MockHandle mockHandle = MockPluginHandler.CACHED_HANDLE.get().obtainHandle(key);
         if (Objects.isNull(mockHandle)) {
             return chain.execute(exchange);
         }
+        MockTemplate template = Optional.ofNullable(MockPluginHandler.CACHED_TEMPLATE.get().obtainHandle(key))
+                .orElseGet(() -> GeneratorFactory.compile(mockHandle.getResponseContent()));
         exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
         exchange.getResponse().setStatusCode(HttpStatus.valueOf(mockHandle.getHttpStatusCode()));
         
         return DataBufferUtils.join(exchange.getRequest().getBody())
                 .switchIfEmpty(Mono.just(DefaultDataBufferFactory.sharedInstance.allocateBuffer(0)))
-                .map(dataBuffer -> dealRule(dataBuffer, mockHandle.getResponseContent(), exchange.getRequest()))
+                .map(dataBuffer -> dealRule(dataBuffer, template, exchange.getRequest()))
                 .flatMap(bytes -> exchange.getResponse()
                         .writeWith(Mono.just(exchange.getResponse()
                                         .bufferFactory()
@@ -77,12 +82,12 @@ public class MockPlugin extends AbstractShenyuPlugin {
         return PluginEnum.MOCK.getName();
     }
     
-    private byte[] dealRule(final DataBuffer requestBodyBuffer, final String response, final ServerHttpRequest serverHttpRequest) {
+    private byte[] dealRule(final DataBuffer requestBodyBuffer, final MockTemplate template, final ServerHttpRequest serverHttpRequest) {
         byte[] originalBody = new byte[requestBodyBuffer.readableByteCount()];
         requestBodyBuffer.read(originalBody);
         DataBufferUtils.release(requestBodyBuffer);
         MockRequest mockRequest = buildMockRequest(originalBody, serverHttpRequest);
-        return GeneratorFactory.dealRule(response, mockRequest).getBytes(StandardCharsets.UTF_8);
+        return template.render(mockRequest).getBytes(StandardCharsets.UTF_8);
     }
     
     private MockRequest buildMockRequest(final byte[] originalBody, final ServerHttpRequest serverHttpRequest) {
@@ -21,6 +21,7 @@ import org.apache.shenyu.plugin.mock.api.MockRequest;
 import org.apache.shenyu.spi.Join;
 
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -45,6 +46,16 @@ public class ArrayGenerator implements Generator<String> {
                 .collect(Collectors.joining(","));
     }
 
+    @Override
+    public Function<MockRequest, String> compile(final String rule) {
+        int length = Integer.parseInt(rule.substring(rule.lastIndexOf("|") + 1));
+
+        MockTemplate template = GeneratorFactory.compile(rule.substring(rule.indexOf("|") + 1, rule.lastIndexOf("|")));
+        return mockRequest -> IntStream.rangeClosed(0, length - 1)
+                .mapToObj(i -> template.render(mockRequest))
+                .collect(Collectors.joining(","));
+    }
+
     @Override
     public int getParamSize() {
         return 0;
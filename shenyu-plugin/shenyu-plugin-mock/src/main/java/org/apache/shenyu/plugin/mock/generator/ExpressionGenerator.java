@@ -23,12 +23,14 @@ import org.apache.shenyu.plugin.mock.util.EvaluationContextUtil;
 import org.apache.shenyu.spi.Join;
 import org.springframework.context.expression.MapAccessor;
 import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.DataBindingPropertyAccessor;
 import org.springframework.expression.spel.support.SimpleEvaluationContext;
 
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * The simplified version of the SEPL parsing implementation does not support write function execution.
@@ -41,7 +43,10 @@ public class ExpressionGenerator implements Generator<String> {
     
     private static final ExpressionParser PARSER = new SpelExpressionParser();
     
-    private static final EvaluationContext CONTEXT = initContext();
+    /**
+     * The evaluation context holds the request as a variable while evaluating, so every thread owns one.
+     */
+    private static final ThreadLocal<EvaluationContext> CONTEXT = ThreadLocal.withInitial(ExpressionGenerator::initContext);
     
     @Override
     public String getName() {
@@ -51,12 +56,13 @@ public class ExpressionGenerator implements Generator<String> {
     @Override
     public String doGenerate(final List<String> params, final String rule, final MockRequest mockRequest) {
         
-        String expression = params.get(0);
-        
-        CONTEXT.setVariable("req", mockRequest);
-        
-        Object val = PARSER.parseExpression(expression).getValue(CONTEXT);
-        return JsonUtils.toJson(val);
+        return evaluate(PARSER.parseExpression(params.get(0)), mockRequest);
+    }
+    
+    @Override
+    public Function<MockRequest, String> compile(final String rule) {
+        Expression expression = PARSER.parseExpression(extractParams(rule).get(0));
+        return mockRequest -> evaluate(expression, mockRequest);
     }
     
     @Override
@@ -69,6 +75,17 @@ public class ExpressionGenerator implements Generator<String> {
         return rule.matches("^" + getName() + "\\|.+");
     }
     
+    private static String evaluate(final Expression expression, final MockRequest mockRequest) {
+        EvaluationContext context = CONTEXT.get();
+        context.setVariable("req", mockRequest);
+        try {
+            return JsonUtils.toJson(expression.getValue(context));
+        } finally {
+            // the context outlives the request, do not keep the request of the thread alive
+            context.setVariable("req", null);
+        }
+    }
+    
     private static EvaluationContext initContext() {
         
         EvaluationContext context = SimpleEvaluationContext
@@ -23,6 +23,7 @@ import org.apache.shenyu.spi.SPI;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -50,6 +51,17 @@ public interface Generator<T> {
         return doGenerate(params, rule, mockRequest);
     }
 
+    /**
+     * compile the rule once, the returned function generates mock data for every request.
+     *
+     * @param rule rule
+     * @return the compiled rule
+     */
+    default Function<MockRequest, T> compile(final String rule) {
+        List<String> params = extractParams(rule);
+        return mockRequest -> doGenerate(params, rule, mockRequest);
+    }
+
     /**
      * generate mock data.
      *
@@ -22,7 +22,9 @@ import org.apache.shenyu.spi.ExtensionLoader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Objects;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -64,57 +66,83 @@ public final class GeneratorFactory {
         return null;
     }
 
-    private static String generate(final String rule, final MockRequest mockRequest) {
+    /**
+     * replace placeholder in content.
+     *
+     * @param content response content
+     * @param mockRequest request
+     * @return replace the content after the placeholder.
+     */
+    public static String dealRule(final String content, final MockRequest mockRequest) {
+        return compile(content).render(mockRequest);
+    }
+
+    /**
+     * compile the content once into literals and generators bound to the placeholders,
+     * so that rendering it for a request neither scans the content nor parses any expression.
+     *
+     * @param content response content
+     * @return the compiled template
+     */
+    public static MockTemplate compile(final String content) {
+        List<Function<MockRequest, String>> segments = new ArrayList<>();
+        int from = 0;
+        int start = content.indexOf("${");
+        while (start >= 0) {
+            int end = findPlaceholderEnd(content, start);
+            if (end < 0) {
+                break;
+            }
+            if (start > from) {
+                segments.add(literal(content.substring(from, start)));
+            }
+            segments.add(bind(content.substring(start, end + 1)));
+            from = end + 1;
+            start = content.indexOf("${", from);
+        }
+        if (from < content.length() || segments.isEmpty()) {
+            segments.add(literal(content.substring(from)));
+        }
+        return new MockTemplate(segments);
+    }
+
+    private static Function<MockRequest, String> bind(final String rule) {
         final Matcher matcher = RULE_CONTENT_PATTERN.matcher(rule);
         if (!matcher.find()) {
-            return rule;
+            return literal(ERROR_PARSE);
         }
 
         String ruleContent = matcher.group(1);
         String ruleName = ruleContent.split("\\|")[0];
         Generator<?> generator = newInstance(ruleName, rule);
         if (generator == null || !generator.match(ruleContent)) {
-            return rule;
+            return literal(ERROR_PARSE);
         }
 
         String[] prefixAndSuffix = generator.getPrefixAndSuffix();
+        Function<MockRequest, ?> compiled;
         try {
-            Object generateData = generator.generate(ruleContent, mockRequest);
-            return String.join("", prefixAndSuffix[0], generateData.toString(), prefixAndSuffix[1]);
+            compiled = generator.compile(ruleContent);
         } catch (Exception e) {
             LOG.error(e.getMessage(), e);
-            return rule;
+            return literal(ERROR_PARSE);
         }
+        return mockRequest -> {
+            try {
+                Object generateData = compiled.apply(mockRequest);
+                return String.join("", prefixAndSuffix[0], generateData.toString(), prefixAndSuffix[1]);
+            } catch (Exception e) {
+                LOG.error(e.getMessage(), e);
+                return ERROR_PARSE;
+            }
+        };
     }
 
-    /**
-     * replace placeholder in content.
-     *
-     * @param content response content
-     * @param mockRequest request
-     * @return replace the content after the placeholder.
-     */
-    public static String dealRule(final String content, final MockRequest mockRequest) {
-        String afterDeal = content;
-        String placeHolder = getPlaceholder(content);
-        while (placeHolder != null) {
-            Object generateData = generate(placeHolder, mockRequest);
-            if (Objects.equals(generateData, placeHolder)) {
-                generateData = ERROR_PARSE;
-            }
-            String toString = String.valueOf(generateData);
-            placeHolder = placeHolder.replaceAll("([$|{}()\\]\\[])", "\\\\$1");
-            afterDeal = afterDeal.replaceFirst(placeHolder, toString);
-            placeHolder = getPlaceholder(afterDeal);
-        }
-        return afterDeal;
+    private static Function<MockRequest, String> literal(final String text) {
+        return mockRequest -> text;
     }
 
-    private static String getPlaceholder(final String rule) {
-        int start = rule.indexOf("${");
-        if (start < 0) {
-            return null;
-        }
+    private static int findPlaceholderEnd(final String rule, final int start) {
         int counter = 1;
         for (int i = start + 2; i < rule.length(); i++) {
             char c = rule.charAt(i);
@@ -123,11 +151,11 @@ public final class GeneratorFactory {
             } else if (c == '}') {
                 counter--;
                 if (counter == 0) {
-                    return "${" + rule.substring(start + 2, i) + "}";
+                    return i;
                 }
             }
         }
-        return null;
+        return -1;
     }
 
 }
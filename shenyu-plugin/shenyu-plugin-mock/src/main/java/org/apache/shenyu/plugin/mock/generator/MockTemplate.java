@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.mock.generator;
+
+import org.apache.shenyu.plugin.mock.api.MockRequest;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A mock response content compiled into literals and generators bound to their rules.
+ */
+public final class MockTemplate {
+
+    private final List<Function<MockRequest, String>> segments;
+
+    MockTemplate(final List<Function<MockRequest, String>> segments) {
+        this.segments = segments;
+    }
+
+    /**
+     * render the template for the request.
+     *
+     * @param mockRequest request
+     * @return the content with every placeholder replaced
+     */
+    public String render(final MockRequest mockRequest) {
+        if (segments.size() == 1) {
+            return segments.get(0).apply(mockRequest);
+        }
+        StringBuilder builder = new StringBuilder();
+        for (Function<MockRequest, String> segment : segments) {
+            builder.append(segment.apply(mockRequest));
+        }
+        return builder.toString();
+    }
+}
@@ -23,11 +23,13 @@ import org.apache.shenyu.plugin.mock.util.EvaluationContextUtil;
 import org.apache.shenyu.spi.Join;
 import org.springframework.context.expression.MapAccessor;
 import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * Insecure support for SPEL parsed implementations.
@@ -40,7 +42,10 @@ public class StandardExpressionGenerator implements Generator<String> {
     
     private static final ExpressionParser PARSER = new SpelExpressionParser();
     
-    private static final EvaluationContext CONTEXT = initContext();
+    /**
+     * The evaluation context holds the request as a variable while evaluating, so every thread owns one.
+     */
+    private static final ThreadLocal<EvaluationContext> CONTEXT = ThreadLocal.withInitial(StandardExpressionGenerator::initContext);
     
     @Override
     public String getName() {
@@ -50,12 +55,13 @@ public class StandardExpressionGenerator implements Generator<String> {
     @Override
     public String doGenerate(final List<String> params, final String rule, final MockRequest mockRequest) {
         
-        String expression = params.get(0);
-        
-        CONTEXT.setVariable("req", mockRequest);
-        
-        Object val = PARSER.parseExpression(expression).getValue(CONTEXT);
-        return JsonUtils.toJson(val);
+        return evaluate(PARSER.parseExpression(params.get(0)), mockRequest);
+    }
+    
+    @Override
+    public Function<MockRequest, String> compile(final String rule) {
+        Expression expression = PARSER.parseExpression(extractParams(rule).get(0));
+        return mockRequest -> evaluate(expression, mockRequest);
     }
     
     @Override
@@ -68,6 +74,17 @@ public class StandardExpressionGenerator implements Generator<String> {
         return rule.matches("^" + getName() + "\\|.+");
     }
     
+    private static String evaluate(final Expression expression, final MockRequest mockRequest) {
+        EvaluationContext context = CONTEXT.get();
+        context.setVariable("req", mockRequest);
+        try {
+            return JsonUtils.toJson(expression.getValue(context));
+        } finally {
+            // the context outlives the request, do not keep the request of the thread alive
+            context.setVariable("req", null);
+        }
+    }
+    
     private static EvaluationContext initContext() {
         
         // org.springframework.security.access.expression.method.MethodSecurityEvaluationContext
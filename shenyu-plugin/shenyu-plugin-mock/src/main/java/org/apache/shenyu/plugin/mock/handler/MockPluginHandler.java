@@ -25,6 +25,8 @@ import org.apache.shenyu.plugin.base.cache.CommonHandleCache;
 import org.apache.shenyu.plugin.base.handler.PluginDataHandler;
 import org.apache.shenyu.plugin.base.utils.BeanHolder;
 import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
+import org.apache.shenyu.plugin.mock.generator.GeneratorFactory;
+import org.apache.shenyu.plugin.mock.generator.MockTemplate;
 
 import java.util.Optional;
 import java.util.function.Supplier;
@@ -36,19 +38,27 @@ public class MockPluginHandler implements PluginDataHandler {
     
     public static final Supplier<CommonHandleCache<String, MockHandle>> CACHED_HANDLE = new BeanHolder<>(CommonHandleCache::new);
     
+    public static final Supplier<CommonHandleCache<String, MockTemplate>> CACHED_TEMPLATE = new BeanHolder<>(CommonHandleCache::new);
+    
     @Override
     public void handlerRule(final RuleData ruleData) {
         Optional.ofNullable(ruleData.getHandle())
                 .ifPresent(s -> {
                     MockHandle mockHandle = GsonUtils.getInstance().fromJson(s, MockHandle.class);
-                    CACHED_HANDLE.get().cachedHandle(CacheKeyUtils.INST.getKey(ruleData), mockHandle);
+                    String key = CacheKeyUtils.INST.getKey(ruleData);
+                    CACHED_HANDLE.get().cachedHandle(key, mockHandle);
+                    CACHED_TEMPLATE.get().cachedHandle(key, GeneratorFactory.compile(mockHandle.getResponseContent()));
                 });
     }
     
     @Override
     public void removeRule(final RuleData ruleData) {
         Optional.ofNullable(ruleData)
-                .ifPresent(s -> CACHED_HANDLE.get().removeHandle(CacheKeyUtils.INST.getKey(ruleData)));
+                .ifPresent(s -> {
+                    String key = CacheKeyUtils.INST.getKey(ruleData);
+                    CACHED_HANDLE.get().removeHandle(key);
+                    CACHED_TEMPLATE.get().removeHandle(key);
+                });
     }
     
     @Override
@@ -24,8 +24,10 @@ import org.apache.shenyu.plugin.mock.api.MockRequest;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.spel.SpelEvaluationException;
 
+import java.lang.reflect.Field;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.Arrays;
@@ -41,6 +43,7 @@ import static org.hamcrest.Matchers.oneOf;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -199,6 +202,18 @@ public class ExpressionGeneratorTest {
         assertFalse(generator.match("expression|"));
     }
     
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testReleaseRequest() throws NoSuchFieldException, IllegalAccessException {
+        assertThat(generator.generate("expression|#req.method", mockRequest), is(JsonUtils.toJson(HttpMethodEnum.GET.getName())));
+        assertThrowsExactly(SpelEvaluationException.class, () -> generator.generate("expression|#req.unknown", mockRequest));
+        Field field = ExpressionGenerator.class.getDeclaredField("CONTEXT");
+        field.setAccessible(true);
+        EvaluationContext context = ((ThreadLocal<EvaluationContext>) field.get(null)).get();
+        assertNull(context.lookupVariable("req"));
+        assertNotNull(context.lookupVariable("nowDate"));
+    }
+    
     @Test
     public void testSafe() {
         final String command = "T(java.lang.Runtime).getRuntime().exec(\"ls\")";
@@ -17,6 +17,7 @@
 
 package org.apache.shenyu.plugin.mock.generator;
 
+import org.apache.shenyu.plugin.mock.api.MockRequest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -39,4 +40,25 @@ public class GeneratorFactoryTest {
         String dealedContent = GeneratorFactory.dealRule(content, null);
         assertThat(dealedContent, is("\"[#ERROR EXPRESSION#]\""));
     }
+
+    @Test
+    public void testCompile() {
+        MockTemplate template = GeneratorFactory.compile("{\"ids\":${array|{\"id\":${expression|#oneOf(10)}}|2},\"name\":${expression|#req.uri}}");
+        for (String uri : new String[]{"first", "second"}) {
+            MockRequest mockRequest = MockRequest.Builder.builder().uri(uri).build();
+            assertThat(template.render(mockRequest), is("{\"ids\":[{\"id\":10},{\"id\":10}],\"name\":\"" + uri + "\"}"));
+        }
+    }
+
+    @Test
+    public void testRenderNotEvaluateGeneratedData() {
+        MockRequest mockRequest = MockRequest.Builder.builder().uri("${expression|1+1}").build();
+        assertThat(GeneratorFactory.compile("${expression|#req.uri}").render(mockRequest), is("\"${expression|1+1}\""));
+    }
+
+    @Test
+    public void testCompileWithoutPlaceholder() {
+        assertThat(GeneratorFactory.compile("").render(null), is(""));
+        assertThat(GeneratorFactory.compile("{\"a\":${int").render(null), is("{\"a\":${int"));
+    }
 }
@@ -56,12 +56,6 @@ public class DividePlugin extends AbstractShenyuPlugin {
 
     private static final Logger LOG = LoggerFactory.getLogger(DividePlugin.class);
 
-    private static final String P2C = "p2c";
-
-    private static final String SHORTEST_RESPONSE = "shortestResponse";
-
-    private Long beginTime;
-    
     @Override
     protected String getRawPath(final ServerWebExchange exchange) {
         return RequestUrlUtils.getRewrittenRawPath(exchange);
@@ -114,19 +108,15 @@ public class DividePlugin extends AbstractShenyuPlugin {
         // set the http timeout
         exchange.getAttributes().put(Constants.HTTP_TIME_OUT, ruleHandle.getTimeout());
         exchange.getAttributes().put(Constants.HTTP_RETRY, ruleHandle.getRetry());
+        exchange.getAttributes().put(Constants.HTTP_RETRY_BODY_MAX_SIZE, ruleHandle.getRetryBodyMaxSize());
+        exchange.getAttributes().put(Constants.HTTP_HEDGE_DELAY, ruleHandle.getHedgeDelay());
+        exchange.getAttributes().put(Constants.HTTP_HEDGE_PERCENTILE, ruleHandle.getHedgePercentile());
         // set retry strategy stuff
         exchange.getAttributes().put(Constants.RETRY_STRATEGY, StringUtils.defaultString(ruleHandle.getRetryStrategy(), RetryEnum.CURRENT.getName()));
         exchange.getAttributes().put(Constants.LOAD_BALANCE, StringUtils.defaultString(ruleHandle.getLoadBalance(), LoadBalanceEnum.RANDOM.getName()));
         exchange.getAttributes().put(Constants.DIVIDE_SELECTOR_ID, selector.getId());
-        if (ruleHandle.getLoadBalance().equals(P2C)) {
-            return chain.execute(exchange).doOnSuccess(e -> responseTrigger(upstream
-            )).doOnError(throwable -> responseTrigger(upstream));
-        } else if (ruleHandle.getLoadBalance().equals(SHORTEST_RESPONSE)) {
-            beginTime = System.currentTimeMillis();
-            return chain.execute(exchange).doOnSuccess(e -> successResponseTrigger(upstream
-            ));
-        }
-        return chain.execute(exchange);
+        // the in flight requests and response latency of the upstream feed the load balancers
+        return UpstreamCacheManager.getInstance().track(upstream, chain.execute(exchange));
     }
 
     @Override
@@ -157,32 +147,4 @@ public class DividePlugin extends AbstractShenyuPlugin {
     private DivideRuleHandle buildRuleHandle(final RuleData rule) {
         return DividePluginDataHandler.CACHED_HANDLE.get().obtainHandle(CacheKeyUtils.INST.getKey(rule));
     }
-
-    private void responseTrigger(final Upstream upstream) {
-        long now = System.currentTimeMillis();
-        upstream.getInflight().decrementAndGet();
-        upstream.setResponseStamp(now);
-        long stamp = upstream.getResponseStamp();
-        long td = now - stamp;
-        if (td < 0) {
-            td = 0;
-        }
-        double w = Math.exp((double) -td / (double) 600);
-
-        long lag = now - upstream.getLastPicked();
-        if (lag < 0) {
-            lag = 0;
-        }
-        long oldLag = upstream.getLag();
-        if (oldLag == 0) {
-            w = 0;
-        }
-        lag = (int) ((double) oldLag * w + (double) lag * (1.0 - w));
-        upstream.setLag(lag);
-    }
-
-    private void successResponseTrigger(final Upstream upstream) {
-        upstream.getSucceededElapsed().addAndGet(System.currentTimeMillis() - beginTime);
-        upstream.getSucceeded().incrementAndGet();
-    }
 }
@@ -53,9 +53,6 @@ import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.net.InetSocketAddress;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -219,30 +216,15 @@ public final class DividePluginTest {
     }
 
     @Test
-    public void responseTriggerTest() throws NoSuchMethodException, InstantiationException, IllegalAccessException, InvocationTargetException {
-        Upstream upstream = Upstream.builder()
-                .url("upstream")
-                .build();
-        assertEquals(0, upstream.getLag());
-        Method method = DividePlugin.class.getDeclaredMethod("responseTrigger", Upstream.class);
-        method.setAccessible(true);
-        method.invoke(DividePlugin.class.newInstance(), upstream);
-        assertNotEquals(0, upstream.getLag());
-    }
-
-    @Test
-    public void successResponseTriggerTest() throws Exception {
-        dividePlugin = DividePlugin.class.newInstance();
-        Field field = DividePlugin.class.getDeclaredField("beginTime");
-        field.setAccessible(true);
-        field.set(dividePlugin, 0L);
-        Method method = DividePlugin.class.getDeclaredMethod("successResponseTrigger", Upstream.class);
-        method.setAccessible(true);
-        Upstream upstream = Upstream.builder()
-                .url("upstream")
-                .build();
-        method.invoke(dividePlugin, upstream);
-        assertEquals(1, upstream.getSucceeded().get());
+    public void trackUpstreamTest() {
+        Upstream upstream = UpstreamCacheManager.getInstance().findUpstreamListBySelectorId(selectorData.getId()).get(0);
+        long succeeded = upstream.getSucceeded().get();
+        long inflight = upstream.getInflight().get();
+        when(chain.execute(exchange)).thenReturn(Mono.fromRunnable(() -> assertEquals(inflight + 1, upstream.getInflight().get())));
+        StepVerifier.create(dividePlugin.doExecute(exchange, chain, selectorData, ruleData)).expectSubscription().verifyComplete();
+        assertEquals(succeeded + 1, upstream.getSucceeded().get());
+        assertEquals(inflight, upstream.getInflight().get());
+        assertNotEquals(0, upstream.getResponseStamp());
     }
 
     /**
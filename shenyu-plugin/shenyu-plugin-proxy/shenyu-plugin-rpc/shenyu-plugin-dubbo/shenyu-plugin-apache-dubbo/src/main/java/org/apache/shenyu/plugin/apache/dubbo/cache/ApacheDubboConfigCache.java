@@ -25,6 +25,8 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
 import jakarta.annotation.Nonnull;
 import org.apache.commons.lang3.StringUtils;
@@ -37,6 +39,7 @@ import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.dto.MetaData;
 import org.apache.shenyu.common.dto.convert.plugin.DubboRegisterConfig;
 import org.apache.shenyu.common.exception.ShenyuException;
+import org.apache.shenyu.plugin.apache.dubbo.proxy.ApacheDubboInvokerHandle;
 import org.apache.shenyu.plugin.dubbo.common.cache.DubboConfigCache;
 import org.apache.shenyu.plugin.dubbo.common.cache.DubboParam;
 import org.slf4j.Logger;
@@ -55,9 +58,15 @@ public final class ApacheDubboConfigCache extends DubboConfigCache {
 
     private ConsumerConfig consumerConfig;
 
+    /**
+     * path -> the invoker handle of the cached reference, it is dropped together with its reference.
+     */
+    private final ConcurrentMap<String, ApacheDubboInvokerHandle> handles = new ConcurrentHashMap<>();
+
     private final LoadingCache<String, ReferenceConfig<GenericService>> cache = CacheBuilder.newBuilder()
             .maximumSize(Constants.CACHE_MAX_COUNT)
             .removalListener((RemovalListener<Object, ReferenceConfig<GenericService>>) notification -> {
+                handles.remove(notification.getKey());
                 ReferenceConfig<GenericService> config = notification.getValue();
                 if (Objects.nonNull(config)) {
                     // After the configuration change, Dubbo destroys the instance, but does not empty it. If it is not handled,
@@ -208,8 +217,7 @@ public final class ApacheDubboConfigCache extends DubboConfigCache {
         parameters.put("dispatcher", "direct");
         reference.setParameters(parameters);
 
-        String rpcExt = metaData.getRpcExt();
-        DubboParam dubboParam = parserToDubboParam(rpcExt);
+        DubboParam dubboParam = parserToDubboParam(metaData);
         if (Objects.nonNull(dubboParam)) {
             if (StringUtils.isNoneBlank(dubboParam.getVersion())) {
                 reference.setVersion(dubboParam.getVersion());
@@ -263,6 +271,31 @@ public final class ApacheDubboConfigCache extends DubboConfigCache {
         }
     }
 
+    /**
+     * Get the invoker handle of the cached reference.
+     *
+     * @param path the path
+     * @return the invoker handle, null when it is not resolved yet
+     */
+    public ApacheDubboInvokerHandle getHandle(final String path) {
+        return handles.get(path);
+    }
+
+    /**
+     * Cache the invoker handle resolved from the reference, only while the reference is the cached one.
+     *
+     * @param path      the path
+     * @param reference the reference
+     * @param handle    the invoker handle
+     */
+    public void cacheHandle(final String path, final ReferenceConfig<GenericService> reference, final ApacheDubboInvokerHandle handle) {
+        handles.put(path, handle);
+        // the reference was replaced or invalidated meanwhile, its removal may have run before the put
+        if (cache.getIfPresent(path) != reference) {
+            handles.remove(path, handle);
+        }
+    }
+
     /**
      * Invalidate.
      *
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.apache.dubbo.proxy;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.dubbo.config.ReferenceConfig;
+import org.apache.dubbo.rpc.service.GenericException;
+import org.apache.dubbo.rpc.service.GenericService;
+import org.apache.shenyu.common.dto.MetaData;
+import org.apache.shenyu.common.utils.ParamCheckUtils;
+import org.apache.shenyu.plugin.api.utils.BodyParamUtils;
+import org.apache.shenyu.plugin.dubbo.common.param.DubboParamResolveService;
+
+/**
+ * The generic invoker of a dubbo method, resolved once from the meta data and reused by every call.
+ */
+public final class ApacheDubboInvokerHandle {
+
+    private static final Pair<String[], Object[]> EMPTY_PARAMETERS = new ImmutablePair<>(new String[]{}, new Object[]{});
+
+    private final ReferenceConfig<GenericService> reference;
+
+    private final GenericService genericService;
+
+    private final String methodName;
+
+    private final String parameterTypes;
+
+    private final BodyParamUtils.ParameterTypes parsedParameterTypes;
+
+    /**
+     * Instantiates a new apache dubbo invoker handle.
+     *
+     * @param reference the reference
+     * @param metaData  the meta data
+     */
+    public ApacheDubboInvokerHandle(final ReferenceConfig<GenericService> reference, final MetaData metaData) {
+        this.reference = reference;
+        this.genericService = reference.get();
+        this.methodName = metaData.getMethodName();
+        this.parameterTypes = metaData.getParameterTypes();
+        this.parsedParameterTypes = StringUtils.isBlank(parameterTypes) ? null : BodyParamUtils.parseParameterTypes(parameterTypes);
+    }
+
+    /**
+     * Whether the handle is resolved from the reference and the meta data.
+     *
+     * @param reference the reference
+     * @param metaData  the meta data
+     * @return whether the handle can be reused
+     */
+    public boolean matches(final ReferenceConfig<GenericService> reference, final MetaData metaData) {
+        return this.reference == reference && matches(metaData);
+    }
+
+    /**
+     * Whether the handle is resolved from the method and the parameter types of the meta data.
+     *
+     * @param metaData the meta data
+     * @return whether the handle can be reused
+     */
+    public boolean matches(final MetaData metaData) {
+        return Objects.equals(methodName, metaData.getMethodName())
+                && Objects.equals(parameterTypes, metaData.getParameterTypes());
+    }
+
+    /**
+     * Build the parameters of the call from the body.
+     *
+     * @param body                     the body
+     * @param dubboParamResolveService the dubbo param resolve service
+     * @return the parameter types and the parameters
+     */
+    public Pair<String[], Object[]> buildParameters(final String body, final DubboParamResolveService dubboParamResolveService) {
+        if (Objects.isNull(parsedParameterTypes) || ParamCheckUtils.bodyIsEmpty(body)) {
+            return EMPTY_PARAMETERS;
+        }
+        return dubboParamResolveService.buildParameter(body, parsedParameterTypes);
+    }
+
+    /**
+     * Invoke the method asynchronously.
+     *
+     * @param parameters the parameter types and the parameters
+     * @return the result future
+     * @throws GenericException the generic exception
+     */
+    public CompletableFuture<Object> invokeAsync(final Pair<String[], Object[]> parameters) throws GenericException {
+        return genericService.$invokeAsync(methodName, parameters.getLeft(), parameters.getRight());
+    }
+
+    /**
+     * get methodName.
+     *
+     * @return methodName
+     */
+    public String getMethodName() {
+        return methodName;
+    }
+
+    /**
+     * get parsedParameterTypes.
+     *
+     * @return parsedParameterTypes
+     */
+    public BodyParamUtils.ParameterTypes getParsedParameterTypes() {
+        return parsedParameterTypes;
+    }
+}
@@ -18,20 +18,16 @@
 package org.apache.shenyu.plugin.apache.dubbo.proxy;
 
 import java.util.Objects;
-import java.util.concurrent.CompletableFuture;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.dubbo.config.ReferenceConfig;
-import org.apache.dubbo.rpc.RpcContext;
 import org.apache.dubbo.rpc.service.GenericException;
 import org.apache.dubbo.rpc.service.GenericService;
 import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.dto.MetaData;
 import org.apache.shenyu.common.enums.ResultEnum;
 import org.apache.shenyu.common.exception.ShenyuException;
-import org.apache.shenyu.common.utils.ParamCheckUtils;
 import org.apache.shenyu.plugin.apache.dubbo.cache.ApacheDubboConfigCache;
 import org.apache.shenyu.plugin.dubbo.common.param.DubboParamResolveService;
 import org.springframework.web.server.ServerWebExchange;
@@ -69,19 +65,18 @@ public class ApacheDubboProxyService {
             namespace = exchange.getRequest().getHeaders().get(Constants.NAMESPACE).get(0);
             referenceKey = namespace + ":" + referenceKey;
         }
-        ReferenceConfig<GenericService> reference = ApacheDubboConfigCache.getInstance().get(referenceKey);
-        if (StringUtils.isEmpty(reference.getInterface())) {
-            ApacheDubboConfigCache.getInstance().invalidate(referenceKey);
-            reference = ApacheDubboConfigCache.getInstance().initRefN(metaData, namespace);
-        }
-        GenericService genericService = reference.get();
-        Pair<String[], Object[]> pair;
-        if (StringUtils.isBlank(metaData.getParameterTypes()) || ParamCheckUtils.bodyIsEmpty(body)) {
-            pair = new ImmutablePair<>(new String[]{}, new Object[]{});
-        } else {
-            pair = dubboParamResolveService.buildParameter(body, metaData.getParameterTypes());
+        ApacheDubboInvokerHandle handle = ApacheDubboConfigCache.getInstance().getHandle(referenceKey);
+        if (Objects.isNull(handle) || !handle.matches(metaData)) {
+            ReferenceConfig<GenericService> reference = ApacheDubboConfigCache.getInstance().get(referenceKey);
+            if (StringUtils.isEmpty(reference.getInterface())) {
+                ApacheDubboConfigCache.getInstance().invalidate(referenceKey);
+                reference = ApacheDubboConfigCache.getInstance().initRefN(metaData, namespace);
+            }
+            handle = new ApacheDubboInvokerHandle(reference, metaData);
+            ApacheDubboConfigCache.getInstance().cacheHandle(referenceKey, reference, handle);
         }
-        return Mono.fromFuture(invokeAsync(genericService, metaData.getMethodName(), pair.getLeft(), pair.getRight()).thenApply(ret -> {
+        Pair<String[], Object[]> pair = handle.buildParameters(body, dubboParamResolveService);
+        return Mono.fromFuture(handle.invokeAsync(pair).thenApply(ret -> {
             Object result = ret;
             if (Objects.isNull(result)) {
                 result = Constants.DUBBO_RPC_RESULT_EMPTY;
@@ -91,12 +86,4 @@ public class ApacheDubboProxyService {
             return result;
         })).onErrorMap(exception -> exception instanceof GenericException ? new ShenyuException(((GenericException) exception).getExceptionMessage()) : new ShenyuException(exception));
     }
-    
-    @SuppressWarnings("unchecked")
-    private CompletableFuture<Object> invokeAsync(final GenericService genericService, final String method, final String[] parameterTypes, final Object[] args) throws GenericException {
-        //Compatible with asynchronous calls of lower Dubbo versions
-        genericService.$invoke(method, parameterTypes, args);
-        Object resultFromFuture = RpcContext.getContext().getFuture();
-        return resultFromFuture instanceof CompletableFuture ? (CompletableFuture<Object>) resultFromFuture : CompletableFuture.completedFuture(resultFromFuture);
-    }
 }
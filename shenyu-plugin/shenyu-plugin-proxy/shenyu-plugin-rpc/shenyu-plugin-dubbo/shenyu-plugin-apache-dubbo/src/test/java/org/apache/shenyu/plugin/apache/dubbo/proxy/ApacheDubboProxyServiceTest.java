@@ -22,10 +22,13 @@ import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.dubbo.config.ReferenceConfig;
 import org.apache.dubbo.rpc.service.GenericService;
+import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.dto.MetaData;
 import org.apache.shenyu.common.enums.RpcTypeEnum;
+import org.apache.shenyu.plugin.api.utils.BodyParamUtils;
 import org.apache.shenyu.plugin.apache.dubbo.cache.ApacheDubboConfigCache;
 import org.apache.shenyu.plugin.dubbo.common.param.DubboParamResolveService;
+import org.apache.shenyu.plugin.dubbo.common.param.DubboParamResolveServiceImpl;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -37,11 +40,23 @@ import org.mockito.quality.Strictness;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.test.StepVerifier;
 
 import java.lang.reflect.Field;
 import java.util.concurrent.CompletableFuture;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -83,20 +98,92 @@ public final class ApacheDubboProxyServiceTest {
     }
 
     @Test
-    @SuppressWarnings(value = "unchecked")
     public void genericInvokerTest() throws IllegalAccessException, NoSuchFieldException {
+        GenericService genericService = mockReference();
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        when(genericService.$invokeAsync(METHOD_NAME, LEFT, RIGHT)).thenReturn(future);
+        ApacheDubboProxyService apacheDubboProxyService = new ApacheDubboProxyService(new BodyParamResolveServiceImpl());
+        StepVerifier.create(apacheDubboProxyService.genericInvoker("", metaData, exchange))
+                .then(() -> future.complete("success"))
+                .expectNext("success")
+                .verifyComplete();
+    }
+
+    @Test
+    public void genericInvokerReuseHandleTest() throws IllegalAccessException, NoSuchFieldException {
+        GenericService genericService = mockReference();
+        metaData.setParameterTypes("java.lang.String,java.lang.Integer");
+        String[] parameterTypes = new String[]{"java.lang.String", "java.lang.Integer"};
+        when(genericService.$invokeAsync(eq(METHOD_NAME), eq(parameterTypes), any())).thenReturn(CompletableFuture.completedFuture(null));
+        DubboParamResolveService dubboParamResolveService = spy(new DubboParamResolveServiceImpl());
+        ApacheDubboProxyService apacheDubboProxyService = new ApacheDubboProxyService(dubboParamResolveService);
+        String body = "{\"name\":\"shenyu\",\"age\":18}";
+        StepVerifier.create(apacheDubboProxyService.genericInvoker(body, metaData, exchange))
+                .expectNext(Constants.DUBBO_RPC_RESULT_EMPTY)
+                .verifyComplete();
+        StepVerifier.create(apacheDubboProxyService.genericInvoker(body, metaData, exchange))
+                .expectNext(Constants.DUBBO_RPC_RESULT_EMPTY)
+                .verifyComplete();
+        verify(referenceConfig, times(1)).get();
+        verify(dubboParamResolveService, times(2)).buildParameter(eq(body), any(BodyParamUtils.ParameterTypes.class));
+        verify(genericService, times(2)).$invokeAsync(METHOD_NAME, parameterTypes, new Object[]{"shenyu", 18L});
+
+        metaData.setParameterTypes("java.lang.String");
+        when(genericService.$invokeAsync(eq(METHOD_NAME), eq(new String[]{"java.lang.String"}), any())).thenReturn(CompletableFuture.completedFuture("success"));
+        StepVerifier.create(apacheDubboProxyService.genericInvoker("{\"name\":\"shenyu\"}", metaData, exchange))
+                .expectNext("success")
+                .verifyComplete();
+        verify(referenceConfig, times(2)).get();
+    }
+
+    @Test
+    public void invalidateDropsHandleTest() throws IllegalAccessException, NoSuchFieldException {
+        GenericService genericService = mockReference();
+        when(genericService.$invokeAsync(METHOD_NAME, LEFT, RIGHT)).thenReturn(CompletableFuture.completedFuture("success"));
+        ApacheDubboProxyService apacheDubboProxyService = new ApacheDubboProxyService(new BodyParamResolveServiceImpl());
+        StepVerifier.create(apacheDubboProxyService.genericInvoker("", metaData, exchange))
+                .expectNext("success")
+                .verifyComplete();
+        assertNotNull(ApacheDubboConfigCache.getInstance().getHandle(PATH));
+        // the meta data handler invalidates the reference, its handle goes with it
+        ApacheDubboConfigCache.getInstance().invalidate(PATH);
+        assertNull(ApacheDubboConfigCache.getInstance().getHandle(PATH));
+        when(mockReference().$invokeAsync(METHOD_NAME, LEFT, RIGHT)).thenReturn(CompletableFuture.completedFuture("success"));
+        StepVerifier.create(apacheDubboProxyService.genericInvoker("", metaData, exchange))
+                .expectNext("success")
+                .verifyComplete();
+        // the plugin data handler invalidates all the references
+        ApacheDubboConfigCache.getInstance().invalidateAll();
+        assertNull(ApacheDubboConfigCache.getInstance().getHandle(PATH));
+    }
+
+    @Test
+    public void invokerHandleTest() {
+        GenericService genericService = mock(GenericService.class);
+        when(referenceConfig.get()).thenReturn(genericService);
+        metaData.setParameterTypes("{\"id\":\"java.lang.Long\"}");
+        ApacheDubboInvokerHandle handle = new ApacheDubboInvokerHandle(referenceConfig, metaData);
+        assertEquals(METHOD_NAME, handle.getMethodName());
+        assertArrayEquals(new String[]{"java.lang.Long"}, handle.getParsedParameterTypes().getTypes());
+        assertTrue(handle.matches(referenceConfig, metaData));
+        assertFalse(handle.matches(mock(ReferenceConfig.class), metaData));
+        Pair<String[], Object[]> pair = handle.buildParameters("{\"id\":1,\"ignored\":2}", new DubboParamResolveServiceImpl());
+        assertArrayEquals(new Object[]{1L}, pair.getRight());
+        assertEquals(0, handle.buildParameters("", new DubboParamResolveServiceImpl()).getLeft().length);
+        metaData.setMethodName("findById");
+        assertFalse(handle.matches(referenceConfig, metaData));
+    }
+
+    @SuppressWarnings(value = "unchecked")
+    private GenericService mockReference() throws IllegalAccessException, NoSuchFieldException {
         GenericService genericService = mock(GenericService.class);
         when(referenceConfig.get()).thenReturn(genericService);
         when(referenceConfig.getInterface()).thenReturn(PATH);
-        CompletableFuture<Object> future = new CompletableFuture<>();
-        when(genericService.$invoke(METHOD_NAME, LEFT, RIGHT)).thenReturn(future);
         ApacheDubboConfigCache apacheDubboConfigCache = ApacheDubboConfigCache.getInstance();
         Field field = ApacheDubboConfigCache.class.getDeclaredField("cache");
         field.setAccessible(true);
         ((LoadingCache<String, ReferenceConfig<GenericService>>) field.get(apacheDubboConfigCache)).put(PATH, referenceConfig);
-        ApacheDubboProxyService apacheDubboProxyService = new ApacheDubboProxyService(new BodyParamResolveServiceImpl());
-        apacheDubboProxyService.genericInvoker("", metaData, exchange);
-        future.complete("success");
+        return genericService;
     }
 
     static class BodyParamResolveServiceImpl implements DubboParamResolveService {
@@ -17,7 +17,9 @@
 
 package org.apache.shenyu.plugin.dubbo.common.cache;
 
+import org.apache.shenyu.common.dto.MetaData;
 import org.apache.shenyu.common.utils.GsonUtils;
+import org.apache.shenyu.plugin.base.cache.RpcExtCache;
 
 /**
  * DubboConfigCache.
@@ -33,4 +35,14 @@ public class DubboConfigCache {
     protected DubboParam parserToDubboParam(final String rpcExt) {
         return GsonUtils.getInstance().fromJson(rpcExt, DubboParam.class);
     }
+
+    /**
+     * parser the rpc ext of the meta data to dubbo param, the parsed param is shared through {@link RpcExtCache}.
+     *
+     * @param metaData the meta data
+     * @return parsed dubbo param
+     */
+    protected DubboParam parserToDubboParam(final MetaData metaData) {
+        return RpcExtCache.getInstance().obtain(metaData, DubboParam.class);
+    }
 }
@@ -18,6 +18,7 @@
 package org.apache.shenyu.plugin.dubbo.common.param;
 
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.shenyu.plugin.api.utils.BodyParamUtils;
 
 /**
  * The interface Generic param service.
@@ -34,4 +35,16 @@ public interface DubboParamResolveService {
      * @return the pair
      */
     Pair<String[], Object[]> buildParameter(String body, String parameterTypes);
+
+    /**
+     * Build parameter pair with the parameter types parsed ahead of the call.
+     * the default delegates to {@link #buildParameter(String, String)}, so that custom implementations keep working.
+     *
+     * @param body           the body
+     * @param parameterTypes the parsed parameter types
+     * @return the pair
+     */
+    default Pair<String[], Object[]> buildParameter(String body, BodyParamUtils.ParameterTypes parameterTypes) {
+        return buildParameter(body, parameterTypes.getParameterTypes());
+    }
 }
@@ -29,4 +29,9 @@ public class DubboParamResolveServiceImpl implements DubboParamResolveService {
     public Pair<String[], Object[]> buildParameter(final String body, final String parameterTypes) {
         return BodyParamUtils.buildParameters(body, parameterTypes);
     }
+
+    @Override
+    public Pair<String[], Object[]> buildParameter(final String body, final BodyParamUtils.ParameterTypes parameterTypes) {
+        return BodyParamUtils.buildParameters(body, parameterTypes);
+    }
 }
@@ -29,7 +29,6 @@ import org.apache.shenyu.common.enums.PluginEnum;
 import org.apache.shenyu.common.enums.ResultEnum;
 import org.apache.shenyu.common.enums.RpcTypeEnum;
 import org.apache.shenyu.common.exception.ShenyuException;
-import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.api.context.ShenyuContext;
 import org.apache.shenyu.plugin.api.result.ShenyuResultEnum;
@@ -37,6 +36,7 @@ import org.apache.shenyu.plugin.api.result.ShenyuResultWrap;
 import org.apache.shenyu.plugin.api.utils.RequestUrlUtils;
 import org.apache.shenyu.plugin.api.utils.WebFluxResultUtils;
 import org.apache.shenyu.plugin.base.AbstractShenyuPlugin;
+import org.apache.shenyu.plugin.base.cache.RpcExtCache;
 import org.apache.shenyu.plugin.grpc.cache.GrpcClientCache;
 import org.apache.shenyu.plugin.grpc.client.ShenyuGrpcClient;
 import org.apache.shenyu.plugin.grpc.context.GrpcConstants;
@@ -61,6 +61,8 @@ public class GrpcPlugin extends AbstractShenyuPlugin {
     public static final Context.Key<Map<String, String>> RPC_CONTEXT_KEY = Context.key("shenyuRpcContext");
 
     private static final Logger LOG = LoggerFactory.getLogger(GrpcPlugin.class);
+
+    private static final GrpcExtInfo DEFAULT_EXT_INFO = new GrpcExtInfo();
     
     @Override
     protected String getRawPath(final ServerWebExchange exchange) {
@@ -93,19 +95,25 @@ public class GrpcPlugin extends AbstractShenyuPlugin {
             Object error = ShenyuResultWrap.error(exchange, ShenyuResultEnum.GRPC_CLIENT_NULL);
             return WebFluxResultUtils.result(exchange, error);
         }
-        // load balance context
-        Context.current().withValue(GrpcConstants.GRPC_SELECTOR_ID, selector.getId()).attach();
-        Context.current().withValue(GrpcConstants.GRPC_RULE_ID, rule.getId()).attach();
-        Context.current().withValue(GrpcConstants.GRPC_REMOTE_ADDRESS,
-                Objects.requireNonNull(exchange.getRequest().getRemoteAddress()).getAddress().getHostAddress()).attach();
+        // load balance context, attached at once and restored after the call is started
+        Context context = Context.current().withValues(GrpcConstants.GRPC_SELECTOR_ID, selector.getId(),
+                GrpcConstants.GRPC_RULE_ID, rule.getId(),
+                GrpcConstants.GRPC_REMOTE_ADDRESS, Objects.requireNonNull(exchange.getRequest().getRemoteAddress()).getAddress().getHostAddress());
+        Map<String, Map<String, String>> rpcContext = exchange.getAttribute(Constants.GENERAL_CONTEXT);
+        Map<String, String> grpcContext = Optional.ofNullable(rpcContext).map(ctx -> ctx.get(PluginEnum.GRPC.getName())).orElse(null);
+        if (Objects.nonNull(grpcContext)) {
+            context = context.withValue(RPC_CONTEXT_KEY, grpcContext);
+        }
 
-        GrpcExtInfo extInfo = GsonUtils.getGson().fromJson(metaData.getRpcExt(), GrpcExtInfo.class);
+        GrpcExtInfo extInfo = Optional.ofNullable(RpcExtCache.getInstance().obtain(metaData, GrpcExtInfo.class)).orElse(DEFAULT_EXT_INFO);
         CallOptions callOptions = CallOptions.DEFAULT.withDeadlineAfter(extInfo.timeout, TimeUnit.MILLISECONDS);
-        Map<String, Map<String, String>> rpcContext = exchange.getAttribute(Constants.GENERAL_CONTEXT);
-        Optional.ofNullable(rpcContext).map(context -> context.get(PluginEnum.GRPC.getName())).ifPresent(
-            context -> Context.current().withValue(RPC_CONTEXT_KEY, context).attach());
-        CompletableFuture<ShenyuGrpcResponse> result = client.call(metaData, callOptions, param, extInfo.methodType);
-        Context.current().detach(Context.ROOT);
+        CompletableFuture<ShenyuGrpcResponse> result;
+        Context previous = context.attach();
+        try {
+            result = client.call(metaData, callOptions, param, extInfo.methodType);
+        } finally {
+            context.detach(previous);
+        }
 
         return Mono.fromFuture(result.thenApply(ret -> {
             exchange.getAttributes().put(Constants.RPC_RESULT, ret.getResults());
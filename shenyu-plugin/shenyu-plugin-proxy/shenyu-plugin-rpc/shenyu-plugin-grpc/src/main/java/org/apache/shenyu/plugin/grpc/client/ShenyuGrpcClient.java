@@ -25,7 +25,6 @@ import io.grpc.ManagedChannel;
 import io.grpc.MethodDescriptor;
 import io.grpc.stub.StreamObserver;
 import org.apache.shenyu.common.dto.MetaData;
-import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.plugin.grpc.exception.ShenyuGrpcException;
 import org.apache.shenyu.plugin.grpc.proto.CompleteObserver;
 import org.apache.shenyu.plugin.grpc.proto.MessageWriter;
@@ -72,7 +71,7 @@ public class ShenyuGrpcClient implements Closeable {
                                                       final CallOptions callOptions,
                                                       final String requestJsons,
                                                       final MethodDescriptor.MethodType methodType) {
-        List<DynamicMessage> jsonRequestList = JsonMessage.buildJsonMessageList(GsonUtils.getInstance().toObjectMap(requestJsons));
+        List<DynamicMessage> jsonRequestList = JsonMessage.buildJsonMessageList(requestJsons);
         DynamicMessage jsonResponse = JsonMessage.buildJsonMessage();
         
         MethodDescriptor<DynamicMessage, DynamicMessage> jsonMarshallerMethodDescriptor = JsonMessage.createJsonMarshallerMethodDescriptor(metaData.getServiceName(),
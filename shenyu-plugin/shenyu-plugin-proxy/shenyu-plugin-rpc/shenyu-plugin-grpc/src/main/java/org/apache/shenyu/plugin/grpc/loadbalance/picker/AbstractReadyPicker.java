@@ -17,10 +17,13 @@
 
 package org.apache.shenyu.plugin.grpc.loadbalance.picker;
 
+import io.grpc.ClientStreamTracer;
 import io.grpc.ConnectivityState;
 import io.grpc.LoadBalancer;
+import io.grpc.Metadata;
 import io.grpc.Status;
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.shenyu.loadbalancer.cache.UpstreamOutlierDetector;
 import org.apache.shenyu.plugin.grpc.loadbalance.SubChannelCopy;
 
 import java.util.HashSet;
@@ -55,7 +58,8 @@ public abstract class AbstractReadyPicker extends AbstractPicker implements Pick
             return getErrorPickResult();
         }
         SubChannelCopy channel = pick(list);
-        return Objects.isNull(channel) ? getErrorPickResult() : LoadBalancer.PickResult.withSubchannel(channel.getChannel());
+        return Objects.isNull(channel) ? getErrorPickResult()
+                : LoadBalancer.PickResult.withSubchannel(channel.getChannel(), new OutlierStreamTracerFactory(channel.getUrl()));
     }
 
     /**
@@ -103,4 +107,31 @@ public abstract class AbstractReadyPicker extends AbstractPicker implements Pick
                 .collect(Collectors.toList());
         return "[ " + String.join(",", infos) + " ]";
     }
+
+    /**
+     * Reports the status of every call to the outlier detection of the picked upstream.
+     */
+    private static final class OutlierStreamTracerFactory extends ClientStreamTracer.Factory {
+
+        private final String url;
+
+        OutlierStreamTracerFactory(final String url) {
+            this.url = url;
+        }
+
+        @Override
+        public ClientStreamTracer newClientStreamTracer(final ClientStreamTracer.StreamInfo info, final Metadata headers) {
+            return new ClientStreamTracer() {
+                @Override
+                public void streamClosed(final Status status) {
+                    UpstreamOutlierDetector.getInstance().record(url, !isUpstreamFailure(status.getCode()));
+                }
+            };
+        }
+
+        private static boolean isUpstreamFailure(final Status.Code code) {
+            return code == Status.Code.UNAVAILABLE || code == Status.Code.DEADLINE_EXCEEDED
+                    || code == Status.Code.INTERNAL || code == Status.Code.UNKNOWN;
+        }
+    }
 }
@@ -31,7 +31,7 @@ import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.dto.MetaData;
 import org.apache.shenyu.common.dto.convert.plugin.MotanRegisterConfig;
 import org.apache.shenyu.common.exception.ShenyuException;
-import org.apache.shenyu.common.utils.GsonUtils;
+import org.apache.shenyu.plugin.base.cache.RpcExtCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.lang.NonNull;
@@ -154,7 +154,7 @@ public final class ApplicationConfigCache {
         reference.setInterface(CommonClient.class);
         reference.setServiceInterface(metaData.getServiceName());
         // the group of motan rpc call
-        MotanParamExtInfo motanParamExtInfo = GsonUtils.getInstance().fromJson(metaData.getRpcExt(), MotanParamExtInfo.class);
+        MotanParamExtInfo motanParamExtInfo = RpcExtCache.getInstance().obtain(metaData, MotanParamExtInfo.class);
         reference.setGroup(motanParamExtInfo.getGroup());
         reference.setVersion("1.0");
         reference.setRequestTimeout(Optional.ofNullable(motanParamExtInfo.getTimeout()).orElse(1000));
@@ -35,8 +35,8 @@ import org.apache.shenyu.common.dto.MetaData;
 import org.apache.shenyu.common.dto.convert.plugin.SofaRegisterConfig;
 import org.apache.shenyu.common.enums.LoadBalanceEnum;
 import org.apache.shenyu.common.exception.ShenyuException;
-import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
+import org.apache.shenyu.plugin.base.cache.RpcExtCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
@@ -205,8 +205,7 @@ public final class ApplicationConfigCache {
         reference.setProtocol(RpcConstants.PROTOCOL_TYPE_BOLT);
         reference.setInvokeType(RpcConstants.INVOKER_TYPE_CALLBACK);
         reference.setRepeatedReferLimit(-1);
-        String rpcExt = metaData.getRpcExt();
-        SofaParamExtInfo sofaParamExtInfo = GsonUtils.getInstance().fromJson(rpcExt, SofaParamExtInfo.class);
+        SofaParamExtInfo sofaParamExtInfo = RpcExtCache.getInstance().obtain(metaData, SofaParamExtInfo.class);
         if (Objects.nonNull(sofaParamExtInfo)) {
             if (StringUtils.isNoneBlank(sofaParamExtInfo.getLoadbalance())) {
                 final String loadBalance = sofaParamExtInfo.getLoadbalance();
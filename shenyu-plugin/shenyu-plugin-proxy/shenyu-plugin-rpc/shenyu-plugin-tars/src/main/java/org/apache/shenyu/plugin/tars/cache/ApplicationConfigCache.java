@@ -43,6 +43,7 @@ import org.apache.shenyu.common.dto.convert.selector.TarsUpstream;
 import org.apache.shenyu.common.exception.ShenyuException;
 import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
+import org.apache.shenyu.plugin.base.cache.RpcExtCache;
 import org.apache.shenyu.plugin.tars.exception.ShenyuTarsPluginException;
 import org.apache.shenyu.plugin.tars.proxy.TarsInvokePrx;
 import org.apache.shenyu.plugin.tars.proxy.TarsInvokePrxList;
@@ -245,7 +246,7 @@ public final class ApplicationConfigCache {
     private Class<?> buildClassDefinition(final MetaData metaData) throws ClassNotFoundException {
         String clazzName = PrxInfoUtil.getPrxName(metaData);
         DynamicType.Builder<?> classDefinition = new ByteBuddy().makeInterface().name(clazzName);
-        TarsParamExtInfo tarsParamExtInfo = GsonUtils.getInstance().fromJson(metaData.getRpcExt(), TarsParamExtInfo.class);
+        TarsParamExtInfo tarsParamExtInfo = RpcExtCache.getInstance().obtain(metaData, TarsParamExtInfo.class);
         for (MethodInfo methodInfo : tarsParamExtInfo.getMethodInfo()) {
             DynamicType.Builder.MethodDefinition.ParameterDefinition<?> definition =
                     classDefinition.defineMethod(PrxInfoUtil.getMethodName(methodInfo.methodName),
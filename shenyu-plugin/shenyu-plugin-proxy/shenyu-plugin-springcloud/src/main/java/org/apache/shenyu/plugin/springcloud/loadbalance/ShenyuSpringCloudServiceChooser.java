@@ -18,6 +18,7 @@
 package org.apache.shenyu.plugin.springcloud.loadbalance;
 
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.shenyu.common.cache.WindowTinyLFUMap;
 import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.dto.convert.selector.SpringCloudSelectorHandle;
 import org.apache.shenyu.loadbalancer.cache.UpstreamCacheManager;
@@ -33,6 +34,7 @@ import org.springframework.cloud.client.ServiceInstance;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -44,6 +46,12 @@ public final class ShenyuSpringCloudServiceChooser {
     
     private static final Logger LOG = LoggerFactory.getLogger(ShenyuSpringCloudServiceChooser.class);
 
+    /**
+     * The upstreams of the discovered instances are kept, so their in flight requests
+     * and response latency survive across requests.
+     */
+    private static final Map<String, Upstream> UPSTREAMS = new WindowTinyLFUMap<>(4096);
+
     public ShenyuSpringCloudServiceChooser() {
     }
 
@@ -142,12 +150,16 @@ public final class ShenyuSpringCloudServiceChooser {
             return Collections.emptyList();
         }
         return serviceInstanceList.stream()
-                .map(serviceInstance -> buildDefaultSpringCloudUpstream(serviceInstance.getUri().getRawAuthority(),
+                .map(serviceInstance -> obtainSpringCloudUpstream(serviceInstance.getUri().getRawAuthority(),
                         serviceInstance.getUri().getScheme() + "://"))
                 .distinct()
                 .collect(Collectors.toList());
     }
 
+    private static Upstream obtainSpringCloudUpstream(final String upstreamUrl, final String protocol) {
+        return UPSTREAMS.computeIfAbsent(protocol + upstreamUrl, key -> buildDefaultSpringCloudUpstream(upstreamUrl, protocol));
+    }
+
     /**
      * build default spring cloud upstream.
      *
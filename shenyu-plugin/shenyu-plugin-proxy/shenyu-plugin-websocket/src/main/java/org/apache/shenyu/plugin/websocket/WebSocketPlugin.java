@@ -106,8 +106,12 @@ public class WebSocketPlugin extends AbstractShenyuPlugin {
         URI wsRequestUrl = buildWsRealPath(exchange, upstream, shenyuContext);
         LOG.info("you websocket urlPath is :{}", wsRequestUrl.toASCIIString());
         HttpHeaders headers = exchange.getRequest().getHeaders();
-        return this.webSocketService.handleRequest(exchange, new ShenyuWebSocketHandler(
-                wsRequestUrl, this.webSocketClient, filterHeaders(headers), buildWsProtocols(headers)));
+        // the session is counted in flight while it is open, its duration is no response latency
+        return Mono.defer(() -> {
+            UpstreamCacheManager.getInstance().requestStarted(upstream);
+            return this.webSocketService.handleRequest(exchange, new ShenyuWebSocketHandler(
+                    wsRequestUrl, this.webSocketClient, filterHeaders(headers), buildWsProtocols(headers)));
+        }).doFinally(signal -> UpstreamCacheManager.getInstance().requestFinished(upstream));
     }
 
     private WebSocketRuleHandle buildRuleHandle(final RuleData rule) {
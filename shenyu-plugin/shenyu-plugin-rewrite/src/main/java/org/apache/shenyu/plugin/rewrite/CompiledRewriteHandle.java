@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.rewrite;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.dto.convert.rule.RewriteHandle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.UnaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The rewrite handle compiled once when the rule is received, so that rewriting a request
+ * neither compiles the regex nor parses the replacement again.
+ */
+public final class CompiledRewriteHandle {
+
+    private static final String REGEX_META_CHARS = "\\^$.|?*+()[]{}";
+
+    private final RewriteHandle rewriteHandle;
+
+    private final boolean enabled;
+
+    private final int percentage;
+
+    private final boolean rewriteMetaData;
+
+    private final UnaryOperator<String> rewriter;
+
+    private CompiledRewriteHandle(final RewriteHandle rewriteHandle) {
+        this.rewriteHandle = rewriteHandle;
+        this.enabled = StringUtils.isNoneBlank(rewriteHandle.getRegex(), rewriteHandle.getReplace());
+        // the default percentage compatible with older versions is 100
+        this.percentage = Optional.ofNullable(rewriteHandle.getPercentage()).orElse(100);
+        this.rewriteMetaData = Optional.ofNullable(rewriteHandle.getRewriteMetaData()).orElse(false);
+        this.rewriter = enabled ? compileRewriter(rewriteHandle.getRegex(), rewriteHandle.getReplace()) : UnaryOperator.identity();
+    }
+
+    /**
+     * Compile the rewrite handle.
+     *
+     * @param rewriteHandle the rewrite handle
+     * @return the compiled rewrite handle
+     */
+    public static CompiledRewriteHandle compile(final RewriteHandle rewriteHandle) {
+        return new CompiledRewriteHandle(rewriteHandle);
+    }
+
+    /**
+     * Gets the rewrite handle this was compiled from.
+     *
+     * @return the rewrite handle
+     */
+    public RewriteHandle getRewriteHandle() {
+        return rewriteHandle;
+    }
+
+    /**
+     * Whether the handle has both the regex and the replacement.
+     *
+     * @return true when the uri can be rewritten
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Gets the percentage of the requests to rewrite.
+     *
+     * @return the percentage
+     */
+    public int getPercentage() {
+        return percentage;
+    }
+
+    /**
+     * Whether the meta data should be looked up again for the rewritten uri.
+     *
+     * @return true when the rewritten uri crosses plugins
+     */
+    public boolean isRewriteMetaData() {
+        return rewriteMetaData;
+    }
+
+    /**
+     * Rewrite the uri.
+     *
+     * @param uri the uri
+     * @return the rewritten uri
+     */
+    public String rewrite(final String uri) {
+        return rewriter.apply(uri);
+    }
+
+    private static UnaryOperator<String> compileRewriter(final String regex, final String replace) {
+        int variableIndex = regex.indexOf("{");
+        if (replace.contains("{") && variableIndex >= 0) {
+            // the path variable of the regex is replaced with the rest of the uri
+            String variable = regex.substring(variableIndex);
+            return uri -> replace.replace(variable, uri.substring(variableIndex + 1));
+        }
+        if (StringUtils.containsNone(regex, REGEX_META_CHARS) && StringUtils.containsNone(replace, "\\$")) {
+            return uri -> uri.replace(regex, replace);
+        }
+        Pattern pattern;
+        try {
+            pattern = Pattern.compile(regex);
+        } catch (IllegalArgumentException e) {
+            // keep failing the same way the rule always did
+            return uri -> uri.replaceAll(regex, replace);
+        }
+        List<BiConsumer<Matcher, StringBuilder>> template;
+        try {
+            template = parseReplacement(replace, pattern.matcher("").groupCount());
+        } catch (IllegalArgumentException e) {
+            return uri -> pattern.matcher(uri).replaceAll(replace);
+        }
+        boolean anchored = regex.startsWith("^");
+        String literalPrefix = literalPrefix(regex, anchored ? 1 : 0);
+        return uri -> {
+            if (!literalPrefix.isEmpty() && (anchored ? !uri.startsWith(literalPrefix) : !uri.contains(literalPrefix))) {
+                return uri;
+            }
+            return replaceAll(pattern.matcher(uri), uri, template);
+        };
+    }
+
+    private static String replaceAll(final Matcher matcher, final String uri, final List<BiConsumer<Matcher, StringBuilder>> template) {
+        if (!matcher.find()) {
+            return uri;
+        }
+        StringBuilder builder = new StringBuilder(uri.length() + 16);
+        int last = 0;
+        do {
+            builder.append(uri, last, matcher.start());
+            for (BiConsumer<Matcher, StringBuilder> segment : template) {
+                segment.accept(matcher, builder);
+            }
+            last = matcher.end();
+        } while (matcher.find());
+        return builder.append(uri, last, uri.length()).toString();
+    }
+
+    // parse the replacement the way Matcher#appendReplacement does, into literals and group references
+    private static List<BiConsumer<Matcher, StringBuilder>> parseReplacement(final String replace, final int groupCount) {
+        List<BiConsumer<Matcher, StringBuilder>> template = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < replace.length()) {
+            char c = replace.charAt(i++);
+            if (c == '\\') {
+                if (i == replace.length()) {
+                    throw new IllegalArgumentException("character to be escaped is missing");
+                }
+                literal.append(replace.charAt(i++));
+            } else if (c == '$') {
+                if (i == replace.length()) {
+                    throw new IllegalArgumentException("Illegal group reference: group index is missing");
+                }
+                addLiteral(template, literal);
+                if (replace.charAt(i) == '{') {
+                    int end = replace.indexOf('}', i);
+                    if (end < 0) {
+                        throw new IllegalArgumentException("named capturing group is missing trailing '}'");
+                    }
+                    String name = replace.substring(i + 1, end);
+                    template.add((matcher, builder) -> Optional.ofNullable(matcher.group(name)).ifPresent(builder::append));
+                    i = end + 1;
+                } else {
+                    int group = Character.digit(replace.charAt(i++), 10);
+                    if (group < 0 || group > groupCount) {
+                        throw new IllegalArgumentException("Illegal group reference");
+                    }
+                    while (i < replace.length() && Character.isDigit(replace.charAt(i))) {
+                        int next = group * 10 + Character.digit(replace.charAt(i), 10);
+                        if (next > groupCount) {
+                            break;
+                        }
+                        group = next;
+                        i++;
+                    }
+                    int reference = group;
+                    template.add((matcher, builder) -> Optional.ofNullable(matcher.group(reference)).ifPresent(builder::append));
+                }
+            } else {
+                literal.append(c);
+            }
+        }
+        addLiteral(template, literal);
+        return template;
+    }
+
+    private static void addLiteral(final List<BiConsumer<Matcher, StringBuilder>> template, final StringBuilder literal) {
+        if (literal.length() > 0) {
+            String text = literal.toString();
+            template.add((matcher, builder) -> builder.append(text));
+            literal.setLength(0);
+        }
+    }
+
+    // the literal every match has to start with, used to skip the regex on uris that can not match
+    private static String literalPrefix(final String regex, final int from) {
+        if (regex.indexOf('|') >= 0) {
+            return "";
+        }
+        int end = from;
+        while (end < regex.length() && REGEX_META_CHARS.indexOf(regex.charAt(end)) < 0) {
+            end++;
+        }
+        if (end < regex.length() && end > from && "?*{".indexOf(regex.charAt(end)) >= 0) {
+            // the quantifier makes the last character optional
+            end--;
+        }
+        return regex.substring(from, end);
+    }
+}
@@ -27,7 +27,6 @@ import org.apache.shenyu.common.enums.PluginEnum;
 import org.apache.shenyu.common.enums.RpcTypeEnum;
 import org.apache.shenyu.plugin.api.context.ShenyuContext;
 import org.apache.shenyu.plugin.base.cache.MetaDataCache;
-import org.apache.shenyu.plugin.base.utils.PathMatchUtils;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.base.AbstractShenyuPlugin;
 import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
@@ -64,22 +63,20 @@ public class RewritePlugin extends AbstractShenyuPlugin {
     @Override
     protected Mono<Void> doExecute(final ServerWebExchange exchange, final ShenyuPluginChain chain, final SelectorData selector, final RuleData rule) {
         String handle = rule.getHandle();
-        RewriteHandle rewriteHandle = RewritePluginDataHandler.CACHED_HANDLE.get().obtainHandle(CacheKeyUtils.INST.getKey(rule));
+        String key = CacheKeyUtils.INST.getKey(rule);
+        RewriteHandle rewriteHandle = RewritePluginDataHandler.CACHED_HANDLE.get().obtainHandle(key);
         if (Objects.isNull(rewriteHandle)) {
             LOG.error("uri rewrite rule can not configuration：{}", handle);
             return chain.execute(exchange);
         }
-        String rewriteUri = this.getRawPath(exchange);
-        // the default percentage compatible with older versions is 100
-        final Integer percentage = Optional.ofNullable(rewriteHandle.getPercentage()).orElse(100);
-        if (StringUtils.isNoneBlank(rewriteHandle.getRegex(), rewriteHandle.getReplace())
-                && ThreadLocalRandom.current().nextInt(100) < percentage) {
-            rewriteUri = rewriteHandle.getReplace().contains("{")
-                    ? PathMatchUtils.replaceAll(rewriteHandle.getReplace(), rewriteHandle.getRegex().substring(rewriteHandle.getRegex().indexOf("{")),
-                            rewriteUri.substring(rewriteHandle.getRegex().indexOf("{") + 1))
-                    : rewriteUri.replaceAll(rewriteHandle.getRegex(), rewriteHandle.getReplace());
+        CompiledRewriteHandle compiledHandle = RewritePluginDataHandler.CACHED_COMPILED_HANDLE.get().obtainHandle(key);
+        if (Objects.isNull(compiledHandle) || compiledHandle.getRewriteHandle() != rewriteHandle) {
+            compiledHandle = CompiledRewriteHandle.compile(rewriteHandle);
+        }
+        if (compiledHandle.isEnabled() && ThreadLocalRandom.current().nextInt(100) < compiledHandle.getPercentage()) {
+            String rewriteUri = compiledHandle.rewrite(this.getRawPath(exchange));
             Map<String, Object> attributes = exchange.getAttributes();
-            if (Optional.ofNullable(rewriteHandle.getRewriteMetaData()).orElse(false)) {
+            if (compiledHandle.isRewriteMetaData()) {
                 // when the rewritten uri crosses plugins, this is necessary
                 final String contextPath = Optional.ofNullable((String) exchange.getAttribute(Constants.REWRITE_CONTEXT_PATH))
                         .orElseGet(() -> exchange.getAttribute(Constants.CONTEXT_PATH));
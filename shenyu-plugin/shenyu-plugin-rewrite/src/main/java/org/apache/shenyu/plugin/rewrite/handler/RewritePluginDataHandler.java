@@ -25,6 +25,7 @@ import org.apache.shenyu.plugin.base.cache.CommonHandleCache;
 import org.apache.shenyu.plugin.base.handler.PluginDataHandler;
 import org.apache.shenyu.plugin.base.utils.BeanHolder;
 import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
+import org.apache.shenyu.plugin.rewrite.CompiledRewriteHandle;
 
 import java.util.Optional;
 import java.util.function.Supplier;
@@ -36,17 +37,25 @@ public class RewritePluginDataHandler implements PluginDataHandler {
 
     public static final Supplier<CommonHandleCache<String, RewriteHandle>> CACHED_HANDLE = new BeanHolder<>(CommonHandleCache::new);
 
+    public static final Supplier<CommonHandleCache<String, CompiledRewriteHandle>> CACHED_COMPILED_HANDLE = new BeanHolder<>(CommonHandleCache::new);
+
     @Override
     public void handlerRule(final RuleData ruleData) {
         Optional.ofNullable(ruleData.getHandle()).ifPresent(s -> {
             RewriteHandle rewriteHandle = GsonUtils.getInstance().fromJson(s, RewriteHandle.class);
-            CACHED_HANDLE.get().cachedHandle(CacheKeyUtils.INST.getKey(ruleData), rewriteHandle);
+            String key = CacheKeyUtils.INST.getKey(ruleData);
+            CACHED_HANDLE.get().cachedHandle(key, rewriteHandle);
+            CACHED_COMPILED_HANDLE.get().cachedHandle(key, CompiledRewriteHandle.compile(rewriteHandle));
         });
     }
 
     @Override
     public void removeRule(final RuleData ruleData) {
-        Optional.ofNullable(ruleData.getHandle()).ifPresent(s -> CACHED_HANDLE.get().removeHandle(CacheKeyUtils.INST.getKey(ruleData)));
+        Optional.ofNullable(ruleData.getHandle()).ifPresent(s -> {
+            String key = CacheKeyUtils.INST.getKey(ruleData);
+            CACHED_HANDLE.get().removeHandle(key);
+            CACHED_COMPILED_HANDLE.get().removeHandle(key);
+        });
     }
 
     @Override
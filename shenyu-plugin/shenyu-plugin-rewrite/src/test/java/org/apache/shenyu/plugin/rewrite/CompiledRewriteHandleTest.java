@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.rewrite;
+
+import org.apache.shenyu.common.dto.convert.rule.RewriteHandle;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The test case for {@link CompiledRewriteHandle}.
+ */
+public final class CompiledRewriteHandleTest {
+
+    @ParameterizedTest
+    @CsvSource(delimiter = ' ', value = {
+        "test rewrite /shenyu/test",
+        "^/shenyu/(.*) /$1 /shenyu/order/findById",
+        "^/shenyu/(.*) /$1 /http/order/findById",
+        "/order(s)?/(?<id>\\d+) /item/${id}$1 /api/orders/12",
+        "a*b x /aab/ab/b",
+        "/(a|b)/ /c/ /a/b/",
+        "^/shenyu/.*$ \\$1/ /shenyu/test",
+        "/(v)(1)(2)(3)(4)(5)(6)(7)(8)(9)(0) $11$10$1 /v1234567890"
+    })
+    public void testRewriteLikeReplaceAll(final String regex, final String replace, final String uri) {
+        assertEquals(uri.replaceAll(regex, replace), compile(regex, replace, null).rewrite(uri));
+    }
+
+    @Test
+    public void testRewritePathVariable() {
+        assertEquals("/order/findById", compile("/shenyu{path}", "/{path}", null).rewrite("/shenyu/order/findById"));
+    }
+
+    @Test
+    public void testInvalidReplacement() {
+        CompiledRewriteHandle handle = compile("/(shenyu)", "/$2", null);
+        assertEquals("/test", handle.rewrite("/test"));
+        assertThrows(IndexOutOfBoundsException.class, () -> handle.rewrite("/shenyu"));
+    }
+
+    @Test
+    public void testDefaults() {
+        CompiledRewriteHandle handle = compile("test", "", null);
+        assertFalse(handle.isEnabled());
+        assertFalse(handle.isRewriteMetaData());
+        assertEquals(100, handle.getPercentage());
+        assertEquals("/test", handle.rewrite("/test"));
+        handle = compile("test", "rewrite", 50);
+        assertTrue(handle.isEnabled());
+        assertEquals(50, handle.getPercentage());
+    }
+
+    private CompiledRewriteHandle compile(final String regex, final String replace, final Integer percentage) {
+        RewriteHandle rewriteHandle = new RewriteHandle();
+        rewriteHandle.setRegex(regex);
+        rewriteHandle.setReplace(replace);
+        rewriteHandle.setPercentage(percentage);
+        return CompiledRewriteHandle.compile(rewriteHandle);
+    }
+}
@@ -108,11 +108,12 @@ public enum MapTypeEnum {
         if (CollectionUtils.isEmpty(modifiedPairs)) {
             return originalBody;
         }
-        String modifiedString = originalBody;
+        // rewrite all the fields on one parsed tree and serialize it once
+        JsonElement element = JsonParser.parseString(originalBody);
         for (Pair<String, String> pair : modifiedPairs) {
-            modifiedString = ALL.map(modifiedString, pair.getRight(), pair.getLeft());
+            element = JsonUtil.replaceJsonNode(element, new AtomicInteger(0), pair.getRight(), Arrays.asList(pair.getLeft().split("\\.")));
         }
-        return modifiedString;
+        return element.toString();
     }
 
     /**
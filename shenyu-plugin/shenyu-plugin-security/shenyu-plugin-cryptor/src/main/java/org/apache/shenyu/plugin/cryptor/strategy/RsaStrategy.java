@@ -17,16 +17,21 @@
 
 package org.apache.shenyu.plugin.cryptor.strategy;
 
+import org.apache.shenyu.common.cache.WindowTinyLFUMap;
+import org.apache.shenyu.common.exception.ShenyuException;
 import org.apache.shenyu.spi.Join;
 
 import javax.crypto.Cipher;
+import javax.crypto.NoSuchPaddingException;
 import java.nio.charset.StandardCharsets;
 import java.security.KeyFactory;
+import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
-import java.security.interfaces.RSAPublicKey;
+import java.security.PublicKey;
 import java.security.spec.PKCS8EncodedKeySpec;
 import java.security.spec.X509EncodedKeySpec;
 import java.util.Base64;
+import java.util.Map;
 
 /**
  * rsa cryptor.
@@ -36,21 +41,49 @@ public class RsaStrategy implements CryptorStrategy {
 
     private static final String RSA = "rsa";
 
+    private static final int MAX_CACHED_KEYS = 1024;
+
+    /**
+     * The keys of the rules, decoded once instead of on every request.
+     */
+    private static final Map<String, PrivateKey> PRIVATE_KEYS = new WindowTinyLFUMap<>(MAX_CACHED_KEYS);
+
+    private static final Map<String, PublicKey> PUBLIC_KEYS = new WindowTinyLFUMap<>(MAX_CACHED_KEYS);
+
+    /**
+     * A cipher is stateful and not thread safe, so every thread keeps its own and re-inits it per call.
+     */
+    private static final ThreadLocal<Cipher> CIPHER = ThreadLocal.withInitial(RsaStrategy::newCipher);
+
     @Override
     public String decrypt(final String key, final byte[] encryptData) throws Exception {
-        byte[] decoded = Base64.getDecoder().decode(key);
-        PrivateKey priKey = KeyFactory.getInstance(RSA).generatePrivate(new PKCS8EncodedKeySpec(decoded));
-        Cipher cipher = Cipher.getInstance(RSA);
+        PrivateKey priKey = PRIVATE_KEYS.get(key);
+        if (priKey == null) {
+            priKey = KeyFactory.getInstance(RSA).generatePrivate(new PKCS8EncodedKeySpec(Base64.getDecoder().decode(key)));
+            PRIVATE_KEYS.put(key, priKey);
+        }
+        Cipher cipher = CIPHER.get();
         cipher.init(Cipher.DECRYPT_MODE, priKey);
         return new String(cipher.doFinal(encryptData));
     }
 
     @Override
     public String encrypt(final String key, final String data) throws Exception {
-        byte[] decoded = Base64.getDecoder().decode(key);
-        RSAPublicKey pubKey = (RSAPublicKey) KeyFactory.getInstance(RSA).generatePublic(new X509EncodedKeySpec(decoded));
-        Cipher cipher = Cipher.getInstance(RSA);
+        PublicKey pubKey = PUBLIC_KEYS.get(key);
+        if (pubKey == null) {
+            pubKey = KeyFactory.getInstance(RSA).generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(key)));
+            PUBLIC_KEYS.put(key, pubKey);
+        }
+        Cipher cipher = CIPHER.get();
         cipher.init(Cipher.ENCRYPT_MODE, pubKey);
         return Base64.getEncoder().encodeToString(cipher.doFinal(data.getBytes(StandardCharsets.UTF_8)));
     }
+
+    private static Cipher newCipher() {
+        try {
+            return Cipher.getInstance(RSA);
+        } catch (NoSuchAlgorithmException | NoSuchPaddingException e) {
+            throw new ShenyuException(e);
+        }
+    }
 }
@@ -47,7 +47,16 @@ public final class JsonUtil {
      * @return str.
      */
     public static String parser(final String json, final String fieldName) {
-        Map<String, Object> map = GsonUtils.getInstance().toObjectMap(json);
+        return parser(GsonUtils.getInstance().toObjectMap(json), fieldName);
+    }
+
+    /**
+     * parser JSON already parsed into a map.
+     * @param map json Map
+     * @param fieldName fieldName
+     * @return str.
+     */
+    public static String parser(final Map<String, Object> map, final String fieldName) {
         String str = null;
         if (fieldName.contains(".")) {
             String[] split = fieldName.split("\\.");
@@ -75,8 +84,10 @@ public final class JsonUtil {
         if (CollectionUtils.isEmpty(fieldNames) || StringUtils.isBlank(json)) {
             return Lists.newArrayList();
         }
+        // parse the body once for all the fields
+        Map<String, Object> map = GsonUtils.getInstance().toObjectMap(json);
         return fieldNames.stream().filter(StringUtils::isNoneBlank)
-                .map(field -> Pair.of(field, parser(json, field)))
+                .map(field -> Pair.of(field, parser(map, field)))
                 .filter(pair -> StringUtils.isNoneBlank(pair.getRight()))
                 .collect(Collectors.toList());
     }
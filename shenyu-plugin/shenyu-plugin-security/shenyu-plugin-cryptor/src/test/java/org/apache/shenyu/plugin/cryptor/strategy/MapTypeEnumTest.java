@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.cryptor.strategy;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * The test case for {@link MapTypeEnum}.
+ */
+public final class MapTypeEnumTest {
+
+    @Test
+    public void testMapFields() {
+        String body = "{\"name\":\"shenyu\",\"data\":{\"id\":\"1\",\"code\":\"2\"}}";
+        String mapped = MapTypeEnum.ALL.map(body, Arrays.asList(Pair.of("name", "a"), Pair.of("data.id", "b")));
+        assertThat(mapped, is("{\"name\":\"a\",\"data\":{\"id\":\"b\",\"code\":\"2\"}}"));
+        String chained = MapTypeEnum.ALL.map(MapTypeEnum.ALL.map(body, "a", "name"), "b", "data.id");
+        assertThat(mapped, is(chained));
+    }
+
+    @Test
+    public void testMapNoField() {
+        assertThat(MapTypeEnum.ALL.map("{\"name\":\"shenyu\"}", Collections.emptyList()), is("{\"name\":\"shenyu\"}"));
+    }
+}
@@ -48,4 +48,13 @@ public class RSAStrategyTest {
     public void testDecrypt() throws Exception {
         assertThat(cryptorStrategy.decrypt(decKey, encryptedData), is(decryptedData));
     }
+
+    @Test
+    public void testReuseCachedKeys() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            String data = decryptedData + i;
+            byte[] encrypted = Base64.getMimeDecoder().decode(cryptorStrategy.encrypt(encKey, data));
+            assertThat(cryptorStrategy.decrypt(decKey, encrypted), is(data));
+        }
+    }
 }
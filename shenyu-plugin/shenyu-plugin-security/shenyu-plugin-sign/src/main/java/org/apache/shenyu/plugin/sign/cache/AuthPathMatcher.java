@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.sign.cache;
+
+import org.apache.commons.lang3.BooleanUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.dto.AppAuthData;
+import org.apache.shenyu.common.dto.AuthPathData;
+import org.apache.shenyu.plugin.base.utils.PathMatchUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The enabled auth paths of an app, indexed when the auth data is cached.
+ * literal paths are looked up directly, and the patterns are narrowed by their first segment
+ * before they are matched by {@link PathMatchUtils#match(String, String)}.
+ */
+public final class AuthPathMatcher {
+
+    private static final String SEPARATOR = "/";
+
+    private final AppAuthData appAuthData;
+
+    private final Set<String> literalPaths = new HashSet<>();
+
+    private final Map<String, List<String>> patternsBySegment = new HashMap<>();
+
+    private final List<String> wildcardPatterns = new ArrayList<>();
+
+    /**
+     * Instantiates a new auth path matcher.
+     *
+     * @param appAuthData the app auth data
+     */
+    public AuthPathMatcher(final AppAuthData appAuthData) {
+        this.appAuthData = appAuthData;
+        List<AuthPathData> pathDataList = Objects.isNull(appAuthData.getPathDataList()) ? Collections.emptyList() : appAuthData.getPathDataList();
+        for (AuthPathData pathData : pathDataList) {
+            if (BooleanUtils.isNotTrue(pathData.getEnabled()) || Objects.isNull(pathData.getPath())) {
+                continue;
+            }
+            String path = pathData.getPath();
+            if (!isPattern(path)) {
+                literalPaths.add(path);
+            }
+            String segment = firstSegment(path);
+            if (Objects.isNull(segment) || isPattern(segment)) {
+                wildcardPatterns.add(path);
+            } else {
+                patternsBySegment.computeIfAbsent(segment, key -> new ArrayList<>()).add(path);
+            }
+        }
+    }
+
+    /**
+     * Whether the matcher is built from the app auth data.
+     *
+     * @param appAuthData the app auth data
+     * @return whether the matcher is built from the app auth data
+     */
+    public boolean isBuiltFrom(final AppAuthData appAuthData) {
+        return this.appAuthData == appAuthData;
+    }
+
+    /**
+     * Whether the path matches one of the enabled auth paths.
+     *
+     * @param realPath the real path
+     * @return whether the path matches
+     */
+    public boolean match(final String realPath) {
+        if (Objects.isNull(realPath)) {
+            return false;
+        }
+        if (literalPaths.contains(realPath)) {
+            return true;
+        }
+        String segment = firstSegment(realPath);
+        if (Objects.nonNull(segment) && match(patternsBySegment.get(segment), realPath)) {
+            return true;
+        }
+        return match(wildcardPatterns, realPath);
+    }
+
+    private static boolean match(final List<String> patterns, final String realPath) {
+        if (Objects.isNull(patterns)) {
+            return false;
+        }
+        for (String pattern : patterns) {
+            if (PathMatchUtils.match(pattern, realPath)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isPattern(final String path) {
+        return StringUtils.containsAny(path, '*', '?', '{');
+    }
+
+    private static String firstSegment(final String path) {
+        int start = 0;
+        while (path.startsWith(SEPARATOR, start)) {
+            start++;
+        }
+        if (start == path.length()) {
+            return null;
+        }
+        int end = path.indexOf(SEPARATOR, start);
+        return end < 0 ? path.substring(start) : path.substring(start, end);
+    }
+}
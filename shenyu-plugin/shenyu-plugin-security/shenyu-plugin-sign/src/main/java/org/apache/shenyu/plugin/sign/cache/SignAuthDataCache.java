@@ -20,6 +20,7 @@ package org.apache.shenyu.plugin.sign.cache;
 import com.google.common.collect.Maps;
 import org.apache.shenyu.common.dto.AppAuthData;
 
+import java.util.Objects;
 import java.util.concurrent.ConcurrentMap;
 
 /**
@@ -34,6 +35,11 @@ public final class SignAuthDataCache {
      */
     private static final ConcurrentMap<String, AppAuthData> AUTH_MAP = Maps.newConcurrentMap();
     
+    /**
+     * appKey -> AuthPathMatcher.
+     */
+    private static final ConcurrentMap<String, AuthPathMatcher> PATH_MATCHER_MAP = Maps.newConcurrentMap();
+    
     private SignAuthDataCache() {
     }
     
@@ -53,6 +59,8 @@ public final class SignAuthDataCache {
      */
     public void cacheAuthData(final AppAuthData data) {
         AUTH_MAP.put(data.getAppKey(), data);
+        PATH_MATCHER_MAP.put(data.getAppKey(), new AuthPathMatcher(data));
+        VerifiedSignatureCache.getInstance().invalidateAll();
     }
     
     /**
@@ -62,6 +70,8 @@ public final class SignAuthDataCache {
      */
     public void removeAuthData(final AppAuthData data) {
         AUTH_MAP.remove(data.getAppKey());
+        PATH_MATCHER_MAP.remove(data.getAppKey());
+        VerifiedSignatureCache.getInstance().invalidateAll();
     }
     
     /**
@@ -73,4 +83,18 @@ public final class SignAuthDataCache {
     public AppAuthData obtainAuthData(final String appKey) {
         return AUTH_MAP.get(appKey);
     }
+    
+    /**
+     * Obtain the path matcher of the app auth data, it is rebuilt when the auth data is not the cached one.
+     *
+     * @param data the app auth data
+     * @return the auth path matcher
+     */
+    public AuthPathMatcher obtainPathMatcher(final AppAuthData data) {
+        AuthPathMatcher matcher = PATH_MATCHER_MAP.get(data.getAppKey());
+        if (Objects.nonNull(matcher) && matcher.isBuiltFrom(data)) {
+            return matcher;
+        }
+        return new AuthPathMatcher(data);
+    }
 }
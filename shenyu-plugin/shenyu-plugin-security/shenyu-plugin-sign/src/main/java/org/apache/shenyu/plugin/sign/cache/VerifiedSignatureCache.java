@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.sign.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.apache.shenyu.plugin.sign.api.SignParameters;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The signatures verified in the last minute.
+ * a cached signature is reused only when every signed input of the request is the same,
+ * and the timestamp of the request is still verified every time,
+ * so it saves generating the sign again without accepting a request longer than the sign is valid.
+ */
+public final class VerifiedSignatureCache {
+
+    private static final VerifiedSignatureCache INSTANCE = new VerifiedSignatureCache();
+
+    private static final long EXPIRE_SECONDS = 60;
+
+    private static final int MAX_SIZE = 1024;
+
+    /**
+     * the body of a larger request is not kept in the cache, so the cache holds at most about 2 MB of bodies.
+     */
+    private static final int MAX_BODY_LENGTH = 1024;
+
+    /**
+     * signature -> the signed request.
+     */
+    private final Cache<String, SignedRequest> cache = CacheBuilder.newBuilder()
+            .maximumSize(MAX_SIZE)
+            .expireAfterWrite(EXPIRE_SECONDS, TimeUnit.SECONDS)
+            .build();
+
+    private VerifiedSignatureCache() {
+    }
+
+    /**
+     * Gets instance.
+     *
+     * @return the instance
+     */
+    public static VerifiedSignatureCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Whether the signature of the request has been verified with the sign key.
+     *
+     * @param signKey        the sign key
+     * @param signParameters the sign parameters
+     * @param requestBody    the request body
+     * @return whether the signature has been verified
+     */
+    public boolean isVerified(final String signKey, final SignParameters signParameters, final String requestBody) {
+        SignedRequest signedRequest = cache.getIfPresent(signParameters.getSignature());
+        return Objects.nonNull(signedRequest) && signedRequest.matches(signKey, signParameters, requestBody);
+    }
+
+    /**
+     * Cache the verified signature of the request.
+     *
+     * @param signKey        the sign key
+     * @param signParameters the sign parameters
+     * @param requestBody    the request body
+     */
+    public void cacheVerified(final String signKey, final SignParameters signParameters, final String requestBody) {
+        if (Objects.nonNull(requestBody) && requestBody.length() > MAX_BODY_LENGTH) {
+            return;
+        }
+        cache.put(signParameters.getSignature(), new SignedRequest(signKey, signParameters, requestBody));
+    }
+
+    /**
+     * Invalidate all the verified signatures, called when the auth data of an app changes.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private static final class SignedRequest {
+
+        private final String signKey;
+
+        private final String version;
+
+        private final String appKey;
+
+        private final String timestamp;
+
+        private final String signAlg;
+
+        private final String parameters;
+
+        private final String uri;
+
+        private final String requestBody;
+
+        SignedRequest(final String signKey, final SignParameters signParameters, final String requestBody) {
+            this.signKey = signKey;
+            this.version = signParameters.getVersion();
+            this.appKey = signParameters.getAppKey();
+            this.timestamp = signParameters.getTimestamp();
+            this.signAlg = signParameters.getSignAlg();
+            this.parameters = signParameters.getParameters();
+            this.uri = Objects.toString(signParameters.getUri(), null);
+            this.requestBody = requestBody;
+        }
+
+        boolean matches(final String signKey, final SignParameters signParameters, final String requestBody) {
+            return Objects.equals(this.signKey, signKey)
+                    && Objects.equals(version, signParameters.getVersion())
+                    && Objects.equals(appKey, signParameters.getAppKey())
+                    && Objects.equals(timestamp, signParameters.getTimestamp())
+                    && Objects.equals(signAlg, signParameters.getSignAlg())
+                    && Objects.equals(parameters, signParameters.getParameters())
+                    && Objects.equals(uri, Objects.toString(signParameters.getUri(), null))
+                    && Objects.equals(this.requestBody, requestBody);
+        }
+    }
+}
@@ -44,4 +44,9 @@ public class DefaultSignProvider implements SignProvider {
         return VERSION_SIGN.get(signParameters.getVersion())
                 .generateSign(signKey, signParameters);
     }
+
+    @Override
+    public boolean isSignCacheable() {
+        return true;
+    }
 }
@@ -39,4 +39,14 @@ public interface SignProvider {
      * @return sign
      */
     String generateSign(String signKey, SignParameters signParameters);
+
+    /**
+     * Whether the sign is generated from the sign parameters and the request body only,
+     * so that a verified sign can be reused for the same request.
+     *
+     * @return whether the sign can be cached
+     */
+    default boolean isSignCacheable() {
+        return false;
+    }
 }
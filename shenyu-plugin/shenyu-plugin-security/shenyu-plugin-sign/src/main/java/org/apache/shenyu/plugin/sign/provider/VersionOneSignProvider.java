@@ -43,6 +43,11 @@ public class VersionOneSignProvider implements SignProvider {
         return sign(signKey, signParameters, null);
     }
 
+    @Override
+    public boolean isSignCacheable() {
+        return true;
+    }
+
     private String sign(final String signKey, final SignParameters signParameters, final String requestBody) {
 
         Map<String, String> params = getParams(signParameters, requestBody);
@@ -40,6 +40,11 @@ public class VersionTwoSignProvider implements SignProvider {
         return generateSign(signKey, signParameters, null);
     }
 
+    @Override
+    public boolean isSignCacheable() {
+        return true;
+    }
+
     private String getRelativeURL(final URI uri) {
         if (Objects.isNull(uri.getQuery())) {
             return uri.getRawPath();
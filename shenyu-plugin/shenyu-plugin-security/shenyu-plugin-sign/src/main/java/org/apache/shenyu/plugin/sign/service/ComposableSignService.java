@@ -30,11 +30,11 @@ import org.apache.shenyu.common.exception.ShenyuException;
 import org.apache.shenyu.common.utils.DateUtils;
 import org.apache.shenyu.plugin.api.context.ShenyuContext;
 import org.apache.shenyu.plugin.api.result.ShenyuResultEnum;
-import org.apache.shenyu.plugin.base.utils.PathMatchUtils;
 import org.apache.shenyu.plugin.sign.api.SignParameters;
 import org.apache.shenyu.plugin.sign.api.VerifyResult;
 import org.apache.shenyu.plugin.sign.api.VerifySupplier;
 import org.apache.shenyu.plugin.sign.cache.SignAuthDataCache;
+import org.apache.shenyu.plugin.sign.cache.VerifiedSignatureCache;
 import org.apache.shenyu.plugin.sign.extractor.SignParameterExtractor;
 import org.apache.shenyu.plugin.sign.provider.SignProvider;
 import org.slf4j.Logger;
@@ -93,15 +93,17 @@ public class ComposableSignService implements SignService {
 
     @Override
     public VerifyResult signatureVerify(final ServerWebExchange exchange, final String requestBody) {
-        return signatureVerify(exchange, (signKey, signParameters) -> signProvider.generateSign(signKey, signParameters, requestBody));
+        return signatureVerify(exchange, requestBody, (signKey, signParameters) -> signProvider.generateSign(signKey, signParameters, requestBody));
     }
 
     @Override
     public VerifyResult signatureVerify(final ServerWebExchange exchange) {
-        return signatureVerify(exchange, signProvider::generateSign);
+        return signatureVerify(exchange, null, signProvider::generateSign);
     }
 
-    private VerifyResult signatureVerify(final ServerWebExchange exchange, final BiFunction<String, SignParameters, String> signFunction) {
+    private VerifyResult signatureVerify(final ServerWebExchange exchange,
+                                         final String requestBody,
+                                         final BiFunction<String, SignParameters, String> signFunction) {
 
         final ShenyuContext shenyuContext = exchange.getAttribute(Constants.CONTEXT);
         assert shenyuContext != null;
@@ -112,7 +114,7 @@ public class ComposableSignService implements SignService {
                 .map(key -> SignAuthDataCache.getInstance().obtainAuthData(key))
                 .orElse(null);
 
-        VerifyResult result = verify(signParameters, appAuthData, signFunction);
+        VerifyResult result = verify(signParameters, appAuthData, requestBody, signFunction);
 
         if (result.isSuccess()) {
             handleExchange(exchange, appAuthData, shenyuContext);
@@ -123,6 +125,7 @@ public class ComposableSignService implements SignService {
 
     private VerifyResult verify(final SignParameters signParameters,
                                 final AppAuthData appAuthData,
+                                final String requestBody,
                                 final BiFunction<String, SignParameters, String> signFunction) {
 
         return VerifySupplier
@@ -130,7 +133,7 @@ public class ComposableSignService implements SignService {
                 .and(() -> verifyExpires(signParameters))
                 .and(() -> verifyAuthConfig(appAuthData, signParameters))
                 .and(() -> verifyPath(appAuthData, signParameters))
-                .and(() -> verifySign(appAuthData.getAppSecret(), signParameters, signFunction))
+                .and(() -> verifySign(appAuthData.getAppSecret(), signParameters, requestBody, signFunction))
                 .verify();
 
     }
@@ -146,8 +149,7 @@ public class ComposableSignService implements SignService {
             return VerifyResult.fail(Constants.SIGN_PATH_NOT_EXIST);
         }
 
-        boolean match = pathDataList.stream().filter(AuthPathData::getEnabled)
-                .anyMatch(e -> PathMatchUtils.match(e.getPath(), signParameters.getUri().getRawPath()));
+        boolean match = SignAuthDataCache.getInstance().obtainPathMatcher(appAuthData).match(signParameters.getUri().getRawPath());
         if (!match) {
             LOG.error("You have not configured the sign path:{},{}", signParameters.getAppKey(), signParameters.getUri().getRawPath());
             return VerifyResult.fail(Constants.SIGN_PATH_NOT_EXIST);
@@ -192,8 +194,14 @@ public class ComposableSignService implements SignService {
 
     private VerifyResult verifySign(final String signKey,
                                     final SignParameters signParameters,
+                                    final String requestBody,
                                     final BiFunction<String, SignParameters, String> signFunction) {
 
+        boolean cacheable = signProvider.isSignCacheable();
+        if (cacheable && VerifiedSignatureCache.getInstance().isVerified(signKey, signParameters, requestBody)) {
+            return VerifyResult.success();
+        }
+
         String sign = signFunction.apply(signKey, signParameters);
 
         boolean result = Objects.equals(sign, signParameters.getSignature());
@@ -201,6 +209,9 @@ public class ComposableSignService implements SignService {
             LOG.error("the SignUtils generated signature value is:{},the accepted value is:{}", sign, signParameters.getSignature());
             return VerifyResult.fail(Constants.SIGN_VALUE_IS_ERROR);
         }
+        if (cacheable) {
+            VerifiedSignatureCache.getInstance().cacheVerified(signKey, signParameters, requestBody);
+        }
         return VerifyResult.success();
     }
 
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.sign.cache;
+
+import org.apache.shenyu.common.dto.AppAuthData;
+import org.apache.shenyu.common.dto.AuthPathData;
+import org.apache.shenyu.plugin.base.utils.PathMatchUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test case for {@link AuthPathMatcher}.
+ */
+public final class AuthPathMatcherTest {
+
+    private static final String APP_KEY = "authPathMatcherAppKey";
+
+    private AppAuthData appAuthData;
+
+    @BeforeEach
+    public void setUp() {
+        appAuthData = new AppAuthData();
+        appAuthData.setAppKey(APP_KEY);
+        appAuthData.setPathDataList(Arrays.asList(
+                buildPathData("/order/findById", true),
+                buildPathData("/order/save", false),
+                buildPathData("/user/**", true),
+                buildPathData("/goods/{id}/detail", true),
+                buildPathData("/**/health", true)));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        SignAuthDataCache.getInstance().removeAuthData(appAuthData);
+    }
+
+    @Test
+    public void testMatch() {
+        AuthPathMatcher matcher = new AuthPathMatcher(appAuthData);
+        assertTrue(matcher.match("/order/findById"));
+        assertFalse(matcher.match("/order/save"));
+        assertTrue(matcher.match("/user"));
+        assertTrue(matcher.match("/user/1/address"));
+        assertTrue(matcher.match("/goods/1/detail"));
+        assertFalse(matcher.match("/goods/1/price"));
+        assertTrue(matcher.match("/order/health"));
+        assertFalse(matcher.match("/"));
+        assertFalse(matcher.match(null));
+    }
+
+    @Test
+    public void testMatchSameAsPathMatchUtils() {
+        AuthPathMatcher matcher = new AuthPathMatcher(appAuthData);
+        for (String path : Arrays.asList("/order//findById", "//user/1", "/order/findById/", "order/findById", "/goods/1/detail/")) {
+            boolean expected = appAuthData.getPathDataList().stream()
+                    .filter(AuthPathData::getEnabled)
+                    .anyMatch(pathData -> PathMatchUtils.match(pathData.getPath(), path));
+            assertEquals(expected, matcher.match(path), path);
+        }
+    }
+
+    @Test
+    public void testObtainPathMatcher() {
+        SignAuthDataCache.getInstance().cacheAuthData(appAuthData);
+        AuthPathMatcher matcher = SignAuthDataCache.getInstance().obtainPathMatcher(appAuthData);
+        assertSame(matcher, SignAuthDataCache.getInstance().obtainPathMatcher(appAuthData));
+
+        appAuthData.setPathDataList(Collections.singletonList(buildPathData("/order/delete", true)));
+        SignAuthDataCache.getInstance().cacheAuthData(appAuthData);
+        AuthPathMatcher rebuilt = SignAuthDataCache.getInstance().obtainPathMatcher(appAuthData);
+        assertNotSame(matcher, rebuilt);
+        assertTrue(rebuilt.match("/order/delete"));
+        assertFalse(rebuilt.match("/order/findById"));
+
+        AppAuthData uncached = new AppAuthData();
+        uncached.setAppKey(APP_KEY);
+        uncached.setPathDataList(Collections.singletonList(buildPathData("/order/findById", true)));
+        assertTrue(SignAuthDataCache.getInstance().obtainPathMatcher(uncached).match("/order/findById"));
+    }
+
+    private AuthPathData buildPathData(final String path, final boolean enabled) {
+        AuthPathData pathData = new AuthPathData();
+        pathData.setAppName("test");
+        pathData.setPath(path);
+        pathData.setEnabled(enabled);
+        return pathData;
+    }
+}
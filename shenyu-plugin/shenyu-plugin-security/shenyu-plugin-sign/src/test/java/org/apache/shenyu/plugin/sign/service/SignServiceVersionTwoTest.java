@@ -35,6 +35,7 @@ import org.apache.shenyu.plugin.sign.api.VerifyResult;
 import org.apache.shenyu.plugin.sign.cache.SignAuthDataCache;
 import org.apache.shenyu.plugin.sign.extractor.DefaultExtractor;
 import org.apache.shenyu.plugin.sign.provider.DefaultSignProvider;
+import org.apache.shenyu.plugin.sign.provider.SignProvider;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -59,7 +60,13 @@ import java.util.Optional;
 
 import static org.apache.shenyu.plugin.sign.extractor.DefaultExtractor.VERSION_2;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 /**
  * DefaultSignService Test.
@@ -347,6 +354,51 @@ public final class SignServiceVersionTwoTest {
         assertEquals(ret, VerifyResult.fail(Constants.SIGN_VALUE_IS_ERROR));
     }
 
+    @Test
+    public void cachedSignTest() {
+        SignProvider signProvider = spy(new DefaultSignProvider());
+        this.signService = new ComposableSignService(new DefaultExtractor(), signProvider);
+        String timestamp = String.valueOf(System.currentTimeMillis());
+        String parameters = buildParameters(timestamp, appKey);
+        String sign = buildSign(secretKey, parameters, URI.create("http://localhost/test-api/demo/test"), null);
+        for (int i = 0; i < 2; i++) {
+            this.exchange = buildServerWebExchange("http://localhost/test-api/demo/test", parameters, sign);
+            this.exchange.getAttributes().put(Constants.CONTEXT, this.passed);
+            assertEquals(VerifyResult.success(), this.signService.signatureVerify(this.exchange));
+        }
+        verify(signProvider, times(1)).generateSign(eq(secretKey), any());
+
+        // a change of the auth data drops the verified signs
+        SignAuthDataCache.getInstance().cacheAuthData(SignAuthDataCache.getInstance().obtainAuthData(appKey));
+        this.exchange = buildServerWebExchange("http://localhost/test-api/demo/test", parameters, sign);
+        this.exchange.getAttributes().put(Constants.CONTEXT, this.passed);
+        assertEquals(VerifyResult.success(), this.signService.signatureVerify(this.exchange));
+        verify(signProvider, times(2)).generateSign(eq(secretKey), any());
+
+        // the cached sign is not reused for another request
+        this.exchange = buildServerWebExchange("http://localhost/test-api/demo/test?data=data", parameters, sign);
+        this.exchange.getAttributes().put(Constants.CONTEXT, this.passed);
+        assertEquals(VerifyResult.fail(Constants.SIGN_VALUE_IS_ERROR), this.signService.signatureVerify(this.exchange));
+        this.exchange = buildServerWebExchange("http://localhost/test-api/demo/test", parameters, sign);
+        this.exchange.getAttributes().put(Constants.CONTEXT, this.passed);
+        assertEquals(VerifyResult.fail(Constants.SIGN_VALUE_IS_ERROR), this.signService.signatureVerify(this.exchange, "{}"));
+    }
+
+    @Test
+    public void notCachedSignOfCustomProviderTest() {
+        SignProvider signProvider = mock(SignProvider.class);
+        this.signService = new ComposableSignService(new DefaultExtractor(), signProvider);
+        String timestamp = String.valueOf(System.currentTimeMillis());
+        String parameters = buildParameters(timestamp, appKey);
+        when(signProvider.generateSign(eq(secretKey), any())).thenReturn("customSign");
+        for (int i = 0; i < 2; i++) {
+            this.exchange = buildServerWebExchange("http://localhost/test-api/demo/test", parameters, "customSign");
+            this.exchange.getAttributes().put(Constants.CONTEXT, this.passed);
+            assertEquals(VerifyResult.success(), this.signService.signatureVerify(this.exchange));
+        }
+        verify(signProvider, times(2)).generateSign(eq(secretKey), any());
+    }
+
     private String buildSign(final String signKey, final String parameters, final URI url, final String body) {
 
         String data = parameters + getRelativeURL(url) + Optional.ofNullable(body).orElse("");
@@ -75,6 +75,13 @@ public class WasmLoader implements AutoCloseable {
     
     private final Memory memRef;
     
+    /**
+     * the view of the WASM memory, it is created again only when the memory grows.
+     */
+    private ByteBuffer buffer;
+    
+    private long bufferSize = -1;
+    
     public WasmLoader() {
         this(null, null);
     }
@@ -160,12 +167,18 @@ public class WasmLoader implements AutoCloseable {
     }
     
     /**
-     * use this in wasmCallJavaFunc.
+     * use this in wasmCallJavaFunc, the buffer is reused until the WASM memory grows.
      *
      * @return the ByteBuffer
      */
     public ByteBuffer getBuffer() {
-        return memRef.buffer(store);
+        final long dataSize = memRef.dataSize(store);
+        if (Objects.isNull(buffer) || dataSize != bufferSize) {
+            buffer = memRef.buffer(store);
+            bufferSize = dataSize;
+        }
+        buffer.clear();
+        return buffer;
     }
     
     @Override
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.wasm.api.loader;
+
+import org.apache.shenyu.plugin.wasm.api.exception.ShenyuWasmException;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * A bounded pool of pre-instantiated {@link WasmLoader}, a WASM store can only be used by one thread at a time,
+ * so concurrent calls borrow their own instance instead of contending for a single one.
+ */
+public class WasmLoaderPool implements AutoCloseable {
+    
+    private final Supplier<WasmLoader> factory;
+    
+    private final Queue<WasmLoader> idle = new ConcurrentLinkedQueue<>();
+    
+    private final Semaphore permits;
+    
+    private final long borrowTimeoutMillis;
+    
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+    
+    /**
+     * Instantiates a new wasm loader pool, the core instances are created up front to warm up the pool.
+     *
+     * @param factory             the factory of the wasm instance
+     * @param coreSize            the instances created up front
+     * @param maxSize             the max instances of the pool
+     * @param borrowTimeoutMillis the max time to wait for an idle instance when the pool is exhausted
+     */
+    public WasmLoaderPool(final Supplier<WasmLoader> factory, final int coreSize, final int maxSize, final long borrowTimeoutMillis) {
+        this.factory = factory;
+        this.permits = new Semaphore(Math.max(maxSize, 1));
+        this.borrowTimeoutMillis = borrowTimeoutMillis;
+        for (int i = 0; i < Math.min(Math.max(coreSize, 1), Math.max(maxSize, 1)); i++) {
+            idle.offer(factory.get());
+        }
+    }
+    
+    /**
+     * borrow an instance, it must be given back by {@link #release}.
+     *
+     * @return the wasm instance
+     */
+    public WasmLoader borrow() {
+        try {
+            if (!permits.tryAcquire(borrowTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new ShenyuWasmException("no idle wasm instance after waiting " + borrowTimeoutMillis + "ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ShenyuWasmException(e);
+        }
+        final WasmLoader loader = idle.poll();
+        if (Objects.nonNull(loader)) {
+            return loader;
+        }
+        try {
+            return factory.get();
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+    
+    /**
+     * give back an instance.
+     *
+     * @param loader the wasm instance
+     */
+    public void release(final WasmLoader loader) {
+        if (closed.get()) {
+            loader.close();
+        } else {
+            idle.offer(loader);
+        }
+        permits.release();
+    }
+    
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            WasmLoader loader = idle.poll();
+            while (Objects.nonNull(loader)) {
+                loader.close();
+                loader = idle.poll();
+            }
+        }
+    }
+}
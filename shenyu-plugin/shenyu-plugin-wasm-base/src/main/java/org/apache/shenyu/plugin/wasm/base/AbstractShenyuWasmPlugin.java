@@ -29,7 +29,9 @@ import org.apache.shenyu.plugin.api.result.ShenyuResultEnum;
 import org.apache.shenyu.plugin.api.result.ShenyuResultWrap;
 import org.apache.shenyu.plugin.api.utils.WebFluxResultUtils;
 import org.apache.shenyu.plugin.base.AbstractShenyuPlugin;
+import org.apache.shenyu.plugin.wasm.api.exception.ShenyuWasmException;
 import org.apache.shenyu.plugin.wasm.api.loader.WasmLoader;
+import org.apache.shenyu.plugin.wasm.api.loader.WasmLoaderPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
@@ -38,12 +40,21 @@ import reactor.core.publisher.Mono;
 
 import java.nio.ByteBuffer;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Complex plugins implemented in other languages should extend this class, we still need to write Java subclasses,
  * so we can reuse the convenient/powerful control of ShenYu, such as {@link #getOrder}/{@link #skip}
  * /{@link #skipExcept}/{@link #skipExceptHttpLike}.
+ * <p>Every call borrows a pre-instantiated WASM instance from a bounded pool, so concurrent requests
+ * do not share one store, and the arguments of the call stay in a slot confined to the calling thread.
+ * The exported functions are looked up once when the plugin is built, so a missing
+ * {@code before}/{@code after} function costs no instance at all.</p>
  *
  * @see org.apache.shenyu.plugin.base.AbstractShenyuPlugin
  * @see io.github.kawamuray.wasmtime.WasmValType
@@ -53,6 +64,13 @@ public abstract class AbstractShenyuWasmPlugin extends AbstractShenyuPlugin {
     
     protected static final Logger LOG = LoggerFactory.getLogger(AbstractShenyuWasmPlugin.class);
     
+    /**
+     * the arguments of a call.
+     *
+     * @deprecated the arguments are kept in a thread-confined slot, use {@link #getArgument} instead,
+     *     they are still put here during each call until this field is removed in the next major version.
+     */
+    @Deprecated
     protected static final Map<Long, Argument> ARGUMENTS = new ConcurrentHashMap<>();
     
     protected static final String DO_EXECUTE_METHOD_NAME = "doExecute";
@@ -61,10 +79,40 @@ public abstract class AbstractShenyuWasmPlugin extends AbstractShenyuPlugin {
     
     protected static final String AFTER_METHOD_NAME = "after";
     
-    private final WasmLoader wasmLoader;
+    private static final int DEFAULT_CORE_SIZE = Runtime.getRuntime().availableProcessors();
+    
+    private static final long DEFAULT_BORROW_TIMEOUT_MILLIS = 3000L;
+    
+    private final ThreadLocal<Slot> slot = ThreadLocal.withInitial(Slot::new);
+    
+    private final String wasmName = this.getClass().getName() + ".wasm";
+    
+    private final WasmLoaderPool wasmLoaderPool;
+    
+    private final Set<String> exportedFuncNames;
     
     public AbstractShenyuWasmPlugin() {
-        this.wasmLoader = new WasmLoader(this.getClass(), this::initWasmCallJavaFunc);
+        this(DEFAULT_CORE_SIZE, DEFAULT_CORE_SIZE * 2);
+    }
+    
+    /**
+     * Instantiates a new wasm plugin backed by a pool of WASM instances.
+     *
+     * @param coreSize the instances created up front, one per event loop thread is a good start
+     * @param maxSize  the max instances, a call waits for an idle instance when they are all busy
+     */
+    public AbstractShenyuWasmPlugin(final int coreSize, final int maxSize) {
+        this.wasmLoaderPool = new WasmLoaderPool(() -> new WasmLoader(this.getClass(), this::initWasmCallJavaFunc),
+                coreSize, maxSize, DEFAULT_BORROW_TIMEOUT_MILLIS);
+        // every instance comes from the same module, so one of the warmed up instances tells the exports of all
+        final WasmLoader loader = wasmLoaderPool.borrow();
+        try {
+            this.exportedFuncNames = Stream.of(DO_EXECUTE_METHOD_NAME, BEFORE_METHOD_NAME, AFTER_METHOD_NAME)
+                    .filter(funcName -> loader.getWasmExtern(funcName).isPresent())
+                    .collect(Collectors.toSet());
+        } finally {
+            wasmLoaderPool.release(loader);
+        }
     }
     
     protected Map<String, Func> initWasmCallJavaFunc(final Store<Void> store) {
@@ -72,12 +120,27 @@ public abstract class AbstractShenyuWasmPlugin extends AbstractShenyuPlugin {
     }
     
     /**
-     * use this in wasmCallJavaFunc.
+     * use this in wasmCallJavaFunc, it is the memory of the WASM instance serving the current thread.
      *
      * @return the ByteBuffer
      */
     public ByteBuffer getBuffer() {
-        return wasmLoader.getBuffer();
+        final WasmLoader loader = slot.get().loader;
+        if (Objects.isNull(loader)) {
+            throw new ShenyuWasmException("getBuffer can only be used in wasmCallJavaFunc of " + wasmName);
+        }
+        return loader.getBuffer();
+    }
+    
+    /**
+     * use this in wasmCallJavaFunc to get the argument of the current call.
+     *
+     * @param argumentId the argument id passed to the WASM function
+     * @return the argument, null when the id is not the one of the current call
+     */
+    protected Argument getArgument(final Long argumentId) {
+        final Slot current = slot.get();
+        return Objects.equals(current.argumentId, argumentId) ? current.argument : null;
     }
     
     @Override
@@ -85,15 +148,14 @@ public abstract class AbstractShenyuWasmPlugin extends AbstractShenyuPlugin {
                                    final ShenyuPluginChain chain,
                                    final SelectorData selector,
                                    final RuleData rule) {
-        return wasmLoader.getWasmExtern(DO_EXECUTE_METHOD_NAME).map(doExecute -> {
-            final Long argumentId = callWASI(exchange, chain, selector, rule, doExecute);
-            return doExecute(exchange, chain, selector, rule, argumentId);
-        }).orElseGet(() -> {
-            LOG.error("{} function not found in {}", DO_EXECUTE_METHOD_NAME, wasmLoader.getWasmName());
-            exchange.getResponse().setStatusCode(HttpStatus.INTERNAL_SERVER_ERROR);
-            Object error = ShenyuResultWrap.error(exchange, ShenyuResultEnum.WASM_FUNC_NOT_FOUND);
-            return WebFluxResultUtils.result(exchange, error);
-        });
+        final Optional<Long> argumentId = callWASI(exchange, chain, selector, rule, DO_EXECUTE_METHOD_NAME);
+        if (argumentId.isPresent()) {
+            return doExecute(exchange, chain, selector, rule, argumentId.get());
+        }
+        LOG.error("{} function not found in {}", DO_EXECUTE_METHOD_NAME, wasmName);
+        exchange.getResponse().setStatusCode(HttpStatus.INTERNAL_SERVER_ERROR);
+        Object error = ShenyuResultWrap.error(exchange, ShenyuResultEnum.WASM_FUNC_NOT_FOUND);
+        return WebFluxResultUtils.result(exchange, error);
     }
     
     /**
@@ -108,20 +170,36 @@ public abstract class AbstractShenyuWasmPlugin extends AbstractShenyuPlugin {
      */
     protected abstract Mono<Void> doExecute(ServerWebExchange exchange, ShenyuPluginChain chain, SelectorData selector, RuleData rule, Long argumentId);
     
-    private Long callWASI(final ServerWebExchange exchange,
-                          final ShenyuPluginChain chain,
-                          final SelectorData selector,
-                          final RuleData rule,
-                          final Extern doExecute) {
+    private Optional<Long> callWASI(final ServerWebExchange exchange,
+                                    final ShenyuPluginChain chain,
+                                    final SelectorData selector,
+                                    final RuleData rule,
+                                    final String funcName) {
+        if (!exportedFuncNames.contains(funcName)) {
+            return Optional.empty();
+        }
         // WASI cannot easily pass Java objects like JNI, here we pass Long as arg
         // then we can get the argument by Long
         final Long argumentId = getArgumentId(exchange, chain, selector, rule);
-        ARGUMENTS.put(argumentId, new Argument(exchange, chain, selector, rule));
-        // call WASI function
-        WasmFunctions.consumer(wasmLoader.getStore(), doExecute.func(), WasmValType.I64)
-                .accept(argumentId);
-        ARGUMENTS.remove(argumentId);
-        return argumentId;
+        final Argument argument = new Argument(exchange, chain, selector, rule);
+        final WasmLoader loader = wasmLoaderPool.borrow();
+        final Slot current = slot.get();
+        try {
+            final Optional<Extern> extern = loader.getWasmExtern(funcName);
+            if (!extern.isPresent()) {
+                return Optional.empty();
+            }
+            current.fill(loader, argumentId, argument);
+            ARGUMENTS.put(argumentId, argument);
+            // call WASI function
+            WasmFunctions.consumer(loader.getStore(), extern.get().func(), WasmValType.I64)
+                    .accept(argumentId);
+            return Optional.of(argumentId);
+        } finally {
+            ARGUMENTS.remove(argumentId, argument);
+            current.clear();
+            wasmLoaderPool.release(loader);
+        }
     }
     
     protected abstract Long getArgumentId(ServerWebExchange exchange,
@@ -131,14 +209,12 @@ public abstract class AbstractShenyuWasmPlugin extends AbstractShenyuPlugin {
     
     @Override
     public void before(final ServerWebExchange exchange) {
-        wasmLoader.getWasmExtern(BEFORE_METHOD_NAME)
-                .ifPresent(before -> callWASI(exchange, null, null, null, before));
+        callWASI(exchange, null, null, null, BEFORE_METHOD_NAME);
     }
     
     @Override
     public void after(final ServerWebExchange exchange) {
-        wasmLoader.getWasmExtern(AFTER_METHOD_NAME)
-                .ifPresent(before -> callWASI(exchange, null, null, null, before));
+        callWASI(exchange, null, null, null, AFTER_METHOD_NAME);
     }
     
     protected static final class Argument {
@@ -177,4 +253,23 @@ public abstract class AbstractShenyuWasmPlugin extends AbstractShenyuPlugin {
             return rule;
         }
     }
+    
+    private static final class Slot {
+        
+        private WasmLoader loader;
+        
+        private Long argumentId;
+        
+        private Argument argument;
+        
+        private void fill(final WasmLoader loader, final Long argumentId, final Argument argument) {
+            this.loader = loader;
+            this.argumentId = argumentId;
+            this.argument = argument;
+        }
+        
+        private void clear() {
+            fill(null, null, null);
+        }
+    }
 }
@@ -36,6 +36,7 @@ import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
 import org.apache.shenyu.plugin.base.cache.BaseDataCache;
 import org.apache.shenyu.plugin.base.cache.MatchDataCache;
 import org.apache.shenyu.plugin.base.trie.ShenyuTrie;
+import org.apache.shenyu.plugin.wasm.api.exception.ShenyuWasmException;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -48,14 +49,26 @@ import reactor.test.StepVerifier;
 
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -261,6 +274,44 @@ public final class AbstractShenyuWasmPluginTest {
         verify(testShenyuWasmPlugin).doExecute(exchange, shenyuPluginChain, selectorData, ruleData);
     }
     
+    @Test
+    public void executeConcurrentlyTest() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                futures.add(executor.submit(() -> testShenyuWasmPlugin.doExecute(exchange, shenyuPluginChain, selectorData, ruleData).block()));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    @Test
+    @SuppressWarnings("deprecation")
+    public void deprecatedArgumentsTest() {
+        TestShenyuWasmPlugin.DEPRECATED_ARGUMENT_SEEN.set(false);
+        testShenyuWasmPlugin.doExecute(exchange, shenyuPluginChain, selectorData, ruleData).block();
+        assertTrue(TestShenyuWasmPlugin.DEPRECATED_ARGUMENT_SEEN.get());
+        assertTrue(AbstractShenyuWasmPlugin.ARGUMENTS.isEmpty());
+    }
+    
+    @Test
+    public void skipMissingExportTest() {
+        testShenyuWasmPlugin.before(exchange);
+        testShenyuWasmPlugin.after(exchange);
+        verify(testShenyuWasmPlugin, never()).getArgumentId(any(), any(), any(), any());
+    }
+    
+    @Test
+    public void getArgumentOutsideCallTest() {
+        assertNull(testShenyuWasmPlugin.getArgument(0L));
+        assertThrows(ShenyuWasmException.class, () -> testShenyuWasmPlugin.getBuffer());
+    }
+    
     private void mockShenyuConfig() {
         ConfigurableApplicationContext context = mock(ConfigurableApplicationContext.class);
         when(context.getBean(ShenyuConfig.class)).thenReturn(new ShenyuConfig());
@@ -285,6 +336,8 @@ public final class AbstractShenyuWasmPluginTest {
         
         private static final Map<Long, String> RESULTS = new ConcurrentHashMap<>();
         
+        private static final AtomicBoolean DEPRECATED_ARGUMENT_SEEN = new AtomicBoolean();
+        
         @Override
         protected Map<String, Func> initWasmCallJavaFunc(final Store<Void> store) {
             Map<String, Func> funcMap = new HashMap<>();
@@ -293,6 +346,10 @@ public final class AbstractShenyuWasmPluginTest {
                     String config = "hello from java " + argId;
                     LOG.info("java side-> {}", config);
                     assertEquals("hello from java 0", config);
+                    assertNotNull(getArgument(argId));
+                    if (ARGUMENTS.containsKey(argId)) {
+                        DEPRECATED_ARGUMENT_SEEN.set(true);
+                    }
                     ByteBuffer buf = super.getBuffer();
                     for (int i = 0; i < len && i < config.length(); i++) {
                         buf.put(addr.intValue() + i, (byte) config.charAt(i));
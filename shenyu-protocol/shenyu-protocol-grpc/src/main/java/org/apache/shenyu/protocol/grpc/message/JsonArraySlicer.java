@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.protocol.grpc.message;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Slices the elements of the array out of a json like {"name":[...]}, the elements are kept as they are in the json.
+ */
+final class JsonArraySlicer {
+
+    private JsonArraySlicer() {
+    }
+
+    /**
+     * Slice the elements of the array, which must be the only field of the json object.
+     *
+     * @param json the json
+     * @param name the field name
+     * @return the elements, or null when the json is not of that shape
+     */
+    static List<String> slice(final String json, final String name) {
+        if (Objects.isNull(json)) {
+            return null;
+        }
+        int pos = skipWhitespace(json, 0);
+        if (!isChar(json, pos, '{')) {
+            return null;
+        }
+        pos = skipWhitespace(json, pos + 1);
+        int keyEnd = skipString(json, pos);
+        if (keyEnd < 0 || !name.equals(json.substring(pos + 1, keyEnd - 1))) {
+            return null;
+        }
+        pos = skipWhitespace(json, keyEnd);
+        if (!isChar(json, pos, ':')) {
+            return null;
+        }
+        pos = skipWhitespace(json, pos + 1);
+        if (!isChar(json, pos, '[')) {
+            return null;
+        }
+        pos = skipWhitespace(json, pos + 1);
+        List<String> elements = new ArrayList<>();
+        if (isChar(json, pos, ']')) {
+            pos++;
+        } else {
+            while (true) {
+                int end = skipValue(json, pos);
+                if (end < 0) {
+                    return null;
+                }
+                elements.add(json.substring(pos, end));
+                pos = skipWhitespace(json, end);
+                if (isChar(json, pos, ',')) {
+                    pos = skipWhitespace(json, pos + 1);
+                } else if (isChar(json, pos, ']')) {
+                    pos++;
+                    break;
+                } else {
+                    return null;
+                }
+            }
+        }
+        pos = skipWhitespace(json, pos);
+        if (!isChar(json, pos, '}')) {
+            return null;
+        }
+        return skipWhitespace(json, pos + 1) == json.length() ? elements : null;
+    }
+
+    private static boolean isChar(final String json, final int pos, final char expected) {
+        return pos < json.length() && json.charAt(pos) == expected;
+    }
+
+    private static int skipWhitespace(final String json, final int from) {
+        int pos = from;
+        while (pos < json.length() && Character.isWhitespace(json.charAt(pos))) {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static int skipString(final String json, final int from) {
+        if (!isChar(json, from, '"')) {
+            return -1;
+        }
+        int pos = from + 1;
+        while (pos < json.length()) {
+            char c = json.charAt(pos);
+            if (c == '\\') {
+                pos += 2;
+            } else if (c == '"') {
+                return pos + 1;
+            } else {
+                pos++;
+            }
+        }
+        return -1;
+    }
+
+    private static int skipValue(final String json, final int from) {
+        if (from >= json.length()) {
+            return -1;
+        }
+        char first = json.charAt(from);
+        if (first == '"') {
+            return skipString(json, from);
+        }
+        if (first == '{' || first == '[') {
+            return skipContainer(json, from);
+        }
+        int pos = from;
+        while (pos < json.length() && json.charAt(pos) != ',' && json.charAt(pos) != ']'
+                && json.charAt(pos) != '}' && !Character.isWhitespace(json.charAt(pos))) {
+            pos++;
+        }
+        return pos == from ? -1 : pos;
+    }
+
+    private static int skipContainer(final String json, final int from) {
+        StringBuilder closers = new StringBuilder();
+        int pos = from;
+        while (pos < json.length()) {
+            char c = json.charAt(pos);
+            if (c == '"') {
+                pos = skipString(json, pos);
+                if (pos < 0) {
+                    return -1;
+                }
+                continue;
+            }
+            if (c == '{' || c == '[') {
+                closers.append(c == '{' ? '}' : ']');
+            } else if (c == '}' || c == ']') {
+                int depth = closers.length();
+                if (depth == 0 || closers.charAt(depth - 1) != c) {
+                    return -1;
+                }
+                closers.setLength(depth - 1);
+                if (depth == 1) {
+                    return pos + 1;
+                }
+            }
+            pos++;
+        }
+        return -1;
+    }
+}
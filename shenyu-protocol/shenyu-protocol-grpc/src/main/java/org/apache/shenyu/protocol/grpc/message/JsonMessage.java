@@ -25,6 +25,7 @@ import com.google.protobuf.DynamicMessage;
 import com.google.protobuf.ExtensionRegistryLite;
 import io.grpc.MethodDescriptor;
 import org.apache.shenyu.common.utils.GsonUtils;
+import org.apache.shenyu.common.utils.MapUtils;
 import org.apache.shenyu.common.utils.ParamCheckUtils;
 import org.apache.shenyu.protocol.grpc.constant.GrpcConstants;
 import org.slf4j.Logger;
@@ -35,6 +36,7 @@ import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * JsonMessage.
@@ -48,6 +50,34 @@ public class JsonMessage {
      */
     private static final Map<String, MethodDescriptor<DynamicMessage, DynamicMessage>> METHOD_DESCRIPTOR_CACHE = Maps.newConcurrentMap();
 
+    private static final String JSON_FIELD_FULL_NAME = GrpcConstants.JSON_DESCRIPTOR_PROTO_NAME + "." + GrpcConstants.JSON_DESCRIPTOR_PROTO_FIELD_NAME;
+
+    /**
+     * the json marshaller descriptor is the same for every message, it is built once.
+     */
+    private static volatile Descriptors.Descriptor jsonDescriptor;
+
+    private static volatile DynamicMessage emptyJsonMessage;
+
+    /**
+     * Get the json marshaller descriptor.
+     *
+     * @return Descriptors.Descriptor
+     */
+    private static Descriptors.Descriptor getJsonMarshallerDescriptor() {
+        Descriptors.Descriptor descriptor = jsonDescriptor;
+        if (Objects.isNull(descriptor)) {
+            synchronized (JsonMessage.class) {
+                descriptor = jsonDescriptor;
+                if (Objects.isNull(descriptor)) {
+                    descriptor = buildJsonMarshallerDescriptor();
+                    jsonDescriptor = descriptor;
+                }
+            }
+        }
+        return descriptor;
+    }
+
     /**
      * Dynamic build JsonMarshaller Descriptor.
      *
@@ -95,6 +125,24 @@ public class JsonMessage {
         return jsonMessageList;
     }
 
+    /**
+     * buildJsonMessage from the request json, {"data":[...]}.
+     * Every element of the data array is passed on as it is in the request, without being parsed and encoded again.
+     *
+     * @param requestJson requestJson
+     * @return DynamicMessageList
+     */
+    public static List<DynamicMessage> buildJsonMessageList(final String requestJson) {
+        List<String> jsonParams = JsonArraySlicer.slice(requestJson, GrpcConstants.JSON_DESCRIPTOR_PROTO_FIELD_NAME);
+        if (Objects.isNull(jsonParams)) {
+            // not the plain shape, leave the checks and errors to the parsed way
+            return buildJsonMessageList(GsonUtils.getInstance().toObjectMap(requestJson));
+        }
+        List<DynamicMessage> jsonMessageList = new ArrayList<>(jsonParams.size());
+        jsonParams.forEach(jsonParam -> jsonMessageList.add(buildJsonMessage(jsonParam)));
+        return jsonMessageList;
+    }
+
     /**
      * buildJsonMessage.
      *
@@ -102,10 +150,10 @@ public class JsonMessage {
      * @return DynamicMessage
      */
     public static DynamicMessage buildJsonMessage(final String jsonParam) {
-        // build Descriptor and set request param
-        Descriptors.Descriptor jsonDescriptor = buildJsonMarshallerDescriptor();
-        DynamicMessage.Builder jsonDynamicMessage = DynamicMessage.newBuilder(jsonDescriptor);
-        jsonDynamicMessage.setField(jsonDescriptor.findFieldByName(GrpcConstants.JSON_DESCRIPTOR_PROTO_FIELD_NAME), jsonParam);
+        // set request param
+        Descriptors.Descriptor descriptor = getJsonMarshallerDescriptor();
+        DynamicMessage.Builder jsonDynamicMessage = DynamicMessage.newBuilder(descriptor);
+        jsonDynamicMessage.setField(descriptor.getFields().get(0), jsonParam);
         return jsonDynamicMessage.build();
     }
 
@@ -115,9 +163,13 @@ public class JsonMessage {
      * @return DynamicMessage
      */
     public static DynamicMessage buildJsonMessage() {
-        Descriptors.Descriptor jsonDescriptor = buildJsonMarshallerDescriptor();
-        DynamicMessage.Builder jsonDynamicMessage = DynamicMessage.newBuilder(jsonDescriptor);
-        return jsonDynamicMessage.build();
+        DynamicMessage message = emptyJsonMessage;
+        if (Objects.isNull(message)) {
+            // the message is immutable, it is shared
+            message = DynamicMessage.getDefaultInstance(getJsonMarshallerDescriptor());
+            emptyJsonMessage = message;
+        }
+        return message;
     }
 
     /**
@@ -132,8 +184,7 @@ public class JsonMessage {
             Object value = entry.getValue();
 
             String fullName = key.getFullName();
-            String jsonMessageFullName = GrpcConstants.JSON_DESCRIPTOR_PROTO_NAME + "." + GrpcConstants.JSON_DESCRIPTOR_PROTO_FIELD_NAME;
-            if (jsonMessageFullName.equals(fullName)) {
+            if (JSON_FIELD_FULL_NAME.equals(fullName)) {
                 return (String) value;
             }
         }
@@ -155,18 +206,13 @@ public class JsonMessage {
                                                                                                         final MethodDescriptor.MethodType methodType,
                                                                                                         final DynamicMessage request,
                                                                                                         final DynamicMessage response) {
-        MethodDescriptor<DynamicMessage, DynamicMessage> methodDescriptor = METHOD_DESCRIPTOR_CACHE.get(serviceName + GrpcConstants.GRPC_JSON_SERVICE + methodName);
-        if (methodDescriptor == null) {
-            methodDescriptor = MethodDescriptor.<DynamicMessage, DynamicMessage>newBuilder()
+        return MapUtils.computeIfAbsent(METHOD_DESCRIPTOR_CACHE, serviceName + GrpcConstants.GRPC_JSON_SERVICE + methodName,
+            key -> MethodDescriptor.<DynamicMessage, DynamicMessage>newBuilder()
                     .setType(getMethodType(methodType))
                     .setFullMethodName(MethodDescriptor.generateFullMethodName(serviceName + GrpcConstants.GRPC_JSON_SERVICE, methodName))
                     .setRequestMarshaller(new DynamicMessageMarshaller(request.getDescriptorForType()))
                     .setResponseMarshaller(new DynamicMessageMarshaller(response.getDescriptorForType()))
-                    .build();
-            METHOD_DESCRIPTOR_CACHE.put(serviceName + GrpcConstants.GRPC_JSON_SERVICE + methodName, methodDescriptor);
-
-        }
-        return methodDescriptor;
+                    .build());
     }
 
     /**
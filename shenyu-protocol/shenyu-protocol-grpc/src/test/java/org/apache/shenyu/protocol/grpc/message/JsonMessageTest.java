@@ -40,6 +40,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mockStatic;
@@ -118,12 +119,46 @@ public class JsonMessageTest {
         String data2 = JsonMessage.getDataFromDynamicMessage(jsonMessage2);
         assertEquals(data2, "");
 
+    }
+
+    @Test
+    public void testBuildJsonMarshallerDescriptorFail() throws NoSuchMethodException {
+        // the descriptor is cached after the first message, so the builder is called directly
+        final Method buildJsonMarshallerDescriptor = JsonMessage.class.getDeclaredMethod("buildJsonMarshallerDescriptor");
+        buildJsonMarshallerDescriptor.setAccessible(true);
         try (MockedStatic<Descriptors.FileDescriptor> descriptorMockedStatic = mockStatic(Descriptors.FileDescriptor.class)) {
             descriptorMockedStatic.when(() -> Descriptors.FileDescriptor.buildFrom(any(), any(Descriptors.FileDescriptor[].class))).thenThrow(Descriptors.DescriptorValidationException.class);
-            assertThrows(RuntimeException.class, JsonMessage::buildJsonMessage);
+            InvocationTargetException exception = assertThrows(InvocationTargetException.class, () -> buildJsonMarshallerDescriptor.invoke(null));
+            assertTrue(exception.getCause() instanceof RuntimeException);
         }
     }
 
+    @Test
+    public void testDescriptorIsShared() {
+        assertSame(JsonMessage.buildJsonMessage().getDescriptorForType(), JsonMessage.buildJsonMessage("{}").getDescriptorForType());
+        assertSame(JsonMessage.buildJsonMessage(), JsonMessage.buildJsonMessage());
+    }
+
+    @Test
+    public void testBuildJsonMessageListFromString() {
+        String jsonParam = " {\"data\" : [ {\"text\": \"hello\"}, {\"text\":\"a\\\"]}\", \"list\":[1, {}]}, 1, \"str\" ] } ";
+        List<DynamicMessage> jsonMessageList = JsonMessage.buildJsonMessageList(jsonParam);
+        assertEquals(4, jsonMessageList.size());
+        assertEquals("{\"text\": \"hello\"}", JsonMessage.getDataFromDynamicMessage(jsonMessageList.get(0)));
+        assertEquals("{\"text\":\"a\\\"]}\", \"list\":[1, {}]}", JsonMessage.getDataFromDynamicMessage(jsonMessageList.get(1)));
+        assertEquals("1", JsonMessage.getDataFromDynamicMessage(jsonMessageList.get(2)));
+        assertEquals("\"str\"", JsonMessage.getDataFromDynamicMessage(jsonMessageList.get(3)));
+        assertTrue(JsonMessage.buildJsonMessageList("{\"data\":[]}").isEmpty());
+    }
+
+    @Test
+    public void testBuildJsonMessageListFromStringFallback() {
+        List<DynamicMessage> jsonMessageList = JsonMessage.buildJsonMessageList("{\"data\":[{\"text\":\"hello\"}],\"other\":1}");
+        assertEquals(1, jsonMessageList.size());
+        assertEquals("{\"text\":\"hello\"}", JsonMessage.getDataFromDynamicMessage(jsonMessageList.get(0)));
+        assertThrows(RuntimeException.class, () -> JsonMessage.buildJsonMessageList("{\"data\":[{\"text\":\"hello\"]}"));
+    }
+
     @Test
     public void testCreateJsonMarshallerMethodDescriptor() {
         DynamicMessage jsonMessage = JsonMessage.buildJsonMessage();
@@ -18,7 +18,6 @@
 package org.apache.shenyu.protocol.mqtt;
 
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.mqtt.MqttFixedHeader;
@@ -28,11 +27,12 @@ import io.netty.handler.codec.mqtt.MqttQoS;
 import io.netty.handler.codec.mqtt.MqttPubAckMessage;
 import io.netty.handler.codec.mqtt.MqttMessageType;
 import io.netty.handler.codec.mqtt.MqttPublishVariableHeader;
+import io.netty.util.ReferenceCountUtil;
 import org.apache.shenyu.common.utils.Singleton;
 import org.apache.shenyu.protocol.mqtt.repositories.SubscribeRepository;
 import org.apache.shenyu.protocol.mqtt.repositories.TopicRepository;
 
-import java.util.List;
+import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
 
 import static io.netty.handler.codec.mqtt.MqttMessageType.PUBACK;
@@ -44,35 +44,60 @@ public class Publish extends MessageType {
 
     @Override
     public void publish(final ChannelHandlerContext ctx, final MqttPublishMessage msg) {
-        if (isConnected()) {
-            return;
-        }
-        String topic = msg.variableHeader().topicName();
-        ByteBuf payload = msg.payload();
-        String message = byteBufToString(payload);
-        //// todo qos
-        MqttQoS mqttQoS = msg.fixedHeader().qosLevel();
-        Singleton.INST.get(TopicRepository.class).add(topic, message);
-        int packetId = msg.variableHeader().packetId();
-        CompletableFuture.runAsync(() -> send(topic, payload, packetId));
-
-        switch (mqttQoS.value()) {
-            case 0:
-                break;
-
-            case 1:
-                qos1(ctx, packetId);
-                break;
-
-            case 2:
-                qos2(ctx, packetId);
-                break;
-            default:
-                break;
+        try {
+            if (isConnected()) {
+                return;
+            }
+            String topic = msg.variableHeader().topicName();
+            ByteBuf payload = msg.payload();
+            if (msg.fixedHeader().isRetain()) {
+                retain(topic, payload);
+            }
+            //// todo qos
+            MqttQoS mqttQoS = msg.fixedHeader().qosLevel();
+            int packetId = msg.variableHeader().packetId();
+            // the fan out outlives this call, so it holds a reference of its own on the payload
+            ByteBuf shared = payload.retain();
+            CompletableFuture.runAsync(() -> {
+                try {
+                    send(topic, shared, packetId);
+                } finally {
+                    shared.release();
+                }
+            });
+
+            switch (mqttQoS.value()) {
+                case 0:
+                    break;
+
+                case 1:
+                    qos1(ctx, packetId);
+                    break;
+
+                case 2:
+                    qos2(ctx, packetId);
+                    break;
+                default:
+                    break;
+            }
+        } finally {
+            ReferenceCountUtil.release(msg);
         }
 
     }
 
+    /**
+     * keep the retained message of the topic, an empty payload clears it.
+     */
+    private void retain(final String topic, final ByteBuf payload) {
+        TopicRepository topicRepository = Singleton.INST.get(TopicRepository.class);
+        if (payload.isReadable()) {
+            topicRepository.add(topic, byteBufToString(payload));
+        } else {
+            topicRepository.remove(topic);
+        }
+    }
+
     /**
      * todo qos0.
      */
@@ -113,15 +138,19 @@ public class Publish extends MessageType {
     }
 
     private void send(final String topic, final ByteBuf payload, final int packetId) {
-        List<Channel> channels = Singleton.INST.get(SubscribeRepository.class).get(topic);
+        Collection<Channel> channels = Singleton.INST.get(SubscribeRepository.class).get(topic);
+        if (channels.isEmpty()) {
+            return;
+        }
         //// todo thread pool
-        channels.parallelStream().forEach(channel -> {
+        MqttFixedHeader mqttFixedHeader = new MqttFixedHeader(MqttMessageType.PUBLISH, false, MqttQoS.AT_MOST_ONCE, false, 0);
+        MqttPublishVariableHeader mqttPublishVariableHeader = new MqttPublishVariableHeader(topic, packetId);
+        for (Channel channel : channels) {
             if (channel.isActive()) {
-                MqttFixedHeader mqttFixedHeader = new MqttFixedHeader(MqttMessageType.PUBLISH, false, MqttQoS.AT_MOST_ONCE, false, 0);
-                MqttPublishVariableHeader mqttPublishVariableHeader = new MqttPublishVariableHeader(topic, packetId);
-                MqttPublishMessage mqttPublishMessage = new MqttPublishMessage(mqttFixedHeader, mqttPublishVariableHeader, Unpooled.wrappedBuffer(payload));
+                // every subscriber gets its own view of the same bytes, the write releases it once flushed
+                MqttPublishMessage mqttPublishMessage = new MqttPublishMessage(mqttFixedHeader, mqttPublishVariableHeader, payload.retainedDuplicate());
                 channel.writeAndFlush(mqttPublishMessage);
             }
-        });
+        }
     }
 }
@@ -22,30 +22,38 @@ import io.netty.handler.codec.mqtt.MqttTopicSubscription;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.CopyOnWriteArraySet;
 
 /**
  * Topic and channel association.
+ * The topic filters are kept in a {@link TopicTrie}, so that a publish matches the {@code +} and {@code #} wildcards
+ * without scanning every subscription.
  */
 public class SubscribeRepository implements BaseRepository<List<String>, List<Channel>> {
 
     private static final Logger LOG = LoggerFactory.getLogger(SubscribeRepository.class);
 
-    private static final Map<String, List<Channel>> TOPIC_CHANNEL_FACTORY = new ConcurrentHashMap<>();
+    private static final TopicTrie TOPIC_TRIE = new TopicTrie();
+
+    /**
+     * the filters of each channel, to clean them up once the channel is closed.
+     */
+    private static final Map<Channel, Set<String>> CHANNEL_FILTERS = new ConcurrentHashMap<>();
 
     @Override
     public void add(final List<String> topics, final List<Channel> channels) {
-        CompletableFuture.runAsync(() -> topics.parallelStream().forEach(s -> {
-            List<Channel> list = get(s);
-            list.addAll(channels);
-            TOPIC_CHANNEL_FACTORY.put(s, list);
-        }));
+        for (Channel channel : channels) {
+            for (String topic : topics) {
+                subscribe(topic, channel);
+            }
+        }
     }
 
     /**
@@ -54,16 +62,15 @@ public class SubscribeRepository implements BaseRepository<List<String>, List<Ch
      * @param mqttTopicSubscription mqtt subscription info
      */
     public void add(final Channel channel, final List<MqttTopicSubscription> mqttTopicSubscription) {
-        CompletableFuture.runAsync(() -> mqttTopicSubscription.parallelStream().forEach(s -> {
-            List<Channel> channels = get(s.topicName());
-            channels.add(channel);
-            TOPIC_CHANNEL_FACTORY.put(s.topicName(), channels);
-        }));
+        for (MqttTopicSubscription subscription : mqttTopicSubscription) {
+            subscribe(subscription.topicName(), channel);
+        }
     }
 
     @Override
     public void remove(final List<String> topics) {
-        CompletableFuture.runAsync(() -> topics.parallelStream().forEach(TOPIC_CHANNEL_FACTORY::remove));
+        topics.forEach(TOPIC_TRIE::remove);
+        CHANNEL_FILTERS.values().forEach(filters -> filters.removeAll(topics));
     }
 
     /**
@@ -72,23 +79,52 @@ public class SubscribeRepository implements BaseRepository<List<String>, List<Ch
      * @param channel channel
      */
     public void remove(final List<String> topics, final Channel channel) {
-        CompletableFuture.runAsync(() -> topics.parallelStream().forEach(topic -> TOPIC_CHANNEL_FACTORY.get(topic).remove(channel)));
+        topics.forEach(topic -> TOPIC_TRIE.unsubscribe(topic, channel));
+        Set<String> filters = CHANNEL_FILTERS.get(channel);
+        if (Objects.nonNull(filters)) {
+            filters.removeAll(topics);
+        }
+    }
+
+    /**
+     * remove all the subscriptions of the channel.
+     * @param channel channel
+     */
+    public void remove(final Channel channel) {
+        Set<String> filters = CHANNEL_FILTERS.remove(channel);
+        if (Objects.nonNull(filters)) {
+            filters.forEach(filter -> TOPIC_TRIE.unsubscribe(filter, channel));
+            LOG.debug("remove {} subscriptions of closed channel {}", filters.size(), channel);
+        }
     }
 
     @Override
     public List<Channel> get(final List<String> topics) {
-        Set<Channel> channels = new CopyOnWriteArraySet<>();
-        topics.parallelStream().forEach(s -> channels.addAll(TOPIC_CHANNEL_FACTORY.get(s)));
-        return new CopyOnWriteArrayList<>(channels);
+        Set<Channel> channels = new LinkedHashSet<>();
+        topics.forEach(topic -> channels.addAll(TOPIC_TRIE.match(topic)));
+        return new ArrayList<>(channels);
     }
 
     /**
-     * get Channels.
+     * get the channels subscribed to a filter matching the topic.
      * @param topic topic
      * @return Channels
      */
-    public List<Channel> get(final String topic) {
-        return TOPIC_CHANNEL_FACTORY.getOrDefault(topic, new CopyOnWriteArrayList<>());
+    public Collection<Channel> get(final String topic) {
+        return TOPIC_TRIE.match(topic);
+    }
+
+    private void subscribe(final String filter, final Channel channel) {
+        TOPIC_TRIE.subscribe(filter, channel);
+        Set<String> created = ConcurrentHashMap.newKeySet();
+        Set<String> filters = CHANNEL_FILTERS.putIfAbsent(channel, created);
+        if (Objects.isNull(filters)) {
+            created.add(filter);
+            // the listener runs at once when the channel is already closed, so register it last
+            channel.closeFuture().addListener(future -> remove(channel));
+            return;
+        }
+        filters.add(filter);
     }
 
 }
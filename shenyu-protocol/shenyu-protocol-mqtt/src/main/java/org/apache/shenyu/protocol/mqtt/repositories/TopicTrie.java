@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.protocol.mqtt.repositories;
+
+import io.netty.channel.Channel;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+/**
+ * A trie of the topic filters, one node per topic level.
+ *
+ * <p>It supports the single level wildcard {@code +} and the multi level wildcard {@code #}.
+ * Matching a topic walks the levels of the topic once and never locks, the subscribers of each node
+ * are a copy-on-write set so that a publish iterates a stable snapshot.
+ * Subscribing and unsubscribing are serialized, they are far rarer than publishing.
+ */
+public final class TopicTrie {
+
+    private static final String SINGLE_LEVEL_WILDCARD = "+";
+
+    private static final String MULTI_LEVEL_WILDCARD = "#";
+
+    private static final String SYSTEM_TOPIC_PREFIX = "$";
+
+    private final Node root = new Node();
+
+    /**
+     * Subscribe the channel to the topic filter.
+     *
+     * @param filter the topic filter
+     * @param channel the channel
+     */
+    public synchronized void subscribe(final String filter, final Channel channel) {
+        Node node = root;
+        for (String level : split(filter)) {
+            node = node.children.computeIfAbsent(level, key -> new Node());
+        }
+        node.subscribers.add(channel);
+    }
+
+    /**
+     * Unsubscribe the channel from the topic filter.
+     *
+     * @param filter the topic filter
+     * @param channel the channel
+     */
+    public synchronized void unsubscribe(final String filter, final Channel channel) {
+        prune(root, split(filter), 0, channel);
+    }
+
+    /**
+     * Remove the topic filter with all of its subscribers.
+     *
+     * @param filter the topic filter
+     */
+    public synchronized void remove(final String filter) {
+        prune(root, split(filter), 0, null);
+    }
+
+    /**
+     * Gets the channels subscribed to a filter that matches the topic.
+     * A channel matched by several filters is returned once.
+     *
+     * @param topic the topic name
+     * @return the channels, read only
+     */
+    public Collection<Channel> match(final String topic) {
+        String[] levels = split(topic);
+        List<Set<Channel>> matched = new ArrayList<>(2);
+        // wildcards at the first level do not match the topics reserved by the server
+        collect(root, levels, 0, levels.length == 0 || !levels[0].startsWith(SYSTEM_TOPIC_PREFIX), matched);
+        if (matched.isEmpty()) {
+            return Collections.emptySet();
+        }
+        if (matched.size() == 1) {
+            return Collections.unmodifiableSet(matched.get(0));
+        }
+        Set<Channel> channels = new LinkedHashSet<>();
+        matched.forEach(channels::addAll);
+        return channels;
+    }
+
+    /**
+     * Whether no channel is subscribed to any topic filter, the branches of the filters unsubscribed are pruned.
+     *
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        return root.children.isEmpty() && root.subscribers.isEmpty();
+    }
+
+    private void collect(final Node node, final String[] levels, final int index, final boolean wildcard, final List<Set<Channel>> matched) {
+        if (wildcard) {
+            // "a/#" matches "a" as well as everything below it
+            Node multi = node.children.get(MULTI_LEVEL_WILDCARD);
+            if (Objects.nonNull(multi) && !multi.subscribers.isEmpty()) {
+                matched.add(multi.subscribers);
+            }
+        }
+        if (index == levels.length) {
+            if (!node.subscribers.isEmpty()) {
+                matched.add(node.subscribers);
+            }
+            return;
+        }
+        Node exact = node.children.get(levels[index]);
+        if (Objects.nonNull(exact)) {
+            collect(exact, levels, index + 1, true, matched);
+        }
+        if (wildcard) {
+            Node single = node.children.get(SINGLE_LEVEL_WILDCARD);
+            if (Objects.nonNull(single)) {
+                collect(single, levels, index + 1, true, matched);
+            }
+        }
+    }
+
+    private boolean prune(final Node node, final String[] levels, final int index, final Channel channel) {
+        if (index == levels.length) {
+            if (Objects.isNull(channel)) {
+                node.subscribers.clear();
+            } else {
+                node.subscribers.remove(channel);
+            }
+        } else {
+            Node child = node.children.get(levels[index]);
+            if (Objects.nonNull(child) && prune(child, levels, index + 1, channel)) {
+                // prune the branch, per device topics would pile up otherwise
+                node.children.remove(levels[index]);
+            }
+        }
+        return node.subscribers.isEmpty() && node.children.isEmpty();
+    }
+
+    private static String[] split(final String topic) {
+        return StringUtils.splitPreserveAllTokens(topic, '/');
+    }
+
+    private static final class Node {
+
+        private final Map<String, Node> children = new ConcurrentHashMap<>();
+
+        private final Set<Channel> subscribers = new CopyOnWriteArraySet<>();
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.protocol.mqtt.repositories;
+
+import io.netty.channel.Channel;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The test case for {@link TopicTrie}.
+ */
+public final class TopicTrieTest {
+
+    private TopicTrie topicTrie;
+
+    private Channel first;
+
+    private Channel second;
+
+    @BeforeEach
+    public void setUp() {
+        topicTrie = new TopicTrie();
+        first = new EmbeddedChannel();
+        second = new EmbeddedChannel();
+    }
+
+    @Test
+    public void testMatchExact() {
+        topicTrie.subscribe("a/b", first);
+        assertEquals(Collections.singleton(first), new HashSet<>(topicTrie.match("a/b")));
+        assertTrue(topicTrie.match("a").isEmpty());
+        assertTrue(topicTrie.match("a/b/c").isEmpty());
+        assertTrue(topicTrie.match("a/c").isEmpty());
+    }
+
+    @Test
+    public void testMatchSingleLevelWildcard() {
+        topicTrie.subscribe("a/+/c", first);
+        topicTrie.subscribe("+", second);
+        assertEquals(Collections.singleton(first), new HashSet<>(topicTrie.match("a/b/c")));
+        assertTrue(topicTrie.match("a/b/d").isEmpty());
+        assertTrue(topicTrie.match("a/b/c/d").isEmpty());
+        assertEquals(Collections.singleton(second), new HashSet<>(topicTrie.match("a")));
+        assertTrue(topicTrie.match("a/b").isEmpty());
+    }
+
+    @Test
+    public void testMatchMultiLevelWildcard() {
+        topicTrie.subscribe("a/#", first);
+        topicTrie.subscribe("#", second);
+        assertEquals(new HashSet<>(Arrays.asList(first, second)), new HashSet<>(topicTrie.match("a")));
+        assertEquals(new HashSet<>(Arrays.asList(first, second)), new HashSet<>(topicTrie.match("a/b/c")));
+        assertEquals(Collections.singleton(second), new HashSet<>(topicTrie.match("b/c")));
+    }
+
+    @Test
+    public void testMatchOnce() {
+        topicTrie.subscribe("a/b", first);
+        topicTrie.subscribe("a/+", first);
+        topicTrie.subscribe("a/#", first);
+        assertEquals(1, topicTrie.match("a/b").size());
+    }
+
+    @Test
+    public void testSystemTopic() {
+        topicTrie.subscribe("#", first);
+        topicTrie.subscribe("+/broker", first);
+        topicTrie.subscribe("$SYS/#", second);
+        assertEquals(Collections.singleton(second), new HashSet<>(topicTrie.match("$SYS/broker")));
+        assertEquals(Collections.singleton(second), new HashSet<>(topicTrie.match("$SYS")));
+        assertEquals(Collections.singleton(first), new HashSet<>(topicTrie.match("sys/broker")));
+    }
+
+    @Test
+    public void testMatchIsReadOnly() {
+        topicTrie.subscribe("a/b", first);
+        Collection<Channel> channels = topicTrie.match("a/b");
+        assertThrows(UnsupportedOperationException.class, () -> channels.add(second));
+        assertThrows(UnsupportedOperationException.class, () -> channels.remove(first));
+        assertEquals(Collections.singleton(first), new HashSet<>(topicTrie.match("a/b")));
+    }
+
+    @Test
+    public void testUnsubscribePrunes() {
+        topicTrie.subscribe("a/b/c", first);
+        topicTrie.subscribe("a/b/c", second);
+        topicTrie.subscribe("a/d", first);
+        topicTrie.unsubscribe("a/b/c", first);
+        assertEquals(Collections.singleton(second), new HashSet<>(topicTrie.match("a/b/c")));
+        topicTrie.unsubscribe("a/b/c", second);
+        assertTrue(topicTrie.match("a/b/c").isEmpty());
+        assertEquals(Collections.singleton(first), new HashSet<>(topicTrie.match("a/d")));
+        assertFalse(topicTrie.isEmpty());
+        topicTrie.remove("a/d");
+        assertTrue(topicTrie.isEmpty());
+        // unsubscribing a filter never subscribed leaves no branch behind
+        topicTrie.unsubscribe("x/y", first);
+        assertTrue(topicTrie.isEmpty());
+    }
+}
@@ -18,6 +18,8 @@
 package org.apache.shenyu.protocol.tcp;
 
 import com.google.common.eventbus.EventBus;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.flush.FlushConsolidationHandler;
 import io.netty.handler.logging.LogLevel;
 import io.netty.handler.logging.LoggingHandler;
 import org.apache.shenyu.common.dto.DiscoveryUpstreamData;
@@ -36,6 +38,7 @@ import reactor.netty.tcp.TcpServer;
 
 import java.net.SocketAddress;
 import java.util.List;
+import java.util.Objects;
 
 
 /**
@@ -52,6 +55,10 @@ public class TcpBootstrapServer implements BootstrapServer {
 
     private DisposableServer server;
 
+    private ActivityConnectionObserver prewarmObserver;
+
+    private long drainTimeoutMillis;
+
     private final EventBus eventBus;
 
     public TcpBootstrapServer(final EventBus eventBus) {
@@ -63,15 +70,31 @@ public class TcpBootstrapServer implements BootstrapServer {
         final String loadBalanceAlgorithm = tcpServerConfiguration.getProps().getOrDefault("loadBalance", "random").toString();
         final String bossGroupThreadCount = tcpServerConfiguration.getProps().getOrDefault("bossGroupThreadCount", "1").toString();
         final String workerGroupThreadCount = tcpServerConfiguration.getProps().getOrDefault("workerGroupThreadCount", "12").toString();
+        // dumping every byte at info level is for troubleshooting only
+        final long drainTimeoutMs = Long.parseLong(tcpServerConfiguration.getProps().getOrDefault("drainTimeoutMs", "30000").toString());
+        final boolean wiretap = Boolean.parseBoolean(tcpServerConfiguration.getProps().getOrDefault("wiretap", "false").toString());
         DefaultConnectionConfigProvider connectionConfigProvider = new DefaultConnectionConfigProvider(loadBalanceAlgorithm, tcpServerConfiguration.getPluginSelectorName());
+        this.drainTimeoutMillis = drainTimeoutMs;
         this.bridge = new TcpConnectionBridge();
         connectionContext = new ConnectionContext(connectionConfigProvider);
         connectionContext.init(tcpServerConfiguration.getProps());
+        prewarmObserver = new ActivityConnectionObserver("TcpPrewarmClient", drainTimeoutMs);
+        eventBus.register(prewarmObserver);
+        connectionContext.setPrewarmObserver(prewarmObserver);
         loopResources = LoopResources.create("shenyu-tcp-bootstrap-server-" + tcpServerConfiguration.getPort(), Integer.parseInt(bossGroupThreadCount),
                 Integer.parseInt(workerGroupThreadCount), true);
+        final int flushConsolidationLimit = connectionContext.getFlushConsolidationLimit();
         TcpServer tcpServer = TcpServer.create()
-                .doOnChannelInit((connObserver, channel, remoteAddress) -> channel.pipeline().addFirst(new LoggingHandler(LogLevel.INFO)))
-                .wiretap(true)
+                .childOption(ChannelOption.WRITE_BUFFER_WATER_MARK, connectionContext.getWriteBufferWaterMark())
+                .doOnChannelInit((connObserver, channel, remoteAddress) -> {
+                    if (flushConsolidationLimit > 0) {
+                        channel.pipeline().addFirst(new FlushConsolidationHandler(flushConsolidationLimit, true));
+                    }
+                    if (wiretap) {
+                        channel.pipeline().addFirst(new LoggingHandler(LogLevel.INFO));
+                    }
+                })
+                .wiretap(wiretap)
                 .observe((c, s) -> LOG.info("connection={}|status={}", c, s))
                 //.childObserve(connectionObserver)
                 .doOnConnection(this::bridgeConnections)
@@ -83,8 +106,9 @@ public class TcpBootstrapServer implements BootstrapServer {
     private void bridgeConnections(final Connection serverConn) {
         LOG.info("Starting proxy client ={}", serverConn);
         SocketAddress socketAddress = serverConn.channel().remoteAddress();
-        ActivityConnectionObserver connectionObserver = new ActivityConnectionObserver("TcpClient");
+        ActivityConnectionObserver connectionObserver = new ActivityConnectionObserver("TcpClient", drainTimeoutMillis);
         eventBus.register(connectionObserver);
+        serverConn.onDispose(() -> eventBus.unregister(connectionObserver));
         Mono<Connection> client = connectionContext.getTcpClientConnection(getIp(socketAddress), connectionObserver);
         client.subscribe(clientConn -> bridge.bridge(serverConn, clientConn));
     }
@@ -115,6 +139,9 @@ public class TcpBootstrapServer implements BootstrapServer {
     public void shutdown() {
         server.disposeNow();
         loopResources.dispose();
+        if (Objects.nonNull(prewarmObserver)) {
+            eventBus.unregister(prewarmObserver);
+        }
     }
 
 }
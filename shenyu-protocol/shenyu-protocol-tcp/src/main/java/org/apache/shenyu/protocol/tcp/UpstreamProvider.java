@@ -37,6 +37,11 @@ public final class UpstreamProvider {
 
     private final Map<String, List<DiscoveryUpstreamData>> cache = new ConcurrentHashMap<>();
 
+    /**
+     * the live connection count of each upstream url.
+     */
+    private final Map<String, Integer> activeConnections = new ConcurrentHashMap<>();
+
     private UpstreamProvider() {
     }
 
@@ -87,4 +92,32 @@ public final class UpstreamProvider {
         Set<String> urlSet = discoveryUpstreamDataList.stream().map(DiscoveryUpstreamData::getUrl).collect(Collectors.toSet());
         return remove.stream().filter(r -> !urlSet.contains(r.getUrl())).collect(Collectors.toList());
     }
+
+    /**
+     * Record a connection opened to the upstream.
+     *
+     * @param url the upstream url
+     */
+    public void onConnectionOpened(final String url) {
+        activeConnections.merge(url, 1, Integer::sum);
+    }
+
+    /**
+     * Record a connection to the upstream closed.
+     *
+     * @param url the upstream url
+     */
+    public void onConnectionClosed(final String url) {
+        activeConnections.computeIfPresent(url, (key, count) -> count > 1 ? count - 1 : null);
+    }
+
+    /**
+     * Gets the live connection count of the upstream.
+     *
+     * @param url the upstream url
+     * @return the connection count
+     */
+    public int getActiveConnections(final String url) {
+        return activeConnections.getOrDefault(url, 0);
+    }
 }
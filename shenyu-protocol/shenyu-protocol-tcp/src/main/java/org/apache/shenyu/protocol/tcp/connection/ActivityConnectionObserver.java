@@ -20,14 +20,20 @@ package org.apache.shenyu.protocol.tcp.connection;
 import com.google.common.eventbus.Subscribe;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.common.dto.DiscoveryUpstreamData;
+import org.apache.shenyu.protocol.tcp.UpstreamProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
 import reactor.netty.Connection;
 import reactor.netty.ConnectionObserver;
 
+import java.net.InetSocketAddress;
 import java.net.SocketAddress;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -38,21 +44,50 @@ public class ActivityConnectionObserver implements ConnectionObserver {
 
     private final Map<Connection, State> cache = new ConcurrentHashMap<>();
 
+    /**
+     * the upstream url of each connection, the remote address may be gone once the channel is closed.
+     */
+    private final Map<Connection, String> urls = new ConcurrentHashMap<>();
+
+    /**
+     * the pending drain of each connection of a removed upstream, it is cancelled once the connection closes on its own.
+     */
+    private final Map<Connection, Disposable> drains = new ConcurrentHashMap<>();
+
     private final String name;
 
+    private final long drainTimeoutMillis;
+
     public ActivityConnectionObserver(final String name) {
+        this(name, 0);
+    }
+
+    public ActivityConnectionObserver(final String name, final long drainTimeoutMillis) {
         this.name = name;
+        this.drainTimeoutMillis = drainTimeoutMillis;
     }
 
     @Override
     public void onStateChange(final Connection connection, final State newState) {
         if (newState == State.CONNECTED) {
-            cache.put(connection, newState);
+            if (Objects.isNull(cache.put(connection, newState))) {
+                String url = url(connection.channel().remoteAddress());
+                urls.put(connection, url);
+                UpstreamProvider.getSingleton().onConnectionOpened(url);
+            }
             LOG.info("{} add connection into cache ={}", name, connection);
         } else if (newState == State.DISCONNECTING
                 || newState == State.RELEASED
         ) {
             cache.remove(connection);
+            Disposable drain = drains.remove(connection);
+            if (Objects.nonNull(drain)) {
+                drain.dispose();
+            }
+            String url = urls.remove(connection);
+            if (Objects.nonNull(url)) {
+                UpstreamProvider.getSingleton().onConnectionClosed(url);
+            }
             LOG.info("{} remove connection into cache ={}", name, connection);
         } else {
             if (cache.containsKey(connection)) {
@@ -63,6 +98,7 @@ public class ActivityConnectionObserver implements ConnectionObserver {
 
     /**
      * onRemove.
+     * The sessions of a removed upstream get no new peers already, they are given the drain timeout to finish on their own.
      *
      * @param remove removeList
      */
@@ -72,12 +108,24 @@ public class ActivityConnectionObserver implements ConnectionObserver {
         for (Connection connection : cache.keySet()) {
             SocketAddress socketAddress = connection.channel().remoteAddress();
             if (in(remove, socketAddress)) {
-                LOG.info("shenyu dispose {} connection ", connection);
-                connection.disposeNow();
+                if (drainTimeoutMillis <= 0) {
+                    LOG.info("shenyu dispose {} connection ", connection);
+                    connection.disposeNow();
+                } else {
+                    drains.computeIfAbsent(connection, this::drain);
+                }
             }
         }
     }
 
+    private Disposable drain(final Connection connection) {
+        LOG.info("shenyu drain {} connection in {} ms", connection, drainTimeoutMillis);
+        return Mono.delay(Duration.ofMillis(drainTimeoutMillis)).subscribe(tick -> {
+            drains.remove(connection);
+            connection.dispose();
+        });
+    }
+
     /**
      * in.
      *
@@ -86,11 +134,19 @@ public class ActivityConnectionObserver implements ConnectionObserver {
      * @return boolean
      */
     private boolean in(final List<DiscoveryUpstreamData> removeList, final SocketAddress cacheSocketAddress) {
+        String cacheUrl = url(cacheSocketAddress);
         return removeList.stream().anyMatch(u -> {
-            String cacheUrl = cacheSocketAddress.toString().substring(1);
             String removedUrl = u.getUrl();
             LOG.info("compare {} , {}", cacheUrl, removedUrl);
             return StringUtils.equals(cacheUrl, removedUrl);
         });
     }
+
+    private static String url(final SocketAddress socketAddress) {
+        if (socketAddress instanceof InetSocketAddress) {
+            InetSocketAddress address = (InetSocketAddress) socketAddress;
+            return address.getHostString() + ":" + address.getPort();
+        }
+        return String.valueOf(socketAddress);
+    }
 }
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.protocol.tcp.connection;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The traffic of one bridged tcp session, it is handed to {@link TcpConnectionBridge#onClosed} when the session closes.
+ */
+public final class BridgeMetrics {
+
+    /**
+     * nanoTime may be any value, even 0, so the first byte times start from a value it never returns in practice.
+     */
+    private static final long UNSET = Long.MIN_VALUE;
+
+    private final long startNanos = System.nanoTime();
+
+    private final AtomicLong requestBytes = new AtomicLong();
+
+    private final AtomicLong responseBytes = new AtomicLong();
+
+    private final AtomicLong firstRequestNanos = new AtomicLong(UNSET);
+
+    private final AtomicLong firstResponseNanos = new AtomicLong(UNSET);
+
+    /**
+     * Record bytes sent from the client to the upstream.
+     *
+     * @param bytes the bytes
+     */
+    public void onRequest(final long bytes) {
+        requestBytes.addAndGet(bytes);
+        firstRequestNanos.compareAndSet(UNSET, System.nanoTime());
+    }
+
+    /**
+     * Record bytes sent from the upstream back to the client.
+     *
+     * @param bytes the bytes
+     */
+    public void onResponse(final long bytes) {
+        responseBytes.addAndGet(bytes);
+        firstResponseNanos.compareAndSet(UNSET, System.nanoTime());
+    }
+
+    /**
+     * Gets the bytes sent from the client to the upstream.
+     *
+     * @return the request bytes
+     */
+    public long getRequestBytes() {
+        return requestBytes.get();
+    }
+
+    /**
+     * Gets the bytes sent from the upstream back to the client.
+     *
+     * @return the response bytes
+     */
+    public long getResponseBytes() {
+        return responseBytes.get();
+    }
+
+    /**
+     * Gets the millis between the first request byte and the first response byte.
+     *
+     * @return the latency, or -1 when the session never saw both
+     */
+    public long getFirstByteLatencyMillis() {
+        long request = firstRequestNanos.get();
+        long response = firstResponseNanos.get();
+        if (request == UNSET || response == UNSET) {
+            return -1;
+        }
+        return TimeUnit.NANOSECONDS.toMillis(Math.max(response - request, 0));
+    }
+
+    /**
+     * Gets the millis since the session was bridged.
+     *
+     * @return the duration
+     */
+    public long getDurationMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    @Override
+    public String toString() {
+        return "BridgeMetrics{"
+                + "requestBytes="
+                + getRequestBytes()
+                + ", responseBytes="
+                + getResponseBytes()
+                + ", firstByteLatencyMillis="
+                + getFirstByteLatencyMillis()
+                + ", durationMillis="
+                + getDurationMillis()
+                + '}';
+    }
+}
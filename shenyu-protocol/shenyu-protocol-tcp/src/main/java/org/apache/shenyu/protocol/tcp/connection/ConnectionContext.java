@@ -17,23 +17,48 @@
 
 package org.apache.shenyu.protocol.tcp.connection;
 
+import io.netty.channel.ChannelOption;
+import io.netty.channel.WriteBufferWaterMark;
+import io.netty.handler.flush.FlushConsolidationHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Mono;
 import reactor.netty.Connection;
+import reactor.netty.ConnectionObserver;
 import reactor.netty.resources.ConnectionProvider;
 import reactor.netty.tcp.TcpClient;
 
+import java.net.URI;
 import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Properties;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * ConnectionContext.
  */
 public class ConnectionContext {
 
+    private static final Logger LOG = LoggerFactory.getLogger(ConnectionContext.class);
+
     private final ClientConnectionConfigProvider connectionConfigProvider;
 
+    private final Map<URI, WarmConnections> warmConnections = new ConcurrentHashMap<>();
+
     private ConnectionProvider connectionProvider;
 
+    private WriteBufferWaterMark writeBufferWaterMark;
+
+    private int flushConsolidationLimit;
+
+    private int prewarmConnections;
+
+    private ConnectionObserver prewarmObserver = ConnectionObserver.emptyListener();
+
     public ConnectionContext(final ClientConnectionConfigProvider connectionConfigProvider) {
         this.connectionConfigProvider = connectionConfigProvider;
     }
@@ -50,6 +75,10 @@ public class ConnectionContext {
         final String maxLifeTimeMs = props.getProperty("clientMaxLifeTimeMs", "60000");
         final String pendingAcquireTimeout = props.getProperty("clientPendingAcquireTimeout", "5");
         final String pendingAcquireMaxCount = props.getProperty("clientPendingAcquireMaxCount", "5");
+        final String writeBufferLowWaterMark = props.getProperty("writeBufferLowWaterMark", "32768");
+        final String writeBufferHighWaterMark = props.getProperty("writeBufferHighWaterMark", "65536");
+        final String flushConsolidation = props.getProperty("flushConsolidationLimit", "256");
+        final String prewarm = props.getProperty("clientPrewarmConnections", "0");
         connectionProvider = ConnectionProvider.builder(tcpProxyClientName)
                 .maxConnections(Integer.parseInt(maxConnections))
                 .pendingAcquireTimeout(Duration.ofSeconds(Integer.parseInt(pendingAcquireTimeout)))
@@ -57,6 +86,36 @@ public class ConnectionContext {
                 .maxIdleTime(Duration.ofMillis(Integer.parseInt(maxIdleTimeMs)))
                 .maxLifeTime(Duration.ofMillis(Integer.parseInt(maxLifeTimeMs)))
                 .build();
+        writeBufferWaterMark = new WriteBufferWaterMark(Integer.parseInt(writeBufferLowWaterMark), Integer.parseInt(writeBufferHighWaterMark));
+        flushConsolidationLimit = Integer.parseInt(flushConsolidation);
+        prewarmConnections = Integer.parseInt(prewarm);
+    }
+
+    /**
+     * Sets the observer of the pre-warmed connections, they are opened before any client connection exists.
+     *
+     * @param prewarmObserver the observer
+     */
+    public void setPrewarmObserver(final ConnectionObserver prewarmObserver) {
+        this.prewarmObserver = prewarmObserver;
+    }
+
+    /**
+     * Gets the write buffer water mark of the proxy channels.
+     *
+     * @return the write buffer water mark
+     */
+    public WriteBufferWaterMark getWriteBufferWaterMark() {
+        return writeBufferWaterMark;
+    }
+
+    /**
+     * Gets the number of flushes consolidated into one, 0 to flush each write.
+     *
+     * @return the flush consolidation limit
+     */
+    public int getFlushConsolidationLimit() {
+        return flushConsolidationLimit;
     }
 
     /**
@@ -68,13 +127,75 @@ public class ConnectionContext {
      */
     public Mono<Connection> getTcpClientConnection(final String ip, final ActivityConnectionObserver observer) {
         return Mono.just(connectionConfigProvider.getProxiedService(ip))
-                .flatMap(url ->
-                        TcpClient.create(connectionProvider)
-                                .host(url.getHost())
-                                .port(url.getPort())
-                                .observe(observer)
-                                .connect()
-                );
+                .flatMap(url -> {
+                    Connection warm = pollWarmConnection(url);
+                    prewarm(url);
+                    if (Objects.nonNull(warm)) {
+                        return Mono.just(warm);
+                    }
+                    return connect(url, observer);
+                });
+    }
+
+    private Mono<? extends Connection> connect(final URI url, final ConnectionObserver observer) {
+        TcpClient tcpClient = TcpClient.create(connectionProvider)
+                .host(url.getHost())
+                .port(url.getPort())
+                .option(ChannelOption.WRITE_BUFFER_WATER_MARK, writeBufferWaterMark)
+                .observe(observer);
+        if (flushConsolidationLimit > 0) {
+            tcpClient = tcpClient.doOnChannelInit((connectionObserver, channel, remoteAddress) ->
+                    channel.pipeline().addFirst(new FlushConsolidationHandler(flushConsolidationLimit, true)));
+        }
+        return tcpClient.connect();
+    }
+
+    private Connection pollWarmConnection(final URI url) {
+        // each pre-warmed connection serves a single client session, a tcp byte stream can not be handed to another client safely
+        WarmConnections warm = warmConnections.get(url);
+        if (Objects.isNull(warm)) {
+            return null;
+        }
+        for (Connection connection = warm.idle.poll(); Objects.nonNull(connection); connection = warm.idle.poll()) {
+            warm.reserved.decrementAndGet();
+            if (!connection.isDisposed() && connection.channel().isActive()) {
+                return connection;
+            }
+        }
+        return null;
+    }
+
+    private void prewarm(final URI url) {
+        if (prewarmConnections <= 0) {
+            return;
+        }
+        WarmConnections warm = warmConnections.computeIfAbsent(url, key -> new WarmConnections());
+        for (int reserved = warm.reserved.get(); reserved < prewarmConnections; reserved = warm.reserved.get()) {
+            if (warm.reserved.compareAndSet(reserved, reserved + 1)) {
+                connect(url, prewarmObserver).subscribe(connection -> {
+                    warm.idle.offer(connection);
+                    // a warm connection closed by the upstream while idle gives its slot back
+                    connection.onDispose(() -> {
+                        if (warm.idle.remove(connection)) {
+                            warm.reserved.decrementAndGet();
+                        }
+                    });
+                }, error -> {
+                    warm.reserved.decrementAndGet();
+                    LOG.warn("prewarm tcp connection to {} failed: {}", url, error.getMessage());
+                });
+            }
+        }
+    }
+
+    private static final class WarmConnections {
+
+        private final Queue<Connection> idle = new ConcurrentLinkedQueue<>();
+
+        /**
+         * the idle connections plus the ones still connecting.
+         */
+        private final AtomicInteger reserved = new AtomicInteger();
     }
 
 }
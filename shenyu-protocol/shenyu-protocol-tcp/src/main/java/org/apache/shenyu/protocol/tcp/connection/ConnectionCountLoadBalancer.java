@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.protocol.tcp.connection;
+
+import org.apache.shenyu.loadbalancer.entity.Upstream;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Balances tcp sessions by the live connection count of each upstream.
+ * A tcp session may live for hours, so the request rate the http balancers look at says little about the load.
+ */
+public final class ConnectionCountLoadBalancer {
+
+    /**
+     * pick the upstream with the fewest connections per weight.
+     */
+    public static final String LEAST_CONNECTIONS = "leastConnections";
+
+    /**
+     * pick the less loaded of two random upstreams, it does not herd a burst of sessions onto one upstream.
+     */
+    public static final String P2C = "p2c";
+
+    private ConnectionCountLoadBalancer() {
+    }
+
+    /**
+     * Whether the algorithm is balanced by connection count.
+     *
+     * @param algorithm the algorithm
+     * @return true when it is
+     */
+    public static boolean supports(final String algorithm) {
+        return LEAST_CONNECTIONS.equals(algorithm) || P2C.equals(algorithm);
+    }
+
+    /**
+     * Select the upstream of a new session.
+     *
+     * @param upstreamList the upstream list
+     * @param algorithm the algorithm
+     * @param activeConnections the live connection count of an upstream
+     * @return the upstream
+     */
+    public static Upstream select(final List<Upstream> upstreamList, final String algorithm, final ToIntFunction<Upstream> activeConnections) {
+        List<Upstream> available = upstreamList.stream().filter(Upstream::isStatus).collect(Collectors.toList());
+        if (available.isEmpty()) {
+            available = upstreamList;
+        }
+        if (available.size() == 1) {
+            return available.get(0);
+        }
+        return P2C.equals(algorithm) ? p2c(available, activeConnections) : leastConnections(available, activeConnections);
+    }
+
+    private static Upstream leastConnections(final List<Upstream> upstreamList, final ToIntFunction<Upstream> activeConnections) {
+        Upstream selected = null;
+        double least = Double.MAX_VALUE;
+        int ties = 0;
+        for (Upstream upstream : upstreamList) {
+            double load = load(upstream, activeConnections);
+            if (load < least) {
+                least = load;
+                selected = upstream;
+                ties = 1;
+            } else if (load == least) {
+                // spread the ties evenly, the first upstream would take every session of an idle cluster otherwise
+                ties++;
+                if (ThreadLocalRandom.current().nextInt(ties) == 0) {
+                    selected = upstream;
+                }
+            }
+        }
+        return selected;
+    }
+
+    private static Upstream p2c(final List<Upstream> upstreamList, final ToIntFunction<Upstream> activeConnections) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int a = random.nextInt(upstreamList.size());
+        int b = random.nextInt(upstreamList.size() - 1);
+        if (b >= a) {
+            b += 1;
+        }
+        Upstream first = upstreamList.get(a);
+        Upstream second = upstreamList.get(b);
+        return load(first, activeConnections) <= load(second, activeConnections) ? first : second;
+    }
+
+    private static double load(final Upstream upstream, final ToIntFunction<Upstream> activeConnections) {
+        return (activeConnections.applyAsInt(upstream) + 1d) / Math.max(upstream.getWeight(), 1);
+    }
+}
@@ -62,7 +62,13 @@ public class DefaultConnectionConfigProvider implements ClientConnectionConfigPr
         if (CollectionUtils.isEmpty(upstreamList)) {
             throw new ShenyuException("shenyu TcpProxy don't have any upstream");
         }
-        Upstream upstream = LoadBalancerFactory.selector(upstreamList, loadBalanceAlgorithm, ip);
+        Upstream upstream;
+        if (ConnectionCountLoadBalancer.supports(loadBalanceAlgorithm)) {
+            upstream = ConnectionCountLoadBalancer.select(upstreamList, loadBalanceAlgorithm,
+                    candidate -> UpstreamProvider.getSingleton().getActiveConnections(candidate.getUrl()));
+        } else {
+            upstream = LoadBalancerFactory.selector(upstreamList, loadBalanceAlgorithm, ip);
+        }
         return cover(upstream);
     }
 
@@ -25,6 +25,8 @@ import reactor.netty.Connection;
 import reactor.netty.NettyInbound;
 import reactor.netty.NettyOutbound;
 
+import java.util.function.LongConsumer;
+
 /**
  * TcpConnectionBridge.
  */
@@ -34,17 +36,32 @@ public class TcpConnectionBridge implements Bridge {
 
     @Override
     public void bridge(final Connection server, final Connection client) {
+        BridgeMetrics metrics = new BridgeMetrics();
         //   LOG.info("start server#inbound -> client#outbound");
-        Disposable requestDisposable = bridge(server.inbound(), client.outbound());
+        Disposable requestDisposable = bridge(server.inbound(), client.outbound(), metrics::onRequest);
         //  LOG.info("start client#inbound -> server#outbound");
-        Disposable responseDisposable = bridge(client.inbound(), server.outbound());
+        Disposable responseDisposable = bridge(client.inbound(), server.outbound(), metrics::onResponse);
         // binding dispose: when server connection is disposed ,client while close too.
-        server.onDispose(Disposables.composite(requestDisposable, responseDisposable, client.channel()::close));
+        server.onDispose(Disposables.composite(requestDisposable, responseDisposable, client.channel()::close,
+                () -> onClosed(server, metrics)));
         client.onDispose(Disposables.composite(requestDisposable, responseDisposable, server.channel()::close));
     }
 
-    private Disposable bridge(final NettyInbound inbound, final NettyOutbound outbound) {
-        return outbound.send(inbound.receive().retain()).then().subscribe();
+    private Disposable bridge(final NettyInbound inbound, final NettyOutbound outbound, final LongConsumer recorder) {
+        // the outbound only requests more once its channel is writable again, and the inbound stops reading without demand,
+        // so a slow peer pushes back to the other side instead of piling up in memory.
+        return outbound.send(inbound.receive().retain().doOnNext(buf -> recorder.accept(buf.readableBytes()))).then().subscribe();
+    }
+
+    /**
+     * Called once the bridged session closes with its traffic, it is logged at debug level by default,
+     * override it to report the traffic elsewhere.
+     *
+     * @param server  the connection of the client to the gateway
+     * @param metrics the traffic of the session
+     */
+    protected void onClosed(final Connection server, final BridgeMetrics metrics) {
+        LOG.debug("bridge of {} closed, {}", server.channel().remoteAddress(), metrics);
     }
 
 }
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.protocol.tcp.connection;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.apache.shenyu.common.dto.DiscoveryUpstreamData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.netty.Connection;
+import reactor.netty.ConnectionObserver;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * The test case for {@link ActivityConnectionObserver}.
+ */
+public final class ActivityConnectionObserverTest {
+
+    private Connection connection;
+
+    private List<DiscoveryUpstreamData> removed;
+
+    @BeforeEach
+    public void setUp() {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        connection = mock(Connection.class);
+        when(connection.channel()).thenReturn(channel);
+        DiscoveryUpstreamData upstream = new DiscoveryUpstreamData();
+        upstream.setUrl(String.valueOf(channel.remoteAddress()));
+        removed = Collections.singletonList(upstream);
+    }
+
+    @Test
+    public void testDisposeAtOnce() {
+        ActivityConnectionObserver observer = new ActivityConnectionObserver("test");
+        observer.onStateChange(connection, ConnectionObserver.State.CONNECTED);
+        observer.onRemove(removed);
+        verify(connection).disposeNow();
+    }
+
+    @Test
+    public void testDrain() {
+        ActivityConnectionObserver observer = new ActivityConnectionObserver("test", 50);
+        observer.onStateChange(connection, ConnectionObserver.State.CONNECTED);
+        observer.onRemove(removed);
+        // a second removal does not schedule a second drain
+        observer.onRemove(removed);
+        verify(connection, never()).dispose();
+        await().atMost(Duration.ofSeconds(2)).untilAsserted(() -> verify(connection).dispose());
+        await().pollDelay(Duration.ofMillis(100)).untilAsserted(() -> verify(connection, times(1)).dispose());
+    }
+
+    @Test
+    public void testCancelDrainOnClose() {
+        ActivityConnectionObserver observer = new ActivityConnectionObserver("test", 50);
+        observer.onStateChange(connection, ConnectionObserver.State.CONNECTED);
+        observer.onRemove(removed);
+        observer.onStateChange(connection, ConnectionObserver.State.RELEASED);
+        await().pollDelay(Duration.ofMillis(200)).untilAsserted(() -> verify(connection, never()).dispose());
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.protocol.tcp.connection;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The test case for {@link BridgeMetrics}.
+ */
+public final class BridgeMetricsTest {
+
+    @Test
+    public void testBytes() {
+        BridgeMetrics metrics = new BridgeMetrics();
+        metrics.onRequest(10);
+        metrics.onRequest(5);
+        metrics.onResponse(7);
+        assertEquals(15, metrics.getRequestBytes());
+        assertEquals(7, metrics.getResponseBytes());
+    }
+
+    @Test
+    public void testFirstByteLatency() throws InterruptedException {
+        BridgeMetrics metrics = new BridgeMetrics();
+        assertEquals(-1, metrics.getFirstByteLatencyMillis());
+        metrics.onRequest(1);
+        assertEquals(-1, metrics.getFirstByteLatencyMillis());
+        Thread.sleep(20);
+        metrics.onResponse(1);
+        long latency = metrics.getFirstByteLatencyMillis();
+        assertTrue(latency >= 20);
+        // only the first byte of each direction counts
+        Thread.sleep(20);
+        metrics.onRequest(1);
+        metrics.onResponse(1);
+        assertEquals(latency, metrics.getFirstByteLatencyMillis());
+        assertTrue(metrics.getDurationMillis() >= 40);
+    }
+
+    @Test
+    public void testResponseWithoutRequest() {
+        BridgeMetrics metrics = new BridgeMetrics();
+        metrics.onResponse(1);
+        assertEquals(-1, metrics.getFirstByteLatencyMillis());
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.protocol.tcp.connection;
+
+import org.apache.shenyu.loadbalancer.entity.Upstream;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The test case for {@link ConnectionCountLoadBalancer}.
+ */
+public final class ConnectionCountLoadBalancerTest {
+
+    private final Upstream first = Upstream.builder().url("127.0.0.1:9001").weight(50).build();
+
+    private final Upstream second = Upstream.builder().url("127.0.0.1:9002").weight(50).build();
+
+    private final Upstream third = Upstream.builder().url("127.0.0.1:9003").weight(50).build();
+
+    private final List<Upstream> upstreamList = Arrays.asList(first, second, third);
+
+    @Test
+    public void testSupports() {
+        assertTrue(ConnectionCountLoadBalancer.supports(ConnectionCountLoadBalancer.LEAST_CONNECTIONS));
+        assertTrue(ConnectionCountLoadBalancer.supports(ConnectionCountLoadBalancer.P2C));
+        assertFalse(ConnectionCountLoadBalancer.supports("roundRobin"));
+        assertFalse(ConnectionCountLoadBalancer.supports(null));
+    }
+
+    @Test
+    public void testLeastConnections() {
+        Map<Upstream, Integer> connections = new HashMap<>();
+        connections.put(first, 5);
+        connections.put(second, 1);
+        connections.put(third, 3);
+        for (int i = 0; i < 20; i++) {
+            assertSame(second, ConnectionCountLoadBalancer.select(upstreamList, ConnectionCountLoadBalancer.LEAST_CONNECTIONS, connections::get));
+        }
+    }
+
+    @Test
+    public void testLeastConnectionsByWeight() {
+        Upstream heavy = Upstream.builder().url("127.0.0.1:9004").weight(200).build();
+        Map<Upstream, Integer> connections = new HashMap<>();
+        connections.put(first, 2);
+        connections.put(heavy, 4);
+        for (int i = 0; i < 20; i++) {
+            assertSame(heavy, ConnectionCountLoadBalancer.select(Arrays.asList(first, heavy), ConnectionCountLoadBalancer.LEAST_CONNECTIONS, connections::get));
+        }
+    }
+
+    @Test
+    public void testLeastConnectionsSpreadsTies() {
+        Set<Upstream> selected = new HashSet<>();
+        for (int i = 0; i < 200; i++) {
+            selected.add(ConnectionCountLoadBalancer.select(upstreamList, ConnectionCountLoadBalancer.LEAST_CONNECTIONS, upstream -> 0));
+        }
+        assertEquals(new HashSet<>(upstreamList), selected);
+    }
+
+    @Test
+    public void testP2cNeverPicksTheMostLoaded() {
+        Map<Upstream, Integer> connections = new HashMap<>();
+        connections.put(first, 100);
+        connections.put(second, 1);
+        connections.put(third, 2);
+        Set<Upstream> selected = new HashSet<>();
+        for (int i = 0; i < 200; i++) {
+            Upstream upstream = ConnectionCountLoadBalancer.select(upstreamList, ConnectionCountLoadBalancer.P2C, connections::get);
+            assertNotSame(first, upstream);
+            selected.add(upstream);
+        }
+        // the less loaded of the two picked, so the second most loaded still wins against the most loaded
+        assertEquals(new HashSet<>(Arrays.asList(second, third)), selected);
+    }
+
+    @Test
+    public void testSkipUnavailable() {
+        Upstream down = Upstream.builder().url("127.0.0.1:9005").status(false).build();
+        for (int i = 0; i < 20; i++) {
+            assertSame(first, ConnectionCountLoadBalancer.select(Arrays.asList(down, first), ConnectionCountLoadBalancer.P2C, upstream -> 0));
+        }
+        // all of them down, pick one anyway
+        assertSame(down, ConnectionCountLoadBalancer.select(Collections.singletonList(down), ConnectionCountLoadBalancer.LEAST_CONNECTIONS, upstream -> 0));
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.protocol.tcp.connection;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
+import reactor.netty.DisposableServer;
+import reactor.netty.tcp.TcpClient;
+import reactor.netty.tcp.TcpServer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The test case for {@link TcpConnectionBridge}.
+ */
+public final class TcpConnectionBridgeTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final CompletableFuture<BridgeMetrics> closed = new CompletableFuture<>();
+
+    private DisposableServer upstream;
+
+    private DisposableServer gateway;
+
+    @BeforeEach
+    public void setUp() {
+        upstream = TcpServer.create().host("127.0.0.1").port(0)
+                .handle((inbound, outbound) -> outbound.send(inbound.receive().retain()))
+                .bindNow(TIMEOUT);
+        TcpConnectionBridge bridge = new TcpConnectionBridge() {
+            @Override
+            protected void onClosed(final Connection server, final BridgeMetrics metrics) {
+                closed.complete(metrics);
+            }
+        };
+        gateway = TcpServer.create().host("127.0.0.1").port(0)
+                .doOnConnection(server -> TcpClient.create().host("127.0.0.1").port(upstream.port()).connect()
+                        .subscribe(client -> bridge.bridge(server, client)))
+                .handle((inbound, outbound) -> Mono.never())
+                .bindNow(TIMEOUT);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        gateway.disposeNow(TIMEOUT);
+        upstream.disposeNow(TIMEOUT);
+    }
+
+    @Test
+    public void testBridge() throws Exception {
+        Connection connection = TcpClient.create().host("127.0.0.1").port(gateway.port()).connectNow(TIMEOUT);
+        connection.outbound().sendString(Mono.just("hello")).then().subscribe();
+        String echo = connection.inbound().receive().asString(StandardCharsets.UTF_8).next().block(TIMEOUT);
+        assertEquals("hello", echo);
+        connection.disposeNow(TIMEOUT);
+        BridgeMetrics metrics = closed.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        assertEquals(5, metrics.getRequestBytes());
+        assertEquals(5, metrics.getResponseBytes());
+        assertTrue(metrics.getFirstByteLatencyMillis() >= 0);
+    }
+}
@@ -26,12 +26,16 @@ import org.apache.shenyu.plugin.base.alert.AlarmService;
 import org.apache.shenyu.plugin.base.alert.AlarmServiceImpl;
 import org.apache.shenyu.plugin.base.cache.CommonMetaDataSubscriber;
 import org.apache.shenyu.plugin.base.cache.CommonPluginDataSubscriber;
+import org.apache.shenyu.plugin.base.cache.SyncDataSnapshotRecorder;
 import org.apache.shenyu.plugin.base.handler.MetaDataHandler;
 import org.apache.shenyu.plugin.base.handler.PluginDataHandler;
 import org.apache.shenyu.plugin.base.trie.ShenyuTrie;
 import org.apache.shenyu.plugin.base.trie.ShenyuTrieListener;
+import org.apache.shenyu.sync.data.api.AuthDataSubscriber;
+import org.apache.shenyu.sync.data.api.DiscoveryUpstreamDataSubscriber;
 import org.apache.shenyu.sync.data.api.MetaDataSubscriber;
 import org.apache.shenyu.sync.data.api.PluginDataSubscriber;
+import org.apache.shenyu.sync.data.api.ProxySelectorDataSubscriber;
 import org.apache.shenyu.web.configuration.ErrorHandlerConfiguration;
 import org.apache.shenyu.web.configuration.ShenyuExtConfiguration;
 import org.apache.shenyu.web.configuration.SpringExtConfiguration;
@@ -138,6 +142,54 @@ public class ShenyuConfiguration {
         return new CommonMetaDataSubscriber(metaDataHandlerList.getIfAvailable(Collections::emptyList));
     }
     
+    /**
+     * Sync data snapshot recorder.
+     *
+     * @param shenyuConfig the shenyu config
+     * @return the sync data snapshot recorder
+     */
+    @Bean
+    @ConditionalOnProperty(name = "shenyu.syncSnapshot.enabled", havingValue = "true")
+    public SyncDataSnapshotRecorder syncDataSnapshotRecorder(final ShenyuConfig shenyuConfig) {
+        return new SyncDataSnapshotRecorder(shenyuConfig.getSyncSnapshot());
+    }
+    
+    /**
+     * The auth data subscriber recording into the sync data snapshot.
+     *
+     * @param syncDataSnapshotRecorder the sync data snapshot recorder
+     * @return the auth data subscriber
+     */
+    @Bean
+    @ConditionalOnProperty(name = "shenyu.syncSnapshot.enabled", havingValue = "true")
+    public AuthDataSubscriber snapshotAuthDataSubscriber(final SyncDataSnapshotRecorder syncDataSnapshotRecorder) {
+        return syncDataSnapshotRecorder.authDataSubscriber();
+    }
+    
+    /**
+     * The proxy selector data subscriber recording into the sync data snapshot.
+     *
+     * @param syncDataSnapshotRecorder the sync data snapshot recorder
+     * @return the proxy selector data subscriber
+     */
+    @Bean
+    @ConditionalOnProperty(name = "shenyu.syncSnapshot.enabled", havingValue = "true")
+    public ProxySelectorDataSubscriber snapshotProxySelectorDataSubscriber(final SyncDataSnapshotRecorder syncDataSnapshotRecorder) {
+        return syncDataSnapshotRecorder.proxySelectorDataSubscriber();
+    }
+    
+    /**
+     * The discovery upstream data subscriber recording into the sync data snapshot.
+     *
+     * @param syncDataSnapshotRecorder the sync data snapshot recorder
+     * @return the discovery upstream data subscriber
+     */
+    @Bean
+    @ConditionalOnProperty(name = "shenyu.syncSnapshot.enabled", havingValue = "true")
+    public DiscoveryUpstreamDataSubscriber snapshotDiscoveryUpstreamDataSubscriber(final SyncDataSnapshotRecorder syncDataSnapshotRecorder) {
+        return syncDataSnapshotRecorder.discoveryUpstreamDataSubscriber();
+    }
+    
     /**
      * Shenyu loader service.
      *
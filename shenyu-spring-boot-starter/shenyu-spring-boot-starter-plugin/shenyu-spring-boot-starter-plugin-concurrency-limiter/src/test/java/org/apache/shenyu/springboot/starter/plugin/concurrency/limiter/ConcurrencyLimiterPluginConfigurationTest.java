@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.springboot.starter.plugin.concurrency.limiter;
+
+import org.apache.shenyu.common.enums.PluginEnum;
+import org.apache.shenyu.plugin.concurrency.limiter.ConcurrencyLimiterPlugin;
+import org.apache.shenyu.plugin.concurrency.limiter.handler.ConcurrencyLimiterPluginDataHandler;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Test case for {@link ConcurrencyLimiterPluginConfiguration}.
+ */
+@Configuration
+@EnableConfigurationProperties
+public class ConcurrencyLimiterPluginConfigurationTest {
+
+    @Test
+    public void testConcurrencyLimiterPlugin() {
+        new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ConcurrencyLimiterPluginConfiguration.class))
+            .withBean(ConcurrencyLimiterPluginConfigurationTest.class)
+            .withPropertyValues("debug=true")
+            .run(context -> {
+                ConcurrencyLimiterPlugin plugin = context.getBean("concurrencyLimiterPlugin", ConcurrencyLimiterPlugin.class);
+                assertNotNull(plugin);
+                assertThat(plugin.named()).isEqualTo(PluginEnum.CONCURRENCY_LIMITER.getName());
+            });
+    }
+
+    @Test
+    public void testConcurrencyLimiterPluginDataHandler() {
+        new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ConcurrencyLimiterPluginConfiguration.class))
+            .withBean(ConcurrencyLimiterPluginConfigurationTest.class)
+            .withPropertyValues("debug=true")
+            .run(context -> {
+                ConcurrencyLimiterPluginDataHandler handler = context.getBean("concurrencyLimiterPluginDataHandler", ConcurrencyLimiterPluginDataHandler.class);
+                assertNotNull(handler);
+            });
+    }
+}
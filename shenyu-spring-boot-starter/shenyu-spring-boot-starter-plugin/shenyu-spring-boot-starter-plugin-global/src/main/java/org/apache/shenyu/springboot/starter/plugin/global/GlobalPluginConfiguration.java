@@ -36,6 +36,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean
 import org.springframework.boot.autoconfigure.condition.SearchStrategy;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 
 import java.util.Collections;
 import java.util.List;
@@ -103,6 +104,7 @@ public class GlobalPluginConfiguration {
      * @return DiscoveryUpstreamDataSubscriber
      */
     @Bean
+    @Primary
     public DiscoveryUpstreamDataSubscriber discoveryUpstreamDataHandler(final ObjectProvider<List<DiscoveryUpstreamDataHandler>> discoveryUpstreamDataHandlers) {
         List<DiscoveryUpstreamDataHandler> proxySelectorDataHandlerList = discoveryUpstreamDataHandlers.getIfAvailable(Collections::emptyList);
         return new CommonDiscoveryUpstreamDataSubscriber(proxySelectorDataHandlerList);
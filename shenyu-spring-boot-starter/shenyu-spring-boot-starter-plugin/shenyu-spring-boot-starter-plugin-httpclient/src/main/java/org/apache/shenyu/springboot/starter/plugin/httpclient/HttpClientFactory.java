@@ -22,6 +22,7 @@ import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
 import io.netty.handler.timeout.IdleStateHandler;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
+import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.plugin.httpclient.config.HttpClientProperties;
@@ -37,6 +38,7 @@ import reactor.netty.resources.ConnectionProvider;
 import reactor.netty.resources.ConnectionProvider.Builder;
 import reactor.netty.resources.LoopResources;
 import reactor.netty.tcp.SslProvider;
+import reactor.netty.transport.AddressUtils;
 import reactor.netty.transport.ProxyProvider;
 
 import java.security.cert.X509Certificate;
@@ -113,7 +115,9 @@ public class HttpClientFactory extends AbstractFactoryBean<HttpClient> {
         ConnectionProvider connectionProvider = buildConnectionProvider(pool);
         HttpClient httpClient = HttpClient.create(connectionProvider)
                 .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, properties.getConnectTimeout());
-        if (serverProperties.getHttp2().isEnabled()) {
+        if (CollectionUtils.isNotEmpty(properties.getProtocols())) {
+            httpClient = httpClient.protocol(properties.getProtocols().toArray(new HttpProtocol[0]));
+        } else if (serverProperties.getHttp2().isEnabled()) {
             httpClient = httpClient.protocol(HttpProtocol.HTTP11, HttpProtocol.H2);
         }
         HttpClientProperties.Proxy proxy = properties.getProxy();
@@ -161,6 +165,10 @@ public class HttpClientFactory extends AbstractFactoryBean<HttpClient> {
             Optional.ofNullable(pool.getMaxLifeTime()).map(Duration::ofMillis).ifPresent(builder::maxLifeTime);
             Optional.ofNullable(pool.getEvictionInterval()).map(Duration::ofMillis).ifPresent(builder::evictInBackground);
             builder.metrics(pool.getMetrics());
+            // a noisy upstream must not starve the others, so it can have its own limits
+            pool.getUpstreams().stream()
+                    .filter(upstream -> StringUtils.isNotBlank(upstream.getHost()))
+                    .forEach(upstream -> buildUpstreamConnectionPool(upstream, builder));
             return builder.build();
         }
     }
@@ -184,6 +192,26 @@ public class HttpClientFactory extends AbstractFactoryBean<HttpClient> {
                 .pendingAcquireMaxCount(-1);
     }
 
+    /**
+     * build the connection pool of a specific upstream.
+     *
+     * @param upstream upstream connection pool params
+     * @param builder  connection provider builder
+     */
+    public void buildUpstreamConnectionPool(final HttpClientProperties.UpstreamPool upstream,
+                                            final Builder builder) {
+        // the pool is looked up by the remote address the http client builds from the request uri
+        builder.forRemoteHost(AddressUtils.createUnresolved(upstream.getHost(), upstream.getPort()), spec -> {
+            PropertyMapper map = PropertyMapper.get();
+            map.from(upstream::getMaxConnections).whenNonNull().to(spec::maxConnections);
+            map.from(upstream::getPendingAcquireMaxCount).whenNonNull().to(spec::pendingAcquireMaxCount);
+            map.from(upstream::getPendingAcquireTimeout).whenNonNull().as(Duration::ofMillis).to(spec::pendingAcquireTimeout);
+            map.from(upstream::getMaxIdleTime).whenNonNull().as(Duration::ofMillis).to(spec::maxIdleTime);
+            map.from(upstream::getEvictionInterval).whenNonNull().as(Duration::ofMillis).to(spec::evictInBackground);
+            map.from(upstream::getMetrics).whenNonNull().to(spec::metrics);
+        });
+    }
+
     /**
      * build elastic connection provider pool.
      *
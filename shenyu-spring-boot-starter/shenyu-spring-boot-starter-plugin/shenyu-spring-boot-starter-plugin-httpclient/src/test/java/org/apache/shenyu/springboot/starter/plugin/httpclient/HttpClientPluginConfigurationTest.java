@@ -22,6 +22,7 @@ import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 import java.time.Duration;
+import java.util.Arrays;
 
 import org.apache.shenyu.plugin.api.ShenyuPlugin;
 import org.apache.shenyu.plugin.httpclient.config.HttpClientProperties;
@@ -33,6 +34,7 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.context.annotation.Configuration;
 
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
 import reactor.netty.resources.ConnectionProvider;
 
@@ -95,6 +97,38 @@ public class HttpClientPluginConfigurationTest {
                 });
     }
 
+    @Test
+    public void testUpstreamPoolProperties() {
+        applicationContextRunner
+                .withPropertyValues(
+                        "debug=true",
+                        "shenyu.httpclient.protocols=HTTP11,H2C",
+                        "shenyu.httpclient.pool.type=FIXED",
+                        "shenyu.httpclient.pool.upstreams[0].host=127.0.0.1",
+                        "shenyu.httpclient.pool.upstreams[0].port=8189",
+                        "shenyu.httpclient.pool.upstreams[0].maxConnections=10",
+                        "shenyu.httpclient.pool.upstreams[0].pendingAcquireMaxCount=20",
+                        "shenyu.httpclient.pool.upstreams[0].pendingAcquireTimeout=1000",
+                        "shenyu.httpclient.pool.upstreams[0].maxIdleTime=30000",
+                        "shenyu.httpclient.pool.upstreams[0].metrics=false"
+                )
+                .run(context -> {
+                    HttpClientProperties properties = context.getBean("httpClientProperties", HttpClientProperties.class);
+                    assertThat(properties.getProtocols(), is(Arrays.asList(HttpProtocol.HTTP11, HttpProtocol.H2C)));
+                    HttpClientProperties.UpstreamPool upstream = properties.getPool().getUpstreams().get(0);
+                    assertThat(upstream.getHost(), is("127.0.0.1"));
+                    assertThat(upstream.getPort(), is(8189));
+                    assertThat(upstream.getMaxConnections(), is(10));
+                    assertThat(upstream.getPendingAcquireMaxCount(), is(20));
+                    assertThat(upstream.getPendingAcquireTimeout(), is(1000L));
+                    assertThat(upstream.getMaxIdleTime(), is(30000L));
+                    assertThat(upstream.getMetrics(), is(false));
+                    HttpClient client = context.getBean("httpClient", HttpClient.class);
+                    assertNotNull(client);
+                    assertThat(client.configuration().protocols().length, is(2));
+                });
+    }
+
     @Test
     public void testHttpClient() {
         applicationContextRunner
@@ -0,0 +1,497 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.sync.data.core;
+
+import org.apache.shenyu.common.config.ShenyuConfig;
+import org.apache.shenyu.common.dto.AppAuthData;
+import org.apache.shenyu.common.dto.DiscoverySyncData;
+import org.apache.shenyu.common.dto.MetaData;
+import org.apache.shenyu.common.dto.PluginData;
+import org.apache.shenyu.common.dto.ProxySelectorData;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.utils.GsonUtils;
+import org.apache.shenyu.sync.data.api.AuthDataSubscriber;
+import org.apache.shenyu.sync.data.api.DiscoveryUpstreamDataSubscriber;
+import org.apache.shenyu.sync.data.api.MetaDataSubscriber;
+import org.apache.shenyu.sync.data.api.PluginDataSubscriber;
+import org.apache.shenyu.sync.data.api.ProxySelectorDataSubscriber;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+
+/**
+ * The snapshot of the sync data kept on the local disk, so that the gateway can serve from it on startup
+ * and keep serving when admin is unreachable, the sync with admin reconciles it in the background.
+ * <p>The file is a header (magic, format version, create time, record count), then one record per data
+ * (type, length, json of the data) and a crc32 of all the bytes before it. It holds the app secrets of the
+ * auth data in plain text, so it is readable by its owner only where the file system supports posix permissions.</p>
+ */
+public final class SyncDataSnapshot {
+    
+    private static final Logger LOG = LoggerFactory.getLogger(SyncDataSnapshot.class);
+    
+    private static final int MAGIC = 0x5348534E;
+    
+    private static final int FORMAT_VERSION = 1;
+    
+    private static final int HEADER_SIZE = 4 + 4 + 8 + 4;
+    
+    private static final int CRC_SIZE = 8;
+    
+    private static final byte PLUGIN = 1;
+    
+    private static final byte SELECTOR = 2;
+    
+    private static final byte RULE = 3;
+    
+    private static final byte META_DATA = 4;
+    
+    private static final byte APP_AUTH = 5;
+    
+    private static final byte PROXY_SELECTOR = 6;
+    
+    private static final byte DISCOVERY_UPSTREAM = 7;
+    
+    private static final Set<PosixFilePermission> OWNER_ONLY = PosixFilePermissions.fromString("rw-------");
+    
+    private final long createTime;
+    
+    private final List<PluginData> pluginDataList = new ArrayList<>();
+    
+    private final List<SelectorData> selectorDataList = new ArrayList<>();
+    
+    private final List<RuleData> ruleDataList = new ArrayList<>();
+    
+    private final List<MetaData> metaDataList = new ArrayList<>();
+    
+    private final List<AppAuthData> appAuthDataList = new ArrayList<>();
+    
+    private final List<ProxySelectorData> proxySelectorDataList = new ArrayList<>();
+    
+    private final List<DiscoverySyncData> discoverySyncDataList = new ArrayList<>();
+    
+    public SyncDataSnapshot() {
+        this(System.currentTimeMillis());
+    }
+    
+    private SyncDataSnapshot(final long createTime) {
+        this.createTime = createTime;
+    }
+    
+    /**
+     * Replay the snapshot configured by the shenyu config into the subscribers, if there is one.
+     *
+     * @param config                           the snapshot config
+     * @param pluginDataSubscriber             the plugin data subscriber
+     * @param metaDataSubscribers              the meta data subscribers
+     * @param authDataSubscribers              the auth data subscribers
+     * @param proxySelectorDataSubscribers     the proxy selector data subscribers
+     * @param discoveryUpstreamDataSubscribers the discovery upstream data subscribers
+     * @return true when a snapshot was replayed
+     */
+    public static boolean replayIfPresent(final ShenyuConfig.SyncSnapshot config,
+                                          final PluginDataSubscriber pluginDataSubscriber,
+                                          final List<MetaDataSubscriber> metaDataSubscribers,
+                                          final List<AuthDataSubscriber> authDataSubscribers,
+                                          final List<ProxySelectorDataSubscriber> proxySelectorDataSubscribers,
+                                          final List<DiscoveryUpstreamDataSubscriber> discoveryUpstreamDataSubscribers) {
+        return replay(config, pluginDataSubscriber, metaDataSubscribers, authDataSubscribers, proxySelectorDataSubscribers,
+                discoveryUpstreamDataSubscribers).isPresent();
+    }
+    
+    /**
+     * Replay the snapshot configured by the shenyu config into the subscribers, if there is one.
+     *
+     * @param config                           the snapshot config
+     * @param pluginDataSubscriber             the plugin data subscriber
+     * @param metaDataSubscribers              the meta data subscribers
+     * @param authDataSubscribers              the auth data subscribers
+     * @param proxySelectorDataSubscribers     the proxy selector data subscribers
+     * @param discoveryUpstreamDataSubscribers the discovery upstream data subscribers
+     * @return the replayed snapshot, empty when there is none
+     */
+    public static Optional<SyncDataSnapshot> replay(final ShenyuConfig.SyncSnapshot config,
+                                                    final PluginDataSubscriber pluginDataSubscriber,
+                                                    final List<MetaDataSubscriber> metaDataSubscribers,
+                                                    final List<AuthDataSubscriber> authDataSubscribers,
+                                                    final List<ProxySelectorDataSubscriber> proxySelectorDataSubscribers,
+                                                    final List<DiscoveryUpstreamDataSubscriber> discoveryUpstreamDataSubscribers) {
+        if (Objects.isNull(config) || !config.getEnabled()) {
+            return Optional.empty();
+        }
+        return read(Paths.get(config.getPath())).map(snapshot -> {
+            snapshot.replay(pluginDataSubscriber, metaDataSubscribers, authDataSubscribers, proxySelectorDataSubscribers, discoveryUpstreamDataSubscribers);
+            LOG.info("replayed the sync data snapshot [{}] created at {}, {} selectors, {} rules, {} meta data",
+                    config.getPath(), snapshot.getCreateTime(), snapshot.selectorDataList.size(), snapshot.ruleDataList.size(), snapshot.metaDataList.size());
+            return snapshot;
+        });
+    }
+    
+    /**
+     * Replay the snapshot into the subscribers.
+     *
+     * @param pluginDataSubscriber             the plugin data subscriber
+     * @param metaDataSubscribers              the meta data subscribers
+     * @param authDataSubscribers              the auth data subscribers
+     * @param proxySelectorDataSubscribers     the proxy selector data subscribers
+     * @param discoveryUpstreamDataSubscribers the discovery upstream data subscribers
+     */
+    public void replay(final PluginDataSubscriber pluginDataSubscriber,
+                       final List<MetaDataSubscriber> metaDataSubscribers,
+                       final List<AuthDataSubscriber> authDataSubscribers,
+                       final List<ProxySelectorDataSubscriber> proxySelectorDataSubscribers,
+                       final List<DiscoveryUpstreamDataSubscriber> discoveryUpstreamDataSubscribers) {
+        if (Objects.nonNull(pluginDataSubscriber)) {
+            pluginDataList.forEach(pluginDataSubscriber::onSubscribe);
+            selectorDataList.forEach(pluginDataSubscriber::onSelectorSubscribe);
+            ruleDataList.forEach(pluginDataSubscriber::onRuleSubscribe);
+        }
+        metaDataList.forEach(data -> nullToEmpty(metaDataSubscribers).forEach(subscriber -> subscriber.onSubscribe(data)));
+        appAuthDataList.forEach(data -> nullToEmpty(authDataSubscribers).forEach(subscriber -> subscriber.onSubscribe(data)));
+        proxySelectorDataList.forEach(data -> nullToEmpty(proxySelectorDataSubscribers).forEach(subscriber -> subscriber.onSubscribe(data)));
+        discoverySyncDataList.forEach(data -> nullToEmpty(discoveryUpstreamDataSubscribers).forEach(subscriber -> subscriber.onSubscribe(data)));
+    }
+    
+    /**
+     * Read the snapshot file, the file is memory mapped instead of copied into the heap.
+     *
+     * @param path the snapshot file
+     * @return the snapshot, empty when the file is absent, broken or of another format version
+     */
+    public static Optional<SyncDataSnapshot> read(final Path path) {
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return decode(buffer);
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("read the sync data snapshot [{}] failed, ignore it", path, e);
+            return Optional.empty();
+        }
+    }
+    
+    /**
+     * Decode the snapshot.
+     *
+     * @param buffer the encoded snapshot
+     * @return the snapshot, empty when the bytes are broken or of another format version
+     */
+    public static Optional<SyncDataSnapshot> decode(final ByteBuffer buffer) {
+        final int size = buffer.remaining();
+        if (size < HEADER_SIZE + CRC_SIZE) {
+            return Optional.empty();
+        }
+        final int start = buffer.position();
+        final CRC32 crc = new CRC32();
+        ByteBuffer content = buffer.duplicate();
+        content.limit(start + size - CRC_SIZE);
+        crc.update(content);
+        if (crc.getValue() != buffer.getLong(start + size - CRC_SIZE)) {
+            LOG.warn("the crc of the sync data snapshot does not match, ignore it");
+            return Optional.empty();
+        }
+        if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+            LOG.warn("the sync data snapshot is of an unknown format, ignore it");
+            return Optional.empty();
+        }
+        final SyncDataSnapshot snapshot = new SyncDataSnapshot(buffer.getLong());
+        final int count = buffer.getInt();
+        for (int i = 0; i < count; i++) {
+            final byte type = buffer.get();
+            final byte[] bytes = new byte[buffer.getInt()];
+            buffer.get(bytes);
+            snapshot.add(type, new String(bytes, StandardCharsets.UTF_8));
+        }
+        return Optional.of(snapshot);
+    }
+    
+    /**
+     * Encode the snapshot.
+     *
+     * @return the encoded snapshot
+     */
+    public byte[] encode() {
+        try {
+            byte[] records = encodeRecords();
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(HEADER_SIZE + records.length + CRC_SIZE);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(createTime);
+            out.writeInt(size());
+            out.write(records);
+            out.flush();
+            CRC32 crc = new CRC32();
+            crc.update(bytes.toByteArray());
+            out.writeLong(crc.getValue());
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            // never happens on the memory stream
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    /**
+     * the checksum of the data of the snapshot, two snapshots of the same data have the same checksum.
+     *
+     * @return the checksum
+     */
+    public long checksum() {
+        try {
+            CRC32 crc = new CRC32();
+            crc.update(encodeRecords());
+            return crc.getValue();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    /**
+     * the count of the data in the snapshot.
+     *
+     * @return the count of the data
+     */
+    public int size() {
+        return pluginDataList.size() + selectorDataList.size() + ruleDataList.size() + metaDataList.size()
+                + appAuthDataList.size() + proxySelectorDataList.size() + discoverySyncDataList.size();
+    }
+    
+    /**
+     * Write the encoded snapshot to the file, the file is replaced at once so a reader never sees half of it,
+     * and it is created readable by its owner only where the file system supports posix permissions.
+     *
+     * @param path  the snapshot file
+     * @param bytes the encoded snapshot
+     * @throws IOException the io exception
+     */
+    public static void write(final Path path, final byte[] bytes) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (Objects.nonNull(parent)) {
+            Files.createDirectories(parent);
+        }
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        Files.deleteIfExists(temp);
+        if (temp.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            Files.createFile(temp, PosixFilePermissions.asFileAttribute(OWNER_ONLY));
+        }
+        Files.write(temp, bytes);
+        try {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+    
+    /**
+     * Unsubscribe the replayed plugins the full sync no longer returns, they were deleted while the gateway was down.
+     * Only the first full sync after the replay reconciles, the later ones find nothing replayed.
+     *
+     * @param pluginDataSubscriber the plugin data subscriber
+     * @param pluginDataList       the plugins of the full sync
+     */
+    public synchronized void removeStalePluginData(final PluginDataSubscriber pluginDataSubscriber, final List<PluginData> pluginDataList) {
+        removeStale(pluginDataList, this.pluginDataList, PluginData::getName, pluginDataSubscriber::unSubscribe);
+    }
+    
+    /**
+     * Unsubscribe the replayed selectors the full sync no longer returns, they were deleted while the gateway was down.
+     * Only the first full sync after the replay reconciles, the later ones find nothing replayed.
+     *
+     * @param pluginDataSubscriber the plugin data subscriber
+     * @param selectorDataList     the selectors of the full sync
+     */
+    public synchronized void removeStaleSelectorData(final PluginDataSubscriber pluginDataSubscriber, final List<SelectorData> selectorDataList) {
+        removeStale(selectorDataList, this.selectorDataList, SelectorData::getId, pluginDataSubscriber::unSelectorSubscribe);
+    }
+    
+    /**
+     * Unsubscribe the replayed rules the full sync no longer returns, they were deleted while the gateway was down.
+     * Only the first full sync after the replay reconciles, the later ones find nothing replayed.
+     *
+     * @param pluginDataSubscriber the plugin data subscriber
+     * @param ruleDataList         the rules of the full sync
+     */
+    public synchronized void removeStaleRuleData(final PluginDataSubscriber pluginDataSubscriber, final List<RuleData> ruleDataList) {
+        removeStale(ruleDataList, this.ruleDataList, RuleData::getId, pluginDataSubscriber::unRuleSubscribe);
+    }
+    
+    /**
+     * Gets create time.
+     *
+     * @return the create time
+     */
+    public long getCreateTime() {
+        return createTime;
+    }
+    
+    /**
+     * Gets plugin data list.
+     *
+     * @return the plugin data list
+     */
+    public List<PluginData> getPluginDataList() {
+        return pluginDataList;
+    }
+    
+    /**
+     * Gets selector data list.
+     *
+     * @return the selector data list
+     */
+    public List<SelectorData> getSelectorDataList() {
+        return selectorDataList;
+    }
+    
+    /**
+     * Gets rule data list.
+     *
+     * @return the rule data list
+     */
+    public List<RuleData> getRuleDataList() {
+        return ruleDataList;
+    }
+    
+    /**
+     * Gets meta data list.
+     *
+     * @return the meta data list
+     */
+    public List<MetaData> getMetaDataList() {
+        return metaDataList;
+    }
+    
+    /**
+     * Gets app auth data list.
+     *
+     * @return the app auth data list
+     */
+    public List<AppAuthData> getAppAuthDataList() {
+        return appAuthDataList;
+    }
+    
+    /**
+     * Gets proxy selector data list.
+     *
+     * @return the proxy selector data list
+     */
+    public List<ProxySelectorData> getProxySelectorDataList() {
+        return proxySelectorDataList;
+    }
+    
+    /**
+     * Gets discovery sync data list.
+     *
+     * @return the discovery sync data list
+     */
+    public List<DiscoverySyncData> getDiscoverySyncDataList() {
+        return discoverySyncDataList;
+    }
+    
+    private void add(final byte type, final String json) {
+        switch (type) {
+            case PLUGIN:
+                pluginDataList.add(GsonUtils.getInstance().fromJson(json, PluginData.class));
+                break;
+            case SELECTOR:
+                selectorDataList.add(GsonUtils.getInstance().fromJson(json, SelectorData.class));
+                break;
+            case RULE:
+                ruleDataList.add(GsonUtils.getInstance().fromJson(json, RuleData.class));
+                break;
+            case META_DATA:
+                metaDataList.add(GsonUtils.getInstance().fromJson(json, MetaData.class));
+                break;
+            case APP_AUTH:
+                appAuthDataList.add(GsonUtils.getInstance().fromJson(json, AppAuthData.class));
+                break;
+            case PROXY_SELECTOR:
+                proxySelectorDataList.add(GsonUtils.getInstance().fromJson(json, ProxySelectorData.class));
+                break;
+            case DISCOVERY_UPSTREAM:
+                discoverySyncDataList.add(GsonUtils.getInstance().fromJson(json, DiscoverySyncData.class));
+                break;
+            default:
+                // a record of a newer version, skip it
+                break;
+        }
+    }
+    
+    private byte[] encodeRecords() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        writeRecords(out, PLUGIN, pluginDataList);
+        writeRecords(out, SELECTOR, selectorDataList);
+        writeRecords(out, RULE, ruleDataList);
+        writeRecords(out, META_DATA, metaDataList);
+        writeRecords(out, APP_AUTH, appAuthDataList);
+        writeRecords(out, PROXY_SELECTOR, proxySelectorDataList);
+        writeRecords(out, DISCOVERY_UPSTREAM, discoverySyncDataList);
+        out.flush();
+        return bytes.toByteArray();
+    }
+    
+    private static void writeRecords(final DataOutputStream out, final byte type, final Collection<?> dataList) throws IOException {
+        for (Object data : dataList) {
+            byte[] bytes = GsonUtils.getInstance().toJson(data).getBytes(StandardCharsets.UTF_8);
+            out.writeByte(type);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+    
+    private static <T> void removeStale(final List<T> synced, final List<T> replayed, final Function<T, String> key, final Consumer<T> remove) {
+        if (replayed.isEmpty()) {
+            return;
+        }
+        final Set<String> syncedKeys = synced.stream().map(key).collect(Collectors.toSet());
+        replayed.stream().filter(data -> !syncedKeys.contains(key.apply(data))).forEach(remove);
+        replayed.clear();
+    }
+    
+    private static <T> List<T> nullToEmpty(final List<T> list) {
+        return Objects.isNull(list) ? Collections.emptyList() : list;
+    }
+}
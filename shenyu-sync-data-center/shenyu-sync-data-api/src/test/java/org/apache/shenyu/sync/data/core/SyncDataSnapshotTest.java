@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.sync.data.core;
+
+import org.apache.shenyu.common.dto.AppAuthData;
+import org.apache.shenyu.common.dto.DiscoverySyncData;
+import org.apache.shenyu.common.dto.MetaData;
+import org.apache.shenyu.common.dto.PluginData;
+import org.apache.shenyu.common.dto.ProxySelectorData;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.sync.data.api.PluginDataSubscriber;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * The test case for {@link SyncDataSnapshot}.
+ */
+public final class SyncDataSnapshotTest {
+
+    @TempDir
+    private Path tempDir;
+
+    private SyncDataSnapshot snapshot;
+
+    @BeforeEach
+    public void setUp() {
+        snapshot = new SyncDataSnapshot();
+        snapshot.getPluginDataList().add(PluginData.builder().id("1").name("divide").enabled(true).build());
+        snapshot.getSelectorDataList().add(SelectorData.builder().id("10").pluginName("divide").sort(1).build());
+        snapshot.getSelectorDataList().add(SelectorData.builder().id("11").pluginName("divide").sort(2).build());
+        snapshot.getRuleDataList().add(RuleData.builder().id("100").selectorId("10").pluginName("divide").sort(1).build());
+        snapshot.getMetaDataList().add(MetaData.builder().id("1000").path("/snapshot/meta").enabled(true).build());
+        snapshot.getAppAuthDataList().add(AppAuthData.builder().appKey("appKey").appSecret("appSecret").build());
+        ProxySelectorData proxySelectorData = new ProxySelectorData();
+        proxySelectorData.setId("proxy");
+        snapshot.getProxySelectorDataList().add(proxySelectorData);
+        DiscoverySyncData discoverySyncData = new DiscoverySyncData();
+        discoverySyncData.setSelectorId("10");
+        snapshot.getDiscoverySyncDataList().add(discoverySyncData);
+    }
+
+    @Test
+    public void testEncodeAndDecode() {
+        Optional<SyncDataSnapshot> decoded = SyncDataSnapshot.decode(ByteBuffer.wrap(snapshot.encode()));
+        assertTrue(decoded.isPresent());
+        assertEquals(snapshot.getCreateTime(), decoded.get().getCreateTime());
+        assertEquals(snapshot.size(), decoded.get().size());
+        assertEquals("divide", decoded.get().getPluginDataList().get(0).getName());
+        assertEquals(Arrays.asList("10", "11"), Arrays.asList(decoded.get().getSelectorDataList().get(0).getId(),
+                decoded.get().getSelectorDataList().get(1).getId()));
+        assertEquals("100", decoded.get().getRuleDataList().get(0).getId());
+        assertEquals("/snapshot/meta", decoded.get().getMetaDataList().get(0).getPath());
+        assertEquals("appSecret", decoded.get().getAppAuthDataList().get(0).getAppSecret());
+        assertEquals("proxy", decoded.get().getProxySelectorDataList().get(0).getId());
+        assertEquals("10", decoded.get().getDiscoverySyncDataList().get(0).getSelectorId());
+    }
+
+    @Test
+    public void testChecksumOfData() {
+        long checksum = snapshot.checksum();
+        snapshot.getSelectorDataList().remove(1);
+        assertNotEquals(checksum, snapshot.checksum());
+    }
+
+    @Test
+    public void testDecodeCorrupted() {
+        byte[] bytes = snapshot.encode();
+        for (int i = 0; i < bytes.length; i += 7) {
+            byte[] corrupted = bytes.clone();
+            corrupted[i] ^= 1;
+            assertFalse(SyncDataSnapshot.decode(ByteBuffer.wrap(corrupted)).isPresent());
+        }
+        assertFalse(SyncDataSnapshot.decode(ByteBuffer.wrap(Arrays.copyOf(bytes, bytes.length - 1))).isPresent());
+        assertFalse(SyncDataSnapshot.decode(ByteBuffer.wrap(Arrays.copyOf(bytes, 10))).isPresent());
+        assertFalse(SyncDataSnapshot.decode(ByteBuffer.wrap(new byte[0])).isPresent());
+    }
+
+    @Test
+    public void testReadMissingOrBrokenFile() throws Exception {
+        Path path = tempDir.resolve("sync-data.snapshot");
+        assertFalse(SyncDataSnapshot.read(path).isPresent());
+        Files.write(path, "not a snapshot, but long enough to hold a header".getBytes());
+        assertFalse(SyncDataSnapshot.read(path).isPresent());
+    }
+
+    @Test
+    public void testWriteOwnerOnly() throws Exception {
+        Path path = tempDir.resolve("snapshot").resolve("sync-data.snapshot");
+        SyncDataSnapshot.write(path, snapshot.encode());
+        assertEquals(snapshot.size(), SyncDataSnapshot.read(path).map(SyncDataSnapshot::size).orElse(0));
+        assumeTrue(path.getFileSystem().supportedFileAttributeViews().contains("posix"));
+        assertEquals("rw-------", PosixFilePermissions.toString(Files.getPosixFilePermissions(path)));
+        // a temp file left behind by a crash does not keep its permissions
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        Files.write(temp, new byte[0]);
+        Files.setPosixFilePermissions(temp, PosixFilePermissions.fromString("rw-rw-rw-"));
+        SyncDataSnapshot.write(path, snapshot.encode());
+        assertEquals("rw-------", PosixFilePermissions.toString(Files.getPosixFilePermissions(path)));
+    }
+
+    @Test
+    public void testRemoveStaleData() {
+        PluginDataSubscriber subscriber = mock(PluginDataSubscriber.class);
+        SelectorData kept = snapshot.getSelectorDataList().get(0);
+        SelectorData deleted = snapshot.getSelectorDataList().get(1);
+        snapshot.removeStaleSelectorData(subscriber, Collections.singletonList(SelectorData.builder().id("10").build()));
+        verify(subscriber).unSelectorSubscribe(deleted);
+        verify(subscriber, never()).unSelectorSubscribe(kept);
+        snapshot.removeStalePluginData(subscriber, Collections.singletonList(PluginData.builder().name("divide").build()));
+        verify(subscriber, never()).unSubscribe(any(PluginData.class));
+        snapshot.removeStaleRuleData(subscriber, Collections.emptyList());
+        verify(subscriber).unRuleSubscribe(any(RuleData.class));
+        // only the first full sync reconciles
+        snapshot.removeStaleRuleData(subscriber, Collections.emptyList());
+        verify(subscriber).unRuleSubscribe(any(RuleData.class));
+    }
+}
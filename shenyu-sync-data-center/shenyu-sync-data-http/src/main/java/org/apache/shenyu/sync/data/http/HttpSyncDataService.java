@@ -43,6 +43,7 @@ import org.apache.shenyu.sync.data.api.MetaDataSubscriber;
 import org.apache.shenyu.sync.data.api.PluginDataSubscriber;
 import org.apache.shenyu.sync.data.api.ProxySelectorDataSubscriber;
 import org.apache.shenyu.sync.data.api.SyncDataService;
+import org.apache.shenyu.sync.data.core.SyncDataSnapshot;
 import org.apache.shenyu.sync.data.http.config.HttpConfig;
 import org.apache.shenyu.sync.data.http.refresh.DataRefreshFactory;
 import org.slf4j.Logger;
@@ -86,6 +87,11 @@ public class HttpSyncDataService implements SyncDataService {
 
     private final ShenyuConfig shenyuConfig;
 
+    /**
+     * the first fetch is left to the long polling when the gateway already serves from the snapshot.
+     */
+    private final AtomicBoolean fetchPending = new AtomicBoolean(false);
+
     public HttpSyncDataService(final HttpConfig httpConfig,
                                final PluginDataSubscriber pluginDataSubscriber,
                                final OkHttpClient okHttpClient,
@@ -100,14 +106,18 @@ public class HttpSyncDataService implements SyncDataService {
         this.serverList = Lists.newArrayList(Splitter.on(",").split(httpConfig.getUrl()));
         this.okHttpClient = okHttpClient;
         this.shenyuConfig = shenyuConfig;
+        this.fetchPending.set(SyncDataSnapshot.replayIfPresent(shenyuConfig.getSyncSnapshot(), pluginDataSubscriber,
+                metaDataSubscribers, authDataSubscribers, proxySelectorDataSubscribers, discoveryUpstreamDataSubscribers));
         this.start();
     }
 
     private void start() {
         // It could be initialized multiple times, so you need to control that.
         if (RUNNING.compareAndSet(false, true)) {
-            // fetch all group configs.
-            this.fetchGroupConfig(ConfigGroupEnum.values());
+            // fetch all group configs, or serve from the snapshot and fetch them in the background.
+            if (!fetchPending.get()) {
+                this.fetchGroupConfig(ConfigGroupEnum.values());
+            }
             int threadSize = serverList.size();
             this.executor = new ThreadPoolExecutor(threadSize, threadSize, 60L, TimeUnit.SECONDS,
                     new LinkedBlockingQueue<>(),
@@ -187,6 +197,10 @@ public class HttpSyncDataService implements SyncDataService {
     }
 
     private void doLongPolling(final String server) {
+        if (fetchPending.get()) {
+            this.doFetchGroupConfig(server, ConfigGroupEnum.values());
+            fetchPending.set(false);
+        }
         MultiValueMap<String, String> params = new LinkedMultiValueMap<>(8);
         for (ConfigGroupEnum group : ConfigGroupEnum.values()) {
             ConfigData<?> cacheConfig = factory.cacheConfigData(group);
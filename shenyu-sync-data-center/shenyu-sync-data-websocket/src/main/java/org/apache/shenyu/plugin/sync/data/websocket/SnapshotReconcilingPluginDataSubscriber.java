@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.sync.data.websocket;
+
+import org.apache.shenyu.common.dto.PluginData;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.sync.data.api.PluginDataSubscriber;
+import org.apache.shenyu.sync.data.core.SyncDataSnapshot;
+
+import java.util.List;
+
+/**
+ * The plugin data subscriber reconciling the replayed snapshot with the first full sync.
+ * The full sync of websocket only refreshes the data it returns, so the replayed data deleted
+ * while the gateway was down is unsubscribed here before the full sync is applied.
+ */
+public class SnapshotReconcilingPluginDataSubscriber implements PluginDataSubscriber {
+    
+    private final PluginDataSubscriber delegate;
+    
+    private final SyncDataSnapshot snapshot;
+    
+    public SnapshotReconcilingPluginDataSubscriber(final PluginDataSubscriber delegate, final SyncDataSnapshot snapshot) {
+        this.delegate = delegate;
+        this.snapshot = snapshot;
+    }
+    
+    @Override
+    public void onSubscribe(final PluginData pluginData) {
+        delegate.onSubscribe(pluginData);
+    }
+    
+    @Override
+    public void unSubscribe(final PluginData pluginData) {
+        delegate.unSubscribe(pluginData);
+    }
+    
+    @Override
+    public void refreshPluginDataAll() {
+        delegate.refreshPluginDataAll();
+    }
+    
+    @Override
+    public void refreshPluginDataSelf(final List<PluginData> pluginDataList) {
+        snapshot.removeStalePluginData(delegate, pluginDataList);
+        delegate.refreshPluginDataSelf(pluginDataList);
+    }
+    
+    @Override
+    public void onSelectorSubscribe(final SelectorData selectorData) {
+        delegate.onSelectorSubscribe(selectorData);
+    }
+    
+    @Override
+    public void unSelectorSubscribe(final SelectorData selectorData) {
+        delegate.unSelectorSubscribe(selectorData);
+    }
+    
+    @Override
+    public void refreshSelectorDataAll() {
+        delegate.refreshSelectorDataAll();
+    }
+    
+    @Override
+    public void refreshSelectorDataSelf(final List<SelectorData> selectorDataList) {
+        snapshot.removeStaleSelectorData(delegate, selectorDataList);
+        delegate.refreshSelectorDataSelf(selectorDataList);
+    }
+    
+    @Override
+    public void onRuleSubscribe(final RuleData ruleData) {
+        delegate.onRuleSubscribe(ruleData);
+    }
+    
+    @Override
+    public void unRuleSubscribe(final RuleData ruleData) {
+        delegate.unRuleSubscribe(ruleData);
+    }
+    
+    @Override
+    public void refreshRuleDataAll() {
+        delegate.refreshRuleDataAll();
+    }
+    
+    @Override
+    public void refreshRuleDataSelf(final List<RuleData> ruleDataList) {
+        snapshot.removeStaleRuleData(delegate, ruleDataList);
+        delegate.refreshRuleDataSelf(ruleDataList);
+    }
+}
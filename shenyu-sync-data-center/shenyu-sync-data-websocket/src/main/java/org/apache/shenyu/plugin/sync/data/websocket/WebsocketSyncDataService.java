@@ -17,11 +17,11 @@
 
 package org.apache.shenyu.plugin.sync.data.websocket;
 
-import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.common.config.ShenyuConfig;
+import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.enums.RunningModeEnum;
 import org.apache.shenyu.common.timer.AbstractRoundTask;
 import org.apache.shenyu.common.timer.Timer;
@@ -35,10 +35,12 @@ import org.apache.shenyu.sync.data.api.MetaDataSubscriber;
 import org.apache.shenyu.sync.data.api.PluginDataSubscriber;
 import org.apache.shenyu.sync.data.api.ProxySelectorDataSubscriber;
 import org.apache.shenyu.sync.data.api.SyncDataService;
+import org.apache.shenyu.sync.data.core.SyncDataSnapshot;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.URI;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -64,6 +66,8 @@ public class WebsocketSyncDataService implements SyncDataService {
     
     private final PluginDataSubscriber pluginDataSubscriber;
     
+    private final PluginDataSubscriber clientPluginDataSubscriber;
+    
     private final List<MetaDataSubscriber> metaDataSubscribers;
     
     private final List<AuthDataSubscriber> authDataSubscribers;
@@ -107,28 +111,15 @@ public class WebsocketSyncDataService implements SyncDataService {
         this.proxySelectorDataSubscribers = proxySelectorDataSubscribers;
         this.discoveryUpstreamDataSubscribers = discoveryUpstreamDataSubscribers;
         this.namespaceId = shenyuConfig.getNamespace();
+        // serve from the snapshot at once, the first full sync removes the replayed data deleted in the meantime
+        this.clientPluginDataSubscriber = SyncDataSnapshot.replay(shenyuConfig.getSyncSnapshot(), pluginDataSubscriber, metaDataSubscribers,
+                authDataSubscribers, proxySelectorDataSubscribers, discoveryUpstreamDataSubscribers)
+                .<PluginDataSubscriber>map(snapshot -> new SnapshotReconcilingPluginDataSubscriber(Objects.requireNonNull(pluginDataSubscriber), snapshot))
+                .orElse(pluginDataSubscriber);
         LOG.info("start init connecting...");
         List<String> urls = websocketConfig.getUrls();
         for (String url : urls) {
-            if (StringUtils.isNotEmpty(websocketConfig.getAllowOrigin())) {
-                Map<String, String> headers = ImmutableMap.of(ORIGIN_HEADER_NAME, websocketConfig.getAllowOrigin());
-                clients.add(new ShenyuWebsocketClient(URI.create(url),
-                        headers,
-                        Objects.requireNonNull(pluginDataSubscriber),
-                        metaDataSubscribers,
-                        authDataSubscribers,
-                        proxySelectorDataSubscribers,
-                        discoveryUpstreamDataSubscribers,
-                        namespaceId));
-            } else {
-                clients.add(new ShenyuWebsocketClient(URI.create(url),
-                        Objects.requireNonNull(pluginDataSubscriber),
-                        metaDataSubscribers,
-                        authDataSubscribers,
-                        proxySelectorDataSubscribers,
-                        discoveryUpstreamDataSubscribers,
-                        namespaceId));
-            }
+            clients.add(createClient(url));
         }
         LOG.info("start check task...");
         this.timer.add(timerTask = new AbstractRoundTask(null, TimeUnit.SECONDS.toMillis(60)) {
@@ -139,6 +130,18 @@ public class WebsocketSyncDataService implements SyncDataService {
         });
     }
     
+    private ShenyuWebsocketClient createClient(final String url) {
+        Map<String, String> headers = new HashMap<>(2);
+        if (StringUtils.isNotEmpty(websocketConfig.getAllowOrigin())) {
+            headers.put(ORIGIN_HEADER_NAME, websocketConfig.getAllowOrigin());
+        }
+        if (StringUtils.isNotBlank(websocketConfig.getCodec())) {
+            headers.put(Constants.SHENYU_SYNC_CODEC, websocketConfig.getCodec());
+        }
+        return new ShenyuWebsocketClient(URI.create(url), headers, Objects.requireNonNull(clientPluginDataSubscriber), metaDataSubscribers,
+                authDataSubscribers, proxySelectorDataSubscribers, discoveryUpstreamDataSubscribers, namespaceId);
+    }
+    
     private void masterCheck() {
         if (LOG.isDebugEnabled()) {
             LOG.debug("master checking task start...");
@@ -146,14 +149,7 @@ public class WebsocketSyncDataService implements SyncDataService {
         if (CollectionUtils.isEmpty(clients)) {
             List<String> urls = websocketConfig.getUrls();
             for (String url : urls) {
-                if (StringUtils.isNotEmpty(websocketConfig.getAllowOrigin())) {
-                    Map<String, String> headers = ImmutableMap.of(ORIGIN_HEADER_NAME, websocketConfig.getAllowOrigin());
-                    clients.add(new ShenyuWebsocketClient(URI.create(url), headers, Objects.requireNonNull(pluginDataSubscriber), metaDataSubscribers,
-                            authDataSubscribers, proxySelectorDataSubscribers, discoveryUpstreamDataSubscribers, namespaceId));
-                } else {
-                    clients.add(new ShenyuWebsocketClient(URI.create(url), Objects.requireNonNull(pluginDataSubscriber),
-                            metaDataSubscribers, authDataSubscribers, proxySelectorDataSubscribers, discoveryUpstreamDataSubscribers, namespaceId));
-                }
+                clients.add(createClient(url));
             }
         }
         Iterator<ShenyuWebsocketClient> iterator = clients.iterator();
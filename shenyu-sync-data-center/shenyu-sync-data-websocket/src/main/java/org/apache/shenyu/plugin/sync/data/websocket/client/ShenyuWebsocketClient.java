@@ -17,9 +17,13 @@
 
 package org.apache.shenyu.plugin.sync.data.websocket.client;
 
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.apache.shenyu.common.codec.SyncDataCodecFactory;
 import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.constant.RunningModeConstants;
-import org.apache.shenyu.common.dto.WebsocketData;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
 import org.apache.shenyu.common.enums.DataEventTypeEnum;
 import org.apache.shenyu.common.enums.RunningModeEnum;
@@ -27,8 +31,6 @@ import org.apache.shenyu.common.timer.AbstractRoundTask;
 import org.apache.shenyu.common.timer.Timer;
 import org.apache.shenyu.common.timer.TimerTask;
 import org.apache.shenyu.common.timer.WheelTimerFactory;
-import org.apache.shenyu.common.utils.GsonUtils;
-import org.apache.shenyu.common.utils.JsonUtils;
 import org.apache.shenyu.plugin.sync.data.websocket.handler.WebsocketDataHandler;
 import org.apache.shenyu.sync.data.api.AuthDataSubscriber;
 import org.apache.shenyu.sync.data.api.DiscoveryUpstreamDataSubscriber;
@@ -40,7 +42,10 @@ import org.java_websocket.handshake.ServerHandshake;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -165,19 +170,34 @@ public final class ShenyuWebsocketClient extends WebSocketClient {
         if (LOG.isDebugEnabled()) {
             LOG.debug("onMessage server[{}] result({})", this.getURI().toString(), result);
         }
-        
-        Map<String, Object> jsonToMap = JsonUtils.jsonToMap(result);
-        Object eventType = jsonToMap.get(RunningModeConstants.EVENT_TYPE);
+        handleMessage(JsonParser.parseString(result).getAsJsonObject());
+    }
+    
+    @Override
+    public void onMessage(final ByteBuffer bytes) {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("onMessage server[{}] binary result of {} bytes", this.getURI().toString(), bytes.remaining());
+        }
+        try (Reader reader = SyncDataCodecFactory.decodeFrame(bytes)) {
+            handleMessage(JsonParser.parseReader(reader).getAsJsonObject());
+        } catch (IOException e) {
+            LOG.error("websocket server[{}] binary result decode error", this.getURI().toString(), e);
+        }
+    }
+    
+    private void handleMessage(final JsonObject message) {
+        String eventType = getAsString(message, RunningModeConstants.EVENT_TYPE);
         if (Objects.equals(DataEventTypeEnum.RUNNING_MODE.name(), eventType)) {
-            LOG.info("server[{}] handle running mode result({})", this.getURI().toString(), result);
-            this.runningMode = String.valueOf(jsonToMap.get(RunningModeConstants.RUNNING_MODE));
+            LOG.info("server[{}] handle running mode result({})", this.getURI().toString(), message);
+            this.runningMode = getAsString(message, RunningModeConstants.RUNNING_MODE);
             if (Objects.equals(RunningModeEnum.STANDALONE.name(), runningMode)) {
                 return;
             }
-            this.masterUrl = String.valueOf(jsonToMap.get(RunningModeConstants.MASTER_URL));
-            this.isConnectedToMaster = Boolean.TRUE.equals(jsonToMap.get(RunningModeConstants.IS_MASTER));
+            this.masterUrl = getAsString(message, RunningModeConstants.MASTER_URL);
+            JsonElement isMaster = message.get(RunningModeConstants.IS_MASTER);
+            this.isConnectedToMaster = Objects.nonNull(isMaster) && isMaster.isJsonPrimitive() && isMaster.getAsBoolean();
         } else {
-            handleResult(result);
+            handleResult(message);
         }
     }
     
@@ -229,13 +249,20 @@ public final class ShenyuWebsocketClient extends WebSocketClient {
      *
      * @param result result
      */
-    private void handleResult(final String result) {
-        LOG.info("server [{}] handleResult({})", this.getURI().toString(), result);
-        WebsocketData<?> websocketData = GsonUtils.getInstance().fromJson(result, WebsocketData.class);
-        ConfigGroupEnum groupEnum = ConfigGroupEnum.acquireByName(websocketData.getGroupType());
-        String eventType = websocketData.getEventType();
-        String json = GsonUtils.getInstance().toJson(websocketData.getData());
-        websocketDataHandler.executor(groupEnum, json, eventType);
+    private void handleResult(final JsonObject result) {
+        String groupType = getAsString(result, "groupType");
+        String eventType = getAsString(result, "eventType");
+        LOG.info("server [{}] handleResult groupType({}) eventType({})", this.getURI().toString(), groupType, eventType);
+        ConfigGroupEnum groupEnum = ConfigGroupEnum.acquireByName(groupType);
+        // hand the parsed data over, the handlers bind it to the data classes without serializing it again
+        JsonElement data = result.get("data");
+        JsonArray dataArray = Objects.nonNull(data) && data.isJsonArray() ? data.getAsJsonArray() : new JsonArray();
+        websocketDataHandler.executor(groupEnum, dataArray, eventType);
+    }
+    
+    private static String getAsString(final JsonObject json, final String member) {
+        JsonElement element = json.get(member);
+        return Objects.isNull(element) || element.isJsonNull() ? null : element.getAsString();
     }
     
     /**
@@ -33,6 +33,12 @@ public class WebsocketConfig {
      */
     private String allowOrigin;
 
+    /**
+     * the sync data codecs offered to the admin in order of preference, separated by comma.
+     * the admin falls back to json when it supports none of them.
+     */
+    private String codec = "gzip,json";
+
     /**
      * get urls.
      *
@@ -66,6 +72,22 @@ public class WebsocketConfig {
     public void setAllowOrigin(final String allowOrigin) {
         this.allowOrigin = allowOrigin;
     }
+
+    /**
+     * get codec.
+     * @return codec
+     */
+    public String getCodec() {
+        return codec;
+    }
+
+    /**
+     * set codec.
+     * @param codec codec
+     */
+    public void setCodec(final String codec) {
+        this.codec = codec;
+    }
     
     @Override
     public boolean equals(final Object o) {
@@ -77,12 +99,13 @@ public class WebsocketConfig {
         }
         WebsocketConfig that = (WebsocketConfig) o;
         return Objects.equals(urls, that.urls)
-                && Objects.equals(allowOrigin, that.allowOrigin);
+                && Objects.equals(allowOrigin, that.allowOrigin)
+                && Objects.equals(codec, that.codec);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(urls, allowOrigin);
+        return Objects.hash(urls, allowOrigin, codec);
     }
 
     @Override
@@ -92,6 +115,8 @@ public class WebsocketConfig {
                 + urls
                 + ", allowOrigin='"
                 + allowOrigin
+                + ", codec='"
+                + codec
                 + '}';
     }
 }
@@ -19,6 +19,7 @@ package org.apache.shenyu.plugin.sync.data.websocket.handler;
 
 import java.util.List;
 
+import com.google.gson.JsonArray;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.shenyu.common.enums.DataEventTypeEnum;
 
@@ -37,6 +38,16 @@ public abstract class AbstractDataHandler<T> implements DataHandler {
      */
     protected abstract List<T> convert(String json);
 
+    /**
+     * Convert list from the parsed data array.
+     *
+     * @param data the data array
+     * @return the list
+     */
+    protected List<T> convert(final JsonArray data) {
+        return convert(data.toString());
+    }
+
     /**
      * Do refresh.
      *
@@ -60,8 +71,15 @@ public abstract class AbstractDataHandler<T> implements DataHandler {
 
     @Override
     public void handle(final String json, final String eventType) {
-        List<T> dataList = convert(json);
+        handle(convert(json), eventType);
+    }
+
+    @Override
+    public void handle(final JsonArray data, final String eventType) {
+        handle(convert(data), eventType);
+    }
 
+    private void handle(final List<T> dataList, final String eventType) {
         if (CollectionUtils.isEmpty(dataList)) {
             return;
         }
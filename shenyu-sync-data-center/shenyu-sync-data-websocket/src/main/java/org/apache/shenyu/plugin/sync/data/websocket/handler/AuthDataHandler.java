@@ -18,6 +18,7 @@
 package org.apache.shenyu.plugin.sync.data.websocket.handler;
 
 import java.util.List;
+import com.google.gson.JsonArray;
 import org.apache.shenyu.common.dto.AppAuthData;
 import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.sync.data.api.AuthDataSubscriber;
@@ -38,6 +39,11 @@ public class AuthDataHandler extends AbstractDataHandler<AppAuthData> {
         return GsonUtils.getInstance().fromList(json, AppAuthData.class);
     }
 
+    @Override
+    public List<AppAuthData> convert(final JsonArray data) {
+        return GsonUtils.getInstance().fromJsonArray(data, AppAuthData.class);
+    }
+
     @Override
     protected void doRefresh(final List<AppAuthData> dataList) {
         authDataSubscribers.forEach(AuthDataSubscriber::refresh);
@@ -17,6 +17,8 @@
 
 package org.apache.shenyu.plugin.sync.data.websocket.handler;
 
+import com.google.gson.JsonArray;
+
 /**
  * The interface Data handler.
  *
@@ -30,4 +32,14 @@ public interface DataHandler {
      * @param eventType the event type
      */
     void handle(String json, String eventType);
+
+    /**
+     * Handle the data already parsed from the message.
+     *
+     * @param data      the data array
+     * @param eventType the event type
+     */
+    default void handle(JsonArray data, String eventType) {
+        handle(data.toString(), eventType);
+    }
 }
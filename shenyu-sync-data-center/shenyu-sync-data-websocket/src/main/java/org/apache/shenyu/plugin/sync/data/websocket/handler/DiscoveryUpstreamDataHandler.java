@@ -17,6 +17,7 @@
 
 package org.apache.shenyu.plugin.sync.data.websocket.handler;
 
+import com.google.gson.JsonArray;
 import org.apache.shenyu.common.dto.DiscoverySyncData;
 import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.sync.data.api.DiscoveryUpstreamDataSubscriber;
@@ -36,6 +37,11 @@ public class DiscoveryUpstreamDataHandler extends AbstractDataHandler<DiscoveryS
         return GsonUtils.getInstance().fromList(json, DiscoverySyncData.class);
     }
 
+    @Override
+    protected List<DiscoverySyncData> convert(final JsonArray data) {
+        return GsonUtils.getInstance().fromJsonArray(data, DiscoverySyncData.class);
+    }
+
     @Override
     protected void doRefresh(final List<DiscoverySyncData> dataList) {
         dataList.forEach(data -> discoveryUpstreamDataSubscribers.forEach(p -> p.onSubscribe(data)));
@@ -19,6 +19,7 @@ package org.apache.shenyu.plugin.sync.data.websocket.handler;
 
 import java.util.List;
 
+import com.google.gson.JsonArray;
 import org.apache.shenyu.common.dto.MetaData;
 import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.sync.data.api.MetaDataSubscriber;
@@ -39,6 +40,11 @@ public class MetaDataHandler extends AbstractDataHandler<MetaData> {
         return GsonUtils.getInstance().fromList(json, MetaData.class);
     }
 
+    @Override
+    public List<MetaData> convert(final JsonArray data) {
+        return GsonUtils.getInstance().fromJsonArray(data, MetaData.class);
+    }
+
     @Override
     protected void doRefresh(final List<MetaData> dataList) {
         metaDataSubscribers.forEach(MetaDataSubscriber::refresh);
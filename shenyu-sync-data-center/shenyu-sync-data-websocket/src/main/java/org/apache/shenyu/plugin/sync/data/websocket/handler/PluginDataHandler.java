@@ -17,6 +17,7 @@
 
 package org.apache.shenyu.plugin.sync.data.websocket.handler;
 
+import com.google.gson.JsonArray;
 import org.apache.shenyu.common.dto.PluginData;
 import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.sync.data.api.PluginDataSubscriber;
@@ -39,6 +40,11 @@ public class PluginDataHandler extends AbstractDataHandler<PluginData> {
         return GsonUtils.getInstance().fromList(json, PluginData.class);
     }
 
+    @Override
+    public List<PluginData> convert(final JsonArray data) {
+        return GsonUtils.getInstance().fromJsonArray(data, PluginData.class);
+    }
+
     @Override
     protected void doRefresh(final List<PluginData> dataList) {
         pluginDataSubscriber.refreshPluginDataSelf(dataList);
@@ -17,6 +17,7 @@
 
 package org.apache.shenyu.plugin.sync.data.websocket.handler;
 
+import com.google.gson.JsonArray;
 import org.apache.shenyu.common.dto.ProxySelectorData;
 import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.sync.data.api.ProxySelectorDataSubscriber;
@@ -40,6 +41,11 @@ public class ProxySelectorDataHandler extends AbstractDataHandler<ProxySelectorD
         return GsonUtils.getInstance().fromList(json, ProxySelectorData.class);
     }
 
+    @Override
+    protected List<ProxySelectorData> convert(final JsonArray data) {
+        return GsonUtils.getInstance().fromJsonArray(data, ProxySelectorData.class);
+    }
+
     @Override
     protected void doRefresh(final List<ProxySelectorData> dataList) {
         proxySelectorDataSubscribers.forEach(ProxySelectorDataSubscriber::refresh);
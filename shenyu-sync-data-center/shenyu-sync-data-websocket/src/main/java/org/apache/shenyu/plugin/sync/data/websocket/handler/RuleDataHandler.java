@@ -18,6 +18,7 @@
 package org.apache.shenyu.plugin.sync.data.websocket.handler;
 
 import java.util.List;
+import com.google.gson.JsonArray;
 import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.sync.data.api.PluginDataSubscriber;
@@ -38,6 +39,11 @@ public class RuleDataHandler extends AbstractDataHandler<RuleData> {
         return GsonUtils.getInstance().fromList(json, RuleData.class);
     }
 
+    @Override
+    public List<RuleData> convert(final JsonArray data) {
+        return GsonUtils.getInstance().fromJsonArray(data, RuleData.class);
+    }
+
     @Override
     protected void doRefresh(final List<RuleData> dataList) {
         pluginDataSubscriber.refreshRuleDataSelf(dataList);
@@ -17,6 +17,7 @@
 
 package org.apache.shenyu.plugin.sync.data.websocket.handler;
 
+import com.google.gson.JsonArray;
 import org.apache.shenyu.common.dto.SelectorData;
 import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.sync.data.api.PluginDataSubscriber;
@@ -39,6 +40,11 @@ public class SelectorDataHandler extends AbstractDataHandler<SelectorData> {
         return GsonUtils.getInstance().fromList(json, SelectorData.class);
     }
 
+    @Override
+    public List<SelectorData> convert(final JsonArray data) {
+        return GsonUtils.getInstance().fromJsonArray(data, SelectorData.class);
+    }
+
     @Override
     protected void doRefresh(final List<SelectorData> dataList) {
         pluginDataSubscriber.refreshSelectorDataSelf(dataList);
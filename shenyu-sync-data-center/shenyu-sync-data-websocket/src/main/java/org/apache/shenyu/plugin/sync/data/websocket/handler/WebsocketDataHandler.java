@@ -19,6 +19,8 @@ package org.apache.shenyu.plugin.sync.data.websocket.handler;
 
 import java.util.EnumMap;
 import java.util.List;
+
+import com.google.gson.JsonArray;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
 import org.apache.shenyu.sync.data.api.AuthDataSubscriber;
 import org.apache.shenyu.sync.data.api.DiscoveryUpstreamDataSubscriber;
@@ -65,4 +67,15 @@ public class WebsocketDataHandler {
         ENUM_MAP.get(type).handle(json, eventType);
     }
 
+    /**
+     * Executor of the data already parsed from the message.
+     *
+     * @param type      the type
+     * @param data      the data array
+     * @param eventType the event type
+     */
+    public void executor(final ConfigGroupEnum type, final JsonArray data, final String eventType) {
+        ENUM_MAP.get(type).handle(data, eventType);
+    }
+
 }
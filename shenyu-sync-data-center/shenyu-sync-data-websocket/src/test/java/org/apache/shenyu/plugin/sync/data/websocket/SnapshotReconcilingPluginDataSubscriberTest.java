@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.sync.data.websocket;
+
+import com.google.gson.Gson;
+import org.apache.shenyu.common.config.ShenyuConfig;
+import org.apache.shenyu.common.dto.PluginData;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.enums.ConfigGroupEnum;
+import org.apache.shenyu.common.enums.DataEventTypeEnum;
+import org.apache.shenyu.plugin.sync.data.websocket.handler.WebsocketDataHandler;
+import org.apache.shenyu.sync.data.api.PluginDataSubscriber;
+import org.apache.shenyu.sync.data.core.SyncDataSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The test case for {@link SnapshotReconcilingPluginDataSubscriber}.
+ */
+public final class SnapshotReconcilingPluginDataSubscriberTest {
+
+    @TempDir
+    private Path tempDir;
+
+    private final CachingPluginDataSubscriber cache = new CachingPluginDataSubscriber();
+
+    private WebsocketDataHandler websocketDataHandler;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        SyncDataSnapshot snapshot = new SyncDataSnapshot();
+        snapshot.getPluginDataList().add(PluginData.builder().name("divide").enabled(true).build());
+        snapshot.getPluginDataList().add(PluginData.builder().name("deleted").enabled(true).build());
+        snapshot.getSelectorDataList().add(SelectorData.builder().id("10").pluginName("divide").build());
+        snapshot.getSelectorDataList().add(SelectorData.builder().id("11").pluginName("divide").build());
+        snapshot.getRuleDataList().add(RuleData.builder().id("100").selectorId("10").pluginName("divide").build());
+        snapshot.getRuleDataList().add(RuleData.builder().id("110").selectorId("11").pluginName("divide").build());
+        ShenyuConfig.SyncSnapshot config = new ShenyuConfig.SyncSnapshot();
+        config.setEnabled(true);
+        config.setPath(tempDir.resolve("sync-data.snapshot").toString());
+        SyncDataSnapshot.write(tempDir.resolve("sync-data.snapshot"), snapshot.encode());
+        SyncDataSnapshot replayed = SyncDataSnapshot.replay(config, cache, null, null, null, null).orElseThrow(IllegalStateException::new);
+        websocketDataHandler = new WebsocketDataHandler(new SnapshotReconcilingPluginDataSubscriber(cache, replayed),
+                Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+    }
+
+    @Test
+    public void testFullSyncRemovesDeletedData() {
+        assertEquals(2, cache.selectors.size());
+        fullSync(ConfigGroupEnum.PLUGIN, Collections.singletonList(PluginData.builder().name("divide").enabled(true).build()));
+        fullSync(ConfigGroupEnum.SELECTOR, Collections.singletonList(SelectorData.builder().id("10").pluginName("divide").build()));
+        fullSync(ConfigGroupEnum.RULE, Collections.singletonList(RuleData.builder().id("100").selectorId("10").pluginName("divide").build()));
+        assertEquals(Collections.singleton("divide"), cache.plugins.keySet());
+        assertEquals(Collections.singleton("10"), cache.selectors.keySet());
+        assertEquals(Collections.singleton("100"), cache.rules.keySet());
+    }
+
+    @Test
+    public void testLaterFullSyncKeepsNewData() {
+        fullSync(ConfigGroupEnum.SELECTOR, Arrays.asList(SelectorData.builder().id("10").pluginName("divide").build(),
+                SelectorData.builder().id("11").pluginName("divide").build()));
+        websocketDataHandler.executor(ConfigGroupEnum.SELECTOR, new Gson().toJson(Collections.singletonList(
+                SelectorData.builder().id("12").pluginName("divide").build())), DataEventTypeEnum.CREATE.name());
+        // the full sync of another admin only refreshes the data it returns
+        fullSync(ConfigGroupEnum.SELECTOR, Collections.singletonList(SelectorData.builder().id("10").pluginName("divide").build()));
+        assertTrue(cache.selectors.keySet().containsAll(Arrays.asList("10", "11", "12")));
+    }
+
+    private void fullSync(final ConfigGroupEnum group, final List<?> dataList) {
+        websocketDataHandler.executor(group, new Gson().toJson(dataList), DataEventTypeEnum.MYSELF.name());
+    }
+
+    /**
+     * A cache refreshing only the data of the full sync, like the one of the gateway.
+     */
+    private static final class CachingPluginDataSubscriber implements PluginDataSubscriber {
+
+        private final Map<String, PluginData> plugins = new ConcurrentHashMap<>();
+
+        private final Map<String, SelectorData> selectors = new ConcurrentHashMap<>();
+
+        private final Map<String, RuleData> rules = new ConcurrentHashMap<>();
+
+        @Override
+        public void onSubscribe(final PluginData pluginData) {
+            plugins.put(pluginData.getName(), pluginData);
+        }
+
+        @Override
+        public void unSubscribe(final PluginData pluginData) {
+            plugins.remove(pluginData.getName());
+        }
+
+        @Override
+        public void refreshPluginDataSelf(final List<PluginData> pluginDataList) {
+            pluginDataList.forEach(this::unSubscribe);
+        }
+
+        @Override
+        public void onSelectorSubscribe(final SelectorData selectorData) {
+            selectors.put(selectorData.getId(), selectorData);
+        }
+
+        @Override
+        public void unSelectorSubscribe(final SelectorData selectorData) {
+            selectors.remove(selectorData.getId());
+        }
+
+        @Override
+        public void refreshSelectorDataSelf(final List<SelectorData> selectorDataList) {
+            selectorDataList.forEach(this::unSelectorSubscribe);
+        }
+
+        @Override
+        public void onRuleSubscribe(final RuleData ruleData) {
+            rules.put(ruleData.getId(), ruleData);
+        }
+
+        @Override
+        public void unRuleSubscribe(final RuleData ruleData) {
+            rules.remove(ruleData.getId());
+        }
+
+        @Override
+        public void refreshRuleDataSelf(final List<RuleData> ruleDataList) {
+            ruleDataList.forEach(this::unRuleSubscribe);
+        }
+    }
+}
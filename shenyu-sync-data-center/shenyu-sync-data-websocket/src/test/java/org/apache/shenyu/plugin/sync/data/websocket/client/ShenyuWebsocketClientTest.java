@@ -17,6 +17,8 @@
 
 package org.apache.shenyu.plugin.sync.data.websocket.client;
 
+import org.apache.shenyu.common.codec.GzipSyncDataCodec;
+import org.apache.shenyu.common.codec.SyncDataCodecFactory;
 import org.apache.shenyu.common.dto.PluginData;
 import org.apache.shenyu.common.dto.WebsocketData;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
@@ -103,6 +105,14 @@ public class ShenyuWebsocketClientTest {
         verify(pluginDataSubscriber).onSubscribe(any());
     }
     
+    @Test
+    public void testOnBinaryMessage() {
+        doNothing().when(pluginDataSubscriber).onSubscribe(any());
+        String json = GsonUtils.getInstance().toJson(websocketData);
+        shenyuWebsocketClient.onMessage(SyncDataCodecFactory.encodeFrame(SyncDataCodecFactory.getCodec(GzipSyncDataCodec.NAME), json));
+        verify(pluginDataSubscriber).onSubscribe(any());
+    }
+    
     @Test
     public void testOnClose() {
         shenyuWebsocketClient = spy(shenyuWebsocketClient);
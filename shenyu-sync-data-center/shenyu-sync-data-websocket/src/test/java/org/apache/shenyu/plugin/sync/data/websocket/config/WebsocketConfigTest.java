@@ -64,13 +64,13 @@ public class WebsocketConfigTest {
 
     @Test
     public void testHashCode() {
-        assertEquals(Objects.hash(websocketConfig.getUrls(), websocketConfig.getAllowOrigin()), websocketConfig.hashCode());
+        assertEquals(Objects.hash(websocketConfig.getUrls(), websocketConfig.getAllowOrigin(), websocketConfig.getCodec()), websocketConfig.hashCode());
     }
 
     @Test
     public void testToString() {
-        String toString = "WebsocketConfig{urls='%s, allowOrigin='%s}";
-        String expected = String.format(toString, URLS, ALLOW_ORIGIN);
+        String toString = "WebsocketConfig{urls='%s, allowOrigin='%s, codec='%s}";
+        String expected = String.format(toString, URLS, ALLOW_ORIGIN, websocketConfig.getCodec());
         assertEquals(expected, websocketConfig.toString());
     }
 }
@@ -18,6 +18,8 @@
 package org.apache.shenyu.plugin.sync.data.websocket.handler;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonParser;
 import org.apache.shenyu.common.dto.ConditionData;
 import org.apache.shenyu.common.dto.SelectorData;
 import org.apache.shenyu.sync.data.api.PluginDataSubscriber;
@@ -57,6 +59,13 @@ public final class SelectorDataHandlerTest {
         assertThat(convertedList, is(selectorDataList));
     }
 
+    @Test
+    public void testConvertJsonArray() {
+        String json = new Gson().toJson(createFakeSelectorDataObjects(2));
+        JsonArray data = JsonParser.parseString(json).getAsJsonArray();
+        assertThat(selectorDataHandler.convert(data), is(selectorDataHandler.convert(json)));
+    }
+
     @Test
     public void testDoRefresh() {
         List<SelectorData> selectorDataList = createFakeSelectorDataObjects(3);
@@ -23,6 +23,8 @@ import static org.mockito.Mockito.verify;
 import java.util.LinkedList;
 import java.util.List;
 
+import com.google.gson.JsonArray;
+import com.google.gson.JsonParser;
 import org.apache.shenyu.common.dto.PluginData;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
 import org.apache.shenyu.common.enums.DataEventTypeEnum;
@@ -92,6 +94,21 @@ public final class WebsocketDataHandlerTest {
         pluginDataList.forEach(verify(pluginDataSubscriber)::unSubscribe);
     }
 
+    @Test
+    public void testPluginParsedMyselfExecutor() {
+        String json = getJson();
+        websocketDataHandler.executor(ConfigGroupEnum.PLUGIN, JsonParser.parseString(json).getAsJsonArray(), DataEventTypeEnum.MYSELF.name());
+        List<PluginData> pluginDataList = new PluginDataHandler(pluginDataSubscriber).convert(json);
+        Mockito.verify(pluginDataSubscriber).refreshPluginDataSelf(pluginDataList);
+        pluginDataList.forEach(verify(pluginDataSubscriber)::onSubscribe);
+    }
+
+    @Test
+    public void testEmptyParsedExecutor() {
+        websocketDataHandler.executor(ConfigGroupEnum.PLUGIN, new JsonArray(), DataEventTypeEnum.MYSELF.name());
+        Mockito.verifyNoInteractions(pluginDataSubscriber);
+    }
+
     private String getJson() {
         PluginData pluginData = new PluginData();
         pluginData.setId("1397952341475799040");